@@ -22,6 +22,7 @@ import java.util.TimeZone;
 
 import com.kosherjava.zmanim.util.AstronomicalCalculator;
 import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.SolarDayType;
 import com.kosherjava.zmanim.util.ZmanimFormatter;
 
 /**
@@ -357,6 +358,124 @@ public class AstronomicalCalendar implements Cloneable {
 		}
 	}
 
+	/**
+	 * A utility method that classifies the current day for a zenith, to know if the times of the zenith can be
+	 * calculated before calculating them, such as in the Arctic Circle where the sun doesn't set for part of the summer.
+	 * A day that is not {@link SolarDayType#NORMAL} returns <code>null</code> from {@link
+	 * #getSunriseOffsetByDegrees(double)} or {@link #getSunsetOffsetByDegrees(double)}, and usually from both.
+	 * 
+	 * @param zenith
+	 *            the zenith, such as {@link #GEOMETRIC_ZENITH} for sunrise and sunset, or 16.1 + {@link
+	 *            #GEOMETRIC_ZENITH} = 106.1 for <em>alos</em> and <em>tzais</em> of 16.1&deg;.
+	 * @return the classification of the day
+	 * @see AstronomicalCalculator#getSolarDayType(Calendar, GeoLocation, double, boolean)
+	 */
+	public SolarDayType getSolarDayType(double zenith) {
+		return getAstronomicalCalculator().getSolarDayType(getAdjustedCalendar(), getGeoLocation(), zenith, true);
+	}
+
+	/**
+	 * Classifies a range of days starting from the current day for a zenith. This is much faster than calculating the
+	 * times of each day, since most days are classified from the declination of the sun and the latitude alone.
+	 * 
+	 * @param zenith
+	 *            the zenith, such as {@link #GEOMETRIC_ZENITH} for sunrise and sunset, or 16.1 + {@link
+	 *            #GEOMETRIC_ZENITH} = 106.1 for <em>alos</em> and <em>tzais</em> of 16.1&deg;.
+	 * @param days
+	 *            the number of days
+	 * @return the classification of each day
+	 * @throws IllegalArgumentException if the number of days is negative
+	 * @see #getSolarDayType(double)
+	 */
+	public SolarDayType[] getSolarDayTypes(double zenith, int days) {
+		if (days < 0) {
+			throw new IllegalArgumentException("The number of days can't be negative");
+		}
+		AstronomicalCalculator calculator = getAstronomicalCalculator();
+		Calendar calendar = (Calendar) getAdjustedCalendar().clone();
+		SolarDayType[] types = new SolarDayType[days];
+		for (int i = 0; i < days; i++) {
+			types[i] = calculator.getSolarDayType(calendar, getGeoLocation(), zenith, true);
+			calendar.add(Calendar.DATE, 1);
+		}
+		return types;
+	}
+
+	/**
+	 * A utility method that returns the times of many offsets by degrees below or above the horizon of both {@link
+	 * #getSunrise() sunrise} and {@link #getSunset() sunset} with a single call, such as all the degree based
+	 * <em>alos</em>, <em>misheyakir</em> and <em>tzais</em> times of a day. The calculations that do not depend on the
+	 * zenith are shared by all the zeniths (see {@link AstronomicalCalculator#getUTCSunrisesAndSunsets(Calendar,
+	 * GeoLocation, double[], boolean, double[], double[])}), and each time is identical to the time returned by {@link
+	 * #getSunriseOffsetByDegrees(double)} and {@link #getSunsetOffsetByDegrees(double)} for the same zenith.
+	 * 
+	 * @param offsetZeniths
+	 *            the zeniths. Note that the degree offset is from the vertical, so for a calculation of 14&deg; before
+	 *            sunrise or after sunset, an offset of 14 + {@link #GEOMETRIC_ZENITH} = 104 would have to be passed.
+	 * @param sunriseOffsets
+	 *            the array the offset before (or after) sunrise of each zenith is stored in, or <code>null</code> if the
+	 *            morning times are not needed. An element is <code>null</code> if the calculation can't be computed.
+	 * @param sunsetOffsets
+	 *            the array the offset after (or before) sunset of each zenith is stored in, or <code>null</code> if the
+	 *            evening times are not needed. An element is <code>null</code> if the calculation can't be computed.
+	 * @throws IllegalArgumentException if an array that is not <code>null</code> is shorter than the zenith array
+	 * @see #getSunriseOffsetByDegrees(double)
+	 * @see #getSunsetOffsetByDegrees(double)
+	 */
+	public void getOffsetsByDegrees(double[] offsetZeniths, Date[] sunriseOffsets, Date[] sunsetOffsets) {
+		if ((sunriseOffsets != null && sunriseOffsets.length < offsetZeniths.length)
+				|| (sunsetOffsets != null && sunsetOffsets.length < offsetZeniths.length)) {
+			throw new IllegalArgumentException("The sunrise and sunset arrays must have room for " + offsetZeniths.length
+					+ " times");
+		}
+		double[] sunrises = sunriseOffsets == null ? null : new double[offsetZeniths.length];
+		double[] sunsets = sunsetOffsets == null ? null : new double[offsetZeniths.length];
+		getAstronomicalCalculator().getUTCSunrisesAndSunsets(getAdjustedCalendar(), getGeoLocation(), offsetZeniths,
+				true, sunrises, sunsets);
+		for (int i = 0; i < offsetZeniths.length; i++) {
+			if (sunrises != null) {
+				sunriseOffsets[i] = Double.isNaN(sunrises[i]) ? null : getDateFromTime(sunrises[i], SolarEvent.SUNRISE);
+			}
+			if (sunsets != null) {
+				sunsetOffsets[i] = Double.isNaN(sunsets[i]) ? null : getDateFromTime(sunsets[i], SolarEvent.SUNSET);
+			}
+		}
+	}
+
+	/**
+	 * Returns the times of many offsets by degrees below or above the horizon of {@link #getSunrise() sunrise} with a
+	 * single call.
+	 * 
+	 * @param offsetZeniths
+	 *            the zeniths, such as 16.1 + {@link #GEOMETRIC_ZENITH} for <em>alos</em> at 16.1&deg;
+	 * @return the offset before (or after) sunrise of each zenith. An element is <code>null</code> if the calculation
+	 *         can't be computed.
+	 * @see #getOffsetsByDegrees(double[], Date[], Date[])
+	 * @see #getSunriseOffsetByDegrees(double)
+	 */
+	public Date[] getSunriseOffsetsByDegrees(double[] offsetZeniths) {
+		Date[] sunriseOffsets = new Date[offsetZeniths.length];
+		getOffsetsByDegrees(offsetZeniths, sunriseOffsets, null);
+		return sunriseOffsets;
+	}
+
+	/**
+	 * Returns the times of many offsets by degrees below or above the horizon of {@link #getSunset() sunset} with a
+	 * single call.
+	 * 
+	 * @param offsetZeniths
+	 *            the zeniths, such as 8.5 + {@link #GEOMETRIC_ZENITH} for <em>tzais</em> at 8.5&deg;
+	 * @return the offset after (or before) sunset of each zenith. An element is <code>null</code> if the calculation
+	 *         can't be computed.
+	 * @see #getOffsetsByDegrees(double[], Date[], Date[])
+	 * @see #getSunsetOffsetByDegrees(double)
+	 */
+	public Date[] getSunsetOffsetsByDegrees(double[] offsetZeniths) {
+		Date[] sunsetOffsets = new Date[offsetZeniths.length];
+		getOffsetsByDegrees(offsetZeniths, null, sunsetOffsets);
+		return sunsetOffsets;
+	}
+
 	/**
 	 * Default constructor will set a default {@link GeoLocation#GeoLocation()}, a default
 	 * {@link AstronomicalCalculator#getDefault() AstronomicalCalculator} and default the calendar to the current date.
@@ -735,8 +854,11 @@ public class AstronomicalCalendar implements Cloneable {
 		if (hours < 0 || hours >= 24) {
 			throw new IllegalArgumentException("Hours must between 0 and 23.9999...");
 		}
-		return getTimeOffset(getDateFromTime(hours - getGeoLocation().getTimeZone().getRawOffset()
-				/ (double) HOUR_MILLIS, SolarEvent.SUNRISE), -getGeoLocation().getLocalMeanTimeOffset());
+		GeoLocation geoLocation = getGeoLocation();
+		int rawOffset = geoLocation.getTimeZoneOffsets().getRawOffset();
+		long localMeanTimeOffset = (long) (geoLocation.getLongitude() * 4 * MINUTE_MILLIS - rawOffset);
+		return getTimeOffset(getDateFromTime(hours - rawOffset / (double) HOUR_MILLIS, SolarEvent.SUNRISE),
+				-localMeanTimeOffset);
 	}
 	
 	/**
@@ -745,7 +867,7 @@ public class AstronomicalCalendar implements Cloneable {
 	 * @see GeoLocation#getAntimeridianAdjustment()
 	 * @return the adjusted Calendar
 	 */
-	private Calendar getAdjustedCalendar(){
+	Calendar getAdjustedCalendar(){
 		int offset = getGeoLocation().getAntimeridianAdjustment();
 		if (offset == 0) {
 			return getCalendar();
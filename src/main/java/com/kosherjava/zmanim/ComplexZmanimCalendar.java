@@ -15,10 +15,13 @@
  */
 package com.kosherjava.zmanim;
 
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.TimeZone;
 import com.kosherjava.zmanim.util.AstronomicalCalculator;
 import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.SolarDayType;
 import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
 
 /**
@@ -439,6 +442,13 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 */
 	private double ateretTorahSunsetOffset = 40;
 
+	/**
+	 * The <em>molad</em> based times and midnights of the last date they were calculated for, shared by all the
+	 * <em>molad</em> and <em>Kiddush Levana</em> methods.
+	 * @see #getMoladContext()
+	 */
+	private MoladContext moladContext;
+
 	/**
 	 * A constructor that takes a {@link GeoLocation} as a parameter.
 	 * 
@@ -3280,6 +3290,38 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 		return getSunsetOffsetByDegrees(ZENITH_16_POINT_1);
 	}
 
+	/**
+	 * Returns the days of the year of the calendar that have no {@link #getTzais16Point1Degrees() <em>tzais</em>
+	 * 16.1&deg;}, because the sun does not get 16.1&deg; below the horizon, such as the summer in Scandinavia and
+	 * Alaska. Instead of calculating <em>tzais</em> for every day of the year, the sunset of each day is {@link
+	 * AstronomicalCalculator#getSolarDayType(Calendar, GeoLocation, double, boolean, boolean) classified} from the
+	 * declination of the sun and the latitude, and <em>tzais</em> is only calculated on the few days close to the limit.
+	 * 
+	 * @return the days of the year (1 for January 1st) with no <em>tzais</em> 16.1&deg;, in order. It is empty for most
+	 *         of the world.
+	 * @see #getTzais16Point1Degrees()
+	 * @see #getSolarDayType(double)
+	 */
+	public int[] getDaysWithoutTzais16Point1Degrees() {
+		AstronomicalCalculator calculator = getAstronomicalCalculator();
+		Calendar calendar = (Calendar) getCalendar().clone();
+		calendar.set(Calendar.DAY_OF_YEAR, 1);
+		int daysInYear = calendar.getActualMaximum(Calendar.DAY_OF_YEAR);
+		calendar.add(Calendar.DATE, getGeoLocation().getAntimeridianAdjustment());
+		int[] days = new int[daysInYear];
+		int count = 0;
+		for (int day = 1; day <= daysInYear; day++) {
+			if (calculator.getSolarDayType(calendar, getGeoLocation(), ZENITH_16_POINT_1, true, false)
+					!= SolarDayType.NORMAL) {
+				days[count++] = day;
+			}
+			calendar.add(Calendar.DATE, 1);
+		}
+		int[] result = new int[count];
+		System.arraycopy(days, 0, result, 0, count);
+		return result;
+	}
+
 	/**
 	 * This method should be used <em>lechumra</em> only and returns <em>tzais</em> based on when the sun is 26&deg;
 	 * below the horizon. For information on how this is calculated see the comments on {@link #getAlos26Degrees()}.
@@ -3450,18 +3492,16 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see JewishCalendar#getSofZmanKidushLevanaBetweenMoldos()
 	 */
 	public Date getSofZmanKidushLevanaBetweenMoldos(Date alos, Date tzais) {
-		JewishCalendar jewishCalendar = new JewishCalendar();
-		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
-				getCalendar().get(Calendar.DAY_OF_MONTH));
+		MoladContext moladContext = getMoladContext();
 
 		// Do not calculate for impossible dates, but account for extreme cases. In the extreme case of Rapa Iti in French
 		// Polynesia on Dec 2027 when kiddush Levana 3 days can be said on <em>Rosh Chodesh</em>, the sof zman Kiddush Levana
 		// will be on the 12th of the Teves. In the case of Anadyr, Russia on Jan, 2071, sof zman Kiddush Levana between the
 		// moldos will occur is on the night of 17th of Shevat. See Rabbi Dovid Heber's Shaarei Zmanim chapter 4 (pages 28 and 32).
-		if (jewishCalendar.getJewishDayOfMonth() < 11 || jewishCalendar.getJewishDayOfMonth() > 16) { 
+		if (moladContext.jewishDayOfMonth < 11 || moladContext.jewishDayOfMonth > 16) { 
 			return null;
 		}
-		return getMoladBasedTime(jewishCalendar.getSofZmanKidushLevanaBetweenMoldos(), alos, tzais, false);
+		return getMoladBasedTime(moladContext, moladContext.sofZmanKidushLevanaBetweenMoldos, alos, tzais, false);
 	}
 	
 	/**
@@ -3469,6 +3509,8 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * can only be said during the day, there are parameters to limit it to between <em>alos</em> and <em>tzais</em>. If
 	 * the time occurs between <em>alos</em> and <em>tzais</em>, <em>tzais</em> will be returned.
 	 * 
+	 * @param moladContext
+	 *            the cached <em>molad</em> based times and midnights of the current date
 	 * @param moladBasedTime
 	 *            the <em>molad</em> based time such as <em>molad</em>, <em>tchilas</em> and <em>sof zman Kiddush Levana</em>
 	 * @param alos
@@ -3484,18 +3526,17 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @return the <em>molad</em> based time. If the <em>zman</em> does not occur during the current date, <code>null</code> will be
 	 *         returned.
 	 */
-	private Date getMoladBasedTime(Date moladBasedTime, Date alos, Date tzais, boolean techila) {
-		Date lastMidnight = getMidnightLastNight();
-		Date midnightTonight = getMidnightTonight();
-		if (!(moladBasedTime.before(lastMidnight) || moladBasedTime.after(midnightTonight))){
+	private Date getMoladBasedTime(MoladContext moladContext, long moladBasedTime, Date alos, Date tzais,
+			boolean techila) {
+		if (!(moladBasedTime < moladContext.midnightLastNight || moladBasedTime > moladContext.midnightTonight)) {
 			if (alos != null || tzais != null) {
-				if (techila && !(moladBasedTime.before(tzais) || moladBasedTime.after(alos))){
+				if (techila && !(moladBasedTime < tzais.getTime() || moladBasedTime > alos.getTime())) {
 					return tzais;
 				} else {
 					return alos;
 				}
 			}
-			return moladBasedTime;
+			return new Date(moladBasedTime);
 		}
 		return null;
 	}
@@ -3548,17 +3589,15 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see JewishCalendar#getSofZmanKidushLevana15Days()
 	 */
 	public Date getSofZmanKidushLevana15Days(Date alos, Date tzais) {
-		JewishCalendar jewishCalendar = new JewishCalendar();
-		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
-				getCalendar().get(Calendar.DAY_OF_MONTH));
+		MoladContext moladContext = getMoladContext();
 		// Do not calculate for impossible dates, but account for extreme cases. In the extreme case of Rapa Iti in
 		// French Polynesia on Dec 2027 when kiddush Levana 3 days can be said on <em>Rosh Chodesh</em>, the sof zman Kiddush
 		// Levana will be on the 12th of the Teves. in the case of Anadyr, Russia on Jan, 2071, sof zman kiddush levana will
 		// occur after midnight on the 17th of Shevat. See Rabbi Dovid Heber's Shaarei Zmanim chapter 4 (pages 28 and 32).
-		if (jewishCalendar.getJewishDayOfMonth() < 11 || jewishCalendar.getJewishDayOfMonth() > 17) {
+		if (moladContext.jewishDayOfMonth < 11 || moladContext.jewishDayOfMonth > 17) {
 			return null;
 		}
-		return getMoladBasedTime(jewishCalendar.getSofZmanKidushLevana15Days(), alos, tzais, false);
+		return getMoladBasedTime(moladContext, moladContext.sofZmanKidushLevana15Days, alos, tzais, false);
 	}
 
 	/**
@@ -3625,26 +3664,23 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see JewishCalendar#getTchilasZmanKidushLevana3Days()
 	 */
 	public Date getTchilasZmanKidushLevana3Days(Date alos, Date tzais) {
-		JewishCalendar jewishCalendar = new JewishCalendar();
-		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
-				getCalendar().get(Calendar.DAY_OF_MONTH));
+		MoladContext moladContext = getMoladContext();
 		
 		// Do not calculate for impossible dates, but account for extreme cases. Tchilas zman kiddush Levana 3 days for
 		// the extreme case of Rapa Iti in French Polynesia on Dec 2027 when kiddush Levana 3 days can be said on the evening
 		// of the 30th, the second night of Rosh Chodesh. The 3rd day after the <em>molad</em> will be on the 4th of the month.
 		// In the case of Anadyr, Russia on Jan, 2071, when sof zman kiddush levana is on the 17th of the month, the 3rd day
 		// from the molad will be on the 5th day of Shevat. See Rabbi Dovid Heber's Shaarei Zmanim chapter 4 (pages 28 and 32).
-		if (jewishCalendar.getJewishDayOfMonth() > 5 && jewishCalendar.getJewishDayOfMonth() < 30) {
+		if (moladContext.jewishDayOfMonth > 5 && moladContext.jewishDayOfMonth < 30) {
 			return null;
 		}
 		
-		Date zman = getMoladBasedTime(jewishCalendar.getTchilasZmanKidushLevana3Days(), alos, tzais, true);
+		Date zman = getMoladBasedTime(moladContext, moladContext.tchilasZmanKidushLevana3Days, alos, tzais, true);
 		
 		//Get the following month's zman kiddush Levana for the extreme case of Rapa Iti in French Polynesia on Dec 2027 when
 		// kiddush Levana can be said on Rosh Chodesh (the evening of the 30th). See Rabbi Dovid Heber's Shaarei Zmanim chapter 4 (page 32)
-		if (zman == null && jewishCalendar.getJewishDayOfMonth() == 30) {
-			jewishCalendar.forward(Calendar.MONTH, 1);
-			zman = getMoladBasedTime(jewishCalendar.getTchilasZmanKidushLevana3Days(), null, null, true);
+		if (zman == null && moladContext.jewishDayOfMonth == 30) {
+			zman = getMoladBasedTime(moladContext, moladContext.nextTchilasZmanKidushLevana3Days, null, null, true);
 		}
 		
 		return zman;
@@ -3663,29 +3699,26 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see JewishCalendar#getMoladAsDate()
 	 */
 	public Date getZmanMolad() {
-		JewishCalendar jewishCalendar = new JewishCalendar();
-		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
-				getCalendar().get(Calendar.DAY_OF_MONTH));
+		MoladContext moladContext = getMoladContext();
 		
 		// Optimize to not calculate for impossible dates, but account for extreme cases. The molad in the extreme case of Rapa
 		// Iti in French Polynesia on Dec 2027 occurs on the night of the 27th of Kislev. In the case of Anadyr, Russia on
 		// Jan 2071, the molad will be on the 2nd day of Shevat. See Rabbi Dovid Heber's Shaarei Zmanim chapter 4 (pages 28 and 32).
-		if (jewishCalendar.getJewishDayOfMonth() > 2 && jewishCalendar.getJewishDayOfMonth() < 27) {
+		if (moladContext.jewishDayOfMonth > 2 && moladContext.jewishDayOfMonth < 27) {
 			return null;
 		}
-		Date molad = getMoladBasedTime(jewishCalendar.getMoladAsDate(), null, null, true);
+		Date molad = getMoladBasedTime(moladContext, moladContext.molad, null, null, true);
 
 		// deal with molad that happens on the end of the previous month
-		if (molad == null && jewishCalendar.getJewishDayOfMonth() > 26) {
-			jewishCalendar.forward(Calendar.MONTH, 1);
-			molad = getMoladBasedTime(jewishCalendar.getMoladAsDate(), null, null, true);
+		if (molad == null && moladContext.jewishDayOfMonth > 26) {
+			molad = getMoladBasedTime(moladContext, moladContext.nextMolad, null, null, true);
 		}
 		return molad;
 	}
 	
 	/**
 	 * Used by Molad based <em>zmanim</em> to determine if <em>zmanim</em> occur during the current day.
-	 * @see #getMoladBasedTime(Date, Date, Date, boolean)
+	 * @see #getMoladBasedTime(MoladContext, long, Date, Date, boolean)
 	 * @return previous midnight
 	 */
 	private Date getMidnightLastNight() {
@@ -3700,7 +3733,7 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	
 	/**
 	 * Used by Molad based <em>zmanim</em> to determine if <em>zmanim</em> occur during the current day.
-	 * @see #getMoladBasedTime(Date, Date, Date, boolean)
+	 * @see #getMoladBasedTime(MoladContext, long, Date, Date, boolean)
 	 * @return following midnight
 	 */
 	private Date getMidnightTonight() {
@@ -3713,6 +3746,104 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 		return midnight.getTime();
 	}
 
+	/**
+	 * Returns the <em>molad</em> based times and midnights of the current date. They are calculated once per date and
+	 * time zone and reused by all the <em>molad</em> and <em>Kiddush Levana</em> methods, so that the
+	 * <code>JewishCalendar</code> and midnight <code>Calendar</code>s are not recreated for each of them.
+	 * @return the <em>molad</em> context of the current date
+	 */
+	private MoladContext getMoladContext() {
+		Calendar calendar = getCalendar();
+		int year = calendar.get(Calendar.YEAR);
+		int month = calendar.get(Calendar.MONTH);
+		int day = calendar.get(Calendar.DAY_OF_MONTH);
+		TimeZone timeZone = calendar.getTimeZone();
+		MoladContext context = moladContext;
+		if (context == null || context.day != day || context.month != month || context.year != year
+				|| !context.timeZone.equals(timeZone)) {
+			context = new MoladContext(year, month, day, (TimeZone) timeZone.clone(), getMidnightLastNight().getTime(),
+					getMidnightTonight().getTime());
+			moladContext = context;
+		}
+		return context;
+	}
+
+	/**
+	 * Returns the <em>molad</em> and all the <em>Kiddush Levana</em> times that occur on the current date with a single
+	 * call. This returns the same times as {@link #getZmanMolad()}, {@link #getTchilasZmanKidushLevana3Days(Date, Date)},
+	 * {@link #getTchilasZmanKidushLevana7Days(Date, Date)}, {@link #getSofZmanKidushLevanaBetweenMoldos(Date, Date)} and
+	 * {@link #getSofZmanKidushLevana15Days(Date, Date)}, with the times that do not occur on this date being
+	 * <code>null</code>.
+	 * 
+	 * @param alos
+	 *            the beginning of the Jewish day. If either the <em>alos</em> or <em>tzais</em> parameters are null, no
+	 *            daytime adjustment will be made.
+	 * @param tzais
+	 *            the end of the Jewish day. If either the <em>alos</em> or <em>tzais</em> parameters are null, no daytime
+	 *            adjustment will be made.
+	 * @return the <em>Kiddush Levana</em> times of the current date.
+	 * @see #getKiddushLevanaMonthWindow(double, double)
+	 */
+	public KiddushLevanaWindow getKiddushLevanaWindow(Date alos, Date tzais) {
+		return new KiddushLevanaWindow(getZmanMolad(), getTchilasZmanKidushLevana3Days(alos, tzais),
+				getTchilasZmanKidushLevana7Days(alos, tzais), getSofZmanKidushLevanaBetweenMoldos(alos, tzais),
+				getSofZmanKidushLevana15Days(alos, tzais));
+	}
+
+	/**
+	 * Returns the <em>molad</em> and the full <em>Kiddush Levana</em> window of the Jewish month of the current date with
+	 * a single call. Unlike {@link #getKiddushLevanaWindow(Date, Date)}, all the times are returned regardless of the date
+	 * they occur on. If the <em>tchilas zman Kiddush Levana</em> occurs during the day (between <em>alos</em> and
+	 * <em>tzais</em> of the date it occurs on) it is moved to that <em>tzais</em>, and if the <em>sof zman Kiddush
+	 * Levana</em> occurs during the day, it is moved back to that <em>alos</em>. <em>Alos</em> and <em>tzais</em> are
+	 * calculated for the date each time occurs on using the zeniths passed in, such as {@link #GEOMETRIC_ZENITH} + 16.1.
+	 * If the sun does not reach the zenith on that date, the time is not adjusted. The <em>molad</em> is never adjusted.
+	 * 
+	 * @param alosZenith
+	 *            the zenith used for <em>alos</em> (see {@link #getSunriseOffsetByDegrees(double)})
+	 * @param tzaisZenith
+	 *            the zenith used for <em>tzais</em> (see {@link #getSunsetOffsetByDegrees(double)})
+	 * @return the <em>Kiddush Levana</em> window of the month.
+	 * @see #getKiddushLevanaWindow(Date, Date)
+	 * @see JewishCalendar#getMoladAsMillis()
+	 */
+	public KiddushLevanaWindow getKiddushLevanaMonthWindow(double alosZenith, double tzaisZenith) {
+		MoladContext context = getMoladContext();
+		ComplexZmanimCalendar dayCalendar = (ComplexZmanimCalendar) clone();
+		return new KiddushLevanaWindow(context.molad,
+				getNightTime(dayCalendar, context.tchilasZmanKidushLevana3Days, alosZenith, tzaisZenith, true),
+				getNightTime(dayCalendar, context.tchilasZmanKidushLevana7Days, alosZenith, tzaisZenith, true),
+				getNightTime(dayCalendar, context.sofZmanKidushLevanaBetweenMoldos, alosZenith, tzaisZenith, false),
+				getNightTime(dayCalendar, context.sofZmanKidushLevana15Days, alosZenith, tzaisZenith, false));
+	}
+
+	/**
+	 * Moves a <em>molad</em> based time that occurs during the day to the night.
+	 * 
+	 * @param dayCalendar
+	 *            a copy of this calendar that is set to the date of the time
+	 * @param time
+	 *            the <em>molad</em> based time
+	 * @param alosZenith
+	 *            the zenith used for <em>alos</em>
+	 * @param tzaisZenith
+	 *            the zenith used for <em>tzais</em>
+	 * @param techila
+	 *            is it the start of <em>Kiddush Levana</em> time or the end? If it is the start it is moved to
+	 *            <em>tzais</em>, and if it is the end it is moved to <em>alos</em>.
+	 * @return the adjusted time
+	 */
+	private static long getNightTime(ComplexZmanimCalendar dayCalendar, long time, double alosZenith, double tzaisZenith,
+			boolean techila) {
+		dayCalendar.getCalendar().setTimeInMillis(time);
+		Date alos = dayCalendar.getSunriseOffsetByDegrees(alosZenith);
+		Date tzais = dayCalendar.getSunsetOffsetByDegrees(tzaisZenith);
+		if (alos == null || tzais == null || time < alos.getTime() || time > tzais.getTime()) {
+			return time;
+		}
+		return techila ? tzais.getTime() : alos.getTime();
+	}
+
 	/**
 	 * Returns the earliest time of <em>Kiddush Levana</em> according to the opinions that it should not be said until 7
 	 * days after the <em>molad</em>. If the time of <em>tchilas zman Kiddush Levana</em> occurs during the day (between
@@ -3736,20 +3867,18 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	 * @see JewishCalendar#getTchilasZmanKidushLevana7Days()
 	 */
 	public Date getTchilasZmanKidushLevana7Days(Date alos, Date tzais) {
-		JewishCalendar jewishCalendar = new JewishCalendar();
-		jewishCalendar.setGregorianDate(getCalendar().get(Calendar.YEAR), getCalendar().get(Calendar.MONTH),
-				getCalendar().get(Calendar.DAY_OF_MONTH));
+		MoladContext moladContext = getMoladContext();
 		
 		// Optimize to not calculate for impossible dates, but account for extreme cases. Tchilas zman kiddush Levana 7 days for
 		// the extreme case of Rapa Iti in French Polynesia on Jan 2028 (when kiddush Levana 3 days can be said on the evening
 		// of the 30th, the second night of Rosh Chodesh), the 7th day after the molad will be on the 4th of the month.
 		// In the case of Anadyr, Russia on Jan, 2071, when sof zman kiddush levana is on the 17th of the month, the 7th day
 		// from the molad will be on the 9th day of Shevat. See Rabbi Dovid Heber's Shaarei Zmanim chapter 4 (pages 28 and 32).
-		if (jewishCalendar.getJewishDayOfMonth() < 4 || jewishCalendar.getJewishDayOfMonth() > 9) { 
+		if (moladContext.jewishDayOfMonth < 4 || moladContext.jewishDayOfMonth > 9) { 
 			return null;
 		}
 		
-		return getMoladBasedTime(jewishCalendar.getTchilasZmanKidushLevana7Days(), alos, tzais, true);
+		return getMoladBasedTime(moladContext, moladContext.tchilasZmanKidushLevana7Days, alos, tzais, true);
 	}
 
 	/**
@@ -4590,4 +4719,94 @@ public class ComplexZmanimCalendar extends ZmanimCalendar {
 	public Date getSamuchLeMinchaKetana72Minutes() {
 		return getSamuchLeMinchaKetana(getAlos72(), getTzais72(), true);
 	}
+
+	/**
+	 * The <em>molad</em> based times and the midnights of a single date, calculated once and shared by all the
+	 * <em>molad</em> and <em>Kiddush Levana</em> methods.
+	 * @see ComplexZmanimCalendar#getMoladContext()
+	 */
+	private static final class MoladContext {
+
+		/** The Gregorian year of the date. */
+		private final int year;
+
+		/** The zero based Gregorian month of the date. */
+		private final int month;
+
+		/** The Gregorian day of the month of the date. */
+		private final int day;
+
+		/** The time zone of the date. */
+		private final TimeZone timeZone;
+
+		/** The Jewish day of month of the date. */
+		private final int jewishDayOfMonth;
+
+		/** The midnight at the start of the date in milliseconds. */
+		private final long midnightLastNight;
+
+		/** The midnight at the end of the date in milliseconds. */
+		private final long midnightTonight;
+
+		/** The <em>molad</em> of the Jewish month in milliseconds. */
+		private final long molad;
+
+		/** The earliest time of <em>Kiddush Levana</em> 3 days after the <em>molad</em> in milliseconds. */
+		private final long tchilasZmanKidushLevana3Days;
+
+		/** The earliest time of <em>Kiddush Levana</em> 7 days after the <em>molad</em> in milliseconds. */
+		private final long tchilasZmanKidushLevana7Days;
+
+		/** The latest time of <em>Kiddush Levana</em> halfway between <em>molad</em> and <em>molad</em> in milliseconds. */
+		private final long sofZmanKidushLevanaBetweenMoldos;
+
+		/** The latest time of <em>Kiddush Levana</em> 15 days after the <em>molad</em> in milliseconds. */
+		private final long sofZmanKidushLevana15Days;
+
+		/**
+		 * The <em>molad</em> of the following month in milliseconds. Only calculated at the end of the month when it can
+		 * occur on the date, otherwise {@link Long#MIN_VALUE}.
+		 */
+		private final long nextMolad;
+
+		/**
+		 * The 3 day <em>tchilas zman Kiddush Levana</em> of the following month in milliseconds. Only calculated at the
+		 * end of the month when it can occur on the date, otherwise {@link Long#MIN_VALUE}.
+		 */
+		private final long nextTchilasZmanKidushLevana3Days;
+
+		/**
+		 * Constructor that calculates the <em>molad</em> based times of the date.
+		 * @param year the Gregorian year
+		 * @param month the zero based Gregorian month
+		 * @param day the Gregorian day of the month
+		 * @param timeZone the time zone
+		 * @param midnightLastNight the midnight at the start of the date in milliseconds
+		 * @param midnightTonight the midnight at the end of the date in milliseconds
+		 */
+		private MoladContext(int year, int month, int day, TimeZone timeZone, long midnightLastNight,
+				long midnightTonight) {
+			this.year = year;
+			this.month = month;
+			this.day = day;
+			this.timeZone = timeZone;
+			this.midnightLastNight = midnightLastNight;
+			this.midnightTonight = midnightTonight;
+			JewishCalendar jewishCalendar = new JewishCalendar(LocalDate.of(year, month + 1, day));
+			jewishDayOfMonth = jewishCalendar.getJewishDayOfMonth();
+			molad = jewishCalendar.getMoladAsMillis();
+			tchilasZmanKidushLevana3Days = jewishCalendar.getTchilasZmanKidushLevana3DaysMillis();
+			tchilasZmanKidushLevana7Days = jewishCalendar.getTchilasZmanKidushLevana7DaysMillis();
+			sofZmanKidushLevanaBetweenMoldos = jewishCalendar.getSofZmanKidushLevanaBetweenMoldosMillis();
+			sofZmanKidushLevana15Days = jewishCalendar.getSofZmanKidushLevana15DaysMillis();
+			if (jewishDayOfMonth > 26) {
+				jewishCalendar.forward(Calendar.MONTH, 1);
+				nextMolad = jewishCalendar.getMoladAsMillis();
+				nextTchilasZmanKidushLevana3Days = jewishCalendar.getTchilasZmanKidushLevana3DaysMillis();
+			} else {
+				nextMolad = Long.MIN_VALUE;
+				nextTchilasZmanKidushLevana3Days = Long.MIN_VALUE;
+			}
+		}
+	}
 }
@@ -0,0 +1,285 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * An immutable timeline of the <em>zmanim</em> of a day, sorted by time, for answering "what is the next
+ * <em>zman</em>" and "which period are we in" without calculating, wrapping and sorting every <em>zman</em> on each
+ * query. The timeline is created from the <em>zmanim</em> of a {@link ZmanimProfile} or the times of {@link
+ * ZmanDefinitions}, and holds them as parallel sorted arrays of epoch milliseconds and <em>zman</em> IDs (the index of
+ * the <em>zman</em> in the profile or definitions). <em>Zmanim</em> that can't be computed on the day are left out, and
+ * <em>zmanim</em> at the same time are ordered by ID. The {@link #next(long)}, {@link #previous(long)} and {@link
+ * #periodAt(long)} queries are binary searches that return a position in the timeline (or -1), and {@link
+ * #getNextDay()} creates the timeline of the following day from the same compiled profile or definitions.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * DailyTimeline timeline = DailyTimeline.getInstance(profile, czc);
+ * int next = timeline.next(System.currentTimeMillis());
+ * if (next == -1) {
+ * 	timeline = timeline.getNextDay();
+ * 	next = timeline.next(System.currentTimeMillis());
+ * }
+ * System.out.println(timeline.getZmanName(next) + " " + timeline.getDate(next));</pre>
+ *
+ * @see com.kosherjava.zmanim.util.Zman#DATE_ORDER
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class DailyTimeline {
+
+	/** The profile the timeline was created from, or <code>null</code> if it was created from {@link #definitions}. */
+	private final ZmanimProfile profile;
+
+	/** The definitions the timeline was created from, or <code>null</code> if it was created from a {@link #profile}. */
+	private final ZmanDefinitions definitions;
+
+	/** A private copy of the calendar set to the day of the timeline. */
+	private final ZmanimCalendar calendar;
+
+	/** The sorted times in milliseconds. */
+	private final long[] times;
+
+	/** The <em>zman</em> ID of each time. */
+	private final int[] zmanIds;
+
+	/**
+	 * @param profile the profile or <code>null</code>
+	 * @param definitions the definitions or <code>null</code>
+	 * @param calendar a private copy of the calendar
+	 */
+	private DailyTimeline(ZmanimProfile profile, ZmanDefinitions definitions, ZmanimCalendar calendar) {
+		this.profile = profile;
+		this.definitions = definitions;
+		this.calendar = calendar;
+		long[] zmanim;
+		boolean[] included;
+		if (profile != null) {
+			Date[] dates = profile.getZmanim((ComplexZmanimCalendar) calendar);
+			zmanim = new long[dates.length];
+			included = new boolean[dates.length];
+			for (int i = 0; i < dates.length; i++) {
+				included[i] = dates[i] != null;
+				zmanim[i] = included[i] ? dates[i].getTime() : 0;
+			}
+		} else {
+			zmanim = definitions.getZmanim(calendar);
+			included = new boolean[zmanim.length];
+			for (int i = 0; i < zmanim.length; i++) {
+				included[i] = zmanim[i] != Long.MIN_VALUE && !definitions.isDuration(i);
+			}
+		}
+		int size = 0;
+		for (boolean include : included) {
+			if (include) {
+				size++;
+			}
+		}
+		times = new long[size];
+		zmanIds = new int[size];
+		int count = 0;
+		for (int id = 0; id < zmanim.length; id++) {
+			if (!included[id]) {
+				continue;
+			}
+			// insertion sort, stable so that equal times stay in ID order
+			int position = count;
+			while (position > 0 && times[position - 1] > zmanim[id]) {
+				times[position] = times[position - 1];
+				zmanIds[position] = zmanIds[position - 1];
+				position--;
+			}
+			times[position] = zmanim[id];
+			zmanIds[position] = id;
+			count++;
+		}
+	}
+
+	/**
+	 * Creates the timeline of the <em>zmanim</em> of a profile for the date, location and settings of a calendar.
+	 *
+	 * @param profile
+	 *            the profile
+	 * @param calendar
+	 *            the calendar. It is not modified.
+	 * @return the timeline
+	 */
+	public static DailyTimeline getInstance(ZmanimProfile profile, ComplexZmanimCalendar calendar) {
+		return new DailyTimeline(profile, null, (ZmanimCalendar) calendar.clone());
+	}
+
+	/**
+	 * Creates the timeline of the times (but not the durations) of definitions for the date, location and settings of
+	 * a calendar.
+	 *
+	 * @param definitions
+	 *            the definitions
+	 * @param calendar
+	 *            the calendar. It is not modified.
+	 * @return the timeline
+	 */
+	public static DailyTimeline getInstance(ZmanDefinitions definitions, ZmanimCalendar calendar) {
+		return new DailyTimeline(null, definitions, (ZmanimCalendar) calendar.clone());
+	}
+
+	/**
+	 * Creates the timeline of the following day with the same profile or definitions, location and settings.
+	 *
+	 * @return the timeline of the next day
+	 */
+	public DailyTimeline getNextDay() {
+		ZmanimCalendar nextDay = (ZmanimCalendar) calendar.clone();
+		nextDay.getCalendar().add(Calendar.DATE, 1);
+		return new DailyTimeline(profile, definitions, nextDay);
+	}
+
+	/**
+	 * Returns the date of the timeline.
+	 *
+	 * @return a copy of the <code>Calendar</code> of the day
+	 */
+	public Calendar getCalendar() {
+		return (Calendar) calendar.getCalendar().clone();
+	}
+
+	/**
+	 * Returns the number of <em>zmanim</em> in the timeline.
+	 *
+	 * @return the number of <em>zmanim</em> that could be computed on the day
+	 */
+	public int size() {
+		return times.length;
+	}
+
+	/**
+	 * Returns the time at a position in the timeline.
+	 *
+	 * @param position
+	 *            the position
+	 * @return the time in milliseconds
+	 */
+	public long getTime(int position) {
+		return times[position];
+	}
+
+	/**
+	 * Returns the time at a position in the timeline as a <code>Date</code>.
+	 *
+	 * @param position
+	 *            the position
+	 * @return the time
+	 */
+	public Date getDate(int position) {
+		return new Date(times[position]);
+	}
+
+	/**
+	 * Returns the ID of the <em>zman</em> at a position in the timeline.
+	 *
+	 * @param position
+	 *            the position
+	 * @return the index of the <em>zman</em> in the profile or definitions
+	 */
+	public int getZmanId(int position) {
+		return zmanIds[position];
+	}
+
+	/**
+	 * Returns the name of the <em>zman</em> at a position in the timeline.
+	 *
+	 * @param position
+	 *            the position
+	 * @return the name of the <em>zman</em> in the profile or definitions
+	 */
+	public String getZmanName(int position) {
+		return profile != null ? profile.getZmanName(zmanIds[position]) : definitions.getZmanName(zmanIds[position]);
+	}
+
+	/**
+	 * Returns the first <em>zman</em> after an instant.
+	 *
+	 * @param instant
+	 *            the instant in milliseconds
+	 * @return the position of the first <em>zman</em> that is later than the instant, or -1 if there is none on this
+	 *         day
+	 */
+	public int next(long instant) {
+		int position = upperBound(instant);
+		return position < times.length ? position : -1;
+	}
+
+	/**
+	 * Returns the last <em>zman</em> before an instant.
+	 *
+	 * @param instant
+	 *            the instant in milliseconds
+	 * @return the position of the last <em>zman</em> that is earlier than the instant, or -1 if there is none on this
+	 *         day
+	 */
+	public int previous(long instant) {
+		return lowerBound(instant) - 1;
+	}
+
+	/**
+	 * Returns the period that an instant is in. Each <em>zman</em> starts a period that lasts until the following
+	 * <em>zman</em>, so the period of an instant is named by the last <em>zman</em> at or before it.
+	 *
+	 * @param instant
+	 *            the instant in milliseconds
+	 * @return the position of the <em>zman</em> that started the period, or -1 if the instant is before the first
+	 *         <em>zman</em> of the day
+	 */
+	public int periodAt(long instant) {
+		return upperBound(instant) - 1;
+	}
+
+	/**
+	 * @param instant the instant
+	 * @return the position of the first time that is later than the instant, or the size if there is none
+	 */
+	private int upperBound(long instant) {
+		int low = 0;
+		int high = times.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (times[middle] <= instant) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * @param instant the instant
+	 * @return the position of the first time that is not earlier than the instant, or the size if there is none
+	 */
+	private int lowerBound(long instant) {
+		int low = 0;
+		int high = times.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (times[middle] < instant) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+}
@@ -0,0 +1,371 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+import com.kosherjava.zmanim.util.AstronomicalCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.ImmutableGeoLocation;
+
+/**
+ * The nights of a Jewish month on which <em>Kiddush Levana</em> can be said, for many locations at once. The
+ * <em>molad</em> based start and end of the <em>Kiddush Levana</em> time are absolute instants calculated once from the
+ * {@link JewishCalendar} for all the locations, and for each location the <em>alos</em> and <em>tzais</em> of every date
+ * in the window are calculated once (using the location's {@link ImmutableGeoLocation cached values}) directly as
+ * milliseconds, without creating a {@link ComplexZmanimCalendar} or any <code>Date</code>s. A night runs from
+ * <em>tzais</em> until the following <em>alos</em>, and the permissible part of each night is that night limited to the
+ * <em>Kiddush Levana</em> time. The results are stored in compact primitive arrays.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * KiddushLevanaSchedule schedule = KiddushLevanaSchedule.getInstance(new JewishCalendar(5784, JewishDate.NISSAN, 1),
+ *     locations, AstronomicalCalculator.getDefault(), AstronomicalCalendar.GEOMETRIC_ZENITH + 16.1,
+ *     AstronomicalCalendar.GEOMETRIC_ZENITH + 16.1, KiddushLevanaSchedule.TCHILAS_3_DAYS,
+ *     KiddushLevanaSchedule.SOF_BETWEEN_MOLDOS);
+ * for (int night = 0; night &lt; schedule.getNightCount(0); night++) {
+ *     System.out.println(new Date(schedule.getNightStart(0, night)) + " - " + new Date(schedule.getNightEnd(0, night)));
+ * }</pre>
+ *
+ * @see ComplexZmanimCalendar#getKiddushLevanaMonthWindow(double, double)
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class KiddushLevanaSchedule {
+
+	/**
+	 * The opinion that <em>Kiddush Levana</em> can be said starting 3 days after the <em>molad</em>.
+	 * @see JewishCalendar#getTchilasZmanKidushLevana3DaysMillis()
+	 */
+	public static final int TCHILAS_3_DAYS = 0;
+
+	/**
+	 * The opinion that <em>Kiddush Levana</em> can be said starting 7 days after the <em>molad</em>.
+	 * @see JewishCalendar#getTchilasZmanKidushLevana7DaysMillis()
+	 */
+	public static final int TCHILAS_7_DAYS = 1;
+
+	/**
+	 * The opinion that <em>Kiddush Levana</em> can be said until halfway between <em>molad</em> and <em>molad</em>.
+	 * @see JewishCalendar#getSofZmanKidushLevanaBetweenMoldosMillis()
+	 */
+	public static final int SOF_BETWEEN_MOLDOS = 0;
+
+	/**
+	 * The opinion that <em>Kiddush Levana</em> can be said until 15 days after the <em>molad</em>.
+	 * @see JewishCalendar#getSofZmanKidushLevana15DaysMillis()
+	 */
+	public static final int SOF_15_DAYS = 1;
+
+	/** The number of milliseconds in a day. */
+	private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+	/** The value used for a twilight time that does not occur. */
+	private static final long NONE = Long.MIN_VALUE;
+
+	/** The <em>molad</em> of the month in milliseconds. */
+	private final long molad;
+
+	/** The <em>molad</em> based start of the <em>Kiddush Levana</em> time in milliseconds. */
+	private final long start;
+
+	/** The <em>molad</em> based end of the <em>Kiddush Levana</em> time in milliseconds. */
+	private final long end;
+
+	/** The index of each location's first night in the night arrays, followed by the total number of nights. */
+	private final int[] offsets;
+
+	/** The start of each permissible night in milliseconds, grouped by location. */
+	private final long[] nightStarts;
+
+	/** The end of each permissible night in milliseconds, grouped by location. */
+	private final long[] nightEnds;
+
+	/**
+	 * Constructor used by {@link #getInstance(JewishCalendar, GeoLocation[], AstronomicalCalculator, double, double, int,
+	 * int)}.
+	 * @param molad the <em>molad</em>
+	 * @param start the <em>molad</em> based start
+	 * @param end the <em>molad</em> based end
+	 * @param offsets the index of each location's first night
+	 * @param nightStarts the start of each night
+	 * @param nightEnds the end of each night
+	 */
+	private KiddushLevanaSchedule(long molad, long start, long end, int[] offsets, long[] nightStarts, long[] nightEnds) {
+		this.molad = molad;
+		this.start = start;
+		this.end = end;
+		this.offsets = offsets;
+		this.nightStarts = nightStarts;
+		this.nightEnds = nightEnds;
+	}
+
+	/**
+	 * Generates the <em>Kiddush Levana</em> nights of a Jewish month for a list of locations.
+	 *
+	 * @param jewishMonth
+	 *            any day in the Jewish month
+	 * @param locations
+	 *            the locations. Each location's time zone is used to determine its dates.
+	 * @param calculator
+	 *            the calculator used for <em>alos</em> and <em>tzais</em>
+	 * @param alosZenith
+	 *            the zenith used for <em>alos</em>, such as {@link AstronomicalCalendar#GEOMETRIC_ZENITH} + 16.1 (see
+	 *            {@link AstronomicalCalendar#getSunriseOffsetByDegrees(double)})
+	 * @param tzaisZenith
+	 *            the zenith used for <em>tzais</em> (see {@link AstronomicalCalendar#getSunsetOffsetByDegrees(double)})
+	 * @param tchilasOpinion
+	 *            {@link #TCHILAS_3_DAYS} or {@link #TCHILAS_7_DAYS}
+	 * @param sofOpinion
+	 *            {@link #SOF_BETWEEN_MOLDOS} or {@link #SOF_15_DAYS}
+	 * @return the schedule. A night where the sun does not reach the <em>alos</em> or <em>tzais</em> zenith is not
+	 *         included.
+	 * @throws IllegalArgumentException if an opinion is not one of the constants above
+	 */
+	public static KiddushLevanaSchedule getInstance(JewishCalendar jewishMonth, GeoLocation[] locations,
+			AstronomicalCalculator calculator, double alosZenith, double tzaisZenith, int tchilasOpinion, int sofOpinion) {
+		long start;
+		if (tchilasOpinion == TCHILAS_3_DAYS) {
+			start = jewishMonth.getTchilasZmanKidushLevana3DaysMillis();
+		} else if (tchilasOpinion == TCHILAS_7_DAYS) {
+			start = jewishMonth.getTchilasZmanKidushLevana7DaysMillis();
+		} else {
+			throw new IllegalArgumentException("Unknown tchilas zman Kiddush Levana opinion: " + tchilasOpinion);
+		}
+		long end;
+		if (sofOpinion == SOF_BETWEEN_MOLDOS) {
+			end = jewishMonth.getSofZmanKidushLevanaBetweenMoldosMillis();
+		} else if (sofOpinion == SOF_15_DAYS) {
+			end = jewishMonth.getSofZmanKidushLevana15DaysMillis();
+		} else {
+			throw new IllegalArgumentException("Unknown sof zman Kiddush Levana opinion: " + sofOpinion);
+		}
+
+		// at most one night per date from the day before the start until the date of the end
+		int maxNights = (int) ((end - start) / DAY_MILLIS) + 3;
+		int[] offsets = new int[locations.length + 1];
+		long[] nightStarts = new long[locations.length * maxNights];
+		long[] nightEnds = new long[nightStarts.length];
+		int count = 0;
+		for (int i = 0; i < locations.length; i++) {
+			offsets[i] = count;
+			ImmutableGeoLocation location = ImmutableGeoLocation.valueOf(locations[i]);
+			Calendar calendar = new GregorianCalendar(location.getTimeZone());
+			calendar.setTimeInMillis(start);
+			calendar.add(Calendar.DATE, location.getAntimeridianAdjustment() - 1); // the night before the start
+			long tzais = getTzais(calculator, calendar, location, tzaisZenith);
+			for (int night = 0; night < maxNights; night++) {
+				calendar.add(Calendar.DATE, 1);
+				long alos = getAlos(calculator, calendar, location, alosZenith);
+				if (tzais != NONE && alos != NONE) {
+					long nightStart = Math.max(tzais, start);
+					long nightEnd = Math.min(alos, end);
+					if (nightStart < nightEnd) {
+						nightStarts[count] = nightStart;
+						nightEnds[count] = nightEnd;
+						count++;
+					}
+				}
+				tzais = getTzais(calculator, calendar, location, tzaisZenith);
+			}
+		}
+		offsets[locations.length] = count;
+		return new KiddushLevanaSchedule(jewishMonth.getMoladAsMillis(), start, end, offsets,
+				Arrays.copyOf(nightStarts, count), Arrays.copyOf(nightEnds, count));
+	}
+
+	/**
+	 * @param calculator the calculator
+	 * @param calendar the antimeridian adjusted date
+	 * @param location the location
+	 * @param zenith the zenith
+	 * @return <em>alos</em> in milliseconds, or {@link #NONE} if the sun does not reach the zenith.
+	 */
+	private static long getAlos(AstronomicalCalculator calculator, Calendar calendar, ImmutableGeoLocation location,
+			double zenith) {
+		return getMillisFromTime(calculator.getUTCSunrise(calendar, location, zenith, true), calendar, location, true);
+	}
+
+	/**
+	 * @param calculator the calculator
+	 * @param calendar the antimeridian adjusted date
+	 * @param location the location
+	 * @param zenith the zenith
+	 * @return <em>tzais</em> in milliseconds, or {@link #NONE} if the sun does not reach the zenith.
+	 */
+	private static long getTzais(AstronomicalCalculator calculator, Calendar calendar, ImmutableGeoLocation location,
+			double zenith) {
+		return getMillisFromTime(calculator.getUTCSunset(calendar, location, zenith, true), calendar, location, false);
+	}
+
+	/**
+	 * The primitive equivalent of {@link AstronomicalCalendar#getDateFromTime(double, AstronomicalCalendar.SolarEvent)},
+	 * converting a UTC time of day to milliseconds, including its adjustment of the date for times calculated for
+	 * the wrong date.
+	 *
+	 * @param time the UTC time of day in hours
+	 * @param calendar the antimeridian adjusted date
+	 * @param location the location
+	 * @param sunrise true if the time is before sunrise, false if it is after sunset
+	 * @return the time in milliseconds, or {@link #NONE} if the time is NaN.
+	 */
+	private static long getMillisFromTime(double time, Calendar calendar, ImmutableGeoLocation location,
+			boolean sunrise) {
+		if (Double.isNaN(time)) {
+			return NONE;
+		}
+		double calculatedTime = time;
+		int hours = (int) calculatedTime; // retain only the hours
+		calculatedTime -= hours;
+		int minutes = (int) (calculatedTime *= 60); // retain only the minutes
+		calculatedTime -= minutes;
+		int seconds = (int) (calculatedTime *= 60); // retain only the seconds
+		calculatedTime -= seconds; // remaining milliseconds
+
+		int dayOffset = 0;
+		int localTimeHours = (int) location.getLongitude() / 15;
+		if (sunrise && localTimeHours + hours > 18) {
+			dayOffset = -1;
+		} else if (!sunrise && localTimeHours + hours < 6) {
+			dayOffset = 1;
+		}
+		long utcMidnight = (getEpochDay(calendar) + dayOffset) * DAY_MILLIS;
+		return utcMidnight + hours * 3600000L + minutes * 60000L + seconds * 1000L + (int) (calculatedTime * 1000);
+	}
+
+	/**
+	 * @param calendar the calendar
+	 * @return the number of days from January 1, 1970 to the calendar's date.
+	 */
+	private static long getEpochDay(Calendar calendar) {
+		int year = calendar.get(Calendar.YEAR);
+		int month = calendar.get(Calendar.MONTH) + 1;
+		int day = calendar.get(Calendar.DAY_OF_MONTH);
+		// days from civil, see https://howardhinnant.github.io/date_algorithms.html#days_from_civil
+		int y = month <= 2 ? year - 1 : year;
+		int era = (y >= 0 ? y : y - 399) / 400;
+		int yearOfEra = y - era * 400;
+		int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+		int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097L + dayOfEra - 719468;
+	}
+
+	/**
+	 * @return the <em>molad</em> of the month in milliseconds.
+	 * @see JewishCalendar#getMoladAsMillis()
+	 */
+	public long getMolad() {
+		return molad;
+	}
+
+	/**
+	 * @return the <em>molad</em> based start of the <em>Kiddush Levana</em> time in milliseconds, regardless of it being
+	 *         day or night.
+	 */
+	public long getStart() {
+		return start;
+	}
+
+	/**
+	 * @return the <em>molad</em> based end of the <em>Kiddush Levana</em> time in milliseconds, regardless of it being
+	 *         day or night.
+	 */
+	public long getEnd() {
+		return end;
+	}
+
+	/**
+	 * @return the number of locations.
+	 */
+	public int getLocationCount() {
+		return offsets.length - 1;
+	}
+
+	/**
+	 * @param location the index of the location in the array passed in
+	 * @return the number of nights <em>Kiddush Levana</em> can be said at the location.
+	 */
+	public int getNightCount(int location) {
+		return offsets[location + 1] - offsets[location];
+	}
+
+	/**
+	 * @param location the index of the location in the array passed in
+	 * @param night the index of the night, from 0 to {@link #getNightCount(int)} - 1
+	 * @return the time in milliseconds <em>Kiddush Levana</em> can first be said that night.
+	 * @throws IndexOutOfBoundsException if the night index is out of range
+	 */
+	public long getNightStart(int location, int night) {
+		return nightStarts[getIndex(location, night)];
+	}
+
+	/**
+	 * @param location the index of the location in the array passed in
+	 * @param night the index of the night, from 0 to {@link #getNightCount(int)} - 1
+	 * @return the time in milliseconds <em>Kiddush Levana</em> can last be said that night.
+	 * @throws IndexOutOfBoundsException if the night index is out of range
+	 */
+	public long getNightEnd(int location, int night) {
+		return nightEnds[getIndex(location, night)];
+	}
+
+	/**
+	 * @param location the index of the location in the array passed in
+	 * @return a copy of the start of each night at the location in milliseconds.
+	 */
+	public long[] getNightStarts(int location) {
+		return Arrays.copyOfRange(nightStarts, offsets[location], offsets[location + 1]);
+	}
+
+	/**
+	 * @param location the index of the location in the array passed in
+	 * @return a copy of the end of each night at the location in milliseconds.
+	 */
+	public long[] getNightEnds(int location) {
+		return Arrays.copyOfRange(nightEnds, offsets[location], offsets[location + 1]);
+	}
+
+	/**
+	 * Returns if <em>Kiddush Levana</em> can be said at a location at a given time.
+	 * @param location the index of the location in the array passed in
+	 * @param time the time in milliseconds
+	 * @return true if the time is within one of the location's nights.
+	 */
+	public boolean isKiddushLevanaPermissible(int location, long time) {
+		int from = offsets[location];
+		int to = offsets[location + 1];
+		int index = Arrays.binarySearch(nightStarts, from, to, time);
+		if (index >= 0) {
+			return true;
+		}
+		index = -index - 2; // the last night that starts before the time
+		return index >= from && time <= nightEnds[index];
+	}
+
+	/**
+	 * @param location the index of the location
+	 * @param night the index of the night
+	 * @return the index in the night arrays.
+	 * @throws IndexOutOfBoundsException if the night index is out of range
+	 */
+	private int getIndex(int location, int night) {
+		if (night < 0 || night >= getNightCount(location)) {
+			throw new IndexOutOfBoundsException("Night " + night + " of location " + location);
+		}
+		return offsets[location] + night;
+	}
+}
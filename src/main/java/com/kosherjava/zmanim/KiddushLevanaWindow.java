@@ -0,0 +1,182 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.util.Date;
+
+/**
+ * An immutable snapshot of the <em>molad</em> and the <em>Kiddush Levana</em> window (the earliest time according to the
+ * 3 and 7 day opinions and the latest time according to the opinions of halfway between <em>molad</em> and
+ * <em>molad</em> and of 15 days) returned by {@link ComplexZmanimCalendar#getKiddushLevanaWindow(Date, Date)} for a
+ * single date and by {@link ComplexZmanimCalendar#getKiddushLevanaMonthWindow(double, double)} for a whole month. All
+ * the times are calculated with a single call instead of one call per <em>zman</em>.
+ *
+ * @see ComplexZmanimCalendar#getKiddushLevanaWindow(Date, Date)
+ * @see ComplexZmanimCalendar#getKiddushLevanaMonthWindow(double, double)
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class KiddushLevanaWindow {
+
+	/** The value used for a time that does not occur. */
+	private static final long NONE = Long.MIN_VALUE;
+
+	/** The time of the <em>molad</em> in milliseconds. */
+	private final long molad;
+
+	/** The earliest time of <em>Kiddush Levana</em> 3 days after the <em>molad</em> in milliseconds. */
+	private final long tchilasZmanKidushLevana3Days;
+
+	/** The earliest time of <em>Kiddush Levana</em> 7 days after the <em>molad</em> in milliseconds. */
+	private final long tchilasZmanKidushLevana7Days;
+
+	/** The latest time of <em>Kiddush Levana</em> halfway between <em>molad</em> and <em>molad</em> in milliseconds. */
+	private final long sofZmanKidushLevanaBetweenMoldos;
+
+	/** The latest time of <em>Kiddush Levana</em> 15 days after the <em>molad</em> in milliseconds. */
+	private final long sofZmanKidushLevana15Days;
+
+	/**
+	 * Constructor that takes the times in milliseconds. {@link Long#MIN_VALUE} is used for a time that does not occur.
+	 * @param molad the time of the <em>molad</em>
+	 * @param tchilasZmanKidushLevana3Days the earliest time according to the 3 day opinion
+	 * @param tchilasZmanKidushLevana7Days the earliest time according to the 7 day opinion
+	 * @param sofZmanKidushLevanaBetweenMoldos the latest time according to the halfway between the <em>moldos</em> opinion
+	 * @param sofZmanKidushLevana15Days the latest time according to the 15 day opinion
+	 */
+	KiddushLevanaWindow(long molad, long tchilasZmanKidushLevana3Days, long tchilasZmanKidushLevana7Days,
+			long sofZmanKidushLevanaBetweenMoldos, long sofZmanKidushLevana15Days) {
+		this.molad = molad;
+		this.tchilasZmanKidushLevana3Days = tchilasZmanKidushLevana3Days;
+		this.tchilasZmanKidushLevana7Days = tchilasZmanKidushLevana7Days;
+		this.sofZmanKidushLevanaBetweenMoldos = sofZmanKidushLevanaBetweenMoldos;
+		this.sofZmanKidushLevana15Days = sofZmanKidushLevana15Days;
+	}
+
+	/**
+	 * Constructor that takes the times as <code>Date</code>s. A <code>null</code> is used for a time that does not occur.
+	 * @param molad the time of the <em>molad</em>
+	 * @param tchilasZmanKidushLevana3Days the earliest time according to the 3 day opinion
+	 * @param tchilasZmanKidushLevana7Days the earliest time according to the 7 day opinion
+	 * @param sofZmanKidushLevanaBetweenMoldos the latest time according to the halfway between the <em>moldos</em> opinion
+	 * @param sofZmanKidushLevana15Days the latest time according to the 15 day opinion
+	 */
+	KiddushLevanaWindow(Date molad, Date tchilasZmanKidushLevana3Days, Date tchilasZmanKidushLevana7Days,
+			Date sofZmanKidushLevanaBetweenMoldos, Date sofZmanKidushLevana15Days) {
+		this(toMillis(molad), toMillis(tchilasZmanKidushLevana3Days), toMillis(tchilasZmanKidushLevana7Days),
+				toMillis(sofZmanKidushLevanaBetweenMoldos), toMillis(sofZmanKidushLevana15Days));
+	}
+
+	/**
+	 * @param date the date or <code>null</code>
+	 * @return the date in milliseconds or {@link #NONE} if the date is <code>null</code>.
+	 */
+	private static long toMillis(Date date) {
+		return date == null ? NONE : date.getTime();
+	}
+
+	/**
+	 * @param millis the time in milliseconds or {@link #NONE}
+	 * @return the time as a <code>Date</code> or <code>null</code> for {@link #NONE}.
+	 */
+	private static Date toDate(long millis) {
+		return millis == NONE ? null : new Date(millis);
+	}
+
+	/**
+	 * @return the time of the <em>molad</em>, or <code>null</code> if it does not occur on the date of a single date
+	 *         window.
+	 * @see ComplexZmanimCalendar#getZmanMolad()
+	 */
+	public Date getMolad() {
+		return toDate(molad);
+	}
+
+	/**
+	 * @return the earliest time of <em>Kiddush Levana</em> according to the opinion that it can be said 3 days after
+	 *         the <em>molad</em>, or <code>null</code> if it does not occur on the date of a single date window.
+	 * @see ComplexZmanimCalendar#getTchilasZmanKidushLevana3Days(Date, Date)
+	 */
+	public Date getTchilasZmanKidushLevana3Days() {
+		return toDate(tchilasZmanKidushLevana3Days);
+	}
+
+	/**
+	 * @return the earliest time of <em>Kiddush Levana</em> according to the opinion that it can be said 7 days after
+	 *         the <em>molad</em>, or <code>null</code> if it does not occur on the date of a single date window.
+	 * @see ComplexZmanimCalendar#getTchilasZmanKidushLevana7Days(Date, Date)
+	 */
+	public Date getTchilasZmanKidushLevana7Days() {
+		return toDate(tchilasZmanKidushLevana7Days);
+	}
+
+	/**
+	 * @return the latest time of <em>Kiddush Levana</em> according to the opinion of halfway between <em>molad</em> and
+	 *         <em>molad</em>, or <code>null</code> if it does not occur on the date of a single date window.
+	 * @see ComplexZmanimCalendar#getSofZmanKidushLevanaBetweenMoldos(Date, Date)
+	 */
+	public Date getSofZmanKidushLevanaBetweenMoldos() {
+		return toDate(sofZmanKidushLevanaBetweenMoldos);
+	}
+
+	/**
+	 * @return the latest time of <em>Kiddush Levana</em> according to the opinion of 15 days after the <em>molad</em>,
+	 *         or <code>null</code> if it does not occur on the date of a single date window.
+	 * @see ComplexZmanimCalendar#getSofZmanKidushLevana15Days(Date, Date)
+	 */
+	public Date getSofZmanKidushLevana15Days() {
+		return toDate(sofZmanKidushLevana15Days);
+	}
+
+	/**
+	 * @see java.lang.Object#equals(Object)
+	 */
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (!(object instanceof KiddushLevanaWindow)) {
+			return false;
+		}
+		KiddushLevanaWindow window = (KiddushLevanaWindow) object;
+		return molad == window.molad && tchilasZmanKidushLevana3Days == window.tchilasZmanKidushLevana3Days
+				&& tchilasZmanKidushLevana7Days == window.tchilasZmanKidushLevana7Days
+				&& sofZmanKidushLevanaBetweenMoldos == window.sofZmanKidushLevanaBetweenMoldos
+				&& sofZmanKidushLevana15Days == window.sofZmanKidushLevana15Days;
+	}
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	public int hashCode() {
+		int result = 17;
+		result = 37 * result + Long.hashCode(molad);
+		result = 37 * result + Long.hashCode(tchilasZmanKidushLevana3Days);
+		result = 37 * result + Long.hashCode(tchilasZmanKidushLevana7Days);
+		result = 37 * result + Long.hashCode(sofZmanKidushLevanaBetweenMoldos);
+		result = 37 * result + Long.hashCode(sofZmanKidushLevana15Days);
+		return result;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		return "KiddushLevanaWindow [molad=" + getMolad() + ", tchilasZmanKidushLevana3Days="
+				+ getTchilasZmanKidushLevana3Days() + ", tchilasZmanKidushLevana7Days=" + getTchilasZmanKidushLevana7Days()
+				+ ", sofZmanKidushLevanaBetweenMoldos=" + getSofZmanKidushLevanaBetweenMoldos()
+				+ ", sofZmanKidushLevana15Days=" + getSofZmanKidushLevana15Days() + "]";
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.util.Calendar;
+import java.util.Date;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+
+/**
+ * A thread-safe schedule of the times that <em>melacha</em> (work) is prohibited at a location, for answering the
+ * same question as {@link ZmanimCalendar#isAssurBemlacha(Date, Date, boolean)} many times, such as a home automation
+ * system that checks every minute. {@link ZmanimCalendar#isAssurBemlacha(Date, Date, boolean) isAssurBemlacha} creates
+ * a <code>JewishCalendar</code> and calculates sunset on every call. Instead, this class calculates the intervals of
+ * the prohibition (from the {@link ZmanimCalendar#getElevationAdjustedSunset() sunset} of a day with {@link
+ * JewishCalendar#hasCandleLighting() candle lighting} through <em>tzais</em> of <em>Shabbos</em>, <em>Yom Tov</em> and
+ * <em>Yom Tov sheni</em>) a week and more ahead, and answers {@link #isAssurBemelacha(long)} and {@link
+ * #getNextTransition(long)} with a binary search of the intervals. As time passes, the days that are needed are
+ * added to the end of the schedule and the intervals that have passed are dropped, so each day is only calculated once.
+ * <p>
+ * The status at any time is the same as {@link ZmanimCalendar#isAssurBemlacha(Date, Date, boolean)} for the calendar
+ * set to the date of the time and the <em>tzais</em> of that date. Where that method can't return a result because
+ * there is no sunset or <em>tzais</em> on a day, this class treats a missing sunset as no prohibition until midnight,
+ * and a missing <em>tzais</em> as a prohibition until midnight.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * MelachaSchedule schedule = new MelachaSchedule(zmanimCalendar, "tzais(8.5)", false); // one per location
+ * boolean assur = schedule.isAssurBemelacha(System.currentTimeMillis());
+ * long next = schedule.getNextTransition(System.currentTimeMillis());</pre>
+ *
+ * @see ZmanimCalendar#isAssurBemlacha(Date, Date, boolean)
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class MelachaSchedule {
+
+	/** The number of days after the time of a query that are kept calculated, so that the next transition is known. */
+	private static final int LOOKAHEAD_DAYS = 9;
+
+	/** The milliseconds in a day. */
+	private static final long DAY_MILLIS = 24 * AstronomicalCalendar.HOUR_MILLIS;
+
+	/** A private copy of the calendar set to the next day to calculate. */
+	private final ZmanimCalendar calendar;
+
+	/** A Jewish calendar set to the same date as {@link #calendar}. */
+	private final JewishCalendar jewishCalendar;
+
+	/** Midnight at the start of the next day to calculate, in the time zone of the location. */
+	private final Calendar midnight;
+
+	/** The definition of <em>tzais</em>. */
+	private final ZmanDefinitions tzais;
+
+	/** The earliest time the intervals are correct for, or {@link Long#MAX_VALUE} before the first query. */
+	private long windowStart = Long.MAX_VALUE;
+
+	/** The end of the last calculated day. */
+	private long windowEnd;
+
+	/** The start (inclusive) of each interval. */
+	private long[] starts = new long[16];
+
+	/** The end (exclusive) of each interval. */
+	private long[] ends = new long[16];
+
+	/** The index of the first interval that has not passed. */
+	private int first;
+
+	/** The number of intervals after {@link #first}. */
+	private int count;
+
+	/**
+	 * Creates the schedule of a location.
+	 *
+	 * @param calendar
+	 *            the calendar with the location and settings, such as {@link ZmanimCalendar#isUseElevation()}. It is not
+	 *            modified, and its date is not used.
+	 * @param tzais
+	 *            the definition of <em>tzais</em> in the syntax of {@link ZmanDefinitions}, such as
+	 *            <code>"tzais(8.5)"</code> or <code>"sunset() + minutes(72)"</code>
+	 * @param inIsrael
+	 *            whether to use the Israel holiday scheme
+	 * @throws IllegalArgumentException if the <em>tzais</em> definition is not valid or is not a time
+	 */
+	public MelachaSchedule(ZmanimCalendar calendar, String tzais, boolean inIsrael) {
+		this.tzais = ZmanDefinitions.compile("tzais = " + tzais);
+		if (this.tzais.isDuration(0)) {
+			throw new IllegalArgumentException("tzais must be a time and not a duration");
+		}
+		this.calendar = (ZmanimCalendar) calendar.clone();
+		midnight = (Calendar) this.calendar.getCalendar().clone();
+		jewishCalendar = new JewishCalendar();
+		jewishCalendar.setInIsrael(inIsrael);
+	}
+
+	/**
+	 * Returns if <em>melacha</em> is prohibited at a time.
+	 *
+	 * @param time
+	 *            the time in milliseconds
+	 * @return true if <em>melacha</em> is prohibited or false if it is not
+	 */
+	public synchronized boolean isAssurBemelacha(long time) {
+		update(time);
+		int index = getIntervalIndex(time);
+		return index >= 0 && time < ends[index];
+	}
+
+	/**
+	 * Returns the next time after a time at which the <em>melacha</em> status changes, such as the sunset that
+	 * <em>Shabbos</em> starts at or the <em>tzais</em> that it ends at.
+	 *
+	 * @param time
+	 *            the time in milliseconds
+	 * @return the first time in milliseconds after the time with a different status than the time. This is the millisecond
+	 *         after <em>tzais</em> for the end of a prohibition, since the prohibition includes <em>tzais</em>.
+	 */
+	public synchronized long getNextTransition(long time) {
+		update(time);
+		int index = getIntervalIndex(time);
+		if (index >= 0 && time < ends[index]) {
+			return ends[index];
+		}
+		return index + 1 < first + count ? starts[index + 1] : windowEnd; // a week always has Shabbos
+	}
+
+	/**
+	 * @param time the time
+	 * @return the index of the last interval that starts at or before the time, or <code>first - 1</code> if there is none
+	 */
+	private int getIntervalIndex(long time) {
+		int low = first;
+		int high = first + count;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (starts[middle] <= time) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low - 1;
+	}
+
+	/**
+	 * Makes sure that the intervals cover the time and the days after it, dropping the intervals that have passed.
+	 *
+	 * @param time the time of a query
+	 */
+	private void update(long time) {
+		if (time < windowStart) {
+			reset(time);
+		}
+		while (windowEnd < time + LOOKAHEAD_DAYS * DAY_MILLIS) {
+			addDay();
+		}
+		while (count > 0 && ends[first] <= time) {
+			windowStart = ends[first];
+			first++;
+			count--;
+		}
+	}
+
+	/**
+	 * Starts the schedule over from the date of a time.
+	 *
+	 * @param time the time
+	 */
+	private void reset(long time) {
+		midnight.setTimeInMillis(time);
+		midnight.set(Calendar.HOUR_OF_DAY, 0);
+		midnight.set(Calendar.MINUTE, 0);
+		midnight.set(Calendar.SECOND, 0);
+		midnight.set(Calendar.MILLISECOND, 0);
+		calendar.getCalendar().setTimeInMillis(midnight.getTimeInMillis());
+		jewishCalendar.setGregorianDate(midnight.get(Calendar.YEAR), midnight.get(Calendar.MONTH),
+				midnight.get(Calendar.DAY_OF_MONTH));
+		windowStart = midnight.getTimeInMillis();
+		windowEnd = windowStart;
+		first = 0;
+		count = 0;
+	}
+
+	/**
+	 * Calculates the intervals of the next day.
+	 */
+	private void addDay() {
+		long dayStart = midnight.getTimeInMillis();
+		midnight.add(Calendar.DATE, 1);
+		long dayEnd = midnight.getTimeInMillis();
+		if (jewishCalendar.isAssurBemelacha()) {
+			long end = tzais.getZmanim(calendar)[0];
+			end = end == Long.MIN_VALUE ? dayEnd : Math.min(end + 1, dayEnd);
+			if (end > dayStart) {
+				addInterval(dayStart, end);
+			}
+		}
+		if (jewishCalendar.hasCandleLighting()) {
+			Date sunset = calendar.getElevationAdjustedSunset();
+			if (sunset != null && sunset.getTime() < dayEnd) {
+				addInterval(Math.max(sunset.getTime(), dayStart), dayEnd);
+			}
+		}
+		calendar.getCalendar().add(Calendar.DATE, 1);
+		jewishCalendar.forward(Calendar.DATE, 1);
+		windowEnd = dayEnd;
+	}
+
+	/**
+	 * Adds an interval, merging it with the last interval if they touch.
+	 *
+	 * @param start the start of the interval
+	 * @param end the end of the interval
+	 */
+	private void addInterval(long start, long end) {
+		int last = first + count - 1;
+		if (count > 0 && ends[last] >= start) {
+			ends[last] = Math.max(ends[last], end);
+			return;
+		}
+		if (first + count == starts.length) {
+			if (first > 0) { // reuse the space of the intervals that have passed
+				System.arraycopy(starts, first, starts, 0, count);
+				System.arraycopy(ends, first, ends, 0, count);
+			} else {
+				long[] newStarts = new long[starts.length * 2];
+				long[] newEnds = new long[ends.length * 2];
+				System.arraycopy(starts, 0, newStarts, 0, count);
+				System.arraycopy(ends, 0, newEnds, 0, count);
+				starts = newStarts;
+				ends = newEnds;
+			}
+			first = 0;
+		}
+		starts[first + count] = start;
+		ends[first + count] = end;
+		count++;
+	}
+}
@@ -0,0 +1,791 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, thread-safe set of custom <em>zmanim</em> defined declaratively as text instead of as Java subclasses
+ * of {@link ZmanimCalendar}. The definitions are parsed once by {@link #compile(String...)}, every distinct
+ * sub-expression of all of the definitions is stored once (so <code>alos(16.1)</code> used by ten definitions is
+ * calculated once), and the definitions are then evaluated for a day or a range of days into primitive
+ * <code>long</code> millisecond arrays. All of the degree based times of a day are calculated with a single {@link
+ * AstronomicalCalendar#getOffsetsByDegrees(double[], Date[], Date[])} call.
+ * <p>
+ * A definition has the form <code>name = expression</code>. The expression is made of times, durations and numbers
+ * combined with <code>+</code>, <code>-</code>, <code>*</code>, <code>/</code> and parentheses. A time plus or minus a
+ * duration is a time, a time minus a time is a duration, and a duration can be multiplied or divided by a number. The
+ * name of an earlier definition can be used in the expressions that follow it. The supported functions are:
+ * <ul>
+ * <li><code>sunrise()</code> and <code>sunset()</code>: sea level or elevation adjusted sunrise and sunset, depending on
+ * the {@link ZmanimCalendar#isUseElevation() elevation setting} of the calendar.</li>
+ * <li><code>seaLevelSunrise()</code> and <code>seaLevelSunset()</code>: sea level sunrise and sunset.</li>
+ * <li><code>chatzos()</code>: {@link ZmanimCalendar#getChatzos() chatzos}.</li>
+ * <li><code>alos(degrees)</code> and <code>tzais(degrees)</code>: the time the sun is the number of degrees below the
+ * horizon before sunrise and after sunset. A degree sign may follow the number, as in <code>alos(16.1&deg;)</code>.</li>
+ * <li><code>minutes(n)</code>, <code>hours(n)</code> and <code>seconds(n)</code>: fixed durations.</li>
+ * <li><code>shaahZmanis(start, end)</code>: a twelfth of the day (see {@link AstronomicalCalendar#getTemporalHour(Date,
+ * Date)}) and <code>halfDayShaahZmanis(start, end)</code>: a sixth of the half day (see {@link
+ * ZmanimCalendar#getHalfDayBasedShaahZmanis(Date, Date)}).</li>
+ * <li><code>zmanis(start, end, hours)</code>: see {@link ZmanimCalendar#getShaahZmanisBasedZman(Date, Date, double)}
+ * and <code>halfDayZmanis(start, end, hours)</code>: see {@link ZmanimCalendar#getHalfDayBasedZman(Date, Date,
+ * double)}.</li>
+ * <li><code>min(a, b)</code> and <code>max(a, b)</code>: the earlier and later of two times, or the shorter and longer of
+ * two durations.</li>
+ * </ul>
+ * If any time an expression depends on can't be computed, such as <em>alos</em> in the Arctic summer, the expression
+ * can't be computed either and {@link Long#MIN_VALUE} is returned for it.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ZmanDefinitions definitions = ZmanDefinitions.compile( // share this instance
+ * 		"alos = alos(16.1&deg;)",
+ * 		"tzais = tzais(16.1&deg;)",
+ * 		"sofZmanShma = alos + shaahZmanis(alos, tzais) * 3",
+ * 		"plag = zmanis(alos, tzais, 10.75)",
+ * 		"tzaisShabbos = max(tzais(8.5), sunset() + minutes(50))");
+ * long[] zmanim = definitions.getZmanim(zmanimCalendar);</pre>
+ *
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class ZmanDefinitions {
+
+	/** The type of an expression that is a point in time. */
+	private static final int TIME = 0;
+
+	/** The type of an expression that is a length of time. */
+	private static final int DURATION = 1;
+
+	/** The type of an expression that is a plain number. Numbers are constants that are folded when parsing. */
+	private static final int NUMBER = 2;
+
+	/** Elevation setting based sunrise. */
+	private static final int SUNRISE = 0;
+	/** Elevation setting based sunset. */
+	private static final int SUNSET = 1;
+	/** Sea level sunrise. */
+	private static final int SEA_LEVEL_SUNRISE = 2;
+	/** Sea level sunset. */
+	private static final int SEA_LEVEL_SUNSET = 3;
+	/** <em>Chatzos</em>. */
+	private static final int CHATZOS = 4;
+	/** An offset by degrees before sunrise. The first operand is the index of the zenith. */
+	private static final int ALOS = 5;
+	/** An offset by degrees after sunset. The first operand is the index of the zenith. */
+	private static final int TZAIS = 6;
+	/** A fixed duration. The number is the duration in milliseconds. */
+	private static final int CONSTANT = 7;
+	/** The sum of the two operands. */
+	private static final int ADD = 8;
+	/** The difference of the two operands. */
+	private static final int SUBTRACT = 9;
+	/** The first operand multiplied by the number. */
+	private static final int MULTIPLY = 10;
+	/** The first operand divided by the number. */
+	private static final int DIVIDE = 11;
+	/** The negative of the first operand. */
+	private static final int NEGATE = 12;
+	/** A twelfth of the time between the operands. */
+	private static final int SHAAH_ZMANIS = 13;
+	/** A sixth of the time between the operands. */
+	private static final int HALF_DAY_SHAAH_ZMANIS = 14;
+	/** The number of <em>shaos zmaniyos</em> after the first operand. */
+	private static final int ZMANIS = 15;
+	/** The number of half day based <em>shaos zmaniyos</em> after the first (or before the second) operand. */
+	private static final int HALF_DAY_ZMANIS = 16;
+	/** The lesser of the operands. */
+	private static final int MIN = 17;
+	/** The greater of the operands. */
+	private static final int MAX = 18;
+
+	/** The names of the definitions. */
+	private final String[] names;
+
+	/** If the result of each definition is a duration and not a time. */
+	private final boolean[] durations;
+
+	/** The node of the result of each definition. */
+	private final int[] results;
+
+	/** The operation of each node. The nodes are in evaluation order. */
+	private final int[] operations;
+
+	/** The first operand of each node. */
+	private final int[] firstOperands;
+
+	/** The second operand of each node. */
+	private final int[] secondOperands;
+
+	/** The number of each node. */
+	private final double[] numbers;
+
+	/** The distinct zeniths of the {@link #ALOS} and {@link #TZAIS} nodes. */
+	private final double[] zeniths;
+
+	/**
+	 * @param compiler the compiler that parsed the definitions
+	 */
+	private ZmanDefinitions(Compiler compiler) {
+		int zmanCount = compiler.names.size();
+		names = compiler.names.toArray(new String[zmanCount]);
+		durations = new boolean[zmanCount];
+		results = new int[zmanCount];
+		for (int i = 0; i < zmanCount; i++) {
+			Operand result = compiler.definitions.get(names[i]);
+			durations[i] = result.type == DURATION;
+			results[i] = result.node;
+		}
+		int nodeCount = compiler.operations.size();
+		operations = new int[nodeCount];
+		firstOperands = new int[nodeCount];
+		secondOperands = new int[nodeCount];
+		numbers = new double[nodeCount];
+		for (int i = 0; i < nodeCount; i++) {
+			operations[i] = compiler.operations.get(i).intValue();
+			firstOperands[i] = compiler.firstOperands.get(i).intValue();
+			secondOperands[i] = compiler.secondOperands.get(i).intValue();
+			numbers[i] = compiler.numbers.get(i).doubleValue();
+		}
+		zeniths = new double[compiler.zeniths.size()];
+		for (int i = 0; i < zeniths.length; i++) {
+			zeniths[i] = compiler.zeniths.get(i).doubleValue();
+		}
+	}
+
+	/**
+	 * Parses and compiles a list of definitions.
+	 *
+	 * @param definitions
+	 *            the definitions in the form <code>name = expression</code>. See the class documentation for the syntax.
+	 * @return the compiled definitions
+	 * @throws IllegalArgumentException if a definition can't be parsed, uses an unknown name or function, combines
+	 *             types that can't be combined (such as adding two times), or redefines a name
+	 */
+	public static ZmanDefinitions compile(String... definitions) {
+		Compiler compiler = new Compiler();
+		for (String definition : definitions) {
+			compiler.define(definition);
+		}
+		return new ZmanDefinitions(compiler);
+	}
+
+	/**
+	 * Returns the number of definitions.
+	 *
+	 * @return the number of definitions
+	 */
+	public int getZmanCount() {
+		return names.length;
+	}
+
+	/**
+	 * Returns the name of a definition.
+	 *
+	 * @param index
+	 *            the index of the definition in the list passed to {@link #compile(String...)}
+	 * @return the name of the definition
+	 */
+	public String getZmanName(int index) {
+		return names[index];
+	}
+
+	/**
+	 * Returns the index of a definition.
+	 *
+	 * @param name
+	 *            the name of the definition
+	 * @return the index of the definition, or -1 if there is no definition with the name
+	 */
+	public int getIndex(String name) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns if a definition is a duration, such as a <em>shaah zmanis</em>, and not a time.
+	 *
+	 * @param index
+	 *            the index of the definition
+	 * @return true if the result of the definition is a duration in milliseconds, or false if it is a time
+	 */
+	public boolean isDuration(int index) {
+		return durations[index];
+	}
+
+	/**
+	 * Returns the number of distinct sub-expressions of all the definitions, which is the number of operations evaluated
+	 * for each day.
+	 *
+	 * @return the number of distinct sub-expressions
+	 */
+	public int getNodeCount() {
+		return operations.length;
+	}
+
+	/**
+	 * Evaluates the definitions for the date, location and settings of the calendar.
+	 *
+	 * @param calendar
+	 *            the calendar
+	 * @return the result of each definition in the order they were passed to {@link #compile(String...)}, as a time or
+	 *         duration in milliseconds (see {@link #isDuration(int)}), or {@link Long#MIN_VALUE} if it can't be computed.
+	 */
+	public long[] getZmanim(ZmanimCalendar calendar) {
+		long[] zmanim = new long[names.length];
+		evaluate(calendar, new long[operations.length], zmanim);
+		return zmanim;
+	}
+
+	/**
+	 * Evaluates the definitions for a range of consecutive days starting with the date of the calendar.
+	 *
+	 * @param calendar
+	 *            the calendar set to the first day. It is not modified.
+	 * @param days
+	 *            the number of days
+	 * @return the results indexed by day and then by definition. See {@link #getZmanim(ZmanimCalendar)}.
+	 * @throws IllegalArgumentException if the number of days is negative
+	 */
+	public long[][] getZmanim(ZmanimCalendar calendar, int days) {
+		if (days < 0) {
+			throw new IllegalArgumentException("The number of days can't be negative");
+		}
+		ZmanimCalendar dayCalendar = (ZmanimCalendar) calendar.clone();
+		long[] values = new long[operations.length];
+		long[][] zmanim = new long[days][names.length];
+		for (int day = 0; day < days; day++) {
+			if (day > 0) {
+				dayCalendar.getCalendar().add(Calendar.DATE, 1);
+			}
+			evaluate(dayCalendar, values, zmanim[day]);
+		}
+		return zmanim;
+	}
+
+	/**
+	 * Evaluates all of the nodes for the current date of the calendar.
+	 *
+	 * @param calendar the calendar
+	 * @param values the array that the value of each node is stored in
+	 * @param zmanim the array that the result of each definition is stored in
+	 */
+	private void evaluate(ZmanimCalendar calendar, long[] values, long[] zmanim) {
+		Date[] alos = null;
+		Date[] tzais = null;
+		if (zeniths.length > 0) {
+			alos = new Date[zeniths.length];
+			tzais = new Date[zeniths.length];
+			calendar.getOffsetsByDegrees(zeniths, alos, tzais);
+		}
+		for (int i = 0; i < operations.length; i++) {
+			long value;
+			switch (operations[i]) {
+			case SUNRISE:
+				value = toMillis(calendar.getElevationAdjustedSunrise());
+				break;
+			case SUNSET:
+				value = toMillis(calendar.getElevationAdjustedSunset());
+				break;
+			case SEA_LEVEL_SUNRISE:
+				value = toMillis(calendar.getSeaLevelSunrise());
+				break;
+			case SEA_LEVEL_SUNSET:
+				value = toMillis(calendar.getSeaLevelSunset());
+				break;
+			case CHATZOS:
+				value = toMillis(calendar.getChatzos());
+				break;
+			case ALOS:
+				value = toMillis(alos[firstOperands[i]]);
+				break;
+			case TZAIS:
+				value = toMillis(tzais[firstOperands[i]]);
+				break;
+			case CONSTANT:
+				value = (long) numbers[i];
+				break;
+			default:
+				long a = values[firstOperands[i]];
+				long b = secondOperands[i] < 0 ? 0 : values[secondOperands[i]];
+				if (a == Long.MIN_VALUE || b == Long.MIN_VALUE) {
+					value = Long.MIN_VALUE;
+				} else {
+					value = calculate(operations[i], a, b, numbers[i]);
+				}
+			}
+			values[i] = value;
+		}
+		for (int i = 0; i < results.length; i++) {
+			zmanim[i] = values[results[i]];
+		}
+	}
+
+	/**
+	 * @param operation the arithmetic operation
+	 * @param a the value of the first operand
+	 * @param b the value of the second operand
+	 * @param number the number of the node
+	 * @return the value of the node
+	 */
+	private static long calculate(int operation, long a, long b, double number) {
+		switch (operation) {
+		case ADD:
+			return a + b;
+		case SUBTRACT:
+			return a - b;
+		case MULTIPLY:
+			return (long) (a * number);
+		case DIVIDE:
+			return (long) (a / number);
+		case NEGATE:
+			return -a;
+		case SHAAH_ZMANIS:
+			return (b - a) / 12;
+		case HALF_DAY_SHAAH_ZMANIS:
+			return (b - a) / 6;
+		case ZMANIS:
+			return a + (long) (((b - a) / 12) * number);
+		case HALF_DAY_ZMANIS:
+			return (number >= 0 ? a : b) + (long) (((b - a) / 6) * number);
+		case MIN:
+			return Math.min(a, b);
+		case MAX:
+			return Math.max(a, b);
+		default:
+			throw new IllegalStateException("Unknown operation " + operation);
+		}
+	}
+
+	/**
+	 * @param date the date or <code>null</code>
+	 * @return the date in milliseconds or {@link Long#MIN_VALUE} if the date is <code>null</code>.
+	 */
+	private static long toMillis(Date date) {
+		return date == null ? Long.MIN_VALUE : date.getTime();
+	}
+
+	/**
+	 * The result of parsing an expression: a node of a time or duration, or a constant number.
+	 */
+	private static final class Operand {
+		/** The {@link #TIME}, {@link #DURATION} or {@link #NUMBER} type. */
+		private final int type;
+		/** The node of a time or duration. */
+		private final int node;
+		/** The value of a number. */
+		private final double number;
+
+		/**
+		 * @param type the type
+		 * @param node the node of a time or duration
+		 * @param number the value of a number
+		 */
+		Operand(int type, int node, double number) {
+			this.type = type;
+			this.node = node;
+			this.number = number;
+		}
+	}
+
+	/**
+	 * A recursive descent parser that adds the distinct nodes of the definitions in evaluation order.
+	 */
+	private static final class Compiler {
+		/** The names of the definitions in order. */
+		private final List<String> names = new ArrayList<String>();
+		/** The result of each definition by name. */
+		private final Map<String, Operand> definitions = new HashMap<String, Operand>();
+		/** The operation of each node. */
+		private final List<Integer> operations = new ArrayList<Integer>();
+		/** The first operand of each node. */
+		private final List<Integer> firstOperands = new ArrayList<Integer>();
+		/** The second operand of each node. */
+		private final List<Integer> secondOperands = new ArrayList<Integer>();
+		/** The number of each node. */
+		private final List<Double> numbers = new ArrayList<Double>();
+		/** The distinct zeniths. */
+		private final List<Double> zeniths = new ArrayList<Double>();
+		/** The index of each distinct node by its key. */
+		private final Map<String, Integer> nodes = new HashMap<String, Integer>();
+		/** The definition being parsed. */
+		private String text;
+		/** The position in the definition being parsed. */
+		private int position;
+
+		/**
+		 * Parses a definition.
+		 * @param definition the definition
+		 */
+		void define(String definition) {
+			text = definition;
+			position = 0;
+			String name = parseIdentifier();
+			if (name == null) {
+				throw error("Expected the name of the definition");
+			}
+			if (definitions.containsKey(name)) {
+				throw error(name + " is already defined");
+			}
+			expect('=');
+			Operand result = parseExpression();
+			skipSpaces();
+			if (position < text.length()) {
+				throw error("Unexpected '" + text.charAt(position) + "'");
+			}
+			if (result.type == NUMBER) {
+				throw error("The definition is a number and not a time or duration");
+			}
+			names.add(name);
+			definitions.put(name, result);
+		}
+
+		/**
+		 * @return an expression of terms that are added or subtracted
+		 */
+		private Operand parseExpression() {
+			Operand result = parseTerm();
+			while (true) {
+				if (accept('+')) {
+					result = add(result, parseTerm());
+				} else if (accept('-')) {
+					result = subtract(result, parseTerm());
+				} else {
+					return result;
+				}
+			}
+		}
+
+		/**
+		 * @return a term of factors that are multiplied or divided
+		 */
+		private Operand parseTerm() {
+			Operand result = parseUnary();
+			while (true) {
+				if (accept('*')) {
+					Operand factor = parseUnary();
+					if (result.type == NUMBER && factor.type == NUMBER) {
+						result = number(result.number * factor.number);
+					} else if (result.type == DURATION && factor.type == NUMBER) {
+						result = node(DURATION, MULTIPLY, result.node, -1, factor.number);
+					} else if (result.type == NUMBER && factor.type == DURATION) {
+						result = node(DURATION, MULTIPLY, factor.node, -1, result.number);
+					} else {
+						throw error("Only a duration can be multiplied, and only by a number");
+					}
+				} else if (accept('/')) {
+					Operand divisor = parseUnary();
+					if (divisor.type != NUMBER) {
+						throw error("The divisor must be a number");
+					}
+					if (result.type == NUMBER) {
+						result = number(result.number / divisor.number);
+					} else if (result.type == DURATION) {
+						result = node(DURATION, DIVIDE, result.node, -1, divisor.number);
+					} else {
+						throw error("A time can't be divided");
+					}
+				} else {
+					return result;
+				}
+			}
+		}
+
+		/**
+		 * @return a factor that may be negated
+		 */
+		private Operand parseUnary() {
+			if (accept('-')) {
+				Operand operand = parseUnary();
+				if (operand.type == NUMBER) {
+					return number(-operand.number);
+				} else if (operand.type == DURATION) {
+					return node(DURATION, NEGATE, operand.node, -1, 0);
+				}
+				throw error("A time can't be negated");
+			}
+			return parsePrimary();
+		}
+
+		/**
+		 * @return a number, function call, earlier definition or expression in parentheses
+		 */
+		private Operand parsePrimary() {
+			skipSpaces();
+			if (accept('(')) {
+				Operand result = parseExpression();
+				expect(')');
+				return result;
+			}
+			if (position < text.length() && (Character.isDigit(text.charAt(position)) || text.charAt(position) == '.')) {
+				int start = position;
+				while (position < text.length()
+						&& (Character.isDigit(text.charAt(position)) || text.charAt(position) == '.')) {
+					position++;
+				}
+				double value;
+				try {
+					value = Double.parseDouble(text.substring(start, position));
+				} catch (NumberFormatException nfe) {
+					position = start;
+					throw error("Invalid number");
+				}
+				accept('\u00b0'); // an optional degree sign
+				return number(value);
+			}
+			String name = parseIdentifier();
+			if (name == null) {
+				throw error("Expected a number, function or name");
+			}
+			if (!accept('(')) {
+				Operand definition = definitions.get(name);
+				if (definition == null) {
+					throw error(name + " is not defined");
+				}
+				return definition;
+			}
+			List<Operand> arguments = new ArrayList<Operand>();
+			if (!accept(')')) {
+				do {
+					arguments.add(parseExpression());
+				} while (accept(','));
+				expect(')');
+			}
+			return call(name, arguments);
+		}
+
+		/**
+		 * @param name the function name
+		 * @param arguments the arguments
+		 * @return the result of the function
+		 */
+		private Operand call(String name, List<Operand> arguments) {
+			if ("sunrise".equals(name)) {
+				checkArguments(name, arguments);
+				return node(TIME, SUNRISE, -1, -1, 0);
+			} else if ("sunset".equals(name)) {
+				checkArguments(name, arguments);
+				return node(TIME, SUNSET, -1, -1, 0);
+			} else if ("seaLevelSunrise".equals(name)) {
+				checkArguments(name, arguments);
+				return node(TIME, SEA_LEVEL_SUNRISE, -1, -1, 0);
+			} else if ("seaLevelSunset".equals(name)) {
+				checkArguments(name, arguments);
+				return node(TIME, SEA_LEVEL_SUNSET, -1, -1, 0);
+			} else if ("chatzos".equals(name)) {
+				checkArguments(name, arguments);
+				return node(TIME, CHATZOS, -1, -1, 0);
+			} else if ("alos".equals(name) || "tzais".equals(name)) {
+				checkArguments(name, arguments, NUMBER);
+				Double zenith = Double.valueOf(AstronomicalCalendar.GEOMETRIC_ZENITH + arguments.get(0).number);
+				int index = zeniths.indexOf(zenith);
+				if (index < 0) {
+					index = zeniths.size();
+					zeniths.add(zenith);
+				}
+				return node(TIME, "alos".equals(name) ? ALOS : TZAIS, index, -1, 0);
+			} else if ("minutes".equals(name)) {
+				checkArguments(name, arguments, NUMBER);
+				return node(DURATION, CONSTANT, -1, -1, (long) (arguments.get(0).number * AstronomicalCalendar.MINUTE_MILLIS));
+			} else if ("hours".equals(name)) {
+				checkArguments(name, arguments, NUMBER);
+				return node(DURATION, CONSTANT, -1, -1, (long) (arguments.get(0).number * AstronomicalCalendar.HOUR_MILLIS));
+			} else if ("seconds".equals(name)) {
+				checkArguments(name, arguments, NUMBER);
+				return node(DURATION, CONSTANT, -1, -1, (long) (arguments.get(0).number * 1000));
+			} else if ("shaahZmanis".equals(name)) {
+				checkArguments(name, arguments, TIME, TIME);
+				return node(DURATION, SHAAH_ZMANIS, arguments.get(0).node, arguments.get(1).node, 0);
+			} else if ("halfDayShaahZmanis".equals(name)) {
+				checkArguments(name, arguments, TIME, TIME);
+				return node(DURATION, HALF_DAY_SHAAH_ZMANIS, arguments.get(0).node, arguments.get(1).node, 0);
+			} else if ("zmanis".equals(name)) {
+				checkArguments(name, arguments, TIME, TIME, NUMBER);
+				return node(TIME, ZMANIS, arguments.get(0).node, arguments.get(1).node, arguments.get(2).number);
+			} else if ("halfDayZmanis".equals(name)) {
+				checkArguments(name, arguments, TIME, TIME, NUMBER);
+				return node(TIME, HALF_DAY_ZMANIS, arguments.get(0).node, arguments.get(1).node,
+						arguments.get(2).number);
+			} else if ("min".equals(name) || "max".equals(name)) {
+				if (arguments.size() != 2 || arguments.get(0).type != arguments.get(1).type) {
+					throw error(name + " takes two times or two durations");
+				}
+				if (arguments.get(0).type == NUMBER) {
+					return number("min".equals(name) ? Math.min(arguments.get(0).number, arguments.get(1).number)
+							: Math.max(arguments.get(0).number, arguments.get(1).number));
+				}
+				return commutative(arguments.get(0).type, "min".equals(name) ? MIN : MAX, arguments.get(0).node,
+						arguments.get(1).node);
+			}
+			throw error("Unknown function " + name);
+		}
+
+		/**
+		 * @param name the function name
+		 * @param arguments the arguments
+		 * @param types the expected types of the arguments
+		 */
+		private void checkArguments(String name, List<Operand> arguments, int... types) {
+			boolean valid = arguments.size() == types.length;
+			for (int i = 0; valid && i < types.length; i++) {
+				valid = arguments.get(i).type == types[i];
+			}
+			if (!valid) {
+				String[] typeNames = { "time", "duration", "number" };
+				StringBuilder expected = new StringBuilder();
+				for (int i = 0; i < types.length; i++) {
+					expected.append(i == 0 ? "" : ", ").append(typeNames[types[i]]);
+				}
+				throw error(name + "(" + expected + ") called with the wrong arguments");
+			}
+		}
+
+		/**
+		 * @param left the left operand
+		 * @param right the right operand
+		 * @return the sum
+		 */
+		private Operand add(Operand left, Operand right) {
+			if (left.type == NUMBER && right.type == NUMBER) {
+				return number(left.number + right.number);
+			} else if ((left.type == TIME && right.type == DURATION) || (left.type == DURATION && right.type == TIME)) {
+				return commutative(TIME, ADD, left.node, right.node);
+			} else if (left.type == DURATION && right.type == DURATION) {
+				return commutative(DURATION, ADD, left.node, right.node);
+			}
+			throw error("Only a duration can be added to a time or duration, and a number to a number");
+		}
+
+		/**
+		 * @param left the left operand
+		 * @param right the right operand
+		 * @return the difference
+		 */
+		private Operand subtract(Operand left, Operand right) {
+			if (left.type == NUMBER && right.type == NUMBER) {
+				return number(left.number - right.number);
+			} else if (left.type == TIME && right.type == TIME) {
+				return node(DURATION, SUBTRACT, left.node, right.node, 0);
+			} else if (left.type != NUMBER && right.type == DURATION) {
+				return node(left.type, SUBTRACT, left.node, right.node, 0);
+			}
+			throw error("Only a time or duration can be subtracted from a time, and a duration from a duration");
+		}
+
+		/**
+		 * @param value the value
+		 * @return a constant number
+		 */
+		private static Operand number(double value) {
+			return new Operand(NUMBER, -1, value);
+		}
+
+		/**
+		 * Returns the node of an operation where the order of the operands doesn't matter, so that
+		 * <code>a + b</code> and <code>b + a</code> share a node.
+		 * @param type the type of the result
+		 * @param operation the operation
+		 * @param first the first operand node
+		 * @param second the second operand node
+		 * @return the node
+		 */
+		private Operand commutative(int type, int operation, int first, int second) {
+			return node(type, operation, Math.min(first, second), Math.max(first, second), 0);
+		}
+
+		/**
+		 * Returns an existing node with the same operation and operands, or adds a new one.
+		 * @param type the type of the result
+		 * @param operation the operation
+		 * @param first the first operand
+		 * @param second the second operand
+		 * @param number the number
+		 * @return the node
+		 */
+		private Operand node(int type, int operation, int first, int second, double number) {
+			String key = operation + ":" + first + ":" + second + ":" + Double.doubleToLongBits(number);
+			Integer index = nodes.get(key);
+			if (index == null) {
+				index = Integer.valueOf(operations.size());
+				operations.add(Integer.valueOf(operation));
+				firstOperands.add(Integer.valueOf(first));
+				secondOperands.add(Integer.valueOf(second));
+				numbers.add(Double.valueOf(number));
+				nodes.put(key, index);
+			}
+			return new Operand(type, index.intValue(), 0);
+		}
+
+		/**
+		 * @return the identifier at the current position or <code>null</code> if there is none
+		 */
+		private String parseIdentifier() {
+			skipSpaces();
+			int start = position;
+			while (position < text.length() && (Character.isLetter(text.charAt(position))
+					|| text.charAt(position) == '_' || (position > start && Character.isDigit(text.charAt(position))))) {
+				position++;
+			}
+			return position == start ? null : text.substring(start, position);
+		}
+
+		/**
+		 * @param c the character
+		 * @return true if the character is at the current position and was skipped
+		 */
+		private boolean accept(char c) {
+			skipSpaces();
+			if (position < text.length() && text.charAt(position) == c) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * @param c the character that must be at the current position
+		 */
+		private void expect(char c) {
+			if (!accept(c)) {
+				throw error("Expected '" + c + "'");
+			}
+		}
+
+		/**
+		 * Skips white space.
+		 */
+		private void skipSpaces() {
+			while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+				position++;
+			}
+		}
+
+		/**
+		 * @param message the error message
+		 * @return an exception with the message, definition and position
+		 */
+		private IllegalArgumentException error(String message) {
+			return new IllegalArgumentException(message + " at position " + position + " of \"" + text + "\"");
+		}
+	}
+}
@@ -0,0 +1,509 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import com.kosherjava.zmanim.util.AstronomicalCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.Trigonometry;
+
+/**
+ * A thread-safe cache of the daily <em>zmanim</em> of a {@link ZmanimProfile} or {@link ZmanDefinitions}, intended to be
+ * shared by all the requests of a server. <code>ZmanimCalendar</code>s are mutable and their <code>equals</code> and
+ * <code>hashCode</code> are expensive, so the cache is keyed by a small canonical key of the latitude, longitude,
+ * elevation and time zone of the {@link GeoLocation}, the date (as an epoch day), the calculator's class, {@link
+ * AstronomicalCalculator#getCalculatorName() name}, {@link AstronomicalCalculator#getTrigonometry() trigonometry},
+ * {@link AstronomicalCalculator#getRefraction() refraction}, {@link AstronomicalCalculator#getSolarRadius() solar
+ * radius} and {@link AstronomicalCalculator#getEarthRadius() earth radius}, and the settings of the calendar that affect
+ * the <em>zmanim</em>. The location name is not part of the key, so two names for the same coordinates share an entry.
+ * <p>
+ * Entries expire after a time to live. Expired entries are removed when they are looked up or counted, when the least
+ * recently used entry is the expired one, and before the least recently used live entry is evicted because the cache is
+ * full. When many threads ask for the same missing day at once, only one of them calculates it and the others wait for
+ * its result. The counts of hits, misses and evictions are kept for monitoring.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ZmanimCache cache = new ZmanimCache(profile, 10000, 6 * AstronomicalCalendar.HOUR_MILLIS); // share this instance
+ * ComplexZmanimCalendar czc = new ComplexZmanimCalendar(location); // per request
+ * long[] zmanim = cache.getZmanim(czc);</pre>
+ *
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class ZmanimCache {
+
+	/** The profile the <em>zmanim</em> are calculated with, or <code>null</code> if {@link #definitions} are used. */
+	private final ZmanimProfile profile;
+
+	/** The definitions the <em>zmanim</em> are calculated with, or <code>null</code> if a {@link #profile} is used. */
+	private final ZmanDefinitions definitions;
+
+	/** The maximum number of entries. */
+	private final int maximumSize;
+
+	/** The time in milliseconds after which an entry expires. */
+	private final long timeToLive;
+
+	/** The clock used for the expiration of entries. */
+	private final Clock clock;
+
+	/** The entries in access order. All access is synchronized on the map. */
+	private final LinkedHashMap<Key, CachedDay> entries;
+
+	/** The number of lookups that found an entry. */
+	private long hitCount;
+
+	/** The number of lookups that had to calculate the <em>zmanim</em>. */
+	private long missCount;
+
+	/** The number of entries removed because the cache was full or the entry expired. */
+	private long evictionCount;
+
+	/**
+	 * Creates a cache of the <em>zmanim</em> of a profile.
+	 *
+	 * @param profile
+	 *            the profile. The calendars passed to the cache must be <code>ComplexZmanimCalendar</code>s.
+	 * @param maximumSize
+	 *            the maximum number of days (of all locations) kept in the cache
+	 * @param timeToLive
+	 *            the time in milliseconds after which a day is calculated again
+	 * @throws IllegalArgumentException if the size or time to live is not positive
+	 */
+	public ZmanimCache(ZmanimProfile profile, int maximumSize, long timeToLive) {
+		this(profile, null, maximumSize, timeToLive, Clock.systemUTC());
+	}
+
+	/**
+	 * Creates a cache of the results of definitions.
+	 *
+	 * @param definitions
+	 *            the definitions
+	 * @param maximumSize
+	 *            the maximum number of days (of all locations) kept in the cache
+	 * @param timeToLive
+	 *            the time in milliseconds after which a day is calculated again
+	 * @throws IllegalArgumentException if the size or time to live is not positive
+	 */
+	public ZmanimCache(ZmanDefinitions definitions, int maximumSize, long timeToLive) {
+		this(null, definitions, maximumSize, timeToLive, Clock.systemUTC());
+	}
+
+	/**
+	 * Creates a cache of the <em>zmanim</em> of a profile that uses a specific clock for the expiration of entries, such as
+	 * a fixed clock for testing.
+	 *
+	 * @param profile
+	 *            the profile. The calendars passed to the cache must be <code>ComplexZmanimCalendar</code>s.
+	 * @param maximumSize
+	 *            the maximum number of days (of all locations) kept in the cache
+	 * @param timeToLive
+	 *            the time in milliseconds after which a day is calculated again
+	 * @param clock
+	 *            the clock
+	 * @throws IllegalArgumentException if the size or time to live is not positive
+	 */
+	public ZmanimCache(ZmanimProfile profile, int maximumSize, long timeToLive, Clock clock) {
+		this(profile, null, maximumSize, timeToLive, clock);
+	}
+
+	/**
+	 * Creates a cache of the results of definitions that uses a specific clock for the expiration of entries, such as a
+	 * fixed clock for testing.
+	 *
+	 * @param definitions
+	 *            the definitions
+	 * @param maximumSize
+	 *            the maximum number of days (of all locations) kept in the cache
+	 * @param timeToLive
+	 *            the time in milliseconds after which a day is calculated again
+	 * @param clock
+	 *            the clock
+	 * @throws IllegalArgumentException if the size or time to live is not positive
+	 */
+	public ZmanimCache(ZmanDefinitions definitions, int maximumSize, long timeToLive, Clock clock) {
+		this(null, definitions, maximumSize, timeToLive, clock);
+	}
+
+	/**
+	 * @param profile the profile or <code>null</code>
+	 * @param definitions the definitions or <code>null</code>
+	 * @param maximumSize the maximum number of entries
+	 * @param timeToLive the time to live in milliseconds
+	 * @param clock the clock
+	 */
+	private ZmanimCache(ZmanimProfile profile, ZmanDefinitions definitions, final int maximumSize, long timeToLive,
+			Clock clock) {
+		if (maximumSize <= 0 || timeToLive <= 0) {
+			throw new IllegalArgumentException("The maximum size and time to live must be positive");
+		}
+		this.profile = profile;
+		this.definitions = definitions;
+		this.maximumSize = maximumSize;
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+		entries = new LinkedHashMap<Key, CachedDay>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			protected boolean removeEldestEntry(Map.Entry<Key, CachedDay> eldest) {
+				long now = ZmanimCache.this.clock.millis();
+				if (size() <= maximumSize) {
+					if (isExpired(eldest.getValue(), now)) {
+						evictionCount++;
+						return true;
+					}
+					return false;
+				}
+				if (removeExpired(now) > 0) { // only evict a live entry if there are no expired ones
+					return false;
+				}
+				evictionCount++;
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * The canonical key of a day's <em>zmanim</em>.
+	 */
+	private static final class Key {
+		/** The latitude. */
+		private final double latitude;
+		/** The longitude. */
+		private final double longitude;
+		/** The elevation. */
+		private final double elevation;
+		/** The time zone ID. */
+		private final String timeZoneId;
+		/** The day as the number of days from 1970-01-01. */
+		private final long epochDay;
+		/** The calculator class. */
+		private final Class<?> calculatorClass;
+		/** The calculator name. */
+		private final String calculatorName;
+		/** The calculator's trigonometry. */
+		private final Trigonometry trigonometry;
+		/** The calculator's refraction. */
+		private final double refraction;
+		/** The calculator's solar radius. */
+		private final double solarRadius;
+		/** The calculator's earth radius. */
+		private final double earthRadius;
+		/** The boolean settings of the calendar as bits. */
+		private final int flags;
+		/** The candle lighting offset. */
+		private final double candleLightingOffset;
+		/** The Ateret Torah sunset offset, or 0 for a calendar that is not a <code>ComplexZmanimCalendar</code>. */
+		private final double ateretTorahSunsetOffset;
+
+		/**
+		 * @param calendar the calendar to create the key of
+		 */
+		Key(ZmanimCalendar calendar) {
+			GeoLocation location = calendar.getGeoLocation();
+			latitude = location.getLatitude();
+			longitude = location.getLongitude();
+			elevation = location.getElevation();
+			timeZoneId = location.getTimeZone().getID();
+			Calendar date = calendar.getCalendar();
+			epochDay = LocalDate.of(date.get(Calendar.YEAR), date.get(Calendar.MONTH) + 1, date.get(Calendar.DAY_OF_MONTH))
+					.toEpochDay();
+			AstronomicalCalculator calculator = calendar.getAstronomicalCalculator();
+			calculatorClass = calculator.getClass();
+			calculatorName = calculator.getCalculatorName();
+			trigonometry = calculator.getTrigonometry();
+			refraction = calculator.getRefraction();
+			solarRadius = calculator.getSolarRadius();
+			earthRadius = calculator.getEarthRadius();
+			flags = (calendar.isUseElevation() ? 1 : 0) | (calendar.isUseAstronomicalChatzos() ? 2 : 0)
+					| (calendar.isUseAstronomicalChatzosForOtherZmanim() ? 4 : 0);
+			candleLightingOffset = calendar.getCandleLightingOffset();
+			ateretTorahSunsetOffset = calendar instanceof ComplexZmanimCalendar
+					? ((ComplexZmanimCalendar) calendar).getAteretTorahSunsetOffset() : 0;
+		}
+
+		/**
+		 * @see java.lang.Object#equals(Object)
+		 */
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) object;
+			return epochDay == key.epochDay && Double.doubleToLongBits(latitude) == Double.doubleToLongBits(key.latitude)
+					&& Double.doubleToLongBits(longitude) == Double.doubleToLongBits(key.longitude)
+					&& Double.doubleToLongBits(elevation) == Double.doubleToLongBits(key.elevation)
+					&& flags == key.flags
+					&& Double.doubleToLongBits(candleLightingOffset) == Double.doubleToLongBits(key.candleLightingOffset)
+					&& Double.doubleToLongBits(ateretTorahSunsetOffset) == Double.doubleToLongBits(key.ateretTorahSunsetOffset)
+					&& Double.doubleToLongBits(refraction) == Double.doubleToLongBits(key.refraction)
+					&& Double.doubleToLongBits(solarRadius) == Double.doubleToLongBits(key.solarRadius)
+					&& Double.doubleToLongBits(earthRadius) == Double.doubleToLongBits(key.earthRadius)
+					&& calculatorClass == key.calculatorClass && trigonometry == key.trigonometry
+					&& timeZoneId.equals(key.timeZoneId) && calculatorName.equals(key.calculatorName);
+		}
+
+		/**
+		 * @see java.lang.Object#hashCode()
+		 */
+		public int hashCode() {
+			int result = 17;
+			result = 37 * result + Double.hashCode(latitude);
+			result = 37 * result + Double.hashCode(longitude);
+			result = 37 * result + Double.hashCode(elevation);
+			result = 37 * result + timeZoneId.hashCode();
+			result = 37 * result + Long.hashCode(epochDay);
+			result = 37 * result + calculatorClass.hashCode();
+			result = 37 * result + calculatorName.hashCode();
+			result = 37 * result + trigonometry.hashCode();
+			result = 37 * result + Double.hashCode(refraction);
+			result = 37 * result + Double.hashCode(solarRadius);
+			result = 37 * result + Double.hashCode(earthRadius);
+			result = 37 * result + flags;
+			result = 37 * result + Double.hashCode(candleLightingOffset);
+			result = 37 * result + Double.hashCode(ateretTorahSunsetOffset);
+			return result;
+		}
+	}
+
+	/**
+	 * A cached day. The task is run by the thread that missed, and other threads wait for its result.
+	 */
+	private static final class CachedDay {
+		/** The calculation of the <em>zmanim</em> of the day. */
+		private final FutureTask<long[]> task;
+		/** The time the entry was created in milliseconds. */
+		private final long created;
+
+		/**
+		 * @param task the calculation
+		 * @param created the creation time
+		 */
+		CachedDay(FutureTask<long[]> task, long created) {
+			this.task = task;
+			this.created = created;
+		}
+	}
+
+	/**
+	 * Returns the <em>zmanim</em> of the date, location and settings of the calendar, calculating them only if they are
+	 * not already in the cache.
+	 *
+	 * @param calendar
+	 *            the calendar. It is not modified.
+	 * @return the <em>zmanim</em> in milliseconds in the order of the profile or definitions, with {@link Long#MIN_VALUE}
+	 *         for a <em>zman</em> that can't be computed. The array is a copy that the caller may modify.
+	 * @throws IllegalArgumentException if the cache is of a profile and the calendar is not a
+	 *             <code>ComplexZmanimCalendar</code>
+	 */
+	public long[] getZmanim(ZmanimCalendar calendar) {
+		return getCachedZmanim(calendar).clone();
+	}
+
+	/**
+	 * Returns one <em>zman</em> of the date, location and settings of the calendar without copying the day's array.
+	 *
+	 * @param calendar
+	 *            the calendar. It is not modified.
+	 * @param index
+	 *            the index of the <em>zman</em> in the profile or definitions
+	 * @return the <em>zman</em> in milliseconds, or {@link Long#MIN_VALUE} if it can't be computed
+	 * @see #getZmanim(ZmanimCalendar)
+	 */
+	public long getZman(ZmanimCalendar calendar, int index) {
+		return getCachedZmanim(calendar)[index];
+	}
+
+	/**
+	 * @param calendar the calendar
+	 * @return the cached array of the day that must not be modified
+	 */
+	private long[] getCachedZmanim(final ZmanimCalendar calendar) {
+		if (profile != null && !(calendar instanceof ComplexZmanimCalendar)) {
+			throw new IllegalArgumentException("A ComplexZmanimCalendar is required for a ZmanimProfile");
+		}
+		Key key = new Key(calendar);
+		long now = clock.millis();
+		CachedDay entry;
+		boolean load = false;
+		synchronized (entries) {
+			entry = entries.get(key);
+			if (entry != null && isExpired(entry, now)) {
+				entries.remove(key);
+				evictionCount++;
+				entry = null;
+			}
+			if (entry == null) {
+				missCount++;
+				entry = new CachedDay(new FutureTask<long[]>(new Callable<long[]>() {
+					public long[] call() {
+						return calculate(calendar);
+					}
+				}), now);
+				entries.put(key, entry);
+				load = true;
+			} else {
+				hitCount++;
+			}
+		}
+		if (load) {
+			entry.task.run();
+		}
+		try {
+			return entry.task.get();
+		} catch (ExecutionException ee) {
+			synchronized (entries) {
+				entries.remove(key, entry); // calculate again on the next lookup
+			}
+			if (ee.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ee.getCause();
+			}
+			throw new IllegalStateException(ee.getCause());
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ie);
+		}
+	}
+
+	/**
+	 * @param entry an entry
+	 * @param now the current time in milliseconds
+	 * @return if the entry has expired
+	 */
+	private boolean isExpired(CachedDay entry, long now) {
+		return now - entry.created >= timeToLive;
+	}
+
+	/**
+	 * Removes all of the expired entries. Must be called while synchronized on the entries.
+	 *
+	 * @param now the current time in milliseconds
+	 * @return the number of entries removed
+	 */
+	private int removeExpired(long now) {
+		int removed = 0;
+		for (Iterator<CachedDay> iterator = entries.values().iterator(); iterator.hasNext();) {
+			if (isExpired(iterator.next(), now)) {
+				iterator.remove();
+				removed++;
+			}
+		}
+		evictionCount += removed;
+		return removed;
+	}
+
+	/**
+	 * @param calendar the calendar
+	 * @return the calculated <em>zmanim</em>
+	 */
+	private long[] calculate(ZmanimCalendar calendar) {
+		if (definitions != null) {
+			return definitions.getZmanim(calendar);
+		}
+		Date[] dates = profile.getZmanim((ComplexZmanimCalendar) calendar);
+		long[] zmanim = new long[dates.length];
+		for (int i = 0; i < dates.length; i++) {
+			zmanim[i] = dates[i] == null ? Long.MIN_VALUE : dates[i].getTime();
+		}
+		return zmanim;
+	}
+
+	/**
+	 * Removes all of the entries. The statistics are not reset.
+	 */
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of days in the cache. Expired days are removed first.
+	 *
+	 * @return the number of entries that have not expired
+	 */
+	public int getSize() {
+		synchronized (entries) {
+			removeExpired(clock.millis());
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of days kept in the cache.
+	 *
+	 * @return the maximum size
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Returns the number of lookups that found the day in the cache, including lookups that waited for another thread
+	 * to finish calculating the day.
+	 *
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		synchronized (entries) {
+			return hitCount;
+		}
+	}
+
+	/**
+	 * Returns the number of lookups that calculated the day.
+	 *
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		synchronized (entries) {
+			return missCount;
+		}
+	}
+
+	/**
+	 * Returns the number of days removed because the cache was full or the day expired.
+	 *
+	 * @return the eviction count
+	 */
+	public long getEvictionCount() {
+		synchronized (entries) {
+			return evictionCount;
+		}
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		synchronized (entries) {
+			return "ZmanimCache [size=" + entries.size() + ", maximumSize=" + maximumSize + ", hitCount=" + hitCount
+					+ ", missCount=" + missCount + ", evictionCount=" + evictionCount + "]";
+		}
+	}
+}
@@ -0,0 +1,393 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.kosherjava.zmanim.util.AstronomicalCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * An immutable, thread-safe and compiled "<em>minhag</em> profile" of a fixed list of {@link ComplexZmanimCalendar}
+ * <em>zmanim</em>, such as the set of <em>zmanim</em> published by a community. Calling the <em>zmanim</em> one at a
+ * time recalculates the same solar events many times, since most <em>zmanim</em> are derived from the same few
+ * sunrises, sunsets, <em>alos</em> and <em>tzais</em> times. When a profile is {@link #compile(String...) compiled},
+ * the <em>zmanim</em> are traced once to find the distinct zeniths that they use. When the profile is evaluated for a
+ * day, all of these zeniths are calculated with a single {@link AstronomicalCalculator#getUTCSunrisesAndSunsets(
+ * Calendar, GeoLocation, double[], boolean, double[], double[])} call, solar noon and midnight are calculated at most
+ * once, and the <em>zmanim</em> themselves are left with only the arithmetic that derives them from these events. The
+ * cost of evaluating a profile is therefore close to the number of distinct zeniths and not the number of
+ * <em>zmanim</em>, and every time is identical to the time returned by calling the <em>zman</em> directly.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ZmanimProfile profile = ZmanimProfile.compile("getAlos72Zmanis", "getSofZmanShmaMGA72MinutesZmanis",
+ * 		"getPlagHaminchaAteretTorah", "getTzaisGeonim8Point5Degrees"); // share this instance
+ * ComplexZmanimCalendar czc = new ComplexZmanimCalendar(location);
+ * Date[] zmanim = profile.getZmanim(czc);</pre>
+ * The settings of the <code>ComplexZmanimCalendar</code> passed to the profile, such as {@link
+ * ZmanimCalendar#isUseElevation() elevation} and {@link ZmanimCalendar#getCandleLightingOffset() candle lighting
+ * offset}, are used for the evaluation, and the calendar itself is never modified.
+ *
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class ZmanimProfile {
+
+	/** The names of the <em>zmanim</em> methods in the profile. */
+	private final String[] names;
+
+	/** The <em>zmanim</em> methods in the profile. */
+	private final Method[] methods;
+
+	/** The distinct zeniths of the profile calculated with an elevation adjustment. */
+	private final double[] zeniths;
+
+	/** The distinct zeniths of the profile calculated at sea level. */
+	private final double[] seaLevelZeniths;
+
+	/**
+	 * @param names the names of the <em>zmanim</em> methods
+	 * @param methods the <em>zmanim</em> methods
+	 * @param zeniths the distinct elevation adjusted zeniths
+	 * @param seaLevelZeniths the distinct sea level zeniths
+	 */
+	private ZmanimProfile(String[] names, Method[] methods, double[] zeniths, double[] seaLevelZeniths) {
+		this.names = names;
+		this.methods = methods;
+		this.zeniths = zeniths;
+		this.seaLevelZeniths = seaLevelZeniths;
+	}
+
+	/**
+	 * Compiles a profile of {@link ComplexZmanimCalendar} <em>zmanim</em>. The compilation traces the <em>zmanim</em>
+	 * with and without {@link ZmanimCalendar#setUseElevation(boolean) elevation} to find the zeniths they use. A zenith
+	 * that a <em>zman</em> only uses on some dates is still calculated correctly when it is needed, but outside of the
+	 * shared calculation.
+	 *
+	 * @param zmanim
+	 *            the names of the public <code>ComplexZmanimCalendar</code> methods that take no parameters and return a
+	 *            <code>Date</code>, such as <code>"getAlos72Zmanis"</code> and <code>"getTzaisGeonim8Point5Degrees"</code>.
+	 * @return the compiled profile
+	 * @throws IllegalArgumentException if a name is not such a method
+	 */
+	public static ZmanimProfile compile(String... zmanim) {
+		String[] names = zmanim.clone();
+		Method[] methods = new Method[names.length];
+		for (int i = 0; i < names.length; i++) {
+			try {
+				methods[i] = ComplexZmanimCalendar.class.getMethod(names[i]);
+			} catch (NoSuchMethodException nsme) {
+				throw new IllegalArgumentException(names[i] + " is not a ComplexZmanimCalendar method without parameters");
+			}
+			if (methods[i].getReturnType() != Date.class) {
+				throw new IllegalArgumentException(names[i] + " does not return a Date");
+			}
+		}
+
+		PlanCalendar tracer = new PlanCalendar(new GeoLocation(), new double[0], new double[0]);
+		tracer.tracedZeniths = new TreeSet<Double>();
+		tracer.tracedSeaLevelZeniths = new TreeSet<Double>();
+		tracer.getCalendar().set(2024, Calendar.MARCH, 20);
+		for (int elevation = 0; elevation < 2; elevation++) {
+			tracer.setUseElevation(elevation == 1);
+			for (Method method : methods) {
+				invoke(method, tracer);
+			}
+		}
+		return new ZmanimProfile(names, methods, toArray(tracer.tracedZeniths), toArray(tracer.tracedSeaLevelZeniths));
+	}
+
+	/**
+	 * @param set the zeniths
+	 * @return the zeniths as an array
+	 */
+	private static double[] toArray(Set<Double> set) {
+		double[] array = new double[set.size()];
+		Iterator<Double> iterator = set.iterator();
+		for (int i = 0; i < array.length; i++) {
+			array[i] = iterator.next().doubleValue();
+		}
+		return array;
+	}
+
+	/**
+	 * @param method the <em>zman</em> method
+	 * @param calendar the calendar to call it on
+	 * @return the <em>zman</em>
+	 */
+	private static Date invoke(Method method, ComplexZmanimCalendar calendar) {
+		try {
+			return (Date) method.invoke(calendar);
+		} catch (InvocationTargetException ite) {
+			if (ite.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ite.getCause();
+			}
+			throw new IllegalStateException(ite.getCause());
+		} catch (IllegalAccessException iae) {
+			throw new IllegalStateException(iae);
+		}
+	}
+
+	/**
+	 * Returns the number of <em>zmanim</em> in the profile.
+	 *
+	 * @return the number of <em>zmanim</em>
+	 */
+	public int getZmanCount() {
+		return names.length;
+	}
+
+	/**
+	 * Returns the name of a <em>zman</em> in the profile.
+	 *
+	 * @param index
+	 *            the index of the <em>zman</em> in the list passed to {@link #compile(String...)}
+	 * @return the name of the <em>zman</em> method
+	 */
+	public String getZmanName(int index) {
+		return names[index];
+	}
+
+	/**
+	 * Returns the number of distinct zeniths (elevation adjusted and sea level) that are calculated for every day the
+	 * profile is evaluated for.
+	 *
+	 * @return the number of distinct zeniths
+	 */
+	public int getZenithCount() {
+		return zeniths.length + seaLevelZeniths.length;
+	}
+
+	/**
+	 * Returns the <em>zmanim</em> of the profile for the date, location and settings of the calendar.
+	 *
+	 * @param calendar
+	 *            the calendar. It is not modified.
+	 * @return the <em>zmanim</em> in the order they were passed to {@link #compile(String...)}. An element is
+	 *         <code>null</code> if the <em>zman</em> can't be computed, as returned by the <em>zman</em> method.
+	 */
+	public Date[] getZmanim(ComplexZmanimCalendar calendar) {
+		PlanCalendar plan = getPlanCalendar(calendar);
+		Date[] zmanim = new Date[methods.length];
+		for (int i = 0; i < methods.length; i++) {
+			zmanim[i] = invoke(methods[i], plan);
+		}
+		return zmanim;
+	}
+
+	/**
+	 * Returns the <em>zmanim</em> of the profile for a range of consecutive days starting with the date of the calendar.
+	 *
+	 * @param calendar
+	 *            the calendar set to the first day. It is not modified.
+	 * @param days
+	 *            the number of days
+	 * @return the <em>zmanim</em> in milliseconds, indexed by day and then by the order they were passed to {@link
+	 *         #compile(String...)}. {@link Long#MIN_VALUE} is used for a <em>zman</em> that can't be computed.
+	 * @throws IllegalArgumentException if the number of days is negative
+	 */
+	public long[][] getZmanimAsMillis(ComplexZmanimCalendar calendar, int days) {
+		if (days < 0) {
+			throw new IllegalArgumentException("The number of days can't be negative");
+		}
+		PlanCalendar plan = getPlanCalendar(calendar);
+		long[][] zmanim = new long[days][methods.length];
+		for (int day = 0; day < days; day++) {
+			if (day > 0) {
+				plan.getCalendar().add(Calendar.DATE, 1);
+				plan.prepare();
+			}
+			for (int i = 0; i < methods.length; i++) {
+				Date zman = invoke(methods[i], plan);
+				zmanim[day][i] = zman == null ? Long.MIN_VALUE : zman.getTime();
+			}
+		}
+		return zmanim;
+	}
+
+	/**
+	 * @param calendar the calendar to copy the date, location and settings from
+	 * @return a prepared plan calendar
+	 */
+	private PlanCalendar getPlanCalendar(ComplexZmanimCalendar calendar) {
+		PlanCalendar plan = new PlanCalendar(calendar.getGeoLocation(), zeniths, seaLevelZeniths);
+		plan.setAstronomicalCalculator(calendar.getAstronomicalCalculator());
+		plan.setCalendar((Calendar) calendar.getCalendar().clone());
+		plan.setUseElevation(calendar.isUseElevation());
+		plan.setUseAstronomicalChatzos(calendar.isUseAstronomicalChatzos());
+		plan.setUseAstronomicalChatzosForOtherZmanim(calendar.isUseAstronomicalChatzosForOtherZmanim());
+		plan.setCandleLightingOffset(calendar.getCandleLightingOffset());
+		plan.setAteretTorahSunsetOffset(calendar.getAteretTorahSunsetOffset());
+		plan.prepare();
+		return plan;
+	}
+
+	/**
+	 * A <code>ComplexZmanimCalendar</code> that answers the solar events of the profile from the values calculated
+	 * for the day by {@link #prepare()}, or records the zeniths used while tracing.
+	 */
+	private static final class PlanCalendar extends ComplexZmanimCalendar {
+		/** The elevation adjusted zeniths calculated by {@link #prepare()}. */
+		private final double[] zeniths;
+		/** The sea level zeniths calculated by {@link #prepare()}. */
+		private final double[] seaLevelZeniths;
+		/** The UTC sunrises of {@link #zeniths}. */
+		private final double[] sunrises;
+		/** The UTC sunsets of {@link #zeniths}. */
+		private final double[] sunsets;
+		/** The UTC sunrises of {@link #seaLevelZeniths}. */
+		private final double[] seaLevelSunrises;
+		/** The UTC sunsets of {@link #seaLevelZeniths}. */
+		private final double[] seaLevelSunsets;
+		/** The UTC solar noon, if {@link #noonCalculated}. */
+		private double noon;
+		/** If the solar noon of the day was calculated. */
+		private boolean noonCalculated;
+		/** The UTC solar midnight, if {@link #midnightCalculated}. */
+		private double midnight;
+		/** If the solar midnight of the day was calculated. */
+		private boolean midnightCalculated;
+		/** The elevation adjusted zeniths recorded while tracing, or <code>null</code> if not tracing. */
+		private Set<Double> tracedZeniths;
+		/** The sea level zeniths recorded while tracing, or <code>null</code> if not tracing. */
+		private Set<Double> tracedSeaLevelZeniths;
+
+		/**
+		 * @param location the location
+		 * @param zeniths the elevation adjusted zeniths
+		 * @param seaLevelZeniths the sea level zeniths
+		 */
+		PlanCalendar(GeoLocation location, double[] zeniths, double[] seaLevelZeniths) {
+			super(location);
+			this.zeniths = zeniths;
+			this.seaLevelZeniths = seaLevelZeniths;
+			sunrises = new double[zeniths.length];
+			sunsets = new double[zeniths.length];
+			seaLevelSunrises = new double[seaLevelZeniths.length];
+			seaLevelSunsets = new double[seaLevelZeniths.length];
+		}
+
+		/**
+		 * Calculates the solar events of the profile for the current date.
+		 */
+		void prepare() {
+			Calendar adjustedCalendar = getAdjustedCalendar();
+			AstronomicalCalculator calculator = getAstronomicalCalculator();
+			calculator.getUTCSunrisesAndSunsets(adjustedCalendar, getGeoLocation(), zeniths, true, sunrises, sunsets);
+			calculator.getUTCSunrisesAndSunsets(adjustedCalendar, getGeoLocation(), seaLevelZeniths, false,
+					seaLevelSunrises, seaLevelSunsets);
+			noonCalculated = false;
+			midnightCalculated = false;
+		}
+
+		/**
+		 * @param array the zeniths
+		 * @param zenith the zenith to find
+		 * @return the index of the zenith or -1 if it is not in the array
+		 */
+		private static int indexOf(double[] array, double zenith) {
+			for (int i = 0; i < array.length; i++) {
+				if (Double.compare(array[i], zenith) == 0) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * @see AstronomicalCalendar#getUTCSunrise(double)
+		 */
+		public double getUTCSunrise(double zenith) {
+			int index = indexOf(zeniths, zenith);
+			if (index >= 0) {
+				return sunrises[index];
+			}
+			if (tracedZeniths != null) {
+				tracedZeniths.add(zenith);
+			}
+			return super.getUTCSunrise(zenith);
+		}
+
+		/**
+		 * @see AstronomicalCalendar#getUTCSunset(double)
+		 */
+		public double getUTCSunset(double zenith) {
+			int index = indexOf(zeniths, zenith);
+			if (index >= 0) {
+				return sunsets[index];
+			}
+			if (tracedZeniths != null) {
+				tracedZeniths.add(zenith);
+			}
+			return super.getUTCSunset(zenith);
+		}
+
+		/**
+		 * @see AstronomicalCalendar#getUTCSeaLevelSunrise(double)
+		 */
+		public double getUTCSeaLevelSunrise(double zenith) {
+			int index = indexOf(seaLevelZeniths, zenith);
+			if (index >= 0) {
+				return seaLevelSunrises[index];
+			}
+			if (tracedSeaLevelZeniths != null) {
+				tracedSeaLevelZeniths.add(zenith);
+			}
+			return super.getUTCSeaLevelSunrise(zenith);
+		}
+
+		/**
+		 * @see AstronomicalCalendar#getUTCSeaLevelSunset(double)
+		 */
+		public double getUTCSeaLevelSunset(double zenith) {
+			int index = indexOf(seaLevelZeniths, zenith);
+			if (index >= 0) {
+				return seaLevelSunsets[index];
+			}
+			if (tracedSeaLevelZeniths != null) {
+				tracedSeaLevelZeniths.add(zenith);
+			}
+			return super.getUTCSeaLevelSunset(zenith);
+		}
+
+		/**
+		 * @see AstronomicalCalendar#getSunTransit()
+		 */
+		public Date getSunTransit() {
+			if (!noonCalculated) {
+				noon = getAstronomicalCalculator().getUTCNoon(getAdjustedCalendar(), getGeoLocation());
+				noonCalculated = true;
+			}
+			return getDateFromTime(noon, SolarEvent.NOON);
+		}
+
+		/**
+		 * @see AstronomicalCalendar#getSolarMidnight()
+		 */
+		public Date getSolarMidnight() {
+			if (!midnightCalculated) {
+				midnight = getAstronomicalCalculator().getUTCMidnight(getAdjustedCalendar(), getGeoLocation());
+				midnightCalculated = true;
+			}
+			return getDateFromTime(midnight, SolarEvent.MIDNIGHT);
+		}
+	}
+}
@@ -0,0 +1,435 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.Zman;
+
+/**
+ * A publisher of the <em>zmanim</em> of one or more locations as an endless stream of {@link Zman} events in
+ * chronological order, continuing from day to day. The days are calculated as {@link DailyTimeline}s from a compiled
+ * {@link ZmanimProfile} or {@link ZmanDefinitions} only as the events are requested, so a long range of dates is never
+ * calculated or buffered ahead of the consumer. The streams of many locations are {@link #merge(ZmanimPublisher...)
+ * merged} into one ordered stream with a heap of the next event of each location. Each event has the {@link
+ * Zman#getLabel() name} of the <em>zman</em> in the profile or definitions, and the {@link Zman#getGeoLocation()
+ * location} it was calculated for.
+ * <p>
+ * The stream can be pulled with an {@link #iterator()}, or {@link #subscribe(Subscriber) subscribed to} with the
+ * {@link Subscriber} and {@link Subscription} interfaces, which have the same methods and rules as the
+ * <code>java.util.concurrent.Flow</code> interfaces of Java 9 (that this class can't use, since the library supports
+ * Java 8). On Java 9 and later, <code>ZmanimFlowPublisher</code> adapts a publisher to a <code>Flow.Publisher</code>,
+ * and adapting it to Reactive Streams takes a few lines in the same way. Events are only sent as far as the
+ * subscriber {@link Subscription#request(long) requested} them. Each subscription and iterator has its own independent
+ * stream from the first day. If a location has no <em>zmanim</em> for a year, such as a <em>zman</em> that is never
+ * reached, its stream ends.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ZmanimPublisher publisher = ZmanimPublisher.merge(ZmanimPublisher.getInstance(definitions, lakewood),
+ * 		ZmanimPublisher.getInstance(definitions, jerusalem));
+ * Iterator&lt;Zman&gt; zmanim = publisher.iterator();
+ * for (int i = 0; i &lt; 20; i++) {
+ * 	Zman zman = zmanim.next();
+ * 	System.out.println(zman.getGeoLocation().getLocationName() + " " + zman.getLabel() + " " + zman.getZman());
+ * }</pre>
+ *
+ * @see DailyTimeline
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class ZmanimPublisher {
+
+	/** The number of days in a row without a <em>zman</em> after which the stream of a location ends. */
+	private static final int MAXIMUM_EMPTY_DAYS = 366;
+
+	/**
+	 * A receiver of the events of a {@link ZmanimPublisher}, with the methods and rules of
+	 * <code>java.util.concurrent.Flow.Subscriber</code>.
+	 *
+	 * @param <T> the type of the events
+	 */
+	public interface Subscriber<T> {
+		/**
+		 * Called once before any other method with the subscription that events are requested from.
+		 *
+		 * @param subscription
+		 *            the subscription
+		 */
+		void onSubscribe(Subscription subscription);
+
+		/**
+		 * Called with each requested event.
+		 *
+		 * @param item
+		 *            the event
+		 */
+		void onNext(T item);
+
+		/**
+		 * Called if the stream failed, after which no other method is called.
+		 *
+		 * @param throwable
+		 *            the cause of the failure
+		 */
+		void onError(Throwable throwable);
+
+		/**
+		 * Called if the stream ended, after which no other method is called.
+		 */
+		void onComplete();
+	}
+
+	/**
+	 * The link between a {@link ZmanimPublisher} and a {@link Subscriber}, with the methods and rules of
+	 * <code>java.util.concurrent.Flow.Subscription</code>.
+	 */
+	public interface Subscription {
+		/**
+		 * Requests more events. The events are sent on the calling thread.
+		 *
+		 * @param n
+		 *            the number of events to add to the demand. A number that is not positive fails the stream with an
+		 *            <code>IllegalArgumentException</code>.
+		 */
+		void request(long n);
+
+		/**
+		 * Stops sending events. Events that are being sent may still arrive.
+		 */
+		void cancel();
+	}
+
+	/** The timeline of the first day of each location. */
+	private final DailyTimeline[] firstDays;
+
+	/** The location of each timeline. */
+	private final GeoLocation[] geoLocations;
+
+	/**
+	 * @param firstDays the first day of each location
+	 * @param geoLocations the location of each timeline
+	 */
+	private ZmanimPublisher(DailyTimeline[] firstDays, GeoLocation[] geoLocations) {
+		this.firstDays = firstDays;
+		this.geoLocations = geoLocations;
+	}
+
+	/**
+	 * Creates a publisher of the <em>zmanim</em> of a profile at the location and settings of a calendar, starting from
+	 * the date of the calendar.
+	 *
+	 * @param profile
+	 *            the profile
+	 * @param calendar
+	 *            the calendar. It is not modified.
+	 * @return the publisher
+	 */
+	public static ZmanimPublisher getInstance(ZmanimProfile profile, ComplexZmanimCalendar calendar) {
+		return new ZmanimPublisher(new DailyTimeline[] { DailyTimeline.getInstance(profile, calendar) },
+				new GeoLocation[] { (GeoLocation) calendar.getGeoLocation().clone() });
+	}
+
+	/**
+	 * Creates a publisher of the times (but not the durations) of definitions at the location and settings of a
+	 * calendar, starting from the date of the calendar.
+	 *
+	 * @param definitions
+	 *            the definitions
+	 * @param calendar
+	 *            the calendar. It is not modified.
+	 * @return the publisher
+	 */
+	public static ZmanimPublisher getInstance(ZmanDefinitions definitions, ZmanimCalendar calendar) {
+		return new ZmanimPublisher(new DailyTimeline[] { DailyTimeline.getInstance(definitions, calendar) },
+				new GeoLocation[] { (GeoLocation) calendar.getGeoLocation().clone() });
+	}
+
+	/**
+	 * Creates a publisher of the events of several publishers in one chronological stream. Events at the same time are
+	 * in the order of the publishers.
+	 *
+	 * @param publishers
+	 *            the publishers
+	 * @return the merged publisher
+	 */
+	public static ZmanimPublisher merge(ZmanimPublisher... publishers) {
+		List<DailyTimeline> firstDays = new ArrayList<DailyTimeline>();
+		List<GeoLocation> geoLocations = new ArrayList<GeoLocation>();
+		for (ZmanimPublisher publisher : publishers) {
+			for (int i = 0; i < publisher.firstDays.length; i++) {
+				firstDays.add(publisher.firstDays[i]);
+				geoLocations.add(publisher.geoLocations[i]);
+			}
+		}
+		return new ZmanimPublisher(firstDays.toArray(new DailyTimeline[0]),
+				geoLocations.toArray(new GeoLocation[0]));
+	}
+
+	/**
+	 * Returns an iterator over a new stream of the events. Its {@link Iterator#hasNext()} is only false if the streams
+	 * of all the locations ended.
+	 *
+	 * @return the iterator
+	 */
+	public Iterator<Zman> iterator() {
+		return new ZmanIterator();
+	}
+
+	/**
+	 * Subscribes to a new stream of the events.
+	 *
+	 * @param subscriber
+	 *            the subscriber
+	 */
+	public void subscribe(Subscriber<? super Zman> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("The subscriber can't be null");
+		}
+		ZmanSubscription subscription = new ZmanSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * The position in the stream of a location. The next event is the earlier of the next <em>zman</em> of the current
+	 * day and of the following day, since a <em>zman</em> can be after the first <em>zman</em> of the following day,
+	 * such as <em>tzais</em> after midnight and <em>alos</em> before it.
+	 */
+	private static final class Cursor {
+
+		/** The index of the location, for the order of events at the same time. */
+		private final int index;
+
+		/** The location. */
+		private final GeoLocation geoLocation;
+
+		/** The current day. */
+		private DailyTimeline current;
+
+		/** The following day. */
+		private DailyTimeline following;
+
+		/** The position of the next <em>zman</em> of the current day. */
+		private int currentPosition;
+
+		/** The position of the next <em>zman</em> of the following day. */
+		private int followingPosition;
+
+		/**
+		 * @param index the index of the location
+		 * @param geoLocation the location
+		 * @param firstDay the first day
+		 */
+		private Cursor(int index, GeoLocation geoLocation, DailyTimeline firstDay) {
+			this.index = index;
+			this.geoLocation = geoLocation;
+			current = firstDay;
+			following = firstDay.getNextDay();
+		}
+
+		/**
+		 * Moves to the following days until the current day has a <em>zman</em> left.
+		 *
+		 * @return false if the stream ended
+		 */
+		private boolean fill() {
+			int emptyDays = 0;
+			while (currentPosition == current.size()) {
+				if (++emptyDays > MAXIMUM_EMPTY_DAYS) {
+					return false;
+				}
+				current = following;
+				currentPosition = followingPosition;
+				following = following.getNextDay();
+				followingPosition = 0;
+			}
+			return true;
+		}
+
+		/**
+		 * @return if the next event is of the following day
+		 */
+		private boolean isFollowingNext() {
+			return followingPosition < following.size()
+					&& following.getTime(followingPosition) < current.getTime(currentPosition);
+		}
+
+		/**
+		 * @return the time of the next event
+		 */
+		private long getTime() {
+			return isFollowingNext() ? following.getTime(followingPosition) : current.getTime(currentPosition);
+		}
+
+		/**
+		 * @return the next event, after which {@link #fill()} has to be called
+		 */
+		private Zman take() {
+			DailyTimeline timeline = isFollowingNext() ? following : current;
+			int position = timeline == following ? followingPosition++ : currentPosition++;
+			return new Zman(new Date(timeline.getTime(position)), geoLocation, timeline.getZmanName(position));
+		}
+	}
+
+	/** Orders cursors by the time of their next event and then by the index of the location. */
+	private static final Comparator<Cursor> CURSOR_ORDER = new Comparator<Cursor>() {
+		public int compare(Cursor cursor1, Cursor cursor2) {
+			int comparison = Long.compare(cursor1.getTime(), cursor2.getTime());
+			return comparison != 0 ? comparison : Integer.compare(cursor1.index, cursor2.index);
+		}
+	};
+
+	/**
+	 * A stream of the events, the k-way merge of the cursors of the locations.
+	 */
+	private final class ZmanIterator implements Iterator<Zman> {
+
+		/** The cursors whose stream did not end, by the time of their next event. */
+		private final PriorityQueue<Cursor> heap = new PriorityQueue<Cursor>(Math.max(1, firstDays.length),
+				CURSOR_ORDER);
+
+		/**
+		 * Creates the cursors of the locations.
+		 */
+		private ZmanIterator() {
+			for (int i = 0; i < firstDays.length; i++) {
+				Cursor cursor = new Cursor(i, geoLocations[i], firstDays[i]);
+				if (cursor.fill()) {
+					heap.add(cursor);
+				}
+			}
+		}
+
+		public boolean hasNext() {
+			return !heap.isEmpty();
+		}
+
+		public Zman next() {
+			Cursor cursor = heap.poll();
+			if (cursor == null) {
+				throw new NoSuchElementException();
+			}
+			Zman zman = cursor.take();
+			if (cursor.fill()) {
+				heap.add(cursor);
+			}
+			return zman;
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * A subscription that sends the events of an iterator as they are requested. Requests that are made while events
+	 * are being sent, such as from {@link Subscriber#onNext(Object)}, only add to the demand, and the thread that is
+	 * sending sends them, so the subscriber is never called recursively or concurrently.
+	 */
+	private final class ZmanSubscription implements Subscription {
+
+		/** The subscriber. */
+		private final Subscriber<? super Zman> subscriber;
+
+		/** The requested events that were not sent yet. */
+		private final AtomicLong demand = new AtomicLong();
+
+		/** The number of calls that are waiting for the thread that is sending events. */
+		private final AtomicInteger work = new AtomicInteger();
+
+		/** The stream, created by the first request. */
+		private Iterator<Zman> iterator;
+
+		/** If the subscription was cancelled or the stream ended or failed. */
+		private volatile boolean done;
+
+		/** An invalid request to report, or <code>null</code>. */
+		private volatile IllegalArgumentException invalidRequest;
+
+		/**
+		 * @param subscriber the subscriber
+		 */
+		private ZmanSubscription(Subscriber<? super Zman> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		public void request(long n) {
+			if (n <= 0) {
+				invalidRequest = new IllegalArgumentException("The number of events requested must be positive: " + n);
+			} else {
+				long current;
+				do {
+					current = demand.get();
+				} while (!demand.compareAndSet(current, current + n < 0 ? Long.MAX_VALUE : current + n));
+			}
+			send();
+		}
+
+		public void cancel() {
+			done = true;
+		}
+
+		/**
+		 * Sends the requested events, unless another call is already sending them.
+		 */
+		private void send() {
+			if (work.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				while (!done) {
+					if (invalidRequest != null) {
+						done = true;
+						subscriber.onError(invalidRequest);
+						break;
+					}
+					if (demand.get() == 0) {
+						break;
+					}
+					Zman zman;
+					try {
+						if (iterator == null) {
+							iterator = iterator();
+						}
+						if (!iterator.hasNext()) {
+							done = true;
+							subscriber.onComplete();
+							break;
+						}
+						zman = iterator.next();
+					} catch (RuntimeException re) {
+						done = true;
+						subscriber.onError(re);
+						break;
+					}
+					if (demand.get() != Long.MAX_VALUE) {
+						demand.decrementAndGet();
+					}
+					subscriber.onNext(zman);
+				}
+				missed = work.addAndGet(-missed);
+			} while (missed != 0);
+		}
+	}
+}
@@ -0,0 +1,389 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A scheduler of <em>zman</em> notifications for many locations, such as candle lighting, <em>sof zman shma</em> and
+ * <em>shkiah</em> reminders for tens of thousands of users. Instead of a scheduled task per <em>zman</em>, each
+ * subscription's day is calculated as a {@link DailyTimeline} from a compiled {@link ZmanimProfile} or {@link
+ * ZmanDefinitions}, and its <em>zmanim</em> are held in a hierarchical timing wheel with constant time insertion and
+ * expiration. At noon of each day the following day of the subscription is calculated and added, so only about two days
+ * of events are held at a time. The listeners are called on an executor supplied by the caller, which may be a pool or
+ * an executor that starts a thread per task.
+ * <p>
+ * The scheduler does not start threads of its own. It is driven by calls to {@link #tick()}, which dispatch every
+ * <em>zman</em> that has arrived by the time of the {@link Clock}, typically made once per tick by a
+ * <code>ScheduledExecutorService</code>. A <em>zman</em> is never dispatched before its time, and is dispatched late by at
+ * most a tick plus the delay of the calls to {@link #tick()}. Passing a clock that is moved by hand makes the
+ * scheduler easy to test.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * ZmanimScheduler scheduler = new ZmanimScheduler(executor);
+ * scheduler.subscribe(definitions, zmanimCalendar, listener); // for each location
+ * timer.scheduleAtFixedRate(tickTask, 0, 1, TimeUnit.SECONDS); // tickTask calls scheduler.tick()</pre>
+ *
+ * @see DailyTimeline
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class ZmanimScheduler {
+
+	/** The number of bits of the slot index in each level of the wheel. */
+	private static final int SLOT_BITS = 6;
+
+	/** The number of slots in each level of the wheel. */
+	private static final int SLOTS = 1 << SLOT_BITS;
+
+	/** The number of levels of the wheel. With a one second tick, the top level spans 194 days. */
+	private static final int LEVELS = 4;
+
+	/** The number of ticks to advance beyond which all events are reinserted instead of advancing tick by tick. */
+	private static final long MAXIMUM_STEPS = SLOTS * SLOTS;
+
+	/**
+	 * The listener of a subscription, called when each of its <em>zmanim</em> arrives.
+	 */
+	public interface Listener {
+		/**
+		 * Called on the executor when a <em>zman</em> arrives.
+		 *
+		 * @param timeline
+		 *            the timeline of the day of the <em>zman</em>, which has its name, time and date
+		 * @param position
+		 *            the position of the <em>zman</em> in the timeline
+		 */
+		void onZman(DailyTimeline timeline, int position);
+	}
+
+	/**
+	 * A subscription of a location to the <em>zmanim</em> of a profile or definitions.
+	 */
+	public static final class Subscription {
+
+		/** The listener. */
+		private final Listener listener;
+
+		/** The timeline of the last day that was calculated. */
+		private DailyTimeline timeline;
+
+		/** If the subscription was cancelled. */
+		private volatile boolean cancelled;
+
+		/**
+		 * @param listener the listener
+		 * @param timeline the timeline of the first day
+		 */
+		private Subscription(Listener listener, DailyTimeline timeline) {
+			this.listener = listener;
+			this.timeline = timeline;
+		}
+
+		/**
+		 * Cancels the subscription. <em>Zmanim</em> that were already dispatched to the executor may still be delivered.
+		 */
+		public void cancel() {
+			cancelled = true;
+		}
+
+		/**
+		 * Returns if the subscription was cancelled.
+		 *
+		 * @return true if {@link #cancel()} was called
+		 */
+		public boolean isCancelled() {
+			return cancelled;
+		}
+	}
+
+	/**
+	 * An event in the wheel, either a <em>zman</em> of a timeline or the calculation of the following day.
+	 */
+	private static final class Event {
+
+		/** The subscription. */
+		private final Subscription subscription;
+
+		/** The timeline of the <em>zman</em>. */
+		private final DailyTimeline timeline;
+
+		/** The position of the <em>zman</em> in the timeline, or -1 to calculate the day after the timeline. */
+		private final int position;
+
+		/** The tick the event expires at. */
+		private final long tick;
+
+		/** The next event in the same slot. */
+		private Event next;
+
+		/**
+		 * @param subscription the subscription
+		 * @param timeline the timeline
+		 * @param position the position or -1
+		 * @param tick the tick
+		 */
+		private Event(Subscription subscription, DailyTimeline timeline, int position, long tick) {
+			this.subscription = subscription;
+			this.timeline = timeline;
+			this.position = position;
+			this.tick = tick;
+		}
+	}
+
+	/** The executor the listeners are called on. */
+	private final Executor executor;
+
+	/** The length of a tick in milliseconds. */
+	private final long tickMillis;
+
+	/** The clock. */
+	private final Clock clock;
+
+	/** The slots of each level of the wheel, each the head of a list of events. */
+	private final Event[][] wheel = new Event[LEVELS][SLOTS];
+
+	/** The events that expired and were not processed yet. */
+	private final List<Event> expired = new ArrayList<Event>();
+
+	/** The last tick that the wheel advanced to. */
+	private long currentTick;
+
+	/** The number of <em>zmanim</em> (not including the calculation of following days) in the wheel. */
+	private int pendingCount;
+
+	/**
+	 * Creates a scheduler with a one second tick and the system clock.
+	 *
+	 * @param executor
+	 *            the executor the listeners are called on
+	 */
+	public ZmanimScheduler(Executor executor) {
+		this(executor, 1000, Clock.systemUTC());
+	}
+
+	/**
+	 * Creates a scheduler.
+	 *
+	 * @param executor
+	 *            the executor the listeners are called on
+	 * @param tickMillis
+	 *            the length of a tick in milliseconds, the resolution of the scheduler
+	 * @param clock
+	 *            the clock
+	 * @throws IllegalArgumentException if the tick is not positive or the executor or clock are <code>null</code>
+	 */
+	public ZmanimScheduler(Executor executor, long tickMillis, Clock clock) {
+		if (executor == null || clock == null) {
+			throw new IllegalArgumentException("The executor and clock can't be null");
+		}
+		if (tickMillis <= 0) {
+			throw new IllegalArgumentException("The tick must be positive");
+		}
+		this.executor = executor;
+		this.tickMillis = tickMillis;
+		this.clock = clock;
+		currentTick = Math.floorDiv(clock.millis(), tickMillis);
+	}
+
+	/**
+	 * Subscribes to the <em>zmanim</em> of a profile at the location and settings of a calendar, starting from the date of
+	 * the calendar. <em>Zmanim</em> that have already passed are not dispatched.
+	 *
+	 * @param profile
+	 *            the profile
+	 * @param calendar
+	 *            the calendar. It is not modified.
+	 * @param listener
+	 *            the listener
+	 * @return the subscription
+	 */
+	public Subscription subscribe(ZmanimProfile profile, ComplexZmanimCalendar calendar, Listener listener) {
+		return subscribe(DailyTimeline.getInstance(profile, calendar), listener);
+	}
+
+	/**
+	 * Subscribes to the times of definitions at the location and settings of a calendar, starting from the date of the
+	 * calendar. Times that have already passed are not dispatched.
+	 *
+	 * @param definitions
+	 *            the definitions
+	 * @param calendar
+	 *            the calendar. It is not modified.
+	 * @param listener
+	 *            the listener
+	 * @return the subscription
+	 */
+	public Subscription subscribe(ZmanDefinitions definitions, ZmanimCalendar calendar, Listener listener) {
+		return subscribe(DailyTimeline.getInstance(definitions, calendar), listener);
+	}
+
+	/**
+	 * @param timeline the timeline of the first day
+	 * @param listener the listener
+	 * @return the subscription
+	 */
+	private synchronized Subscription subscribe(DailyTimeline timeline, Listener listener) {
+		if (listener == null) {
+			throw new IllegalArgumentException("The listener can't be null");
+		}
+		Subscription subscription = new Subscription(listener, timeline);
+		add(subscription, timeline);
+		return subscription;
+	}
+
+	/**
+	 * Dispatches the <em>zmanim</em> that arrived by the current time of the clock and calculates the following days of
+	 * subscriptions that reached noon.
+	 *
+	 * @return the number of <em>zmanim</em> dispatched to the executor
+	 */
+	public int tick() {
+		List<Event> due = new ArrayList<Event>();
+		synchronized (this) {
+			advance(Math.floorDiv(clock.millis(), tickMillis));
+			for (int i = 0; i < expired.size(); i++) { // the list can grow while it is processed
+				Event event = expired.get(i);
+				if (event.position >= 0) {
+					pendingCount--;
+				}
+				if (event.subscription.cancelled) {
+					continue;
+				}
+				if (event.position >= 0) {
+					due.add(event);
+				} else {
+					event.subscription.timeline = event.timeline.getNextDay();
+					add(event.subscription, event.subscription.timeline);
+				}
+			}
+			expired.clear();
+		}
+		for (final Event event : due) {
+			executor.execute(new Runnable() {
+				public void run() {
+					event.subscription.listener.onZman(event.timeline, event.position);
+				}
+			});
+		}
+		return due.size();
+	}
+
+	/**
+	 * Returns the number of <em>zmanim</em> that are waiting to be dispatched.
+	 *
+	 * @return the number of <em>zmanim</em> in the wheel, including those of cancelled subscriptions that were not
+	 *         removed yet
+	 */
+	public synchronized int getPendingCount() {
+		return pendingCount;
+	}
+
+	/**
+	 * Adds the <em>zmanim</em> of a day that did not pass yet, and the calculation of the following day at noon.
+	 *
+	 * @param subscription the subscription
+	 * @param timeline the timeline of the day
+	 */
+	private void add(Subscription subscription, DailyTimeline timeline) {
+		long now = clock.millis();
+		for (int i = timeline.next(now - 1); i >= 0 && i < timeline.size(); i++) {
+			insert(new Event(subscription, timeline, i, getTick(timeline.getTime(i))));
+			pendingCount++;
+		}
+		Calendar noon = timeline.getCalendar();
+		noon.set(Calendar.HOUR_OF_DAY, 12);
+		noon.set(Calendar.MINUTE, 0);
+		noon.set(Calendar.SECOND, 0);
+		noon.set(Calendar.MILLISECOND, 0);
+		insert(new Event(subscription, timeline, -1, getTick(noon.getTimeInMillis())));
+	}
+
+	/**
+	 * @param time a time in milliseconds
+	 * @return the first tick at or after the time, so that events are never early
+	 */
+	private long getTick(long time) {
+		return Math.floorDiv(time, tickMillis) + (Math.floorMod(time, tickMillis) == 0 ? 0 : 1);
+	}
+
+	/**
+	 * Inserts an event into the level of the wheel for its distance from the current tick, or into the expired events.
+	 *
+	 * @param event the event
+	 */
+	private void insert(Event event) {
+		long delta = event.tick - currentTick;
+		if (delta <= 0) {
+			expired.add(event);
+			return;
+		}
+		int level = 0;
+		while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+			level++;
+		}
+		int slot = (int) ((event.tick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+		event.next = wheel[level][slot];
+		wheel[level][slot] = event;
+	}
+
+	/**
+	 * Advances the wheel to a tick, moving the events of each higher level slot that is reached into the lower levels and
+	 * the events of the lowest level slots into the expired events.
+	 *
+	 * @param tick the tick
+	 */
+	private void advance(long tick) {
+		if (tick - currentTick > MAXIMUM_STEPS) {
+			currentTick = tick;
+			for (int level = 0; level < LEVELS; level++) {
+				for (int slot = 0; slot < SLOTS; slot++) {
+					reinsert(level, slot);
+				}
+			}
+			return;
+		}
+		while (currentTick < tick) {
+			currentTick++;
+			for (int level = LEVELS - 1; level > 0; level--) {
+				if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+					reinsert(level, (int) ((currentTick >>> (SLOT_BITS * level)) & (SLOTS - 1)));
+				}
+			}
+			reinsert(0, (int) (currentTick & (SLOTS - 1)));
+		}
+	}
+
+	/**
+	 * Removes the events of a slot and inserts them again for the current tick.
+	 *
+	 * @param level the level
+	 * @param slot the slot
+	 */
+	private void reinsert(int level, int slot) {
+		Event event = wheel[level][slot];
+		wheel[level][slot] = null;
+		while (event != null) {
+			Event next = event.next;
+			event.next = null;
+			insert(event);
+			event = next;
+		}
+	}
+}
@@ -0,0 +1,257 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable, thread-safe and precomputed version of {@link TefilaRules} created by {@link TefilaRules#compile()}. The
+ * first time a Jewish year is queried (for each combination of the {@link JewishCalendar#getInIsrael() Israel},
+ * {@link JewishCalendar#getIsMukafChoma() mukaf choma} and {@link JewishCalendar#isUseModernHolidays() modern holidays}
+ * settings of the {@link JewishCalendar}), all of the rules are evaluated for every day of that year and stored as a bit
+ * mask per day. After that, every query is an array lookup and bit test, with no holiday calculations and no cloning of
+ * the calendar for <em>mincha</em>. This is intended for servers that answer these questions for many users every day.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * TefilaRules tr = new TefilaRules();
+ * tr.setTachanunRecitedWeekOfPurim(false);
+ * CompiledTefilaRules compiled = tr.compile(); // share this instance
+ * JewishCalendar jewishCalendar = new JewishCalendar(5783, JewishDate.ADAR, 17);
+ * System.out.println(compiled.isTachanunRecitedShacharis(jewishCalendar));</pre>
+ * A compiled year takes about 1.5KB, and compiled years are kept for the life of the instance.
+ *
+ * @see TefilaRules#compile()
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class CompiledTefilaRules {
+
+	/** The private copy of the rules that the years are compiled from. */
+	private final TefilaRules rules;
+
+	/** The compiled years keyed by the year and calendar settings. */
+	private final ConcurrentMap<Integer, CompiledYear> years = new ConcurrentHashMap<Integer, CompiledYear>();
+
+	/**
+	 * Constructor used by {@link TefilaRules#compile()}.
+	 * @param rules a private copy of the rules
+	 */
+	CompiledTefilaRules(TefilaRules rules) {
+		this.rules = rules;
+	}
+
+	/**
+	 * A compiled Jewish year.
+	 */
+	private static final class CompiledYear {
+		/** The absolute date of Rosh Hashana. */
+		private final int roshHashanaAbsDate;
+		/** The rule flags for each day of the year starting with Rosh Hashana. */
+		private final int[] flags;
+
+		/**
+		 * @param roshHashanaAbsDate the absolute date of Rosh Hashana
+		 * @param flags the rule flags for each day of the year
+		 */
+		CompiledYear(int roshHashanaAbsDate, int[] flags) {
+			this.roshHashanaAbsDate = roshHashanaAbsDate;
+			this.flags = flags;
+		}
+	}
+
+	/**
+	 * Returns the rule flags for the day, compiling the year if needed.
+	 *
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return the bit mask of the rules that apply on the day
+	 */
+	int getFlags(JewishCalendar jewishCalendar) {
+		int year = jewishCalendar.getJewishYear();
+		int key = (year << 3) | (jewishCalendar.getInIsrael() ? 1 : 0) | (jewishCalendar.getIsMukafChoma() ? 2 : 0)
+				| (jewishCalendar.isUseModernHolidays() ? 4 : 0);
+		CompiledYear compiledYear = years.get(key);
+		if (compiledYear == null) {
+			compiledYear = compileYear(jewishCalendar);
+			CompiledYear existing = years.putIfAbsent(key, compiledYear);
+			if (existing != null) {
+				compiledYear = existing;
+			}
+		}
+		return compiledYear.flags[jewishCalendar.getAbsDate() - compiledYear.roshHashanaAbsDate];
+	}
+
+	/**
+	 * Evaluates the rules for every day of the Jewish year of the calendar passed in.
+	 *
+	 * @param jewishCalendar a day in the year to compile, with the calendar settings to compile for
+	 * @return the compiled year
+	 */
+	private CompiledYear compileYear(JewishCalendar jewishCalendar) {
+		int year = jewishCalendar.getJewishYear();
+		JewishCalendar day = new JewishCalendar(year, JewishDate.TISHREI, 1);
+		day.setInIsrael(jewishCalendar.getInIsrael());
+		day.setIsMukafChoma(jewishCalendar.getIsMukafChoma());
+		day.setUseModernHolidays(jewishCalendar.isUseModernHolidays());
+		int roshHashanaAbsDate = day.getAbsDate();
+		return new CompiledYear(roshHashanaAbsDate, rules.getFlags(day, JewishDate.getDaysInJewishYear(year)));
+	}
+
+	/**
+	 * Returns all of the rules for the day in a single immutable {@link TefilaDay}.
+	 *
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return the rules for the day
+	 * @see TefilaRules#getTefilaDay(JewishCalendar)
+	 */
+	public TefilaDay getTefilaDay(JewishCalendar jewishCalendar) {
+		return new TefilaDay(getFlags(jewishCalendar));
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return if <em>tachanun</em> is recited during <em>shacharis</em>.
+	 * @see TefilaRules#isTachanunRecitedShacharis(JewishCalendar)
+	 */
+	public boolean isTachanunRecitedShacharis(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.TACHANUN_SHACHARIS) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return if <em>tachanun</em> is recited during <em>mincha</em>.
+	 * @see TefilaRules#isTachanunRecitedMincha(JewishCalendar)
+	 */
+	public boolean isTachanunRecitedMincha(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.TACHANUN_MINCHA) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return if <em>Hallel</em> is recited.
+	 * @see TefilaRules#isHallelRecited(JewishCalendar)
+	 */
+	public boolean isHallelRecited(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.HALLEL) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return if <em>hallel shalem</em> is recited.
+	 * @see TefilaRules#isHallelShalemRecited(JewishCalendar)
+	 */
+	public boolean isHallelShalemRecited(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.HALLEL_SHALEM) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return if <em>al hanissim</em> is recited.
+	 * @see TefilaRules#isAlHanissimRecited(JewishCalendar)
+	 */
+	public boolean isAlHanissimRecited(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.AL_HANISSIM) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return if <em>Yaaleh Veyavo</em> is recited.
+	 * @see TefilaRules#isYaalehVeyavoRecited(JewishCalendar)
+	 */
+	public boolean isYaalehVeyavoRecited(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.YAALEH_VEYAVO) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return if <em>Mizmor Lesoda</em> is recited.
+	 * @see TefilaRules#isMizmorLesodaRecited(JewishCalendar)
+	 */
+	public boolean isMizmorLesodaRecited(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.MIZMOR_LESODA) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return true if it is the first Jewish day of reciting <em>Vesein Tal Umatar Livracha</em>.
+	 * @see TefilaRules#isVeseinTalUmatarStartDate(JewishCalendar)
+	 */
+	public boolean isVeseinTalUmatarStartDate(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.VESEIN_TAL_UMATAR_START_DATE) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return true if <em>Vesein Tal Umatar Livracha</em> starts tonight.
+	 * @see TefilaRules#isVeseinTalUmatarStartingTonight(JewishCalendar)
+	 */
+	public boolean isVeseinTalUmatarStartingTonight(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.VESEIN_TAL_UMATAR_STARTING_TONIGHT) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return true if <em>Vesein Tal Umatar</em> is recited.
+	 * @see TefilaRules#isVeseinTalUmatarRecited(JewishCalendar)
+	 */
+	public boolean isVeseinTalUmatarRecited(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.VESEIN_TAL_UMATAR) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return true if <em>Vesein Beracha</em> is recited.
+	 * @see TefilaRules#isVeseinBerachaRecited(JewishCalendar)
+	 */
+	public boolean isVeseinBerachaRecited(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.VESEIN_BERACHA) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return true if this is the start date of reciting <em>Mashiv Haruach</em>.
+	 * @see TefilaRules#isMashivHaruachStartDate(JewishCalendar)
+	 */
+	public boolean isMashivHaruachStartDate(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.MASHIV_HARUACH_START_DATE) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return true if this is the end date of reciting <em>Mashiv Haruach</em>.
+	 * @see TefilaRules#isMashivHaruachEndDate(JewishCalendar)
+	 */
+	public boolean isMashivHaruachEndDate(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.MASHIV_HARUACH_END_DATE) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return true if <em>Mashiv Haruach Umorid Hageshem</em> is recited.
+	 * @see TefilaRules#isMashivHaruachRecited(JewishCalendar)
+	 */
+	public boolean isMashivHaruachRecited(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.MASHIV_HARUACH) != 0;
+	}
+
+	/**
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return true if <em>Morid Hatal</em> is recited.
+	 * @see TefilaRules#isMoridHatalRecited(JewishCalendar)
+	 */
+	public boolean isMoridHatalRecited(JewishCalendar jewishCalendar) {
+		return (getFlags(jewishCalendar) & TefilaRules.MORID_HATAL) != 0;
+	}
+}
@@ -0,0 +1,371 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.io.IOException;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+/**
+ * Renders all of the per-day labels needed for a calendar page (the date, day of week, holiday, <em>Rosh Chodesh</em>,
+ * <em>Omer</em>, <em>parsha</em>, special <em>parsha</em> and <em>daf yomi</em>) for a Jewish month, a Gregorian month,
+ * a Jewish year or any range of days in a single pass. Instead of calling each of the {@link HebrewDateFormatter}
+ * format methods for every day (each of them re-deriving the holiday index), the range is walked with one {@link
+ * JewishCalendar} that is moved forward a day at a time, the holiday index is calculated once per day, the
+ * <em>parsha</em> is only looked up on <em>Shabbos</em> in a table fetched once per Jewish year, the <em>daf yomi</em>
+ * is advanced from the previous day's <em>daf</em> instead of being recalculated, and all strings come from the
+ * precomputed tables of an {@link ImmutableHebrewDateFormatter}. The output can be a <code>String[day][column]</code> array indexed by the
+ * column constants such as {@link #YOM_TOV}, or tab separated lines (one per day) written to an
+ * <code>Appendable</code>. Since the formatter is immutable, a renderer can be shared by all threads.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * HebrewDateFormatter hdf = new HebrewDateFormatter();
+ * hdf.setHebrewFormat(true);
+ * HebrewCalendarRenderer renderer = new HebrewCalendarRenderer(hdf.toImmutable());
+ * String[][] page = renderer.renderJewishMonth(new JewishCalendar(5784, JewishDate.NISSAN, 1));
+ * System.out.println(page[15][HebrewCalendarRenderer.YOM_TOV]); // the second day of Pesach</pre>
+ *
+ * @see ImmutableHebrewDateFormatter
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class HebrewCalendarRenderer {
+
+	/** The column of the Gregorian date in the ISO 8601 <code>yyyy-MM-dd</code> format. */
+	public static final int GREGORIAN_DATE = 0;
+
+	/** The column of the Jewish date as formatted by {@link ImmutableHebrewDateFormatter#format(JewishDate)}. */
+	public static final int JEWISH_DATE = 1;
+
+	/** The column of the day of week as formatted by {@link ImmutableHebrewDateFormatter#formatDayOfWeek(JewishDate)}. */
+	public static final int DAY_OF_WEEK = 2;
+
+	/** The column of the holiday as formatted by {@link ImmutableHebrewDateFormatter#formatYomTov(JewishCalendar)}. */
+	public static final int YOM_TOV = 3;
+
+	/**
+	 * The column of the <em>Rosh Chodesh</em> as formatted by {@link
+	 * ImmutableHebrewDateFormatter#formatRoshChodesh(JewishCalendar)}.
+	 */
+	public static final int ROSH_CHODESH = 4;
+
+	/** The column of the <em>Omer</em> as formatted by {@link ImmutableHebrewDateFormatter#formatOmer(JewishCalendar)}. */
+	public static final int OMER = 5;
+
+	/** The column of the <em>parsha</em> as formatted by {@link ImmutableHebrewDateFormatter#formatParsha(JewishCalendar)}. */
+	public static final int PARSHA = 6;
+
+	/**
+	 * The column of the special <em>parsha</em> as formatted by {@link
+	 * ImmutableHebrewDateFormatter#formatSpecialParsha(JewishCalendar)}.
+	 */
+	public static final int SPECIAL_PARSHA = 7;
+
+	/**
+	 * The column of the <em>daf yomi bavli</em> as formatted by {@link ImmutableHebrewDateFormatter#formatDafYomiBavli(Daf)}.
+	 * It is an empty String for dates prior to the start of the first cycle on September 11, 1923.
+	 */
+	public static final int DAF_YOMI_BAVLI = 8;
+
+	/** The number of columns rendered for each day. */
+	public static final int COLUMN_COUNT = 9;
+
+	/** The absolute date of September 11, 1923, the first day of the first <em>daf yomi bavli</em> cycle. */
+	private static final int DAF_YOMI_START_ABS_DATE = new JewishDate(new GregorianCalendar(1923, Calendar.SEPTEMBER, 11))
+			.getAbsDate();
+
+	/**
+	 * The absolute date of June 24, 1975, the first day of the eighth <em>daf yomi bavli</em> cycle that uses the Vilna
+	 * <em>Shekalim</em>.
+	 */
+	private static final int VILNA_SHEKALIM_ABS_DATE = new JewishDate(new GregorianCalendar(1975, Calendar.JUNE, 24))
+			.getAbsDate();
+
+	/** The formatter used for all the labels. */
+	private final ImmutableHebrewDateFormatter formatter;
+
+	/**
+	 * Constructor that takes the formatter used for all the labels.
+	 * @param formatter the formatter. Use {@link HebrewDateFormatter#toImmutable()} to create one.
+	 */
+	public HebrewCalendarRenderer(ImmutableHebrewDateFormatter formatter) {
+		if (formatter == null) {
+			throw new IllegalArgumentException("The formatter can't be null");
+		}
+		this.formatter = formatter;
+	}
+
+	/**
+	 * @return the formatter used for all the labels.
+	 */
+	public ImmutableHebrewDateFormatter getFormatter() {
+		return formatter;
+	}
+
+	/**
+	 * Renders the labels for a range of days. The passed in calendar is not modified, and its {@link
+	 * JewishCalendar#getInIsrael() in Israel}, {@link JewishCalendar#getIsMukafChoma() mukaf choma} and {@link
+	 * JewishCalendar#isUseModernHolidays() modern holiday} settings are used for the whole range.
+	 *
+	 * @param startDay the first day of the range
+	 * @param numberOfDays the number of days to render
+	 * @return an array indexed by the day in the range and the column such as {@link #YOM_TOV}. Labels that don't apply
+	 *         to the day are empty Strings.
+	 * @throws IllegalArgumentException if the number of days is negative
+	 */
+	public String[][] render(JewishCalendar startDay, int numberOfDays) {
+		String[][] days = new String[checkNumberOfDays(numberOfDays)][];
+		JewishCalendar jewishCalendar = (JewishCalendar) startDay.clone();
+		RangeState state = new RangeState();
+		for (int i = 0; i < numberOfDays; i++) {
+			days[i] = new String[COLUMN_COUNT];
+			renderDay(jewishCalendar, days[i], state);
+			jewishCalendar.forward(Calendar.DATE, 1);
+		}
+		return days;
+	}
+
+	/**
+	 * Renders the labels for a range of days to an <code>Appendable</code>, one line per day with the columns in the
+	 * order of the column constants separated by a tab. Labels that don't apply to the day are empty.
+	 *
+	 * @param startDay the first day of the range. It is not modified.
+	 * @param numberOfDays the number of days to render
+	 * @param appendable the Appendable the lines are written to
+	 * @throws IOException if the appendable throws one
+	 * @throws IllegalArgumentException if the number of days is negative
+	 * @see #render(JewishCalendar, int)
+	 */
+	public void render(JewishCalendar startDay, int numberOfDays, Appendable appendable) throws IOException {
+		checkNumberOfDays(numberOfDays);
+		String[] row = new String[COLUMN_COUNT];
+		JewishCalendar jewishCalendar = (JewishCalendar) startDay.clone();
+		RangeState state = new RangeState();
+		for (int i = 0; i < numberOfDays; i++) {
+			renderDay(jewishCalendar, row, state);
+			for (int column = 0; column < COLUMN_COUNT; column++) {
+				if (column > 0) {
+					appendable.append('\t');
+				}
+				appendable.append(row[column]);
+			}
+			appendable.append('\n');
+			jewishCalendar.forward(Calendar.DATE, 1);
+		}
+	}
+
+	/**
+	 * Renders the labels for all days of the Jewish month of the passed in calendar.
+	 * @param jewishCalendar any day in the Jewish month. It is not modified.
+	 * @return an array indexed by the day of the month - 1 and the column.
+	 * @see #render(JewishCalendar, int)
+	 */
+	public String[][] renderJewishMonth(JewishCalendar jewishCalendar) {
+		return render(getJewishMonthStart(jewishCalendar), jewishCalendar.getDaysInJewishMonth());
+	}
+
+	/**
+	 * Renders the labels for all days of the Jewish month of the passed in calendar to an <code>Appendable</code>.
+	 * @param jewishCalendar any day in the Jewish month. It is not modified.
+	 * @param appendable the Appendable the lines are written to
+	 * @throws IOException if the appendable throws one
+	 * @see #render(JewishCalendar, int, Appendable)
+	 */
+	public void renderJewishMonth(JewishCalendar jewishCalendar, Appendable appendable) throws IOException {
+		render(getJewishMonthStart(jewishCalendar), jewishCalendar.getDaysInJewishMonth(), appendable);
+	}
+
+	/**
+	 * Renders the labels for all days of the Gregorian month of the passed in calendar.
+	 * @param jewishCalendar any day in the Gregorian month. It is not modified.
+	 * @return an array indexed by the day of the month - 1 and the column.
+	 * @see #render(JewishCalendar, int)
+	 */
+	public String[][] renderGregorianMonth(JewishCalendar jewishCalendar) {
+		return render(getGregorianMonthStart(jewishCalendar), getDaysInGregorianMonth(jewishCalendar));
+	}
+
+	/**
+	 * Renders the labels for all days of the Gregorian month of the passed in calendar to an <code>Appendable</code>.
+	 * @param jewishCalendar any day in the Gregorian month. It is not modified.
+	 * @param appendable the Appendable the lines are written to
+	 * @throws IOException if the appendable throws one
+	 * @see #render(JewishCalendar, int, Appendable)
+	 */
+	public void renderGregorianMonth(JewishCalendar jewishCalendar, Appendable appendable) throws IOException {
+		render(getGregorianMonthStart(jewishCalendar), getDaysInGregorianMonth(jewishCalendar), appendable);
+	}
+
+	/**
+	 * Renders the labels for all days of the Jewish year of the passed in calendar, starting with <em>Rosh Hashana</em>.
+	 * @param jewishCalendar any day in the Jewish year. It is not modified.
+	 * @return an array indexed by the day of the year - 1 and the column.
+	 * @see #render(JewishCalendar, int)
+	 */
+	public String[][] renderJewishYear(JewishCalendar jewishCalendar) {
+		JewishCalendar startDay = (JewishCalendar) jewishCalendar.clone();
+		startDay.setJewishDate(jewishCalendar.getJewishYear(), JewishDate.TISHREI, 1);
+		return render(startDay, jewishCalendar.getDaysInJewishYear());
+	}
+
+	/**
+	 * Fills in the labels of a single day, calculating the holiday index only once.
+	 * @param jewishCalendar the day. It must be the day after the previous day rendered with the same state.
+	 * @param row the array of {@link #COLUMN_COUNT} labels to fill in
+	 * @param state the <em>parsha</em> table and <em>daf</em> carried over from the previous day of the range
+	 */
+	private void renderDay(JewishCalendar jewishCalendar, String[] row, RangeState state) {
+		row[GREGORIAN_DATE] = formatGregorianDate(jewishCalendar);
+		row[JEWISH_DATE] = formatter.format(jewishCalendar);
+		row[DAY_OF_WEEK] = formatter.formatDayOfWeek(jewishCalendar);
+		row[YOM_TOV] = formatter.formatYomTov(jewishCalendar, jewishCalendar.getYomTovIndex());
+		row[ROSH_CHODESH] = formatter.formatRoshChodesh(jewishCalendar);
+		row[OMER] = formatter.formatOmer(jewishCalendar);
+		if (jewishCalendar.getDayOfWeek() == Calendar.SATURDAY) {
+			row[PARSHA] = formatter.formatParsha(state.getParsha(jewishCalendar));
+			row[SPECIAL_PARSHA] = formatter.formatSpecialParsha(jewishCalendar);
+		} else {
+			row[PARSHA] = formatter.formatParsha(JewishCalendar.Parsha.NONE);
+			row[SPECIAL_PARSHA] = row[PARSHA];
+		}
+		Daf daf = state.getDafYomiBavli(jewishCalendar);
+		row[DAF_YOMI_BAVLI] = daf == null ? "" : formatter.formatDafYomiBavli(daf);
+	}
+
+	/**
+	 * The values carried over from one day to the next while rendering a range of consecutive days.
+	 */
+	private static final class RangeState {
+
+		/** The Jewish year of {@link #parshiyos}, or 0 before the first <em>Shabbos</em>. */
+		private int parshaYear;
+
+		/** The <em>parsha</em> of each week of {@link #parshaYear}. */
+		private JewishCalendar.Parsha[] parshiyos;
+
+		/** The absolute date of the day before <em>Rosh Hashana</em> of {@link #parshaYear}. */
+		private int parshaYearStartAbsDate;
+
+		/** The week day of <em>Rosh Hashana</em> of {@link #parshaYear} as used by the <em>parsha</em> table. */
+		private int roshHashanaDayOfWeek;
+
+		/** The <em>daf</em> of the previous day, or <code>null</code> if it has not been calculated. */
+		private Daf daf;
+
+		/** If the cycle of {@link #daf} uses the 22 <em>daf</em> Vilna <em>Shekalim</em>. */
+		private boolean vilnaShekalim;
+
+		/**
+		 * Returns the <em>parsha</em> of a <em>Shabbos</em>, looking up the table of the year only once per year.
+		 * @param jewishCalendar the <em>Shabbos</em>
+		 * @return the <em>parsha</em>, the same as {@link JewishCalendar#getParshah()}
+		 */
+		JewishCalendar.Parsha getParsha(JewishCalendar jewishCalendar) {
+			int jewishYear = jewishCalendar.getJewishYear();
+			if (jewishYear != parshaYear) {
+				parshaYear = jewishYear;
+				parshiyos = jewishCalendar.getParshaYearTable();
+				parshaYearStartAbsDate = jewishCalendar.getAbsDate() - jewishCalendar.getDaysSinceStartOfJewishYear();
+				roshHashanaDayOfWeek = JewishDate.getJewishCalendarElapsedDays(jewishYear) % 7;
+			}
+			if (parshiyos == null) {
+				return JewishCalendar.Parsha.NONE;
+			}
+			return parshiyos[(roshHashanaDayOfWeek + jewishCalendar.getAbsDate() - parshaYearStartAbsDate) / 7];
+		}
+
+		/**
+		 * Returns the <em>daf yomi bavli</em> of the day, advancing the previous day's <em>daf</em> and only calculating it
+		 * from scratch on the first day and at the start of a new cycle.
+		 * @param jewishCalendar the day
+		 * @return the <em>daf</em>, or <code>null</code> if the day is before the first cycle
+		 */
+		Daf getDafYomiBavli(JewishCalendar jewishCalendar) {
+			if (daf != null) {
+				daf = YomiCalculator.getNextDafYomiBavli(daf, vilnaShekalim);
+			}
+			if (daf == null) { // the first day or the start of a new cycle
+				int absDate = jewishCalendar.getAbsDate();
+				if (absDate < DAF_YOMI_START_ABS_DATE) {
+					return null;
+				}
+				daf = jewishCalendar.getDafYomiBavli();
+				vilnaShekalim = absDate >= VILNA_SHEKALIM_ABS_DATE;
+			}
+			return daf;
+		}
+	}
+
+	/**
+	 * Formats the Gregorian date of the calendar in the ISO 8601 <code>yyyy-MM-dd</code> format.
+	 * @param jewishDate the date
+	 * @return the formatted date
+	 */
+	private static String formatGregorianDate(JewishDate jewishDate) {
+		StringBuilder sb = new StringBuilder(10);
+		int year = jewishDate.getGregorianYear();
+		int month = jewishDate.getGregorianMonth() + 1; // zero based
+		int day = jewishDate.getGregorianDayOfMonth();
+		sb.append(year).append('-');
+		if (month < 10) {
+			sb.append('0');
+		}
+		sb.append(month).append('-');
+		if (day < 10) {
+			sb.append('0');
+		}
+		return sb.append(day).toString();
+	}
+
+	/**
+	 * @param jewishCalendar any day in the month
+	 * @return a copy of the calendar set to the first day of the Jewish month.
+	 */
+	private static JewishCalendar getJewishMonthStart(JewishCalendar jewishCalendar) {
+		JewishCalendar startDay = (JewishCalendar) jewishCalendar.clone();
+		startDay.setJewishDayOfMonth(1);
+		return startDay;
+	}
+
+	/**
+	 * @param jewishCalendar any day in the month
+	 * @return a copy of the calendar set to the first day of the Gregorian month.
+	 */
+	private static JewishCalendar getGregorianMonthStart(JewishCalendar jewishCalendar) {
+		JewishCalendar startDay = (JewishCalendar) jewishCalendar.clone();
+		startDay.setGregorianDate(jewishCalendar.getGregorianYear(), jewishCalendar.getGregorianMonth(), 1);
+		return startDay;
+	}
+
+	/**
+	 * @param jewishCalendar any day in the month
+	 * @return the number of days in the Gregorian month.
+	 */
+	private static int getDaysInGregorianMonth(JewishCalendar jewishCalendar) {
+		return jewishCalendar.getLastDayOfGregorianMonth(jewishCalendar.getGregorianMonth() + 1); // one based
+	}
+
+	/**
+	 * @param numberOfDays the number of days to render
+	 * @return the number of days
+	 * @throws IllegalArgumentException if the number of days is negative
+	 */
+	private static int checkNumberOfDays(int numberOfDays) {
+		if (numberOfDays < 0) {
+			throw new IllegalArgumentException("The number of days can't be negative: " + numberOfDays);
+		}
+		return numberOfDays;
+	}
+}
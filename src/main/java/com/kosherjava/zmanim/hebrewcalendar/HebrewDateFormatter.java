@@ -15,6 +15,7 @@
  */
 package com.kosherjava.zmanim.hebrewcalendar;
 
+import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.EnumMap;
 
@@ -270,6 +271,38 @@ public class HebrewDateFormatter {
 		hebrewParshaMap.put(JewishCalendar.Parsha.NACHAMU, "\u05E0\u05D7\u05DE\u05D5");
 	}
 
+	/**
+	 * Returns an {@link ImmutableHebrewDateFormatter} with the current settings of this formatter, that can be shared
+	 * across threads. This formatter can be used as a builder, by setting the options needed and calling this method
+	 * once. Later changes to this formatter do not affect the returned object.
+	 * 
+	 * @return the immutable formatter for the current settings
+	 * @see ImmutableHebrewDateFormatter
+	 */
+	public ImmutableHebrewDateFormatter toImmutable() {
+		return new ImmutableHebrewDateFormatter(copy());
+	}
+
+	/**
+	 * Returns a copy of this formatter with the same settings. The month, holiday and <em>parsha</em> lists are copied.
+	 * 
+	 * @return the copy
+	 */
+	HebrewDateFormatter copy() {
+		HebrewDateFormatter copy = new HebrewDateFormatter();
+		copy.hebrewFormat = hebrewFormat;
+		copy.useLonghebrewYears = useLonghebrewYears;
+		copy.useGershGershayim = useGershGershayim;
+		copy.useFinalFormLetters = useFinalFormLetters;
+		copy.setLongWeekFormat(longWeekFormat);
+		copy.transliteratedMonths = transliteratedMonths.clone();
+		copy.transliteratedHolidays = transliteratedHolidays.clone();
+		copy.transliteratedParshaMap = new EnumMap<>(transliteratedParshaMap);
+		copy.hebrewOmerPrefix = hebrewOmerPrefix;
+		copy.transliteratedShabbosDayOfWeek = transliteratedShabbosDayOfWeek;
+		return copy;
+	}
+
 	/**
 	 * Returns if the {@link #formatDayOfWeek(JewishDate)} will use the long format such as
 	 * &#x05E8;&#x05D0;&#x05E9;&#x05D5;&#x05DF; or short such as &#x05D0; when formatting the day of week in
@@ -484,6 +517,16 @@ public class HebrewDateFormatter {
 		return index == -1 ? "" : hebrewFormat ? hebrewHolidays[index] : transliteratedHolidays[index];
 	}
 
+	/**
+	 * Returns the list of holidays in Hebrew or transliterated Latin characters used by {@link
+	 * #formatYomTov(JewishCalendar)}, depending on the {@link #isHebrewFormat() format}.
+	 * 
+	 * @return the holiday list indexed by the holiday index such as {@link JewishCalendar#PESACH}. It must not be modified.
+	 */
+	String[] getHolidayList() {
+		return hebrewFormat ? hebrewHolidays : transliteratedHolidays;
+	}
+
 	/**
 	 * Formats a day as Rosh Chodesh in the format of in the format of &#x05E8;&#x05D0;&#x05E9;
 	 * &#x05D7;&#x05D5;&#x05D3;&#x05E9; &#x05E9;&#x05D1;&#x05D8; or Rosh Chodesh Shevat. If it
@@ -616,6 +659,12 @@ public class HebrewDateFormatter {
 			"\u05D8\u05D1\u05EA", "\u05E9\u05D1\u05D8", "\u05D0\u05D3\u05E8", "\u05D0\u05D3\u05E8 \u05D1",
 			"\u05D0\u05D3\u05E8 \u05D0" };
 
+	/** <em>Adar I</em> with a {@link #GERESH} as formatted by {@link #formatMonth(JewishDate)}. */
+	private static final String ADAR_I_GERESH = hebrewMonths[13] + GERESH;
+
+	/** <em>Adar II</em> with a {@link #GERESH} as formatted by {@link #formatMonth(JewishDate)}. */
+	private static final String ADAR_II_GERESH = hebrewMonths[12] + GERESH;
+
 	/**
 	 * Unicode list of Hebrew days of week in the format of <code>["&#x05E8;&#x05D0;&#x05E9;&#x05D5;&#x05DF;",
 	 * "&#x05E9;&#x05E0;&#x05D9;","&#x05E9;&#x05DC;&#x05D9;&#x05E9;&#x05D9;","&#x05E8;&#x05D1;&#x05D9;&#x05E2;&#x05D9;",
@@ -637,15 +686,7 @@ public class HebrewDateFormatter {
 	 */
 	public String formatDayOfWeek(JewishDate jewishDate) {
 		if (hebrewFormat) {
-			if (isLongWeekFormat()) {
-				return hebrewDaysOfWeek[jewishDate.getDayOfWeek() - 1];
-			} else {
-				if (jewishDate.getDayOfWeek() == 7) {
-					return formatHebrewNumber(300);
-				} else {
-					return formatHebrewNumber(jewishDate.getDayOfWeek());
-				}
-			}
+			return formatHebrewDayOfWeek(jewishDate.getDayOfWeek());
 		} else {
 			if (jewishDate.getDayOfWeek() == 7) {
 				if (isLongWeekFormat()) {
@@ -659,6 +700,24 @@ public class HebrewDateFormatter {
 		}
 	}
 
+	/**
+	 * Formats the day of week in Hebrew the same way as {@link #formatDayOfWeek(JewishDate)}.
+	 * 
+	 * @param dayOfWeek the day of week from 1 (Sunday) to 7 (Shabbos)
+	 * @return the formatted day of week
+	 */
+	String formatHebrewDayOfWeek(int dayOfWeek) {
+		if (isLongWeekFormat()) {
+			return hebrewDaysOfWeek[dayOfWeek - 1];
+		} else {
+			if (dayOfWeek == 7) {
+				return formatHebrewNumber(300);
+			} else {
+				return formatHebrewNumber(dayOfWeek);
+			}
+		}
+	}
+
 	/**
 	 * Returns whether the class is set to use the Geresh &#x5F3; and Gershayim &#x5F4; in formatting Hebrew dates and
 	 * numbers. When true and output would look like &#x5DB;&#x5F4;&#x5D0; &#x5E9;&#x5D1;&#x5D8; &#x5EA;&#x5E9;&#x5F4;&#x5DB;
@@ -748,11 +807,73 @@ public class HebrewDateFormatter {
 	 *         "21 Shevat, 5729" if not.
 	 */
 	public String format(JewishDate jewishDate) {
+		return format(jewishDate, new StringBuilder(32)).toString();
+	}
+
+	/**
+	 * Formats the Jewish date the same way as {@link #format(JewishDate)}, appending it to the <code>StringBuilder</code>
+	 * passed in instead of creating a new <code>String</code>. Using a reused <code>StringBuilder</code> with the cached
+	 * {@link #formatHebrewNumber(int) Hebrew numbers} allows formatting dates without allocating memory.
+	 * 
+	 * @param jewishDate
+	 *            the JewishDate to be formatted
+	 * @param stringBuilder
+	 *            the StringBuilder to append the formatted date to
+	 * @return the StringBuilder passed in
+	 * @see #format(JewishDate)
+	 * @see #format(JewishDate, Appendable)
+	 */
+	public StringBuilder format(JewishDate jewishDate, StringBuilder stringBuilder) {
+		try {
+			format(jewishDate, (Appendable) stringBuilder);
+		} catch (IOException ioe) {
+			// Should never be reached since a StringBuilder never throws an IOException
+		}
+		return stringBuilder;
+	}
+
+	/**
+	 * Formats the Jewish date the same way as {@link #format(JewishDate)}, appending it to the <code>Appendable</code>
+	 * (such as a <code>Writer</code>) passed in instead of creating a new <code>String</code>.
+	 * 
+	 * @param jewishDate
+	 *            the JewishDate to be formatted
+	 * @param appendable
+	 *            the Appendable to append the formatted date to
+	 * @throws IOException
+	 *            if the Appendable throws one
+	 * @see #format(JewishDate)
+	 * @see #format(JewishDate, StringBuilder)
+	 */
+	public void format(JewishDate jewishDate, Appendable appendable) throws IOException {
 		if (isHebrewFormat()) {
-			return formatHebrewNumber(jewishDate.getJewishDayOfMonth()) + " " + formatMonth(jewishDate) + " "
-					+ formatHebrewNumber(jewishDate.getJewishYear());
+			appendable.append(formatHebrewNumber(jewishDate.getJewishDayOfMonth())).append(' ').append(formatMonth(jewishDate))
+					.append(' ').append(formatHebrewNumber(jewishDate.getJewishYear()));
 		} else {
-			return jewishDate.getJewishDayOfMonth() + " " + formatMonth(jewishDate) + ", " + jewishDate.getJewishYear();
+			appendNumber(jewishDate.getJewishDayOfMonth(), appendable);
+			appendable.append(' ').append(formatMonth(jewishDate)).append(", ");
+			appendNumber(jewishDate.getJewishYear(), appendable);
+		}
+	}
+
+	/**
+	 * Appends a non-negative number in Latin digits without creating a <code>String</code>.
+	 * 
+	 * @param number the number
+	 * @param appendable the Appendable to append the number to
+	 * @throws IOException if the Appendable throws one
+	 */
+	static void appendNumber(int number, Appendable appendable) throws IOException {
+		if (number < 0) {
+			appendable.append(Integer.toString(number));
+			return;
+		}
+		int divisor = 1;
+		while (number / divisor >= 10) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			appendable.append((char) ('0' + (number / divisor) % 10));
 		}
 	}
 
@@ -769,17 +890,29 @@ public class HebrewDateFormatter {
 	 * @see #setTransliteratedMonthList(String[])
 	 */
 	public String formatMonth(JewishDate jewishDate) {
-		final int month = jewishDate.getJewishMonth();
+		return formatMonth(jewishDate.getJewishMonth(), jewishDate.isJewishLeapYear());
+	}
+
+	/**
+	 * Returns the month name the same way as {@link #formatMonth(JewishDate)} for a month and type of year.
+	 * 
+	 * @param month
+	 *            the Jewish month starting with {@link JewishDate#NISSAN}
+	 * @param isLeapYear
+	 *            if the month is in a leap year
+	 * @return the formatted month name
+	 */
+	String formatMonth(int month, boolean isLeapYear) {
 		if (isHebrewFormat()) {
-			if (jewishDate.isJewishLeapYear() && month == JewishDate.ADAR) {
-				return hebrewMonths[13] + (useGershGershayim ? GERESH : ""); // return Adar I, not Adar in a leap year
-			} else if (jewishDate.isJewishLeapYear() && month == JewishDate.ADAR_II) {
-				return hebrewMonths[12] + (useGershGershayim ? GERESH : "");
+			if (isLeapYear && month == JewishDate.ADAR) {
+				return useGershGershayim ? ADAR_I_GERESH : hebrewMonths[13]; // return Adar I, not Adar in a leap year
+			} else if (isLeapYear && month == JewishDate.ADAR_II) {
+				return useGershGershayim ? ADAR_II_GERESH : hebrewMonths[12];
 			} else {
 				return hebrewMonths[month - 1];
 			}
 		} else {
-			if (jewishDate.isJewishLeapYear() && month == JewishDate.ADAR) {
+			if (isLeapYear && month == JewishDate.ADAR) {
 				return transliteratedMonths[13]; // return Adar I, not Adar in a leap year
 			} else {
 				return transliteratedMonths[month - 1];
@@ -925,6 +1058,8 @@ public class HebrewDateFormatter {
 	 * &#x5D0;&#x5DC;&#x5E4;&#x5D9;&#x5DD;</li>
 	 * <li>0 will return &#x5D0;&#x5E4;&#x05E1;</li>
 	 * </ul>
+	 * The formatted numbers up to 30 and the years 5600 through 5999 are cached for every combination of the formatting
+	 * settings, so formatting the day and year of a date does not create any new <code>String</code>s.
 	 * 
 	 * @param number
 	 *            the number to be formatted. It will trow an IllegalArgumentException if the number is &lt; 0 or &gt; 9999.
@@ -940,20 +1075,106 @@ public class HebrewDateFormatter {
 		} else if (number > 9999) {
 			throw new IllegalArgumentException("numbers > 9999 can't be formatted");
 		}
+		int options = getHebrewNumberOptions();
+		if (number < HebrewNumberTable.NUMBERS_LENGTH) {
+			return HebrewNumberTable.NUMBERS[options][number];
+		}
+		int yearIndex = number - HebrewNumberTable.FIRST_YEAR;
+		if (yearIndex >= 0 && yearIndex < HebrewNumberTable.YEARS_LENGTH) {
+			return HebrewNumberTable.YEARS[options][yearIndex];
+		}
+		return createHebrewNumber(number, options);
+	}
+
+	/**
+	 * Returns the current {@link #isUseGershGershayim() Geresh}, {@link #isUseFinalFormLetters() final form} and
+	 * {@link #isUseLongHebrewYears() long year} settings as an index into the {@link HebrewNumberTable}.
+	 * 
+	 * @return the settings as a number between 0 and 7
+	 */
+	private int getHebrewNumberOptions() {
+		return (isUseGershGershayim() ? GERSH_GERSHAYIM_OPTION : 0) | (isUseFinalFormLetters() ? FINAL_FORM_LETTERS_OPTION : 0)
+				| (isUseLongHebrewYears() ? LONG_HEBREW_YEARS_OPTION : 0);
+	}
+
+	/** Option bit for {@link #isUseGershGershayim()} used by {@link #createHebrewNumber(int, int)}. */
+	private static final int GERSH_GERSHAYIM_OPTION = 1;
+
+	/** Option bit for {@link #isUseFinalFormLetters()} used by {@link #createHebrewNumber(int, int)}. */
+	private static final int FINAL_FORM_LETTERS_OPTION = 2;
+
+	/** Option bit for {@link #isUseLongHebrewYears()} used by {@link #createHebrewNumber(int, int)}. */
+	private static final int LONG_HEBREW_YEARS_OPTION = 4;
 
-		String ALAFIM = "\u05D0\u05DC\u05E4\u05D9\u05DD";
-		String EFES = "\u05D0\u05E4\u05E1";
+	/** The Hebrew word &#x05D0;&#x05DC;&#x05E4;&#x05D9;&#x05DD; (thousands). */
+	private static final String ALAFIM = "\u05D0\u05DC\u05E4\u05D9\u05DD";
 
-		String[] jHundreds = new String[] { "", "\u05E7", "\u05E8", "\u05E9", "\u05EA", "\u05EA\u05E7", "\u05EA\u05E8",
-				"\u05EA\u05E9", "\u05EA\u05EA", "\u05EA\u05EA\u05E7" };
-		String[] jTens = new String[] { "", "\u05D9", "\u05DB", "\u05DC", "\u05DE", "\u05E0", "\u05E1", "\u05E2",
-				"\u05E4", "\u05E6" };
-		String[] jTenEnds = new String[] { "", "\u05D9", "\u05DA", "\u05DC", "\u05DD", "\u05DF", "\u05E1", "\u05E2",
-				"\u05E3", "\u05E5" };
-		String[] tavTaz = new String[] { "\u05D8\u05D5", "\u05D8\u05D6" };
-		String[] jOnes = new String[] { "", "\u05D0", "\u05D1", "\u05D2", "\u05D3", "\u05D4", "\u05D5", "\u05D6",
-				"\u05D7", "\u05D8" };
+	/** The Hebrew word &#x05D0;&#x05E4;&#x05E1; (zero). */
+	private static final String EFES = "\u05D0\u05E4\u05E1";
 
+	/** The Hebrew hundreds from 0 to 900. */
+	private static final String[] jHundreds = { "", "\u05E7", "\u05E8", "\u05E9", "\u05EA", "\u05EA\u05E7",
+			"\u05EA\u05E8", "\u05EA\u05E9", "\u05EA\u05EA", "\u05EA\u05EA\u05E7" };
+
+	/** The Hebrew tens from 0 to 90. */
+	private static final String[] jTens = { "", "\u05D9", "\u05DB", "\u05DC", "\u05DE", "\u05E0", "\u05E1",
+			"\u05E2", "\u05E4", "\u05E6" };
+
+	/** The Hebrew tens from 0 to 90 using final form letters. */
+	private static final String[] jTenEnds = { "", "\u05D9", "\u05DA", "\u05DC", "\u05DD", "\u05DF", "\u05E1",
+			"\u05E2", "\u05E3", "\u05E5" };
+
+	/** The special cases of 15 and 16. */
+	private static final String[] tavTaz = { "\u05D8\u05D5", "\u05D8\u05D6" };
+
+	/** The Hebrew ones from 0 to 9. */
+	private static final String[] jOnes = { "", "\u05D0", "\u05D1", "\u05D2", "\u05D3", "\u05D4", "\u05D5",
+			"\u05D6", "\u05D7", "\u05D8" };
+
+	/**
+	 * Immutable tables of formatted Hebrew numbers for each combination of the formatting options, created the first time
+	 * a number is formatted. The days of the month (and all numbers up to 30) and the years from 5600 (1839) through 5999
+	 * (2239) are cached, and other numbers are formatted on demand.
+	 */
+	private static final class HebrewNumberTable {
+		/** The numbers from 0 cached in {@link #NUMBERS}. */
+		private static final int NUMBERS_LENGTH = 31;
+
+		/** The first year cached in {@link #YEARS}. */
+		private static final int FIRST_YEAR = 5600;
+
+		/** The number of years cached in {@link #YEARS}. */
+		private static final int YEARS_LENGTH = 400;
+
+		/** The formatted numbers indexed by the formatting options and the number. */
+		private static final String[][] NUMBERS = new String[8][NUMBERS_LENGTH];
+
+		/** The formatted years indexed by the formatting options and the year minus {@link #FIRST_YEAR}. */
+		private static final String[][] YEARS = new String[8][YEARS_LENGTH];
+
+		static {
+			for (int options = 0; options < 8; options++) {
+				for (int i = 0; i < NUMBERS_LENGTH; i++) {
+					NUMBERS[options][i] = createHebrewNumber(i, options);
+				}
+				for (int i = 0; i < YEARS_LENGTH; i++) {
+					YEARS[options][i] = createHebrewNumber(FIRST_YEAR + i, options);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Formats a Hebrew number without using the cache. See {@link #formatHebrewNumber(int)} for the details.
+	 * 
+	 * @param number
+	 *            the number to be formatted between 0 and 9999.
+	 * @param options
+	 *            the formatting options as returned by {@link #getHebrewNumberOptions()}
+	 * @return the Hebrew formatted number such as &#x5EA;&#x5E9;&#x5DB;&#x5F4;&#x5D8;
+	 */
+	private static String createHebrewNumber(int number, int options) {
+		boolean useGershGershayim = (options & GERSH_GERSHAYIM_OPTION) != 0;
 		if (number == 0) { // do we really need this? Should it be applicable to a date?
 			return EFES;
 		}
@@ -965,15 +1186,15 @@ public class HebrewDateFormatter {
 		// append thousands to String
 		if (number % 1000 == 0) { // in year is 5000, 4000 etc
 			sb.append(jOnes[thousands]);
-			if (isUseGershGershayim()) {
+			if (useGershGershayim) {
 				sb.append(GERESH);
 			}
 			sb.append(" ");
 			sb.append(ALAFIM); // add # of thousands plus the word "thousand" (override alafim boolean)
 			return sb.toString();
-		} else if (useLonghebrewYears && number >= 1000) { // if alafim boolean display thousands
+		} else if ((options & LONG_HEBREW_YEARS_OPTION) != 0 && number >= 1000) { // if alafim boolean display thousands
 			sb.append(jOnes[thousands]);
-			if (isUseGershGershayim()) {
+			if (useGershGershayim) {
 				sb.append(GERESH); // append thousands quote
 			}
 			sb.append(" ");
@@ -990,7 +1211,7 @@ public class HebrewDateFormatter {
 			int tens = number / 10;
 			if (number % 10 == 0) { // if evenly divisible by 10
 				if (!singleDigitNumber) {
-					if (isUseFinalFormLetters()) {
+					if ((options & FINAL_FORM_LETTERS_OPTION) != 0) {
 						sb.append(jTenEnds[tens]); // years like 5780 will end with a final form &#x05E3;
 					} else {
 						sb.append(jTens[tens]); // years like 5780 will end with a regular &#x05E4;
@@ -1004,7 +1225,7 @@ public class HebrewDateFormatter {
 				sb.append(jOnes[number]);
 			}
 		}
-		if (isUseGershGershayim()) {
+		if (useGershGershayim) {
 			if (singleDigitNumber) {
 				sb.append(GERESH); // append single quote
 			} else { // append double quote before last digit
@@ -1012,7 +1233,7 @@ public class HebrewDateFormatter {
 			}
 		}
 		return sb.toString();
-	}	
+	}
 
 	/**
 	 * Returns the map of transliterated parshiyos used by this formatter.
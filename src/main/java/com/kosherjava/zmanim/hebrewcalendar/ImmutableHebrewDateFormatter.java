@@ -0,0 +1,353 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.io.IOException;
+import java.text.DateFormatSymbols;
+import java.text.SimpleDateFormat;
+
+/**
+ * An immutable and thread-safe version of the {@link HebrewDateFormatter} created by {@link
+ * HebrewDateFormatter#toImmutable()}. The {@link HebrewDateFormatter} acts as the builder: it is configured using its
+ * setters and then converted once, after which the immutable formatter can be shared by all threads instead of creating
+ * a new formatter (and its <em>parsha</em> maps and <code>SimpleDateFormat</code>) for every request. All of the month,
+ * <em>Rosh Chodesh</em>, holiday, <em>Chanukah</em>, <em>parsha</em>, <em>Omer</em> and day of week strings are
+ * precomputed when it is created, so formatting them is an array lookup. The output is identical to the output of the
+ * {@link HebrewDateFormatter} it was created from.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * HebrewDateFormatter hdf = new HebrewDateFormatter();
+ * hdf.setHebrewFormat(true);
+ * hdf.setUseGershGershayim(false);
+ * ImmutableHebrewDateFormatter formatter = hdf.toImmutable(); // share this instance
+ * System.out.println(formatter.format(new JewishCalendar()));</pre>
+ *
+ * @see HebrewDateFormatter#toImmutable()
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class ImmutableHebrewDateFormatter {
+
+	/** The private copy of the formatter that the strings are created from. It is never modified. */
+	private final HebrewDateFormatter formatter;
+
+	/** The month names indexed by leap year (1) or non leap year (0) and the month. */
+	private final String[][] months = new String[2][JewishDate.ADAR_II + 1];
+
+	/** The <em>Rosh Chodesh</em> strings indexed by leap year (1) or non leap year (0) and the month being started. */
+	private final String[][] roshChodesh = new String[2][JewishDate.ADAR_II + 1];
+
+	/** The holiday names indexed by the holiday index. */
+	private final String[] holidays;
+
+	/** The formatted <em>Chanukah</em> days indexed by the day of <em>Chanukah</em>. */
+	private final String[] chanukahDays = new String[9];
+
+	/** The <em>parsha</em> names indexed by the {@link JewishCalendar.Parsha#ordinal() ordinal}. */
+	private final String[] parshiyos = new String[JewishCalendar.Parsha.values().length];
+
+	/** The formatted days of the <em>Omer</em> indexed by the day. */
+	private final String[] omerDays = new String[50];
+
+	/** The formatted days of the week indexed by the day of week from 1 (Sunday) to 7. */
+	private final String[] daysOfWeek = new String[8];
+
+	/**
+	 * Constructor used by {@link HebrewDateFormatter#toImmutable()}.
+	 * @param formatter a private copy of the formatter
+	 */
+	ImmutableHebrewDateFormatter(HebrewDateFormatter formatter) {
+		this.formatter = formatter;
+		for (int month = JewishDate.NISSAN; month <= JewishDate.ADAR_II; month++) {
+			months[0][month] = formatter.formatMonth(month, false);
+			months[1][month] = formatter.formatMonth(month, true);
+		}
+		holidays = formatter.getHolidayList().clone();
+		for (int month = JewishDate.NISSAN; month <= JewishDate.ADAR_II; month++) {
+			roshChodesh[0][month] = holidays[JewishCalendar.ROSH_CHODESH] + " " + months[0][month];
+			roshChodesh[1][month] = holidays[JewishCalendar.ROSH_CHODESH] + " " + months[1][month];
+		}
+		for (int day = 1; day < chanukahDays.length; day++) {
+			chanukahDays[day] = formatter.isHebrewFormat()
+					? (formatter.formatHebrewNumber(day) + " " + holidays[JewishCalendar.CHANUKAH])
+					: (holidays[JewishCalendar.CHANUKAH] + " " + day);
+		}
+		for (JewishCalendar.Parsha parsha : JewishCalendar.Parsha.values()) {
+			parshiyos[parsha.ordinal()] = formatter.formatParsha(parsha);
+		}
+		for (int omer = 1; omer < omerDays.length; omer++) {
+			if (formatter.isHebrewFormat()) {
+				omerDays[omer] = formatter.formatHebrewNumber(omer) + " " + formatter.getHebrewOmerPrefix()
+						+ "\u05E2\u05D5\u05DE\u05E8";
+			} else {
+				omerDays[omer] = omer == 33 ? holidays[JewishCalendar.LAG_BAOMER] : "Omer " + omer;
+			}
+		}
+		DateFormatSymbols symbols = new SimpleDateFormat(formatter.isLongWeekFormat() ? "EEEE" : "EEE")
+				.getDateFormatSymbols();
+		String[] weekdays = formatter.isLongWeekFormat() ? symbols.getWeekdays() : symbols.getShortWeekdays();
+		for (int dayOfWeek = 1; dayOfWeek <= 7; dayOfWeek++) {
+			if (formatter.isHebrewFormat()) {
+				daysOfWeek[dayOfWeek] = formatter.formatHebrewDayOfWeek(dayOfWeek);
+			} else if (dayOfWeek == 7) {
+				daysOfWeek[dayOfWeek] = formatter.isLongWeekFormat() ? formatter.getTransliteratedShabbosDayOfWeek()
+						: formatter.getTransliteratedShabbosDayOfWeek().substring(0, 3);
+			} else {
+				daysOfWeek[dayOfWeek] = weekdays[dayOfWeek];
+			}
+		}
+	}
+
+	/**
+	 * Returns a new mutable {@link HebrewDateFormatter} with the same settings as this formatter.
+	 * @return a copy of this formatter as a HebrewDateFormatter
+	 */
+	public HebrewDateFormatter toHebrewDateFormatter() {
+		return formatter.copy();
+	}
+
+	/**
+	 * @return if the formatter formats in Hebrew
+	 * @see HebrewDateFormatter#isHebrewFormat()
+	 */
+	public boolean isHebrewFormat() {
+		return formatter.isHebrewFormat();
+	}
+
+	/**
+	 * @return if the formatter uses the long day of week format
+	 * @see HebrewDateFormatter#isLongWeekFormat()
+	 */
+	public boolean isLongWeekFormat() {
+		return formatter.isLongWeekFormat();
+	}
+
+	/**
+	 * @return if the formatter uses the Geresh &#x5F3; and Gershayim &#x5F4; in formatting Hebrew dates and numbers
+	 * @see HebrewDateFormatter#isUseGershGershayim()
+	 */
+	public boolean isUseGershGershayim() {
+		return formatter.isUseGershGershayim();
+	}
+
+	/**
+	 * @return if the formatter uses final form letters when formatting Hebrew years
+	 * @see HebrewDateFormatter#isUseFinalFormLetters()
+	 */
+	public boolean isUseFinalFormLetters() {
+		return formatter.isUseFinalFormLetters();
+	}
+
+	/**
+	 * @return if the formatter uses the thousands digit when formatting Hebrew years
+	 * @see HebrewDateFormatter#isUseLongHebrewYears()
+	 */
+	public boolean isUseLongHebrewYears() {
+		return formatter.isUseLongHebrewYears();
+	}
+
+	/**
+	 * Formats the Jewish date.
+	 *
+	 * @param jewishDate
+	 *            the JewishDate to be formatted
+	 * @return the formatted date
+	 * @see HebrewDateFormatter#format(JewishDate)
+	 */
+	public String format(JewishDate jewishDate) {
+		return format(jewishDate, new StringBuilder(32)).toString();
+	}
+
+	/**
+	 * Formats the Jewish date, appending it to the <code>StringBuilder</code> passed in.
+	 *
+	 * @param jewishDate
+	 *            the JewishDate to be formatted
+	 * @param stringBuilder
+	 *            the StringBuilder to append the formatted date to
+	 * @return the StringBuilder passed in
+	 * @see HebrewDateFormatter#format(JewishDate, StringBuilder)
+	 */
+	public StringBuilder format(JewishDate jewishDate, StringBuilder stringBuilder) {
+		try {
+			format(jewishDate, (Appendable) stringBuilder);
+		} catch (IOException ioe) {
+			// Should never be reached since a StringBuilder never throws an IOException
+		}
+		return stringBuilder;
+	}
+
+	/**
+	 * Formats the Jewish date, appending it to the <code>Appendable</code> passed in.
+	 *
+	 * @param jewishDate
+	 *            the JewishDate to be formatted
+	 * @param appendable
+	 *            the Appendable to append the formatted date to
+	 * @throws IOException
+	 *            if the Appendable throws one
+	 * @see HebrewDateFormatter#format(JewishDate, Appendable)
+	 */
+	public void format(JewishDate jewishDate, Appendable appendable) throws IOException {
+		if (formatter.isHebrewFormat()) {
+			appendable.append(formatter.formatHebrewNumber(jewishDate.getJewishDayOfMonth())).append(' ')
+					.append(formatMonth(jewishDate)).append(' ')
+					.append(formatter.formatHebrewNumber(jewishDate.getJewishYear()));
+		} else {
+			HebrewDateFormatter.appendNumber(jewishDate.getJewishDayOfMonth(), appendable);
+			appendable.append(' ').append(formatMonth(jewishDate)).append(", ");
+			HebrewDateFormatter.appendNumber(jewishDate.getJewishYear(), appendable);
+		}
+	}
+
+	/**
+	 * @param jewishDate
+	 *            the JewishDate to format
+	 * @return the formatted month name
+	 * @see HebrewDateFormatter#formatMonth(JewishDate)
+	 */
+	public String formatMonth(JewishDate jewishDate) {
+		return months[jewishDate.isJewishLeapYear() ? 1 : 0][jewishDate.getJewishMonth()];
+	}
+
+	/**
+	 * @param jewishDate the JewishDate Object
+	 * @return the formatted day of week
+	 * @see HebrewDateFormatter#formatDayOfWeek(JewishDate)
+	 */
+	public String formatDayOfWeek(JewishDate jewishDate) {
+		return daysOfWeek[jewishDate.getDayOfWeek()];
+	}
+
+	/**
+	 * @param jewishCalendar the JewishCalendar
+	 * @return the formatted holiday or an empty String if the day is not a holiday.
+	 * @see HebrewDateFormatter#formatYomTov(JewishCalendar)
+	 */
+	public String formatYomTov(JewishCalendar jewishCalendar) {
+		return formatYomTov(jewishCalendar, jewishCalendar.getYomTovIndex());
+	}
+
+	/**
+	 * Formats the holiday using an already calculated holiday index, to avoid calculating it again.
+	 * @param jewishCalendar the JewishCalendar
+	 * @param index the {@link JewishCalendar#getYomTovIndex() holiday index} of the day
+	 * @return the formatted holiday or an empty String if the day is not a holiday.
+	 */
+	String formatYomTov(JewishCalendar jewishCalendar, int index) {
+		if (index == JewishCalendar.CHANUKAH) {
+			return chanukahDays[jewishCalendar.getDayOfChanukah()];
+		}
+		return index == -1 ? "" : holidays[index];
+	}
+
+	/**
+	 * @param jewishCalendar the JewishCalendar
+	 * @return The formatted <em>Rosh Chodesh</em> or an empty <code>String</code> if it is not <em>Rosh Chodesh</em>.
+	 * @see HebrewDateFormatter#formatRoshChodesh(JewishCalendar)
+	 */
+	public String formatRoshChodesh(JewishCalendar jewishCalendar) {
+		if (!jewishCalendar.isRoshChodesh()) {
+			return "";
+		}
+		int month = jewishCalendar.getJewishMonth();
+		boolean isLeapYear = jewishCalendar.isJewishLeapYear();
+		if (jewishCalendar.getJewishDayOfMonth() == 30) {
+			if (month < JewishCalendar.ADAR || (month == JewishCalendar.ADAR && isLeapYear)) {
+				month++;
+			} else { // roll to Nissan
+				month = JewishCalendar.NISSAN;
+			}
+		}
+		return roshChodesh[isLeapYear ? 1 : 0][month];
+	}
+
+	/**
+	 * @param jewishCalendar
+	 *            the JewishCalendar to be formatted
+	 * @return the formatted day of the <em>Omer</em> or an empty string if there is no <em>Omer</em> this day.
+	 * @see HebrewDateFormatter#formatOmer(JewishCalendar)
+	 */
+	public String formatOmer(JewishCalendar jewishCalendar) {
+		int omer = jewishCalendar.getDayOfOmer();
+		return omer == -1 ? "" : omerDays[omer];
+	}
+
+	/**
+	 * @param jewishCalendar the JewishCalendar Object
+	 * @return today's <em>parsha</em>(<em>ios</em>) or an empty string if there are none.
+	 * @see HebrewDateFormatter#formatParsha(JewishCalendar)
+	 */
+	public String formatParsha(JewishCalendar jewishCalendar) {
+		return parshiyos[jewishCalendar.getParshah().ordinal()];
+	}
+
+	/**
+	 * @param parsha a JewishCalendar.Parsha object
+	 * @return the formatted <em>parsha</em>(<em>ios</em>)
+	 * @see HebrewDateFormatter#formatParsha(JewishCalendar.Parsha)
+	 */
+	public String formatParsha(JewishCalendar.Parsha parsha) {
+		return parshiyos[parsha.ordinal()];
+	}
+
+	/**
+	 * @param jewishCalendar the JewishCalendar Object
+	 * @return today's special <em>parsha</em> or an empty string if there are none.
+	 * @see HebrewDateFormatter#formatSpecialParsha(JewishCalendar)
+	 */
+	public String formatSpecialParsha(JewishCalendar jewishCalendar) {
+		return parshiyos[jewishCalendar.getSpecialShabbos().ordinal()];
+	}
+
+	/**
+	 * @param daf the Daf to be formatted.
+	 * @return the formatted daf.
+	 * @see HebrewDateFormatter#formatDafYomiBavli(Daf)
+	 */
+	public String formatDafYomiBavli(Daf daf) {
+		return formatter.formatDafYomiBavli(daf);
+	}
+
+	/**
+	 * @param daf the Daf to be formatted.
+	 * @return the formatted daf.
+	 * @see HebrewDateFormatter#formatDafYomiYerushalmi(Daf)
+	 */
+	public String formatDafYomiYerushalmi(Daf daf) {
+		return formatter.formatDafYomiYerushalmi(daf);
+	}
+
+	/**
+	 * @param number
+	 *            the number to be formatted. It will trow an IllegalArgumentException if the number is &lt; 0 or &gt; 9999.
+	 * @return the Hebrew formatted number such as &#x5EA;&#x5E9;&#x5DB;&#x5F4;&#x5D8;
+	 * @see HebrewDateFormatter#formatHebrewNumber(int)
+	 */
+	public String formatHebrewNumber(int number) {
+		return formatter.formatHebrewNumber(number);
+	}
+
+	/**
+	 * @param jewishYear
+	 *            the Jewish year
+	 * @return the Hebrew String such as &#x5D1;&#x5E9;&#x5D4; for 5729 (1969) and &#x5D4;&#x5E9;&#x5D2; for 5771
+	 *         (2011).
+	 * @see HebrewDateFormatter#getFormattedKviah(int)
+	 */
+	public String getFormattedKviah(int jewishYear) {
+		return formatter.getFormattedKviah(jewishYear);
+	}
+}
@@ -18,6 +18,7 @@
 package com.kosherjava.zmanim.hebrewcalendar;
 
 import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.TimeZoneOffsets;
 
 import java.time.LocalDate;
 import java.util.Calendar;
@@ -148,6 +149,69 @@ public class JewishCalendar extends JewishDate {
 	 */
 	public static final int BEHAB = 37;
 
+	/**
+	 * The standard time (GMT + 2) time zone of Yerushalayim used for the <em>molad</em>. The raw molad Date (point in time) must
+	 * be generated using standard time. Using "Asia/Jerusalem" timezone will result in the time being incorrectly off by an hour in
+	 * the summer due to DST. Proper adjustment for the actual time in DST will be done by the date formatter class used to display
+	 * the Date. This is looked up once since <code>TimeZone.getTimeZone(String)</code> is synchronized.
+	 * @see #getMoladAsDate()
+	 */
+	private static final TimeZone YERUSHALAYIM_STANDARD_TZ = TimeZone.getTimeZone("GMT+2");
+
+	/**
+	 * The shared {@link TimeZoneOffsets offsets} of {@link #YERUSHALAYIM_STANDARD_TZ Yerushalayim standard time}, held
+	 * here so the <em>molad</em> calculations never look up the time zone's offset again.
+	 * @see #getMoladAsDate()
+	 */
+	private static final TimeZoneOffsets YERUSHALAYIM_STANDARD_OFFSETS = TimeZoneOffsets.getInstance(
+			YERUSHALAYIM_STANDARD_TZ);
+
+	/**
+	 * The local mean time offset of <em>Har Habayis</em> (latitude 31.778&deg;, longitude 35.2354&deg;) from
+	 * {@link #YERUSHALAYIM_STANDARD_TZ Yerushalayim standard time} of 20.94 minutes (20 minutes and 56.496 seconds).
+	 * @see #getMoladAsDate()
+	 * @see GeoLocation#getLocalMeanTimeOffset()
+	 */
+	private static final long HAR_HABAYIS_LOCAL_MEAN_TIME_OFFSET = new GeoLocation("Jerusalem, Israel", 31.778, 35.2354,
+			YERUSHALAYIM_STANDARD_TZ).getLocalMeanTimeOffset();
+
+	/**
+	 * Half of the 29 days, 12 hours and 793 <em>chalakim</em> between <em>molad</em> and <em>molad</em> (14 days, 18 hours,
+	 * 22 minutes, 1 second and 666 milliseconds) in milliseconds.
+	 * @see #getSofZmanKidushLevanaBetweenMoldos()
+	 */
+	private static final long HALF_MONTH_MILLIS = ((24 * 14 + 18) * 60 + 22) * 60000L + 1666;
+
+	/**
+	 * The first Jewish year (5344 / 1583) whose <em>molad</em> can be calculated without a <code>Calendar</code>. Earlier
+	 * dates fall before the Gregorian cutover where <code>GregorianCalendar</code> uses the Julian calendar.
+	 * @see #getMoladAsMillis()
+	 */
+	private static final int FIRST_PROLEPTIC_YEAR = 5344;
+
+	/** constant for milliseconds in an hour (3,600,000) */
+	private static final long HOUR_MILLIS = 60 * 60 * 1000;
+
+	/**
+	 * A lazily built table of the <em>molad</em> of every month between the years 5600 (1839) and 6000 (2240) in
+	 * Yerushalayim standard time as milliseconds since the epoch, indexed by the number of months since <em>Molad Tohu</em>.
+	 * The table is built the first time it is used via the initialization-on-demand holder idiom.
+	 * @see #getMoladAsMillis()
+	 */
+	private static final class MoladTable {
+		/** The number of months since <em>Molad Tohu</em> of the first entry in the table (Tishrei 5600). */
+		private static final int FIRST_MONTH = getMonthsSinceMoladTohu(5600, TISHREI);
+
+		/** The <em>molad</em> times in milliseconds. */
+		private static final long[] MOLAD_MILLIS = new long[getMonthsSinceMoladTohu(6000, TISHREI) - FIRST_MONTH];
+
+		static {
+			for (int i = 0; i < MOLAD_MILLIS.length; i++) {
+				MOLAD_MILLIS[i] = getMoladMillis(FIRST_MONTH + i);
+			}
+		}
+	}
+
 	/**
 	 * Is the calendar set to Israel, where some holidays have different rules.
 	 * @see #getInIsrael()
@@ -494,15 +558,28 @@ public class JewishCalendar extends JewishDate {
 			return Parsha.NONE;
 		}
 		
-		int yearType = getParshaYearType();
+		Parsha[] parshiyos = getParshaYearTable();
 		int roshHashanaDayOfWeek = getJewishCalendarElapsedDays(getJewishYear()) % 7;
 		int day = roshHashanaDayOfWeek + getDaysSinceStartOfJewishYear();
 		
-		if (yearType >= 0) { // negative year should be impossible, but let's cover all bases
-			return parshalist[yearType][day/7];
+		if (parshiyos != null) { // a null table should be impossible, but let's cover all bases
+			return parshiyos[day/7];
 		}
 		return Parsha.NONE; //keep the compiler happy
 	}
+
+	/**
+	 * Returns the {@link #parshalist <em>parsha</em> table} of the Jewish year of this calendar, indexed by the week of the
+	 * year counting from the week of <em>Rosh Hashana</em>, so that a range of days in the year can look up the
+	 * <em>parsha</em> without recalculating the type of year for every <em>Shabbos</em>.
+	 * 
+	 * @return the <em>parsha</em> of each week of the year, or <code>null</code> if the type of year can't be determined.
+	 * @see #getParshah()
+	 */
+	Parsha[] getParshaYearTable() {
+		int yearType = getParshaYearType();
+		return yearType >= 0 ? parshalist[yearType] : null;
+	}
 	
 	/**
 	 * Returns the upcoming {@link Parsha <em>Parsha</em>} regardless of if it is the weekday or <em>Shabbos</em> (where next
@@ -1231,26 +1308,58 @@ public class JewishCalendar extends JewishDate {
 	 * @return the Date representing the moment of the <em>molad</em> in Yerushalayim standard time (GMT + 2)
 	 */
 	public Date getMoladAsDate() {
-		JewishDate molad = getMolad();
-		String locationName = "Jerusalem, Israel";
+		return new Date(getMoladAsMillis());
+	}
 
-		double latitude = 31.778; // Har Habayis latitude
-		double longitude = 35.2354; // Har Habayis longitude
+	/**
+	 * Returns the <em>molad</em> in Standard Time in Yerushalayim as milliseconds since the epoch. This is the primitive
+	 * equivalent of {@link #getMoladAsDate()}. Months between 5600 and 6000 are read from a static table, and other months
+	 * are calculated without creating any objects, so this is suitable for evaluating the <em>molad</em> and <em>Kiddush
+	 * Levana</em> times for many locations and dates.
+	 * 
+	 * @return the moment of the <em>molad</em> in Yerushalayim standard time (GMT + 2) as milliseconds since the epoch
+	 * @see #getMoladAsDate()
+	 */
+	public long getMoladAsMillis() {
+		if (getJewishYear() < FIRST_PROLEPTIC_YEAR) {
+			return getMoladAsCalendar().getTimeInMillis();
+		}
+		int month = getMonthsSinceMoladTohu(getJewishYear(), getJewishMonth());
+		int index = month - MoladTable.FIRST_MONTH;
+		if (index >= 0 && index < MoladTable.MOLAD_MILLIS.length) {
+			return MoladTable.MOLAD_MILLIS[index];
+		}
+		return getMoladMillis(month);
+	}
+
+	/**
+	 * Returns the <em>molad</em> of the month in Yerushalayim standard time as milliseconds since the epoch.
+	 * 
+	 * @param monthsSinceMoladTohu the number of months since <em>Molad Tohu</em>
+	 * @return the <em>molad</em> in milliseconds since the epoch
+	 */
+	private static long getMoladMillis(int monthsSinceMoladTohu) {
+		// subtract local time difference of 20.94 minutes (20 minutes and 56.496 seconds) to get to Standard time
+		return getMoladLocalMillis(monthsSinceMoladTohu) - YERUSHALAYIM_STANDARD_OFFSETS.getRawOffset()
+				- (int) HAR_HABAYIS_LOCAL_MEAN_TIME_OFFSET;
+	}
 
-		// The raw molad Date (point in time) must be generated using standard time. Using "Asia/Jerusalem" timezone will result in the time
-		// being incorrectly off by an hour in the summer due to DST. Proper adjustment for the actual time in DST will be done by the date
-		// formatter class used to display the Date.
-		TimeZone yerushalayimStandardTZ = TimeZone.getTimeZone("GMT+2");
-		GeoLocation geo = new GeoLocation(locationName, latitude, longitude, yerushalayimStandardTZ);
-		Calendar cal = Calendar.getInstance(geo.getTimeZone());
+	/**
+	 * Returns the <em>molad</em> as a <code>Calendar</code>. This is used for dates prior to the Gregorian cutover.
+	 * 
+	 * @return the Calendar set to the moment of the <em>molad</em> in Yerushalayim standard time (GMT + 2)
+	 */
+	private Calendar getMoladAsCalendar() {
+		JewishDate molad = getMolad();
+		Calendar cal = Calendar.getInstance(YERUSHALAYIM_STANDARD_TZ);
 		cal.clear();
 		double moladSeconds = molad.getMoladChalakim() * 10 / (double) 3;
 		cal.set(molad.getGregorianYear(), molad.getGregorianMonth(), molad.getGregorianDayOfMonth(),
 				molad.getMoladHours(), molad.getMoladMinutes(), (int) moladSeconds);
 		cal.set(Calendar.MILLISECOND, (int) (1000 * (moladSeconds - (int) moladSeconds)));
 		// subtract local time difference of 20.94 minutes (20 minutes and 56.496 seconds) to get to Standard time
-		cal.add(Calendar.MILLISECOND, -1 * (int) geo.getLocalMeanTimeOffset());
-		return cal.getTime();
+		cal.add(Calendar.MILLISECOND, -1 * (int) HAR_HABAYIS_LOCAL_MEAN_TIME_OFFSET);
+		return cal;
 	}
 
 	/**
@@ -1264,11 +1373,18 @@ public class JewishCalendar extends JewishDate {
 	 * @see com.kosherjava.zmanim.ComplexZmanimCalendar#getTchilasZmanKidushLevana3Days(Date, Date)
 	 */
 	public Date getTchilasZmanKidushLevana3Days() {
-		Date molad = getMoladAsDate();
-		Calendar cal = Calendar.getInstance();
-		cal.setTime(molad);
-		cal.add(Calendar.HOUR, 72); // 3 days after the molad
-		return cal.getTime();
+		return new Date(getTchilasZmanKidushLevana3DaysMillis());
+	}
+
+	/**
+	 * Returns the earliest time of <em>Kiddush Levana</em> calculated as 3 days after the molad as milliseconds since the
+	 * epoch. This is the primitive equivalent of {@link #getTchilasZmanKidushLevana3Days()}.
+	 * 
+	 * @return the moment 3 days after the molad in milliseconds since the epoch.
+	 * @see #getTchilasZmanKidushLevana3Days()
+	 */
+	public long getTchilasZmanKidushLevana3DaysMillis() {
+		return getMoladAsMillis() + 72 * HOUR_MILLIS; // 3 days after the molad
 	}
 
 	/**
@@ -1284,11 +1400,18 @@ public class JewishCalendar extends JewishDate {
 	 * @see com.kosherjava.zmanim.ComplexZmanimCalendar#getTchilasZmanKidushLevana7Days(Date, Date)
 	 */
 	public Date getTchilasZmanKidushLevana7Days() {
-		Date molad = getMoladAsDate();
-		Calendar cal = Calendar.getInstance();
-		cal.setTime(molad);
-		cal.add(Calendar.HOUR, 168); // 7 days after the molad
-		return cal.getTime();
+		return new Date(getTchilasZmanKidushLevana7DaysMillis());
+	}
+
+	/**
+	 * Returns the earliest time of <em>Kiddush Levana</em> calculated as 7 days after the <em>molad</em> as milliseconds
+	 * since the epoch. This is the primitive equivalent of {@link #getTchilasZmanKidushLevana7Days()}.
+	 * 
+	 * @return the moment 7 days after the molad in milliseconds since the epoch.
+	 * @see #getTchilasZmanKidushLevana7Days()
+	 */
+	public long getTchilasZmanKidushLevana7DaysMillis() {
+		return getMoladAsMillis() + 168 * HOUR_MILLIS; // 7 days after the molad
 	}
 
 	/**
@@ -1307,17 +1430,22 @@ public class JewishCalendar extends JewishDate {
 	 * @see com.kosherjava.zmanim.ComplexZmanimCalendar#getSofZmanKidushLevanaBetweenMoldos(Date, Date)
 	 */
 	public Date getSofZmanKidushLevanaBetweenMoldos() {
-		Date molad = getMoladAsDate();
-		Calendar cal = Calendar.getInstance();
-		cal.setTime(molad);
+		return new Date(getSofZmanKidushLevanaBetweenMoldosMillis());
+	}
+
+	/**
+	 * Returns the latest time of Kiddush Levana according to the Maharil's opinion that it is calculated as halfway
+	 * between <em>molad</em> and <em>molad</em> as milliseconds since the epoch. This is the primitive equivalent of
+	 * {@link #getSofZmanKidushLevanaBetweenMoldos()}.
+	 * 
+	 * @return the moment halfway between <em>molad</em> and <em>molad</em> in milliseconds since the epoch.
+	 * @see #getSofZmanKidushLevanaBetweenMoldos()
+	 */
+	public long getSofZmanKidushLevanaBetweenMoldosMillis() {
 		// add half the time between molad and molad (half of 29 days, 12 hours and 793 chalakim (44 minutes, 3.3
-		// seconds), or 14 days, 18 hours, 22 minutes and 666 milliseconds). Add it as hours, not days, to avoid
-		// DST/ST crossover issues.
-		cal.add(Calendar.HOUR, (24 * 14) + 18);
-		cal.add(Calendar.MINUTE, 22);
-		cal.add(Calendar.SECOND, 1);
-		cal.add(Calendar.MILLISECOND, 666);
-		return cal.getTime();
+		// seconds), or 14 days, 18 hours, 22 minutes and 666 milliseconds). Added as a fixed duration to avoid DST/ST
+		// crossover issues.
+		return getMoladAsMillis() + HALF_MONTH_MILLIS;
 	}
 
 	/**
@@ -1338,11 +1466,18 @@ public class JewishCalendar extends JewishDate {
 	 * @see com.kosherjava.zmanim.ComplexZmanimCalendar#getSofZmanKidushLevana15Days(Date, Date)
 	 */
 	public Date getSofZmanKidushLevana15Days() {
-		Date molad = getMoladAsDate();
-		Calendar cal = Calendar.getInstance();
-		cal.setTime(molad);
-		cal.add(Calendar.HOUR, 24 * 15); //15 days after the molad. Add it as hours, not days, to avoid DST/ST crossover issues.
-		return cal.getTime();
+		return new Date(getSofZmanKidushLevana15DaysMillis());
+	}
+
+	/**
+	 * Returns the latest time of <em>Kiddush Levana</em> calculated as 15 days after the <em>molad</em> as milliseconds
+	 * since the epoch. This is the primitive equivalent of {@link #getSofZmanKidushLevana15Days()}.
+	 * 
+	 * @return the moment 15 days after the <em>molad</em> in milliseconds since the epoch.
+	 * @see #getSofZmanKidushLevana15Days()
+	 */
+	public long getSofZmanKidushLevana15DaysMillis() {
+		return getMoladAsMillis() + 24 * 15 * HOUR_MILLIS; //15 days after the molad as hours, not days, to avoid DST/ST crossover issues.
 	}
 
 	/**
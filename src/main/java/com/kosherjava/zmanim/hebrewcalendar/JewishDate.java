@@ -520,13 +520,54 @@ public class JewishDate implements Comparable<JewishDate>, Cloneable {
 	private static long getChalakimSinceMoladTohu(int year, int month) {
 		// Jewish lunar month = 29 days, 12 hours and 793 chalakim
 		// chalakim since Molad Tohu BeHaRaD - 1 day, 5 hours and 204 chalakim
+		int monthsElapsed = getMonthsSinceMoladTohu(year, month);
+		// return chalakim prior to BeHaRaD + number of chalakim since
+		return CHALAKIM_MOLAD_TOHU + (CHALAKIM_PER_MONTH * monthsElapsed);
+	}
+
+	/**
+	 * Returns the number of months elapsed from the original hypothetical <em>Molad Tohu</em> to the year and month passed
+	 * in. This is the index of the month's <em>molad</em> used by {@link #getMoladLocalMillis(int)}.
+	 * 
+	 * @param year
+	 *            the Jewish year
+	 * @param month
+	 *            the Jewish month the Jewish month, with the month numbers starting from Nissan. Use the JewishDate
+	 *            constants such as {@link JewishDate#TISHREI}.
+	 * @return the number of months elapsed since <em>Molad Tohu</em>
+	 */
+	static int getMonthsSinceMoladTohu(int year, int month) {
 		int monthOfYear = getJewishMonthOfYear(year, month);
-		int monthsElapsed = (235 * ((year - 1) / 19)) // Months in complete 19-year lunar (Metonic) cycles so far
+		return (235 * ((year - 1) / 19)) // Months in complete 19-year lunar (Metonic) cycles so far
 				+ (12 * ((year - 1) % 19)) // Regular months in this cycle
 				+ ((7 * ((year - 1) % 19) + 1) / 19) // Leap months this cycle
 				+ (monthOfYear - 1); // add elapsed months till the start of the molad of the month
-		// return chalakim prior to BeHaRaD + number of chalakim since
-		return CHALAKIM_MOLAD_TOHU + (CHALAKIM_PER_MONTH * monthsElapsed);
+	}
+
+	/**
+	 * Returns the <em>molad</em> of the month as the number of milliseconds from January 1, 1970 00:00 in local (mean) time,
+	 * treating the local time as if it were UTC. This is the same point in time that {@link #getMolad()} represents with
+	 * its date, {@link #getMoladHours() hours}, {@link #getMoladMinutes() minutes} and {@link #getMoladChalakim()
+	 * chalakim}, truncated to the millisecond in the same way as the <code>Calendar</code> based calculation in {@link
+	 * JewishCalendar#getMoladAsDate()}, but without creating any objects. Dates are in the proleptic Gregorian calendar.
+	 * 
+	 * @param monthsSinceMoladTohu
+	 *            the number of months since <em>Molad Tohu</em> as returned by {@link #getMonthsSinceMoladTohu(int, int)}
+	 * @return the local time of the <em>molad</em> in milliseconds since the (local) epoch
+	 */
+	static long getMoladLocalMillis(int monthsSinceMoladTohu) {
+		long chalakim = CHALAKIM_MOLAD_TOHU + (CHALAKIM_PER_MONTH * monthsSinceMoladTohu);
+		long conjunctionDay = chalakim / CHALAKIM_PER_DAY;
+		int parts = (int) (chalakim - conjunctionDay * CHALAKIM_PER_DAY);
+		int hours = parts / CHALAKIM_PER_HOUR;
+		parts = parts - hours * CHALAKIM_PER_HOUR;
+		int minutes = parts / CHALAKIM_PER_MINUTE;
+		double seconds = (parts - minutes * CHALAKIM_PER_MINUTE) * 10 / (double) 3;
+		// The molad day starts at 6 PM of the prior civil day, so hours since civil midnight of the conjunction day are
+		// hours + 18 (see getMolad()). The RD (Rata Die) of January 1, 1970 is 719,163.
+		long days = conjunctionDay + JEWISH_EPOCH - 719163;
+		return days * 86400000L + (hours + 18) * 3600000L + minutes * 60000L + (int) seconds * 1000L
+				+ (int) (1000 * (seconds - (int) seconds));
 	}
 
 	/**
@@ -0,0 +1,203 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.hebrewcalendar;
+
+/**
+ * An immutable snapshot of all of the {@link TefilaRules} answers for a single day, stored as a bit mask. It is returned
+ * by {@link TefilaRules#getTefilaDay(JewishCalendar)}, {@link TefilaRules#getTefilaDays(JewishCalendar, int)} and
+ * {@link CompiledTefilaRules#getTefilaDay(JewishCalendar)}, that evaluate all of the rules for a day in a single pass
+ * with one holiday lookup for the day and one for the following day (used for <em>mincha</em>), instead of the holiday
+ * lookups done by each of the individual <code>TefilaRules</code> methods.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * TefilaRules tr = new TefilaRules();
+ * TefilaDay tefilaDay = tr.getTefilaDay(new JewishCalendar(5783, JewishDate.KISLEV, 25));
+ * System.out.println(tefilaDay.isHallelShalemRecited() + " " + tefilaDay.isAlHanissimRecited());</pre>
+ *
+ * @see TefilaRules#getTefilaDay(JewishCalendar)
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class TefilaDay {
+
+	/** The rule flags such as {@link TefilaRules#TACHANUN_SHACHARIS}. */
+	private final int flags;
+
+	/**
+	 * Constructor used by {@link TefilaRules} and {@link CompiledTefilaRules}.
+	 * @param flags the bit mask of the rules that apply on the day
+	 */
+	TefilaDay(int flags) {
+		this.flags = flags;
+	}
+
+	/**
+	 * @return the bit mask of the rules that apply on the day
+	 */
+	int getFlags() {
+		return flags;
+	}
+
+	/**
+	 * @return if <em>tachanun</em> is recited during <em>shacharis</em>.
+	 * @see TefilaRules#isTachanunRecitedShacharis(JewishCalendar)
+	 */
+	public boolean isTachanunRecitedShacharis() {
+		return (flags & TefilaRules.TACHANUN_SHACHARIS) != 0;
+	}
+
+	/**
+	 * @return if <em>tachanun</em> is recited during <em>mincha</em>.
+	 * @see TefilaRules#isTachanunRecitedMincha(JewishCalendar)
+	 */
+	public boolean isTachanunRecitedMincha() {
+		return (flags & TefilaRules.TACHANUN_MINCHA) != 0;
+	}
+
+	/**
+	 * @return if <em>Hallel</em> is recited.
+	 * @see TefilaRules#isHallelRecited(JewishCalendar)
+	 */
+	public boolean isHallelRecited() {
+		return (flags & TefilaRules.HALLEL) != 0;
+	}
+
+	/**
+	 * @return if <em>hallel shalem</em> is recited.
+	 * @see TefilaRules#isHallelShalemRecited(JewishCalendar)
+	 */
+	public boolean isHallelShalemRecited() {
+		return (flags & TefilaRules.HALLEL_SHALEM) != 0;
+	}
+
+	/**
+	 * @return if <em>al hanissim</em> is recited.
+	 * @see TefilaRules#isAlHanissimRecited(JewishCalendar)
+	 */
+	public boolean isAlHanissimRecited() {
+		return (flags & TefilaRules.AL_HANISSIM) != 0;
+	}
+
+	/**
+	 * @return if <em>Yaaleh Veyavo</em> is recited.
+	 * @see TefilaRules#isYaalehVeyavoRecited(JewishCalendar)
+	 */
+	public boolean isYaalehVeyavoRecited() {
+		return (flags & TefilaRules.YAALEH_VEYAVO) != 0;
+	}
+
+	/**
+	 * @return if <em>Mizmor Lesoda</em> is recited.
+	 * @see TefilaRules#isMizmorLesodaRecited(JewishCalendar)
+	 */
+	public boolean isMizmorLesodaRecited() {
+		return (flags & TefilaRules.MIZMOR_LESODA) != 0;
+	}
+
+	/**
+	 * @return true if it is the first Jewish day of reciting <em>Vesein Tal Umatar Livracha</em>.
+	 * @see TefilaRules#isVeseinTalUmatarStartDate(JewishCalendar)
+	 */
+	public boolean isVeseinTalUmatarStartDate() {
+		return (flags & TefilaRules.VESEIN_TAL_UMATAR_START_DATE) != 0;
+	}
+
+	/**
+	 * @return true if <em>Vesein Tal Umatar Livracha</em> starts tonight.
+	 * @see TefilaRules#isVeseinTalUmatarStartingTonight(JewishCalendar)
+	 */
+	public boolean isVeseinTalUmatarStartingTonight() {
+		return (flags & TefilaRules.VESEIN_TAL_UMATAR_STARTING_TONIGHT) != 0;
+	}
+
+	/**
+	 * @return true if <em>Vesein Tal Umatar</em> is recited.
+	 * @see TefilaRules#isVeseinTalUmatarRecited(JewishCalendar)
+	 */
+	public boolean isVeseinTalUmatarRecited() {
+		return (flags & TefilaRules.VESEIN_TAL_UMATAR) != 0;
+	}
+
+	/**
+	 * @return true if <em>Vesein Beracha</em> is recited.
+	 * @see TefilaRules#isVeseinBerachaRecited(JewishCalendar)
+	 */
+	public boolean isVeseinBerachaRecited() {
+		return (flags & TefilaRules.VESEIN_BERACHA) != 0;
+	}
+
+	/**
+	 * @return true if this is the start date of reciting <em>Mashiv Haruach</em>.
+	 * @see TefilaRules#isMashivHaruachStartDate(JewishCalendar)
+	 */
+	public boolean isMashivHaruachStartDate() {
+		return (flags & TefilaRules.MASHIV_HARUACH_START_DATE) != 0;
+	}
+
+	/**
+	 * @return true if this is the end date of reciting <em>Mashiv Haruach</em>.
+	 * @see TefilaRules#isMashivHaruachEndDate(JewishCalendar)
+	 */
+	public boolean isMashivHaruachEndDate() {
+		return (flags & TefilaRules.MASHIV_HARUACH_END_DATE) != 0;
+	}
+
+	/**
+	 * @return true if <em>Mashiv Haruach Umorid Hageshem</em> is recited.
+	 * @see TefilaRules#isMashivHaruachRecited(JewishCalendar)
+	 */
+	public boolean isMashivHaruachRecited() {
+		return (flags & TefilaRules.MASHIV_HARUACH) != 0;
+	}
+
+	/**
+	 * @return true if <em>Morid Hatal</em> is recited.
+	 * @see TefilaRules#isMoridHatalRecited(JewishCalendar)
+	 */
+	public boolean isMoridHatalRecited() {
+		return (flags & TefilaRules.MORID_HATAL) != 0;
+	}
+
+	/**
+	 * @see java.lang.Object#equals(Object)
+	 */
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (!(object instanceof TefilaDay)) {
+			return false;
+		}
+		return flags == ((TefilaDay) object).flags;
+	}
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	public int hashCode() {
+		return flags;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		return "TefilaDay [tachanunShacharis=" + isTachanunRecitedShacharis() + ", tachanunMincha=" + isTachanunRecitedMincha()
+				+ ", hallel=" + isHallelRecited() + ", hallelShalem=" + isHallelShalemRecited() + ", alHanissim="
+				+ isAlHanissimRecited() + ", yaalehVeyavo=" + isYaalehVeyavoRecited() + ", mizmorLesoda="
+				+ isMizmorLesodaRecited() + ", veseinTalUmatar=" + isVeseinTalUmatarRecited() + ", mashivHaruach="
+				+ isMashivHaruachRecited() + "]";
+	}
+}
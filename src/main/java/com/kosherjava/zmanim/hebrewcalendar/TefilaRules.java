@@ -145,6 +145,37 @@ public class TefilaRules {
 	 * @see #setMizmorLesodaRecitedErevYomKippurAndPesach(boolean)
 	 */
 	private boolean mizmorLesodaRecitedErevYomKippurAndPesach = false;
+
+	/** Flag for {@link #isTachanunRecitedShacharis(JewishCalendar)}. */
+	static final int TACHANUN_SHACHARIS = 1;
+	/** Flag for {@link #isTachanunRecitedMincha(JewishCalendar)}. */
+	static final int TACHANUN_MINCHA = 1 << 1;
+	/** Flag for {@link #isHallelRecited(JewishCalendar)}. */
+	static final int HALLEL = 1 << 2;
+	/** Flag for {@link #isHallelShalemRecited(JewishCalendar)}. */
+	static final int HALLEL_SHALEM = 1 << 3;
+	/** Flag for {@link #isAlHanissimRecited(JewishCalendar)}. */
+	static final int AL_HANISSIM = 1 << 4;
+	/** Flag for {@link #isYaalehVeyavoRecited(JewishCalendar)}. */
+	static final int YAALEH_VEYAVO = 1 << 5;
+	/** Flag for {@link #isMizmorLesodaRecited(JewishCalendar)}. */
+	static final int MIZMOR_LESODA = 1 << 6;
+	/** Flag for {@link #isVeseinTalUmatarStartDate(JewishCalendar)}. */
+	static final int VESEIN_TAL_UMATAR_START_DATE = 1 << 7;
+	/** Flag for {@link #isVeseinTalUmatarStartingTonight(JewishCalendar)}. */
+	static final int VESEIN_TAL_UMATAR_STARTING_TONIGHT = 1 << 8;
+	/** Flag for {@link #isVeseinTalUmatarRecited(JewishCalendar)}. */
+	static final int VESEIN_TAL_UMATAR = 1 << 9;
+	/** Flag for {@link #isVeseinBerachaRecited(JewishCalendar)}. */
+	static final int VESEIN_BERACHA = 1 << 10;
+	/** Flag for {@link #isMashivHaruachStartDate(JewishCalendar)}. */
+	static final int MASHIV_HARUACH_START_DATE = 1 << 11;
+	/** Flag for {@link #isMashivHaruachEndDate(JewishCalendar)}. */
+	static final int MASHIV_HARUACH_END_DATE = 1 << 12;
+	/** Flag for {@link #isMashivHaruachRecited(JewishCalendar)}. */
+	static final int MASHIV_HARUACH = 1 << 13;
+	/** Flag for {@link #isMoridHatalRecited(JewishCalendar)}. */
+	static final int MORID_HATAL = 1 << 14;
 	
 	/**
 	 * Default constructor of the TefilaRules. It currently does not have any parameters.
@@ -152,7 +183,221 @@ public class TefilaRules {
 	public TefilaRules() {
 		// nothing here
 	}
-	
+
+	/**
+	 * Returns a {@link CompiledTefilaRules} that answers the same questions as this instance using tables that are
+	 * precomputed once per Jewish year, so that each query is a bit test. The current settings of this instance are copied,
+	 * and later changes to this instance do not affect the returned object.
+	 * 
+	 * @return the compiled rules for the current settings
+	 * @see CompiledTefilaRules
+	 */
+	public CompiledTefilaRules compile() {
+		return new CompiledTefilaRules(copy());
+	}
+
+	/**
+	 * Returns a copy of this instance with the same settings.
+	 * 
+	 * @return the copy
+	 */
+	TefilaRules copy() {
+		TefilaRules copy = new TefilaRules();
+		copy.tachanunRecitedEndOfTishrei = tachanunRecitedEndOfTishrei;
+		copy.tachanunRecitedWeekAfterShavuos = tachanunRecitedWeekAfterShavuos;
+		copy.tachanunRecited13SivanOutOfIsrael = tachanunRecited13SivanOutOfIsrael;
+		copy.tachanunRecitedPesachSheni = tachanunRecitedPesachSheni;
+		copy.tachanunRecited15IyarOutOfIsrael = tachanunRecited15IyarOutOfIsrael;
+		copy.tachanunRecitedMinchaErevLagBaomer = tachanunRecitedMinchaErevLagBaomer;
+		copy.tachanunRecitedShivasYemeiHamiluim = tachanunRecitedShivasYemeiHamiluim;
+		copy.tachanunRecitedWeekOfHod = tachanunRecitedWeekOfHod;
+		copy.tachanunRecitedWeekOfPurim = tachanunRecitedWeekOfPurim;
+		copy.tachanunRecitedFridays = tachanunRecitedFridays;
+		copy.tachanunRecitedSundays = tachanunRecitedSundays;
+		copy.tachanunRecitedMinchaAllYear = tachanunRecitedMinchaAllYear;
+		copy.mizmorLesodaRecitedErevYomKippurAndPesach = mizmorLesodaRecitedErevYomKippurAndPesach;
+		return copy;
+	}
+
+	/**
+	 * Returns all of the rules for the day in a single immutable {@link TefilaDay}. The rules are evaluated in one pass
+	 * with a single {@link JewishCalendar#getYomTovIndex() holiday lookup} for the day and one for the following day
+	 * (needed for <em>mincha</em>), where calling each of the individual methods of this class would look up the holiday
+	 * many times. The values are identical to the ones returned by the individual methods.
+	 *
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @return the rules for the day
+	 * @see #getTefilaDays(JewishCalendar, int)
+	 */
+	public TefilaDay getTefilaDay(JewishCalendar jewishCalendar) {
+		return new TefilaDay(getFlags(jewishCalendar, 1)[0]);
+	}
+
+	/**
+	 * Returns the {@link #getTefilaDay(JewishCalendar) rules} for a range of consecutive days starting with the day passed
+	 * in. Since the following day evaluated for <em>mincha</em> is the next day in the range, each day in the range only
+	 * needs a single holiday lookup. The calendar passed in is not modified.
+	 *
+	 * @param startDay the first Jewish calendar day of the range.
+	 * @param numberOfDays the number of days in the range.
+	 * @return the rules for each day, where index <code>i</code> is for <code>startDay</code> plus <code>i</code> days
+	 * @throws IllegalArgumentException if the number of days is negative
+	 * @see #getTefilaDay(JewishCalendar)
+	 */
+	public TefilaDay[] getTefilaDays(JewishCalendar startDay, int numberOfDays) {
+		int[] flags = getFlags(startDay, numberOfDays);
+		TefilaDay[] tefilaDays = new TefilaDay[numberOfDays];
+		for (int i = 0; i < numberOfDays; i++) {
+			tefilaDays[i] = new TefilaDay(flags[i]);
+		}
+		return tefilaDays;
+	}
+
+	/**
+	 * Evaluates all of the rules for a range of consecutive days in a single pass and returns them as bit masks of the
+	 * flags such as {@link #TACHANUN_SHACHARIS}. The values are identical to the ones returned by the individual methods
+	 * such as {@link #isTachanunRecitedShacharis(JewishCalendar)}.
+	 *
+	 * @param startDay the first Jewish calendar day of the range. It is not modified.
+	 * @param numberOfDays the number of days in the range.
+	 * @return the flags of the rules for each day
+	 * @throws IllegalArgumentException if the number of days is negative
+	 */
+	int[] getFlags(JewishCalendar startDay, int numberOfDays) {
+		if (numberOfDays < 0) {
+			throw new IllegalArgumentException("The number of days can't be negative");
+		}
+		int[] flags = new int[numberOfDays];
+		if (numberOfDays == 0) {
+			return flags;
+		}
+		JewishCalendar day = (JewishCalendar) startDay.clone();
+		int holidayIndex = day.getYomTovIndex();
+		boolean tachanunShacharis = isTachanunRecitedShacharis(day, holidayIndex);
+		for (int i = 0; i < numberOfDays; i++) {
+			int dayFlags = getFlagsExceptMincha(day, holidayIndex, tachanunShacharis);
+			boolean friday = day.getDayOfWeek() == Calendar.FRIDAY;
+			day.forward(Calendar.DATE, 1);
+			int tomorrowHolidayIndex = day.getYomTovIndex();
+			boolean tomorrowTachanunShacharis = isTachanunRecitedShacharis(day, tomorrowHolidayIndex);
+			if (isTachanunRecitedMincha(friday, tachanunShacharis, tomorrowHolidayIndex, tomorrowTachanunShacharis)) {
+				dayFlags |= TACHANUN_MINCHA;
+			}
+			flags[i] = dayFlags;
+			holidayIndex = tomorrowHolidayIndex;
+			tachanunShacharis = tomorrowTachanunShacharis;
+		}
+		return flags;
+	}
+
+	/**
+	 * Evaluates all of the rules other than {@link #TACHANUN_MINCHA} for the day using the holiday index already looked up.
+	 *
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @param holidayIndex the {@link JewishCalendar#getYomTovIndex() holiday index} of the day.
+	 * @param tachanunShacharis if <em>tachanun</em> is recited during <em>shacharis</em> on the day.
+	 * @return the flags of the rules that apply on the day except for <em>tachanun</em> during <em>mincha</em>
+	 */
+	private int getFlagsExceptMincha(JewishCalendar jewishCalendar, int holidayIndex, boolean tachanunShacharis) {
+		int flags = tachanunShacharis ? TACHANUN_SHACHARIS : 0;
+		flags |= isHallelRecited(jewishCalendar, holidayIndex) ? HALLEL : 0;
+		flags |= isHallelShalemRecited(jewishCalendar, holidayIndex) ? HALLEL_SHALEM : 0;
+		flags |= isAlHanissimRecited(jewishCalendar, holidayIndex) ? AL_HANISSIM : 0;
+		flags |= isYaalehVeyavoRecited(jewishCalendar, holidayIndex) ? YAALEH_VEYAVO : 0;
+		flags |= isMizmorLesodaRecited(jewishCalendar, holidayIndex) ? MIZMOR_LESODA : 0;
+		// the remaining rules do not depend on the holiday
+		flags |= isVeseinTalUmatarStartDate(jewishCalendar) ? VESEIN_TAL_UMATAR_START_DATE : 0;
+		flags |= isVeseinTalUmatarStartingTonight(jewishCalendar) ? VESEIN_TAL_UMATAR_STARTING_TONIGHT : 0;
+		flags |= isVeseinTalUmatarRecited(jewishCalendar) ? VESEIN_TAL_UMATAR : VESEIN_BERACHA;
+		flags |= isMashivHaruachStartDate(jewishCalendar) ? MASHIV_HARUACH_START_DATE : 0;
+		flags |= isMashivHaruachEndDate(jewishCalendar) ? MASHIV_HARUACH_END_DATE : 0;
+		flags |= isMashivHaruachRecited(jewishCalendar) ? MASHIV_HARUACH : 0;
+		flags |= isMoridHatalRecited(jewishCalendar) ? MORID_HATAL : 0;
+		return flags;
+	}
+
+	/**
+	 * Returns if <em>tachanun</em> is recited during <em>shacharis</em> using the holiday index already looked up.
+	 * @see #isTachanunRecitedShacharis(JewishCalendar)
+	 *
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @param holidayIndex the {@link JewishCalendar#getYomTovIndex() holiday index} of the day.
+	 * @return if <em>tachanun</em> is recited during <em>shacharis</em>.
+	 */
+	private boolean isTachanunRecitedShacharis(JewishCalendar jewishCalendar, int holidayIndex) {
+		int day = jewishCalendar.getJewishDayOfMonth();
+		int month = jewishCalendar.getJewishMonth();
+		int dayOfWeek = jewishCalendar.getDayOfWeek();
+		boolean inIsrael = jewishCalendar.getInIsrael();
+		boolean leapYear = jewishCalendar.isJewishLeapYear();
+		boolean erevYomTov = isErevYomTov(holidayIndex, day);
+		boolean taanis = isTaanis(holidayIndex);
+		boolean yomTov = holidayIndex != -1 && holidayIndex != JewishCalendar.ISRU_CHAG
+				&& ! (erevYomTov && ! (holidayIndex == JewishCalendar.HOSHANA_RABBA
+						|| holidayIndex == JewishCalendar.CHOL_HAMOED_PESACH))
+				&& ! (taanis && holidayIndex != JewishCalendar.YOM_KIPPUR);
+
+		return ! (dayOfWeek == Calendar.SATURDAY
+				|| (! tachanunRecitedSundays && dayOfWeek == Calendar.SUNDAY)
+				|| (! tachanunRecitedFridays && dayOfWeek == Calendar.FRIDAY)
+				|| month == JewishDate.NISSAN
+				|| (month == JewishDate.TISHREI && ((! tachanunRecitedEndOfTishrei && day > 8)
+				|| (tachanunRecitedEndOfTishrei && (day > 8 && day < 22))))
+				|| (month == JewishDate.SIVAN && (tachanunRecitedWeekAfterShavuos && day < 7
+						|| ! tachanunRecitedWeekAfterShavuos && day < (! inIsrael
+								&& ! tachanunRecited13SivanOutOfIsrael ? 14: 13)))
+				|| erevYomTov || (yomTov && (! taanis
+						|| (! tachanunRecitedPesachSheni && holidayIndex == JewishCalendar.PESACH_SHENI)))
+				|| (! inIsrael && ! tachanunRecitedPesachSheni && ! tachanunRecited15IyarOutOfIsrael
+						&& month == JewishDate.IYAR && day == 15)
+				|| holidayIndex == JewishCalendar.TISHA_BEAV || holidayIndex == JewishCalendar.ISRU_CHAG
+				|| isRoshChodesh(day, month)
+				|| (! tachanunRecitedShivasYemeiHamiluim &&
+						((! leapYear && month == JewishDate.ADAR)
+								|| (leapYear && month == JewishDate.ADAR_II)) && day > 22)
+				|| (! tachanunRecitedWeekOfPurim &&
+						((! leapYear && month == JewishDate.ADAR)
+								|| (leapYear && month == JewishDate.ADAR_II)) && day > 10 && day < 18)
+				|| (jewishCalendar.isUseModernHolidays()
+						&& (holidayIndex == JewishCalendar.YOM_HAATZMAUT || holidayIndex == JewishCalendar.YOM_YERUSHALAYIM))
+				|| (! tachanunRecitedWeekOfHod && month == JewishDate.IYAR && day > 13 && day < 21));
+	}
+
+	/**
+	 * @param holidayIndex the holiday index of the day.
+	 * @param day the Jewish day of the month.
+	 * @return if the day is <em>erev Yom Tov</em>.
+	 * @see JewishCalendar#isErevYomTov()
+	 */
+	private static boolean isErevYomTov(int holidayIndex, int day) {
+		return holidayIndex == JewishCalendar.EREV_PESACH || holidayIndex == JewishCalendar.EREV_SHAVUOS
+				|| holidayIndex == JewishCalendar.EREV_ROSH_HASHANA || holidayIndex == JewishCalendar.EREV_YOM_KIPPUR
+				|| holidayIndex == JewishCalendar.EREV_SUCCOS || holidayIndex == JewishCalendar.HOSHANA_RABBA
+				|| (holidayIndex == JewishCalendar.CHOL_HAMOED_PESACH && day == 20);
+	}
+
+	/**
+	 * @param holidayIndex the holiday index of the day.
+	 * @return if the day is a public fast day.
+	 * @see JewishCalendar#isTaanis()
+	 */
+	private static boolean isTaanis(int holidayIndex) {
+		return holidayIndex == JewishCalendar.SEVENTEEN_OF_TAMMUZ || holidayIndex == JewishCalendar.TISHA_BEAV
+				|| holidayIndex == JewishCalendar.YOM_KIPPUR || holidayIndex == JewishCalendar.FAST_OF_GEDALYAH
+				|| holidayIndex == JewishCalendar.TENTH_OF_TEVES || holidayIndex == JewishCalendar.FAST_OF_ESTHER;
+	}
+
+	/**
+	 * @param day the Jewish day of the month.
+	 * @param month the Jewish month.
+	 * @return if the day is <em>Rosh Chodesh</em>.
+	 * @see JewishCalendar#isRoshChodesh()
+	 */
+	private static boolean isRoshChodesh(int day, int month) {
+		// Rosh Hashana is not rosh chodesh. Elul never has 30 days
+		return (day == 1 && month != JewishDate.TISHREI) || day == 30;
+	}
+
 	/**
 	 * Returns if <em>tachanun</em> is recited during <em>shacharis</em> on the day in question. There are the many
 	 * <em>minhagim</em> based settings that are available in this class that control what days are set for
@@ -173,37 +418,7 @@ public class TefilaRules {
 	 * @see #isTachanunRecitedWeekOfHod()
 	 */
 	public boolean isTachanunRecitedShacharis(JewishCalendar jewishCalendar) {
-		int holidayIndex = jewishCalendar.getYomTovIndex();
-		int day = jewishCalendar.getJewishDayOfMonth();
-		int month = jewishCalendar.getJewishMonth();
-
-		if (jewishCalendar.getDayOfWeek() == Calendar.SATURDAY
-				|| (! tachanunRecitedSundays && jewishCalendar.getDayOfWeek() == Calendar.SUNDAY)
-				|| (! tachanunRecitedFridays && jewishCalendar.getDayOfWeek() == Calendar.FRIDAY)
-				|| month == JewishDate.NISSAN
-				|| (month == JewishDate.TISHREI && ((! tachanunRecitedEndOfTishrei && day > 8)
-				|| (tachanunRecitedEndOfTishrei && (day > 8 && day < 22))))
-				|| (month == JewishDate.SIVAN && (tachanunRecitedWeekAfterShavuos && day < 7
-						|| ! tachanunRecitedWeekAfterShavuos && day < (! jewishCalendar.getInIsrael()
-								&& ! tachanunRecited13SivanOutOfIsrael ? 14: 13)))
-				|| jewishCalendar.isErevYomTov() || (jewishCalendar.isYomTov() && (! jewishCalendar.isTaanis() //FIXME logic needs review for 15 shevat
-						|| (! tachanunRecitedPesachSheni && holidayIndex == JewishCalendar.PESACH_SHENI)))
-				|| (! jewishCalendar.getInIsrael() && ! tachanunRecitedPesachSheni && ! tachanunRecited15IyarOutOfIsrael
-						&& jewishCalendar.getJewishMonth() == JewishDate.IYAR && day == 15)
-				|| holidayIndex == JewishCalendar.TISHA_BEAV || jewishCalendar.isIsruChag()
-				|| jewishCalendar.isRoshChodesh()
-				|| (! tachanunRecitedShivasYemeiHamiluim &&
-						((! jewishCalendar.isJewishLeapYear() && month == JewishDate.ADAR)
-								|| (jewishCalendar.isJewishLeapYear() && month == JewishDate.ADAR_II)) && day > 22)
-				|| (! tachanunRecitedWeekOfPurim &&
-						((! jewishCalendar.isJewishLeapYear() && month == JewishDate.ADAR)
-								|| (jewishCalendar.isJewishLeapYear() && month == JewishDate.ADAR_II)) && day > 10 && day < 18)
-				|| (jewishCalendar.isUseModernHolidays()
-						&& (holidayIndex == JewishCalendar.YOM_HAATZMAUT || holidayIndex == JewishCalendar.YOM_YERUSHALAYIM))
-				|| (! tachanunRecitedWeekOfHod && month == JewishDate.IYAR && day > 13 && day < 21)) {
-			return false;
-		}
-		return true;
+		return isTachanunRecitedShacharis(jewishCalendar, jewishCalendar.getYomTovIndex());
 	}
 
 	/**
@@ -216,15 +431,33 @@ public class TefilaRules {
 	public boolean isTachanunRecitedMincha(JewishCalendar jewishCalendar) {
 		JewishCalendar tomorrow = (JewishCalendar) jewishCalendar.clone();
 		tomorrow.forward(Calendar.DATE, 1);
-		
+		int tomorrowHolidayIndex = tomorrow.getYomTovIndex();
+		return isTachanunRecitedMincha(jewishCalendar.getDayOfWeek() == Calendar.FRIDAY,
+				isTachanunRecitedShacharis(jewishCalendar), tomorrowHolidayIndex,
+				isTachanunRecitedShacharis(tomorrow, tomorrowHolidayIndex));
+	}
+
+	/**
+	 * Returns if <em>tachanun</em> is recited during <em>mincha</em> using the rules already evaluated for the day and the
+	 * following day.
+	 *
+	 * @param friday if the day is a Friday.
+	 * @param tachanunShacharis if <em>tachanun</em> is recited during <em>shacharis</em> on the day.
+	 * @param tomorrowHolidayIndex the {@link JewishCalendar#getYomTovIndex() holiday index} of the following day.
+	 * @param tomorrowTachanunShacharis if <em>tachanun</em> is recited during <em>shacharis</em> on the following day.
+	 * @return if <em>tachanun</em> is recited during <em>mincha</em>.
+	 * @see #isTachanunRecitedMincha(JewishCalendar)
+	 */
+	private boolean isTachanunRecitedMincha(boolean friday, boolean tachanunShacharis, int tomorrowHolidayIndex,
+			boolean tomorrowTachanunShacharis) {
 		if (! tachanunRecitedMinchaAllYear
-					|| jewishCalendar.getDayOfWeek() == Calendar.FRIDAY
-					|| ! isTachanunRecitedShacharis(jewishCalendar) 
-					|| (! isTachanunRecitedShacharis(tomorrow) && 
-							!(tomorrow.getYomTovIndex() == JewishCalendar.EREV_ROSH_HASHANA) &&
-							!(tomorrow.getYomTovIndex() == JewishCalendar.EREV_YOM_KIPPUR) &&
-							!(tomorrow.getYomTovIndex() == JewishCalendar.PESACH_SHENI))
-					|| ! tachanunRecitedMinchaErevLagBaomer && tomorrow.getYomTovIndex() == JewishCalendar.LAG_BAOMER) {
+					|| friday
+					|| ! tachanunShacharis
+					|| (! tomorrowTachanunShacharis &&
+							!(tomorrowHolidayIndex == JewishCalendar.EREV_ROSH_HASHANA) &&
+							!(tomorrowHolidayIndex == JewishCalendar.EREV_YOM_KIPPUR) &&
+							!(tomorrowHolidayIndex == JewishCalendar.PESACH_SHENI))
+					|| ! tachanunRecitedMinchaErevLagBaomer && tomorrowHolidayIndex == JewishCalendar.LAG_BAOMER) {
 			return false;
 		}
 		return true;
@@ -369,9 +602,11 @@ public class TefilaRules {
 	 * @see #isMashivHaruachEndDate(JewishCalendar)
 	 */
 	public boolean isMashivHaruachRecited(JewishCalendar jewishCalendar) {
-		JewishDate startDate = new JewishDate(jewishCalendar.getJewishYear(), JewishDate.TISHREI, 22);
-		JewishDate endDate = new JewishDate(jewishCalendar.getJewishYear(), JewishDate.NISSAN, 15);
-		return jewishCalendar.compareTo(startDate) > 0 && jewishCalendar.compareTo(endDate) < 0;
+		int day = jewishCalendar.getJewishDayOfMonth();
+		int month = jewishCalendar.getJewishMonth();
+		// after 22 Tishrei and before 15 Nissan of the same Jewish year
+		return (month == JewishDate.TISHREI && day > 22) || month >= JewishDate.CHESHVAN
+				|| (month == JewishDate.NISSAN && day < 15);
 	}
 
 	/**
@@ -397,15 +632,26 @@ public class TefilaRules {
 	 * @see #isHallelShalemRecited(JewishCalendar)
 	 */
 	public boolean isHallelRecited(JewishCalendar jewishCalendar) {
+		return isHallelRecited(jewishCalendar, jewishCalendar.getYomTovIndex());
+	}
+
+	/**
+	 * Returns if <em>Hallel</em> is recited using the holiday index already looked up.
+	 *
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @param holidayIndex the {@link JewishCalendar#getYomTovIndex() holiday index} of the day.
+	 * @return if <em>Hallel</em> is recited.
+	 * @see #isHallelRecited(JewishCalendar)
+	 */
+	private static boolean isHallelRecited(JewishCalendar jewishCalendar, int holidayIndex) {
 		int day = jewishCalendar.getJewishDayOfMonth();
 		int month = jewishCalendar.getJewishMonth();
-		int holidayIndex = jewishCalendar.getYomTovIndex();
 		boolean inIsrael = jewishCalendar.getInIsrael();
 		
-		if (jewishCalendar.isRoshChodesh()) { //RH returns false for RC
+		if (isRoshChodesh(day, month)) { //RH returns false for RC
 			return true;
 		}
-		if (jewishCalendar.isChanukah()) {
+		if (holidayIndex == JewishCalendar.CHANUKAH) {
 			return true;
 		}
 		switch (month) {
@@ -442,11 +688,23 @@ public class TefilaRules {
 	 * @see #isHallelRecited(JewishCalendar)
 	 */
 	public boolean isHallelShalemRecited(JewishCalendar jewishCalendar) {
+		return isHallelShalemRecited(jewishCalendar, jewishCalendar.getYomTovIndex());
+	}
+
+	/**
+	 * Returns if <em>hallel shalem</em> is recited using the holiday index already looked up.
+	 *
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @param holidayIndex the {@link JewishCalendar#getYomTovIndex() holiday index} of the day.
+	 * @return if <em>hallel shalem</em> is recited.
+	 * @see #isHallelShalemRecited(JewishCalendar)
+	 */
+	private static boolean isHallelShalemRecited(JewishCalendar jewishCalendar, int holidayIndex) {
 		int day = jewishCalendar.getJewishDayOfMonth();
 		int month = jewishCalendar.getJewishMonth();
 		boolean inIsrael = jewishCalendar.getInIsrael();
-		if (isHallelRecited(jewishCalendar)) {
-			if ((jewishCalendar.isRoshChodesh() && ! jewishCalendar.isChanukah())
+		if (isHallelRecited(jewishCalendar, holidayIndex)) {
+			if ((isRoshChodesh(day, month) && holidayIndex != JewishCalendar.CHANUKAH)
 					|| (month == JewishDate.NISSAN && ((inIsrael && day > 15) || (! inIsrael && day > 16)))) {
 				return false;
 			} else {
@@ -466,7 +724,20 @@ public class TefilaRules {
 	 * @see JewishCalendar#getIsMukafChoma()
 	 */
 	public boolean isAlHanissimRecited(JewishCalendar jewishCalendar) {
-		return jewishCalendar.isPurim() || jewishCalendar.isChanukah();
+		return isAlHanissimRecited(jewishCalendar, jewishCalendar.getYomTovIndex());
+	}
+
+	/**
+	 * Returns if <em>Al HaNissim</em> is recited using the holiday index already looked up.
+	 *
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @param holidayIndex the {@link JewishCalendar#getYomTovIndex() holiday index} of the day.
+	 * @return if <em>al hanissim</em> is recited.
+	 * @see #isAlHanissimRecited(JewishCalendar)
+	 */
+	private static boolean isAlHanissimRecited(JewishCalendar jewishCalendar, int holidayIndex) {
+		return holidayIndex == (jewishCalendar.getIsMukafChoma() ? JewishCalendar.SHUSHAN_PURIM : JewishCalendar.PURIM)
+				|| holidayIndex == JewishCalendar.CHANUKAH;
 	}
 	
 	/**
@@ -484,9 +755,24 @@ public class TefilaRules {
 	 * @see JewishCalendar#isRoshChodesh()
 	 */
 	public boolean isYaalehVeyavoRecited(JewishCalendar jewishCalendar) {
-		return jewishCalendar.isPesach() || jewishCalendar.isShavuos() ||jewishCalendar.isRoshHashana() || jewishCalendar.isYomKippur()
-				|| jewishCalendar.isSuccos() || jewishCalendar.isShminiAtzeres() || jewishCalendar.isSimchasTorah()
-				|| jewishCalendar.isRoshChodesh();
+		return isYaalehVeyavoRecited(jewishCalendar, jewishCalendar.getYomTovIndex());
+	}
+
+	/**
+	 * Returns if <em>Yaaleh Veyavo</em> is recited using the holiday index already looked up.
+	 *
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @param holidayIndex the {@link JewishCalendar#getYomTovIndex() holiday index} of the day.
+	 * @return if <em>Yaaleh Veyavo</em> is recited.
+	 * @see #isYaalehVeyavoRecited(JewishCalendar)
+	 */
+	private static boolean isYaalehVeyavoRecited(JewishCalendar jewishCalendar, int holidayIndex) {
+		return holidayIndex == JewishCalendar.PESACH || holidayIndex == JewishCalendar.CHOL_HAMOED_PESACH
+				|| holidayIndex == JewishCalendar.SHAVUOS || holidayIndex == JewishCalendar.ROSH_HASHANA
+				|| holidayIndex == JewishCalendar.YOM_KIPPUR || holidayIndex == JewishCalendar.SUCCOS
+				|| holidayIndex == JewishCalendar.CHOL_HAMOED_SUCCOS || holidayIndex == JewishCalendar.HOSHANA_RABBA
+				|| holidayIndex == JewishCalendar.SHEMINI_ATZERES || holidayIndex == JewishCalendar.SIMCHAS_TORAH
+				|| isRoshChodesh(jewishCalendar.getJewishDayOfMonth(), jewishCalendar.getJewishMonth());
 	}
 	
 	/**
@@ -498,15 +784,29 @@ public class TefilaRules {
 	 * 
 	 */
 	public boolean isMizmorLesodaRecited(JewishCalendar jewishCalendar) {
-		if (jewishCalendar.isAssurBemelacha()) {
-			return false;
+		return isMizmorLesodaRecited(jewishCalendar, jewishCalendar.getYomTovIndex());
+	}
+
+	/**
+	 * Returns if <em>Mizmor Lesoda</em> is recited using the holiday index already looked up.
+	 *
+	 * @param jewishCalendar the Jewish calendar day.
+	 * @param holidayIndex the {@link JewishCalendar#getYomTovIndex() holiday index} of the day.
+	 * @return if <em>Mizmor Lesoda</em> is recited.
+	 * @see #isMizmorLesodaRecited(JewishCalendar)
+	 */
+	private boolean isMizmorLesodaRecited(JewishCalendar jewishCalendar, int holidayIndex) {
+		if (jewishCalendar.getDayOfWeek() == Calendar.SATURDAY || holidayIndex == JewishCalendar.PESACH
+				|| holidayIndex == JewishCalendar.SHAVUOS || holidayIndex == JewishCalendar.SUCCOS
+				|| holidayIndex == JewishCalendar.SHEMINI_ATZERES || holidayIndex == JewishCalendar.SIMCHAS_TORAH
+				|| holidayIndex == JewishCalendar.ROSH_HASHANA || holidayIndex == JewishCalendar.YOM_KIPPUR) {
+			return false; // assur bemelacha
 		}
 		
-		int holidayIndex = jewishCalendar.getYomTovIndex();
 		if (! isMizmorLesodaRecitedErevYomKippurAndPesach()
 				&& (holidayIndex == JewishCalendar.EREV_YOM_KIPPUR
 						|| holidayIndex == JewishCalendar.EREV_PESACH
-						|| jewishCalendar.isCholHamoedPesach())) {
+						|| holidayIndex == JewishCalendar.CHOL_HAMOED_PESACH)) {
 			return false;
 		}
 		return true;
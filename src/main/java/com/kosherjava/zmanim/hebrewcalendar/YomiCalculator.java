@@ -43,6 +43,19 @@ public class YomiCalculator {
 	 * @see #getDafYomiBavli(JewishCalendar) for details.
 	 */
 	private static final int shekalimJulianChangeDay = getJulianDay(shekalimChangeDay);
+
+	/**
+	 * The number of daf per masechta. Since the number of blatt in Shekalim changed on the 8th Daf Yomi cycle
+	 * beginning on June 24, 1975, from 13 to 22, the count of Shekalim is adjusted based on the cycle.
+	 */
+	private static final int[] BLATT_PER_MASECHTA = { 64, 157, 105, 121, 22, 88, 56, 40, 35, 31, 32, 29, 27, 122, 112,
+			91, 66, 49, 90, 82, 119, 119, 176, 113, 24, 49, 76, 14, 120, 110, 142, 61, 34, 34, 28, 22, 4, 9, 5, 73 };
+
+	/** The index of Shekalim in {@link #BLATT_PER_MASECHTA}. */
+	private static final int SHEKALIM = 4;
+
+	/** The number of blatt of Shekalim in the cycles before the eighth cycle. */
+	private static final int OLD_SHEKALIM_BLATT = 13;
 	
 	/**
 	 * Default constructor.
@@ -76,13 +89,7 @@ public class YomiCalculator {
 	 *             if the date is prior to the September 11, 1923, the start date of the first Daf Yomi cycle.
 	 */
 	public static Daf getDafYomiBavli(JewishCalendar jewishCalendar) {
-		/*
-		 * The number of daf per masechta. Since the number of blatt in Shekalim changed on the 8th Daf Yomi cycle
-		 * beginning on June 24, 1975, from 13 to 22, the actual calculation for blattPerMasechta[4] will later be
-		 * adjusted based on the cycle.
-		 */
-		int[] blattPerMasechta = { 64, 157, 105, 121, 22, 88, 56, 40, 35, 31, 32, 29, 27, 122, 112, 91, 66, 49, 90, 82,
-				119, 119, 176, 113, 24, 49, 76, 14, 120, 110, 142, 61, 34, 34, 28, 22, 4, 9, 5, 73 };
+		int[] blattPerMasechta = BLATT_PER_MASECHTA.clone(); // Shekalim is adjusted below based on the cycle
 		Calendar calendar = jewishCalendar.getGregorianCalendar();
 
 		Daf dafYomi = null;
@@ -108,7 +115,7 @@ public class YomiCalculator {
 
 		// Fix Shekalim for old cycles.
 		if (cycleNo <= 7) {
-			blattPerMasechta[4] = 13;
+			blattPerMasechta[SHEKALIM] = OLD_SHEKALIM_BLATT;
 		}
 		
 		// Finally find the daf.
@@ -118,13 +125,7 @@ public class YomiCalculator {
 			if (dafNo < total) {
 				blatt = 1 + i - (total - dafNo);
 				// Fiddle with the weird ones near the end.
-				if (masechta == 36) {
-				    blatt += 21;
-				} else if (masechta == 37) {
-				    blatt += 24;
-				} else if (masechta == 38) {
-				    blatt += 32;
-				}
+				blatt += getFirstBlattOffset(masechta);
 				dafYomi = new Daf(masechta, blatt);
 				break;
 			}
@@ -133,6 +134,48 @@ public class YomiCalculator {
 		return dafYomi;
 	}
 
+	/**
+	 * Returns the <em>daf</em> learned the day after the passed in <em>daf</em> in the same Daf Yomi Bavli cycle. This
+	 * is used to walk a range of days without calculating each day from scratch.
+	 * 
+	 * @param daf
+	 *            the <em>daf</em> of the previous day
+	 * @param vilnaShekalim
+	 *            true if the cycle is the eighth cycle or later that uses the 22 daf Vilna Shekalim, and false for the
+	 *            earlier cycles that used the 13 daf Slavuta Shekalim.
+	 * @return the next <em>daf</em>, or <code>null</code> if the <em>daf</em> passed in is the last one of the cycle.
+	 * @see #getDafYomiBavli(JewishCalendar)
+	 */
+	static Daf getNextDafYomiBavli(Daf daf, boolean vilnaShekalim) {
+		int masechta = daf.getMasechtaNumber();
+		int blattCount = masechta == SHEKALIM && !vilnaShekalim ? OLD_SHEKALIM_BLATT : BLATT_PER_MASECHTA[masechta];
+		if (daf.getDaf() < blattCount + getFirstBlattOffset(masechta)) {
+			return new Daf(masechta, daf.getDaf() + 1);
+		}
+		if (masechta + 1 == BLATT_PER_MASECHTA.length) {
+			return null;
+		}
+		return new Daf(masechta + 1, 2 + getFirstBlattOffset(masechta + 1));
+	}
+
+	/**
+	 * Returns the number of blatt to add to the daf of the masechtos near the end that don't start on daf 2.
+	 * 
+	 * @param masechta
+	 *            the masechta number
+	 * @return the offset, 0 for all but Kinnim, Tamid and Midos
+	 */
+	private static int getFirstBlattOffset(int masechta) {
+		if (masechta == 36) {
+			return 21;
+		} else if (masechta == 37) {
+			return 24;
+		} else if (masechta == 38) {
+			return 32;
+		}
+		return 0;
+	}
+
 	/**
 	 * Return the <a href="http://en.wikipedia.org/wiki/Julian_day">Julian day</a> from a Java Calendar.
 	 * 
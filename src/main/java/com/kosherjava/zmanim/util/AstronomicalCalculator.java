@@ -41,6 +41,12 @@ public abstract class AstronomicalCalculator implements Cloneable {
 	 */
 	private double solarRadius = 16 / 60d;
 
+	/**
+	 * The default {@link #earthRadius earth radius} of 6356.9 KM, which the {@link ImmutableGeoLocation} caches the
+	 * elevation adjustment for.
+	 */
+	static final double DEFAULT_EARTH_RADIUS = 6356.9;
+
 	/**
 	 * The commonly used average earth radius in KM. At this time, this only affects elevation adjustment and not the
 	 * sunrise and sunset calculations. The value currently defaults to 6356.9 KM.
@@ -48,8 +54,16 @@ public abstract class AstronomicalCalculator implements Cloneable {
 	 * @see #getEarthRadius()
 	 * @see #setEarthRadius(double)
 	 */
-	private double earthRadius = 6356.9; // in KM
-	
+	private double earthRadius = DEFAULT_EARTH_RADIUS; // in KM
+
+	/**
+	 * The trigonometric functions used by the calculation, {@link Trigonometry#STRICT} by default.
+	 *
+	 * @see #getTrigonometry()
+	 * @see #setTrigonometry(Trigonometry)
+	 */
+	private Trigonometry trigonometry = Trigonometry.STRICT;
+
 	/**
 	 * Default constructor using the default {@link #refraction refraction}, {@link #solarRadius solar radius} and
 	 * {@link #earthRadius earth radius}.
@@ -180,6 +194,210 @@ public abstract class AstronomicalCalculator implements Cloneable {
 	 */
 	public abstract double getUTCMidnight(Calendar calendar, GeoLocation geoLocation);
 
+	/**
+	 * Classifies a day at a location for a zenith, to know up front if the times of the zenith can be calculated, such as
+	 * above the Arctic Circle where the sun doesn't set for part of the summer and doesn't get 16.1&deg; below the
+	 * horizon for longer. A day is {@link SolarDayType#NORMAL} if both {@link #getUTCSunrise(Calendar, GeoLocation,
+	 * double, boolean)} and {@link #getUTCSunset(Calendar, GeoLocation, double, boolean)} can be calculated for the
+	 * zenith, and otherwise it is classified by whether the sun stays below or above the zenith. The default
+	 * implementation calculates both times, and uses the elevation of the sun at about noon to tell which. Subclasses
+	 * such as the {@link NOAACalculator} classify most days from the declination of the sun and the latitude alone.
+	 *
+	 * @param calendar
+	 *            Used to calculate day of year.
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @param zenith
+	 *            the azimuth below the vertical zenith of 90&deg;, such as {@link #adjustZenith adjusted} sunrise
+	 *            and sunset at 90&deg; or <em>tzais</em> 16.1&deg; at 106.1&deg;.
+	 * @param adjustForElevation
+	 *            Should the time be adjusted for elevation
+	 * @return the classification of the day
+	 */
+	public SolarDayType getSolarDayType(Calendar calendar, GeoLocation geoLocation, double zenith,
+			boolean adjustForElevation) {
+		if (!Double.isNaN(getUTCSunrise(calendar, geoLocation, zenith, adjustForElevation))
+				&& !Double.isNaN(getUTCSunset(calendar, geoLocation, zenith, adjustForElevation))) {
+			return SolarDayType.NORMAL;
+		}
+		return getSolarDayTypeFromNoon(calendar, geoLocation, zenith, adjustForElevation);
+	}
+
+	/**
+	 * Classifies a day at a location for the sunrise or the sunset of a zenith alone, for when only one of them is needed
+	 * such as <em>tzais</em>. The day is {@link SolarDayType#NORMAL} if {@link #getUTCSunrise(Calendar, GeoLocation,
+	 * double, boolean)} (or {@link #getUTCSunset(Calendar, GeoLocation, double, boolean)} for the sunset) can be
+	 * calculated for the zenith, even if the other time can't, which can happen on the first and last day of a polar
+	 * season. Otherwise it is classified as in {@link #getSolarDayType(Calendar, GeoLocation, double, boolean)}.
+	 *
+	 * @param calendar
+	 *            Used to calculate day of year.
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @param zenith
+	 *            the azimuth below the vertical zenith of 90&deg;.
+	 * @param adjustForElevation
+	 *            Should the time be adjusted for elevation
+	 * @param isSunrise
+	 *            true to classify the sunrise and false to classify the sunset
+	 * @return the classification of the day
+	 */
+	public SolarDayType getSolarDayType(Calendar calendar, GeoLocation geoLocation, double zenith,
+			boolean adjustForElevation, boolean isSunrise) {
+		double time = isSunrise ? getUTCSunrise(calendar, geoLocation, zenith, adjustForElevation)
+				: getUTCSunset(calendar, geoLocation, zenith, adjustForElevation);
+		if (!Double.isNaN(time)) {
+			return SolarDayType.NORMAL;
+		}
+		return getSolarDayTypeFromNoon(calendar, geoLocation, zenith, adjustForElevation);
+	}
+
+	/**
+	 * Classifies a day whose times can't be calculated from the elevation of the sun at about noon.
+	 *
+	 * @param calendar
+	 *            Used to calculate day of year.
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @param zenith
+	 *            the zenith before it is adjusted
+	 * @param adjustForElevation
+	 *            Should the zenith be adjusted for elevation
+	 * @return the classification of the day
+	 */
+	private SolarDayType getSolarDayTypeFromNoon(Calendar calendar, GeoLocation geoLocation, double zenith,
+			boolean adjustForElevation) {
+		double utcNoon = 12 - geoLocation.getLongitude() / 15; // mean solar noon is close enough to tell above from below
+		Calendar noon = (Calendar) calendar.clone();
+		noon.set(Calendar.HOUR_OF_DAY, (int) utcNoon);
+		noon.set(Calendar.MINUTE, (int) ((utcNoon - (int) utcNoon) * 60));
+		noon.set(Calendar.SECOND, 0);
+		double noonElevation = NOAACalculator.getSolarElevation(noon, geoLocation.getLatitude(),
+				geoLocation.getLongitude());
+		double adjustedZenith = adjustZenith(zenith, adjustForElevation ? geoLocation.getElevation() : 0);
+		return getSolarDayType(zenith, noonElevation < GEOMETRIC_ZENITH - adjustedZenith);
+	}
+
+	/**
+	 * Returns the classification of a day whose times can't be calculated.
+	 *
+	 * @param zenith
+	 *            the zenith before it was adjusted
+	 * @param staysBelow
+	 *            if the sun stays below the zenith all day, or false if it stays above it
+	 * @return the classification
+	 */
+	static SolarDayType getSolarDayType(double zenith, boolean staysBelow) {
+		if (staysBelow) {
+			return SolarDayType.SUN_NEVER_RISES;
+		}
+		return zenith > GEOMETRIC_ZENITH ? SolarDayType.TWILIGHT_NEVER_ENDS : SolarDayType.SUN_NEVER_SETS;
+	}
+
+	/**
+	 * A method that calculates UTC sunrise as well as any time based on an angle above or below sunrise for an {@link
+	 * ImmutableGeoLocation}. The default implementation delegates to {@link #getUTCSunrise(Calendar, GeoLocation, double,
+	 * boolean)}, and calculators override it to use the location's cached values.
+	 * 
+	 * @param calendar
+	 *            Used to calculate day of year.
+	 * @param location
+	 *            The immutable location information used for astronomical calculating sun times.
+	 * @param zenith
+	 *            the azimuth below the vertical zenith of 90 degrees. for sunrise typically the {@link #adjustZenith
+	 *            zenith} used for the calculation uses geometric zenith of 90&deg; and {@link #adjustZenith adjusts}
+	 *            this slightly to account for solar refraction and the sun's radius.
+	 * @param adjustForElevation
+	 *            Should the time be adjusted for elevation
+	 * @return The UTC time of sunrise in 24-hour format. 5:45:00 AM will return 5.75.0. If an error was encountered in
+	 *         the calculation (expected behavior for some locations such as near the poles,
+	 *         {@link java.lang.Double#NaN} will be returned.
+	 * @see #getUTCSunrise(Calendar, GeoLocation, double, boolean)
+	 */
+	public double getUTCSunrise(Calendar calendar, ImmutableGeoLocation location, double zenith,
+			boolean adjustForElevation) {
+		return getUTCSunrise(calendar, location.getGeoLocation(), zenith, adjustForElevation);
+	}
+
+	/**
+	 * A method that calculates UTC sunset as well as any time based on an angle above or below sunset for an {@link
+	 * ImmutableGeoLocation}. The default implementation delegates to {@link #getUTCSunset(Calendar, GeoLocation, double,
+	 * boolean)}, and calculators override it to use the location's cached values.
+	 * 
+	 * @param calendar
+	 *            Used to calculate day of year.
+	 * @param location
+	 *            The immutable location information used for astronomical calculating sun times.
+	 * @param zenith
+	 *            the azimuth below the vertical zenith of 90&deg;. For sunset typically the {@link #adjustZenith
+	 *            zenith} used for the calculation uses geometric zenith of 90&deg; and {@link #adjustZenith adjusts}
+	 *            this slightly to account for solar refraction and the sun's radius.
+	 * @param adjustForElevation
+	 *            Should the time be adjusted for elevation
+	 * @return The UTC time of sunset in 24-hour format. 5:45:00 AM will return 5.75.0. If an error was encountered in
+	 *         the calculation (expected behavior for some locations such as near the poles,
+	 *         {@link java.lang.Double#NaN} will be returned.
+	 * @see #getUTCSunset(Calendar, GeoLocation, double, boolean)
+	 */
+	public double getUTCSunset(Calendar calendar, ImmutableGeoLocation location, double zenith,
+			boolean adjustForElevation) {
+		return getUTCSunset(calendar, location.getGeoLocation(), zenith, adjustForElevation);
+	}
+
+	/**
+	 * A method that calculates the UTC sunrise and sunset times for many zeniths of the same day and location with a
+	 * single call, such as all the degree based <em>alos</em> and <em>tzais</em> times of a day. The default
+	 * implementation calls {@link #getUTCSunrise(Calendar, GeoLocation, double, boolean)} and {@link
+	 * #getUTCSunset(Calendar, GeoLocation, double, boolean)} for each zenith, and calculators override it to share the
+	 * calculations that do not depend on the zenith. The results are identical to the results of those methods.
+	 * 
+	 * @param calendar
+	 *            Used to calculate day of year.
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @param zeniths
+	 *            the zeniths to calculate the times for (see {@link #getUTCSunrise(Calendar, GeoLocation, double,
+	 *            boolean)})
+	 * @param adjustForElevation
+	 *            Should the times be adjusted for elevation
+	 * @param sunrises
+	 *            the array the UTC sunrise time of each zenith is stored in, in the same 24-hour format as {@link
+	 *            #getUTCSunrise(Calendar, GeoLocation, double, boolean)}, or <code>null</code> if sunrise times are not
+	 *            needed
+	 * @param sunsets
+	 *            the array the UTC sunset time of each zenith is stored in, or <code>null</code> if sunset times are not
+	 *            needed
+	 * @throws IllegalArgumentException if an array that is not <code>null</code> is shorter than the zenith array
+	 */
+	public void getUTCSunrisesAndSunsets(Calendar calendar, GeoLocation geoLocation, double[] zeniths,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		checkZenithArrays(zeniths, sunrises, sunsets);
+		for (int i = 0; i < zeniths.length; i++) {
+			if (sunrises != null) {
+				sunrises[i] = getUTCSunrise(calendar, geoLocation, zeniths[i], adjustForElevation);
+			}
+			if (sunsets != null) {
+				sunsets[i] = getUTCSunset(calendar, geoLocation, zeniths[i], adjustForElevation);
+			}
+		}
+	}
+
+	/**
+	 * Checks that the output arrays of {@link #getUTCSunrisesAndSunsets(Calendar, GeoLocation, double[], boolean,
+	 * double[], double[])} can hold a time for each zenith.
+	 * 
+	 * @param zeniths the zeniths
+	 * @param sunrises the sunrise array or <code>null</code>
+	 * @param sunsets the sunset array or <code>null</code>
+	 * @throws IllegalArgumentException if an array that is not <code>null</code> is shorter than the zenith array
+	 */
+	static void checkZenithArrays(double[] zeniths, double[] sunrises, double[] sunsets) {
+		if ((sunrises != null && sunrises.length < zeniths.length) || (sunsets != null && sunsets.length < zeniths.length)) {
+			throw new IllegalArgumentException("The sunrise and sunset arrays must have room for " + zeniths.length
+					+ " times");
+		}
+	}
+
 	/**
 	 * Method to return the adjustment to the zenith required to account for the elevation. Since a person at a higher
 	 * elevation can see farther below the horizon, the calculation for sunrise / sunset is calculated below the horizon
@@ -251,6 +469,33 @@ public abstract class AstronomicalCalculator implements Cloneable {
 		return adjustedZenith;
 	}
 
+	/**
+	 * Adjusts the zenith of astronomical sunrise and sunset in the same way as {@link #adjustZenith(double, double)}, using
+	 * the elevation adjustment cached by the {@link ImmutableGeoLocation} if the {@link #getEarthRadius() earth radius}
+	 * is the default one, and {@link #getElevationAdjustment(double)} otherwise.
+	 * 
+	 * @param zenith
+	 *            the azimuth below the vertical zenith of 90&deg;.
+	 * @param location
+	 *            the location
+	 * @param adjustForElevation
+	 *            Should the zenith be adjusted for elevation
+	 * @return The zenith adjusted to include the {@link #getSolarRadius sun's radius}, {@link #getRefraction
+	 *         refraction} and {@link #getElevationAdjustment elevation} adjustment. This will only be adjusted for
+	 *         sunrise and sunset (if the zenith == 90&deg;)
+	 * @see #adjustZenith(double, double)
+	 */
+	double adjustZenith(double zenith, ImmutableGeoLocation location, boolean adjustForElevation) {
+		double adjustedZenith = zenith;
+		if (zenith == GEOMETRIC_ZENITH) { // only adjust if it is exactly sunrise or sunset
+			double elevationAdjustment = adjustForElevation && getEarthRadius() == DEFAULT_EARTH_RADIUS
+					? location.getElevationAdjustment()
+					: getElevationAdjustment(adjustForElevation ? location.getElevation() : 0);
+			adjustedZenith = zenith + (getSolarRadius() + getRefraction() + elevationAdjustment);
+		}
+		return adjustedZenith;
+	}
+
 	/**
 	 * Method to get the refraction value to be used when calculating sunrise and sunset. The default value is 34
 	 * arcminutes. The <a href="https://www.cs.tau.ac.il/~nachum/calendar-book/second-edition/errata.pdf">Errata and Notes
@@ -309,6 +554,34 @@ public abstract class AstronomicalCalculator implements Cloneable {
 		this.solarRadius = solarRadius;
 	}
 
+	/**
+	 * Returns the trigonometric functions used by the calculation. The default is {@link Trigonometry#STRICT}, the
+	 * functions of <code>java.lang.Math</code>.
+	 *
+	 * @return the trigonometric functions
+	 * @see #setTrigonometry(Trigonometry)
+	 */
+	public Trigonometry getTrigonometry() {
+		return this.trigonometry;
+	}
+
+	/**
+	 * Sets the trigonometric functions used by the calculation, such as {@link Trigonometry#FAST} to trade less
+	 * than a millisecond of accuracy for speed when calculating zmanim in bulk. The {@link NOAACalculator}, {@link
+	 * SunTimesCalculator} and {@link ChebyshevCalculator} use them for sunrise, sunset, noon and midnight. The static
+	 * solar position methods of the {@link NOAACalculator} always use {@link Trigonometry#STRICT}.
+	 *
+	 * @param trigonometry
+	 *            the trigonometric functions
+	 * @throws IllegalArgumentException if the trigonometry is <code>null</code>
+	 */
+	public void setTrigonometry(Trigonometry trigonometry) {
+		if (trigonometry == null) {
+			throw new IllegalArgumentException("The trigonometry can't be null");
+		}
+		this.trigonometry = trigonometry;
+	}
+
 	/**
 	 * @see java.lang.Object#clone()
 	 * @since 1.1
@@ -0,0 +1,236 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link NOAACalculator} that shares all of the passes of the NOAA algorithm, but evaluates the <a href=
+ * "https://en.wikipedia.org/wiki/Equation_of_time">equation of time</a> and the sun's <a href=
+ * "https://en.wikipedia.org/wiki/Position_of_the_Sun#Declination_of_the_Sun_as_seen_from_Earth">declination</a> from
+ * piecewise <a href="https://en.wikipedia.org/wiki/Chebyshev_polynomials">Chebyshev polynomials</a> instead of the long
+ * trigonometric series of the NOAA algorithm. It only overrides {@link #getEquationOfTimeAtJulianDay(double,
+ * Trigonometry)} and {@link #getSunDeclinationAtJulianDay(double, Trigonometry)}, so any change to the passes of the
+ * {@link NOAACalculator} applies to this calculator as well. The NOAA algorithm evaluates these series (the sun's
+ * apparent longitude, the obliquity correction, the earth's orbit eccentricity and more) five times for each sunrise or
+ * sunset, while a polynomial is a few multiply-adds.
+ * <p>
+ * The years 1800 through 2300 are split into segments of 32 days, and the polynomials of each segment are fitted to
+ * the NOAA series at 8 Chebyshev nodes the first time a date in the segment is used, so only the segments of the dates
+ * that are used are ever calculated and held in memory. They are shared by all instances. Over the whole range, the
+ * polynomials differ from the NOAA series by at most {@link #MAXIMUM_EQUATION_OF_TIME_DEVIATION} minutes for the
+ * equation of time and {@link #MAXIMUM_DECLINATION_DEVIATION}&deg; for the declination, which keeps sunrise, sunset,
+ * noon and midnight within a millisecond of the {@link NOAACalculator}, other than right at the start and end of the
+ * polar day and night where a change in the declination too small to measure moves the time by a lot. Dates outside
+ * the range are calculated with the NOAA series.
+ * <p>
+ * Sample usage:
+ * <pre>
+ * ComplexZmanimCalendar czc = new ComplexZmanimCalendar(geoLocation);
+ * czc.setAstronomicalCalculator(new ChebyshevCalculator());
+ * </pre>
+ *
+ * @see NOAACalculator
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public class ChebyshevCalculator extends NOAACalculator {
+
+	/**
+	 * The maximum difference in minutes between the equation of time of the polynomials and the NOAA series over the
+	 * years 1800 through 2300, about 7 microseconds.
+	 */
+	public static final double MAXIMUM_EQUATION_OF_TIME_DEVIATION = 2e-7;
+
+	/**
+	 * The maximum difference in degrees between the declination of the polynomials and the NOAA series over the years
+	 * 1800 through 2300.
+	 */
+	public static final double MAXIMUM_DECLINATION_DEVIATION = 5e-8;
+
+	/** The Julian day of January 1st, 1800, the start of the first segment. */
+	private static final double START_JULIAN_DAY = NOAACalculator.getJulianDay(1800, Calendar.JANUARY, 1);
+
+	/** The Julian day of January 1st, 2301, the end of the range of the polynomials. */
+	private static final double END_JULIAN_DAY = NOAACalculator.getJulianDay(2301, Calendar.JANUARY, 1);
+
+	/** The number of days in a segment. */
+	private static final int SEGMENT_DAYS = 32;
+
+	/** The number of coefficients of each polynomial. */
+	private static final int COEFFICIENTS = 8;
+
+	/**
+	 * The coefficients of the equation of time followed by those of the declination for each segment, or
+	 * <code>null</code> for a segment that was not used yet.
+	 */
+	private static final AtomicReferenceArray<double[]> SEGMENTS = new AtomicReferenceArray<double[]>(
+			(int) Math.ceil((END_JULIAN_DAY - START_JULIAN_DAY) / SEGMENT_DAYS));
+
+	/**
+	 * Default constructor of the ChebyshevCalculator.
+	 */
+	public ChebyshevCalculator() {
+		super();
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getCalculatorName()
+	 */
+	public String getCalculatorName() {
+		return "US National Oceanic and Atmospheric Administration Algorithm (Chebyshev interpolated)";
+	}
+
+	/**
+	 * Returns the equation of time from the polynomials, or from the NOAA series for a date outside their range.
+	 * @see NOAACalculator#getEquationOfTimeAtJulianDay(double, Trigonometry)
+	 */
+	protected double getEquationOfTimeAtJulianDay(double julianDay, Trigonometry trigonometry) {
+		double[] segment = getSegment(julianDay);
+		if (segment == null) {
+			return super.getEquationOfTimeAtJulianDay(julianDay, trigonometry);
+		}
+		return evaluate(segment, 0, getSegmentPosition(julianDay));
+	}
+
+	/**
+	 * Returns the sun's declination from the polynomials, or from the NOAA series for a date outside their range.
+	 * @see NOAACalculator#getSunDeclinationAtJulianDay(double, Trigonometry)
+	 */
+	protected double getSunDeclinationAtJulianDay(double julianDay, Trigonometry trigonometry) {
+		double[] segment = getSegment(julianDay);
+		if (segment == null) {
+			return super.getSunDeclinationAtJulianDay(julianDay, trigonometry);
+		}
+		return evaluate(segment, COEFFICIENTS, getSegmentPosition(julianDay));
+	}
+
+	/**
+	 * Returns the equation of time, the difference between true solar time and mean solar time.
+	 *
+	 * @param julianDay
+	 *            the Julian day, including the fraction of the day
+	 * @return the equation of time in minutes of time, within {@link #MAXIMUM_EQUATION_OF_TIME_DEVIATION} of the NOAA
+	 *         series
+	 */
+	public static double getEquationOfTime(double julianDay) {
+		double[] segment = getSegment(julianDay);
+		if (segment == null) {
+			return NOAACalculator.getEquationOfTime(NOAACalculator.getJulianCenturiesFromJulianDay(julianDay),
+					Trigonometry.STRICT);
+		}
+		return evaluate(segment, 0, getSegmentPosition(julianDay));
+	}
+
+	/**
+	 * Returns the sun's declination.
+	 *
+	 * @param julianDay
+	 *            the Julian day, including the fraction of the day
+	 * @return the sun's declination in degrees, within {@link #MAXIMUM_DECLINATION_DEVIATION} of the NOAA series
+	 */
+	public static double getSunDeclination(double julianDay) {
+		double[] segment = getSegment(julianDay);
+		if (segment == null) {
+			return NOAACalculator.getSunDeclination(NOAACalculator.getJulianCenturiesFromJulianDay(julianDay),
+					Trigonometry.STRICT);
+		}
+		return evaluate(segment, COEFFICIENTS, getSegmentPosition(julianDay));
+	}
+
+	/**
+	 * Returns the coefficients of the segment of a Julian day, fitting them the first time the segment is used. If two
+	 * threads fit the same segment at once, both arrays are identical and either one is kept.
+	 *
+	 * @param julianDay
+	 *            the Julian day
+	 * @return the coefficients, or <code>null</code> if the day is outside the range of the polynomials
+	 */
+	private static double[] getSegment(double julianDay) {
+		if (!(julianDay >= START_JULIAN_DAY && julianDay < END_JULIAN_DAY)) {
+			return null;
+		}
+		int index = (int) ((julianDay - START_JULIAN_DAY) / SEGMENT_DAYS);
+		double[] segment = SEGMENTS.get(index);
+		if (segment == null) {
+			segment = fitSegment(START_JULIAN_DAY + (double) index * SEGMENT_DAYS);
+			SEGMENTS.compareAndSet(index, null, segment);
+		}
+		return segment;
+	}
+
+	/**
+	 * Fits the Chebyshev coefficients of the equation of time and the declination of a segment to the NOAA series at the
+	 * Chebyshev nodes of the segment.
+	 *
+	 * @param start
+	 *            the Julian day of the start of the segment
+	 * @return the coefficients of the equation of time followed by those of the declination
+	 */
+	private static double[] fitSegment(double start) {
+		double[] equationOfTime = new double[COEFFICIENTS];
+		double[] declination = new double[COEFFICIENTS];
+		for (int k = 0; k < COEFFICIENTS; k++) {
+			double node = Math.cos(Math.PI * (k + 0.5) / COEFFICIENTS);
+			double julianCenturies = NOAACalculator.getJulianCenturiesFromJulianDay(start + (node + 1) * SEGMENT_DAYS / 2);
+			equationOfTime[k] = NOAACalculator.getEquationOfTime(julianCenturies, Trigonometry.STRICT);
+			declination[k] = NOAACalculator.getSunDeclination(julianCenturies, Trigonometry.STRICT);
+		}
+		double[] coefficients = new double[2 * COEFFICIENTS];
+		for (int j = 0; j < COEFFICIENTS; j++) {
+			double equationOfTimeSum = 0;
+			double declinationSum = 0;
+			for (int k = 0; k < COEFFICIENTS; k++) {
+				double weight = Math.cos(Math.PI * j * (k + 0.5) / COEFFICIENTS);
+				equationOfTimeSum += equationOfTime[k] * weight;
+				declinationSum += declination[k] * weight;
+			}
+			double scale = (j == 0 ? 1.0 : 2.0) / COEFFICIENTS;
+			coefficients[j] = equationOfTimeSum * scale;
+			coefficients[COEFFICIENTS + j] = declinationSum * scale;
+		}
+		return coefficients;
+	}
+
+	/**
+	 * @param julianDay a Julian day in the range of the polynomials
+	 * @return the position of the day in its segment, from -1 at the start to 1 at the end
+	 */
+	private static double getSegmentPosition(double julianDay) {
+		double offset = (julianDay - START_JULIAN_DAY) % SEGMENT_DAYS;
+		return offset * 2 / SEGMENT_DAYS - 1;
+	}
+
+	/**
+	 * Evaluates a Chebyshev polynomial with <a href="https://en.wikipedia.org/wiki/Clenshaw_algorithm">Clenshaw's
+	 * recurrence</a>.
+	 *
+	 * @param coefficients the coefficients
+	 * @param offset the index of the first coefficient of the polynomial
+	 * @param x the position from -1 to 1
+	 * @return the value of the polynomial
+	 */
+	private static double evaluate(double[] coefficients, int offset, double x) {
+		double b1 = 0;
+		double b2 = 0;
+		for (int j = offset + COEFFICIENTS - 1; j > offset; j--) {
+			double b0 = 2 * x * b1 - b2 + coefficients[j];
+			b2 = b1;
+			b1 = b0;
+		}
+		return x * b1 - b2 + coefficients[offset];
+	}
+}
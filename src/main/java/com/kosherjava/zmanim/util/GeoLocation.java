@@ -15,6 +15,7 @@
  */
 package com.kosherjava.zmanim.util;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.TimeZone;
 
@@ -82,6 +83,49 @@ public class GeoLocation implements Cloneable {
 	 */
 	private static final int FINAL_BEARING = 2;
 
+	/**
+	 * Constant for a batch distance calculation using <a href="https://en.wikipedia.org/wiki/Thaddeus_Vincenty">Thaddeus
+	 * Vincenty's</a> inverse formula on the WGS-84 ellipsoid, the same as {@link #getGeodesicDistance(GeoLocation)}. This
+	 * is the most accurate (to within a millimeter) and the slowest of the formulas.
+	 * @see #getGeodesicDistances(double[], double[], int)
+	 */
+	public static final int VINCENTY = 0;
+
+	/**
+	 * Constant for a batch distance calculation using the <a href="https://en.wikipedia.org/wiki/Haversine_formula"
+	 * >haversine formula</a> on a sphere with the WGS-84 mean radius of 6,371,008.8 meters. Since this ignores the
+	 * flattening of the earth, the result can be off by up to about 0.5% of the distance. It is the fastest of the
+	 * formulas and is suitable for sorting and filtering by distance.
+	 * @see #getGeodesicDistances(double[], double[], int)
+	 */
+	public static final int HAVERSINE = 1;
+
+	/**
+	 * Constant for a batch distance calculation using the Andoyer-Lambert first order flattening correction to the
+	 * spherical distance on the WGS-84 ellipsoid. The result is generally within 10 meters per 1,000 kilometers of the
+	 * Vincenty distance, at a fraction of the cost, but it should not be used for (nearly) antipodal points.
+	 * @see #getGeodesicDistances(double[], double[], int)
+	 */
+	public static final int ANDOYER_LAMBERT = 2;
+
+	/** length of semi-major axis of the ellipsoid (radius at equator) in meters based on WGS-84 */
+	private static final double WGS84_SEMI_MAJOR_AXIS = 6378137;
+
+	/** length of semi-minor axis of the ellipsoid (radius at the poles) in meters based on WGS-84 */
+	private static final double WGS84_SEMI_MINOR_AXIS = 6356752.3142;
+
+	/** flattening of the ellipsoid based on WGS-84 */
+	private static final double WGS84_FLATTENING = 1 / 298.257223563;
+
+	/** the mean radius of the earth in meters based on WGS-84 */
+	private static final double MEAN_EARTH_RADIUS = 6371008.8;
+
+	/**
+	 * The smallest radius of curvature of the WGS-84 ellipsoid (the meridional radius at the equator) in meters. Used to
+	 * create bounding boxes that are guaranteed to contain all points within a given distance.
+	 */
+	private static final double MINIMUM_RADIUS_OF_CURVATURE = 6335439;
+
 	/** constant for milliseconds in a minute (60,000) */
 	private static final long MINUTE_MILLIS = 60 * 1000;
 
@@ -320,6 +364,20 @@ public class GeoLocation implements Cloneable {
 		this.timeZone = timeZone;
 	}
 
+	/**
+	 * Returns the shared, cached offsets of the location's {@link #getTimeZone() time zone}, for calculating many
+	 * offsets without repeated <code>TimeZone</code> offset calculations. The offsets are only resolved when this
+	 * method is called, and they are resolved for the time zone as it is at the time of the call, so changes made
+	 * directly to the <code>TimeZone</code> object (such as {@link TimeZone#setRawOffset(int)}) are seen by the next
+	 * call.
+	 * 
+	 * @return the time zone offsets
+	 * @see TimeZoneOffsets#getInstance(TimeZone)
+	 */
+	public TimeZoneOffsets getTimeZoneOffsets() {
+		return TimeZoneOffsets.getInstance(getTimeZone());
+	}
+
 	/**
 	 * A method that will return the location's local mean time offset in milliseconds from local <a
 	 * href="https://en.wikipedia.org/wiki/Standard_time">standard time</a>. The globe is split into 360&deg;, with
@@ -331,13 +389,13 @@ public class GeoLocation implements Cloneable {
 	 * -74.222, is 0.778 away from the closest multiple of 15 at -75&deg;. This is multiplied by 4 to yield 3 minutes
 	 * and 10 seconds earlier than standard time. The offset returned does not account for the <a
 	 * href="https://en.wikipedia.org/wiki/Daylight_saving_time">Daylight saving time</a> offset since this class is
-	 * unaware of dates.
+	 * unaware of dates. The raw offset is read from the shared {@link #getTimeZoneOffsets() time zone offsets}.
 	 * 
 	 * @return the offset in milliseconds not accounting for Daylight saving time. A positive value will be returned
 	 *         East of the 15&deg; timezone line, and a negative value West of it.
 	 */
 	public long getLocalMeanTimeOffset() {
-		return (long) (getLongitude() * 4 * MINUTE_MILLIS - getTimeZone().getRawOffset());
+		return (long) (getLongitude() * 4 * MINUTE_MILLIS - getTimeZoneOffsets().getRawOffset());
 	}
 	
 	/**
@@ -431,13 +489,37 @@ public class GeoLocation implements Cloneable {
 	 * @return geodesic distance in Meters
 	 */
 	private double vincentyInverseFormula(GeoLocation location, int formula) {
-		double majorSemiAxis = 6378137;
-		double minorSemiAxis = 6356752.3142;
-		double f = 1 / 298.257223563; // WGS-84 ellipsoid
-		double L = Math.toRadians(location.getLongitude() - getLongitude());
-		double U1 = Math.atan((1 - f) * Math.tan(Math.toRadians(getLatitude())));
-		double U2 = Math.atan((1 - f) * Math.tan(Math.toRadians(location.getLatitude())));
-		double sinU1 = Math.sin(U1), cosU1 = Math.cos(U1);
+		double U1 = Math.atan((1 - WGS84_FLATTENING) * Math.tan(Math.toRadians(getLatitude())));
+		return vincentyInverseFormula(Math.sin(U1), Math.cos(U1), getLongitude(), location.getLatitude(),
+				location.getLongitude(), formula);
+	}
+
+	/**
+	 * The implementation of {@link #vincentyInverseFormula(GeoLocation, int)} that takes the sine and cosine of the
+	 * reduced latitude of the initial location, so that they are only calculated once for batch calculations.
+	 * 
+	 * @param sinU1
+	 *            the sine of the reduced latitude of the initial location
+	 * @param cosU1
+	 *            the cosine of the reduced latitude of the initial location
+	 * @param longitude
+	 *            the longitude of the initial location
+	 * @param destinationLatitude
+	 *            the latitude of the destination location
+	 * @param destinationLongitude
+	 *            the longitude of the destination location
+	 * @param formula
+	 *            This formula calculates initial bearing ({@link #INITIAL_BEARING}), final bearing (
+	 *            {@link #FINAL_BEARING}) and distance ({@link #DISTANCE}).
+	 * @return geodesic distance in Meters
+	 */
+	private static double vincentyInverseFormula(double sinU1, double cosU1, double longitude,
+			double destinationLatitude, double destinationLongitude, int formula) {
+		double majorSemiAxis = WGS84_SEMI_MAJOR_AXIS;
+		double minorSemiAxis = WGS84_SEMI_MINOR_AXIS;
+		double f = WGS84_FLATTENING;
+		double L = Math.toRadians(destinationLongitude - longitude);
+		double U2 = Math.atan((1 - f) * Math.tan(Math.toRadians(destinationLatitude)));
 		double sinU2 = Math.sin(U2), cosU2 = Math.cos(U2);
 
 		double lambda = L;
@@ -500,6 +582,292 @@ public class GeoLocation implements Cloneable {
 		}
 	}
 
+	/**
+	 * Calculates the distances in Meters from this location to each of the locations passed in. The locations are passed
+	 * in as parallel arrays of latitudes and longitudes in degrees to avoid creating <code>GeoLocation</code> objects when
+	 * calculating the distances to thousands of locations, and the terms of this location are only calculated once.
+	 *
+	 * @param latitudes
+	 *            the latitudes of the destination locations
+	 * @param longitudes
+	 *            the longitudes of the destination locations. This must be the same length as the latitudes.
+	 * @param formula
+	 *            the formula to use. One of {@link #VINCENTY}, {@link #HAVERSINE} or {@link #ANDOYER_LAMBERT}.
+	 * @return the distances in Meters. When using the {@link #VINCENTY} formula, a distance will be {@link Double#NaN} if
+	 *            the formula fails to converge (as can happen for nearly antipodal points).
+	 * @throws IllegalArgumentException if the arrays are not the same length or the formula is not valid
+	 * @see #getGeodesicDistances(double[], double[], int, double[])
+	 */
+	public double[] getGeodesicDistances(double[] latitudes, double[] longitudes, int formula) {
+		double[] distances = new double[latitudes.length];
+		getGeodesicDistances(getLatitude(), getLongitude(), latitudes, longitudes, formula, distances);
+		return distances;
+	}
+
+	/**
+	 * Calculates the distances in Meters from this location to each of the locations passed in, storing them in the
+	 * array passed in. This allows reusing the same result array across requests.
+	 *
+	 * @param latitudes
+	 *            the latitudes of the destination locations
+	 * @param longitudes
+	 *            the longitudes of the destination locations. This must be the same length as the latitudes.
+	 * @param formula
+	 *            the formula to use. One of {@link #VINCENTY}, {@link #HAVERSINE} or {@link #ANDOYER_LAMBERT}.
+	 * @param distances
+	 *            the array that the distances in Meters will be stored in. It must be at least as long as the latitudes.
+	 * @throws IllegalArgumentException if the arrays are not the same length or the formula is not valid
+	 * @see #getGeodesicDistances(double[], double[], int)
+	 */
+	public void getGeodesicDistances(double[] latitudes, double[] longitudes, int formula, double[] distances) {
+		getGeodesicDistances(getLatitude(), getLongitude(), latitudes, longitudes, formula, distances);
+	}
+
+	/**
+	 * Calculates the distances in Meters from each of the initial locations to each of the destination locations.
+	 *
+	 * @param latitudes
+	 *            the latitudes of the initial locations
+	 * @param longitudes
+	 *            the longitudes of the initial locations. This must be the same length as the latitudes.
+	 * @param destinationLatitudes
+	 *            the latitudes of the destination locations
+	 * @param destinationLongitudes
+	 *            the longitudes of the destination locations. This must be the same length as the destination latitudes.
+	 * @param formula
+	 *            the formula to use. One of {@link #VINCENTY}, {@link #HAVERSINE} or {@link #ANDOYER_LAMBERT}.
+	 * @return a matrix of the distances in Meters where <code>[i][j]</code> is the distance from initial location
+	 *            <code>i</code> to destination location <code>j</code>.
+	 * @throws IllegalArgumentException if the arrays are not the same length or the formula is not valid
+	 * @see #getGeodesicDistances(double[], double[], int)
+	 */
+	public static double[][] getGeodesicDistances(double[] latitudes, double[] longitudes,
+			double[] destinationLatitudes, double[] destinationLongitudes, int formula) {
+		validateBatch(latitudes, longitudes, formula);
+		validateBatch(destinationLatitudes, destinationLongitudes, formula);
+		double[][] distances = new double[latitudes.length][destinationLatitudes.length];
+		for (int i = 0; i < latitudes.length; i++) {
+			getGeodesicDistances(latitudes[i], longitudes[i], destinationLatitudes, destinationLongitudes, formula,
+					distances[i]);
+		}
+		return distances;
+	}
+
+	/**
+	 * Calculates the initial <a href="https://en.wikipedia.org/wiki/Great_circle">geodesic</a> bearing from this location
+	 * to each of the locations passed in, the same as {@link #getGeodesicInitialBearing(GeoLocation)}.
+	 *
+	 * @param latitudes
+	 *            the latitudes of the destination locations
+	 * @param longitudes
+	 *            the longitudes of the destination locations. This must be the same length as the latitudes.
+	 * @return the initial bearings in degrees
+	 * @throws IllegalArgumentException if the arrays are not the same length
+	 * @see #getGeodesicInitialBearing(GeoLocation)
+	 */
+	public double[] getGeodesicInitialBearings(double[] latitudes, double[] longitudes) {
+		validateBatch(latitudes, longitudes, VINCENTY);
+		double U1 = Math.atan((1 - WGS84_FLATTENING) * Math.tan(Math.toRadians(getLatitude())));
+		double sinU1 = Math.sin(U1);
+		double cosU1 = Math.cos(U1);
+		double[] bearings = new double[latitudes.length];
+		for (int i = 0; i < latitudes.length; i++) {
+			bearings[i] = vincentyInverseFormula(sinU1, cosU1, getLongitude(), latitudes[i], longitudes[i],
+					INITIAL_BEARING);
+		}
+		return bearings;
+	}
+
+	/**
+	 * Returns the indices of the locations that are within the maximum distance of this location, sorted by index.
+	 * Locations outside of a latitude / longitude bounding box that is guaranteed to contain every point within the
+	 * maximum distance are rejected with a few comparisons, and the distance is only calculated for the remaining
+	 * locations. This makes finding the nearby locations out of thousands much cheaper than calculating all distances.
+	 *
+	 * @param latitudes
+	 *            the latitudes of the destination locations
+	 * @param longitudes
+	 *            the longitudes of the destination locations. This must be the same length as the latitudes.
+	 * @param maximumDistance
+	 *            the maximum distance in Meters
+	 * @param formula
+	 *            the formula used to calculate the distance of locations within the bounding box. One of {@link
+	 *            #VINCENTY}, {@link #HAVERSINE} or {@link #ANDOYER_LAMBERT}.
+	 * @return the indices of the locations within the maximum distance
+	 * @throws IllegalArgumentException if the arrays are not the same length, the formula is not valid or the maximum
+	 *            distance is negative
+	 */
+	public int[] getIndicesWithinDistance(double[] latitudes, double[] longitudes, double maximumDistance,
+			int formula) {
+		validateBatch(latitudes, longitudes, formula);
+		if (!(maximumDistance >= 0)) {
+			throw new IllegalArgumentException("The maximum distance can't be negative");
+		}
+		double latitude = getLatitude();
+		double longitude = getLongitude();
+		double latitudeDelta = Math.toDegrees(maximumDistance / MINIMUM_RADIUS_OF_CURVATURE);
+		double maximumLatitude = Math.abs(latitude) + latitudeDelta;
+		double longitudeDelta = 180;
+		if (maximumLatitude < 90) {
+			longitudeDelta = Math.toDegrees(maximumDistance
+					/ (MINIMUM_RADIUS_OF_CURVATURE * Math.cos(Math.toRadians(maximumLatitude))));
+		}
+		double[] candidateLatitudes = new double[latitudes.length];
+		double[] candidateLongitudes = new double[latitudes.length];
+		int[] indices = new int[latitudes.length];
+		int count = 0;
+		for (int i = 0; i < latitudes.length; i++) {
+			if (Math.abs(latitudes[i] - latitude) <= latitudeDelta
+					&& (longitudeDelta >= 180 || getLongitudeDifference(longitude, longitudes[i]) <= longitudeDelta)) {
+				candidateLatitudes[count] = latitudes[i];
+				candidateLongitudes[count] = longitudes[i];
+				indices[count++] = i;
+			}
+		}
+		if (count == 0) {
+			return new int[0];
+		}
+		double[] distances = new double[count];
+		getGeodesicDistances(latitude, longitude, Arrays.copyOf(candidateLatitudes, count),
+				Arrays.copyOf(candidateLongitudes, count), formula, distances);
+		int matches = 0;
+		for (int i = 0; i < count; i++) {
+			if (distances[i] <= maximumDistance) {
+				indices[matches++] = indices[i];
+			}
+		}
+		return Arrays.copyOf(indices, matches);
+	}
+
+	/**
+	 * Calculates the distances in Meters from a single location to each of the locations passed in, calculating the terms
+	 * of the initial location once.
+	 *
+	 * @param latitude
+	 *            the latitude of the initial location
+	 * @param longitude
+	 *            the longitude of the initial location
+	 * @param latitudes
+	 *            the latitudes of the destination locations
+	 * @param longitudes
+	 *            the longitudes of the destination locations
+	 * @param formula
+	 *            the formula to use. One of {@link #VINCENTY}, {@link #HAVERSINE} or {@link #ANDOYER_LAMBERT}.
+	 * @param distances
+	 *            the array that the distances in Meters will be stored in
+	 * @throws IllegalArgumentException if the arrays are not the same length or the formula is not valid
+	 */
+	private static void getGeodesicDistances(double latitude, double longitude, double[] latitudes,
+			double[] longitudes, int formula, double[] distances) {
+		validateBatch(latitudes, longitudes, formula);
+		if (distances.length < latitudes.length) {
+			throw new IllegalArgumentException("The distances array must be at least as long as the latitudes array");
+		}
+		if (formula == VINCENTY) {
+			double U1 = Math.atan((1 - WGS84_FLATTENING) * Math.tan(Math.toRadians(latitude)));
+			double sinU1 = Math.sin(U1);
+			double cosU1 = Math.cos(U1);
+			for (int i = 0; i < latitudes.length; i++) {
+				distances[i] = vincentyInverseFormula(sinU1, cosU1, longitude, latitudes[i], longitudes[i], DISTANCE);
+			}
+		} else if (formula == HAVERSINE) {
+			double lat1 = Math.toRadians(latitude);
+			double cosLat1 = Math.cos(lat1);
+			for (int i = 0; i < latitudes.length; i++) {
+				distances[i] = MEAN_EARTH_RADIUS * getCentralAngle(lat1, cosLat1, longitude, latitudes[i], longitudes[i]);
+			}
+		} else {
+			double beta1 = Math.atan((1 - WGS84_FLATTENING) * Math.tan(Math.toRadians(latitude)));
+			double cosBeta1 = Math.cos(beta1);
+			for (int i = 0; i < latitudes.length; i++) {
+				distances[i] = andoyerLambertFormula(beta1, cosBeta1, longitude, latitudes[i], longitudes[i]);
+			}
+		}
+	}
+
+	/**
+	 * Validates the arrays and formula passed to the batch calculations.
+	 *
+	 * @param latitudes the latitudes
+	 * @param longitudes the longitudes
+	 * @param formula the formula
+	 * @throws IllegalArgumentException if the arrays are not the same length or the formula is not valid
+	 */
+	private static void validateBatch(double[] latitudes, double[] longitudes, int formula) {
+		if (latitudes.length != longitudes.length) {
+			throw new IllegalArgumentException("The latitudes and longitudes arrays must be the same length");
+		}
+		if (formula != VINCENTY && formula != HAVERSINE && formula != ANDOYER_LAMBERT) {
+			throw new IllegalArgumentException("Invalid formula: " + formula);
+		}
+	}
+
+	/**
+	 * Returns the absolute difference between two longitudes, taking the shorter way around the 180&deg; meridian.
+	 *
+	 * @param longitude the first longitude
+	 * @param destinationLongitude the second longitude
+	 * @return the difference in degrees (0 - 180)
+	 */
+	private static double getLongitudeDifference(double longitude, double destinationLongitude) {
+		double difference = Math.abs(destinationLongitude - longitude) % 360;
+		return difference > 180 ? 360 - difference : difference;
+	}
+
+	/**
+	 * Returns the central angle between two points on a sphere using the haversine formula.
+	 *
+	 * @param lat1 the latitude of the first point in radians
+	 * @param cosLat1 the cosine of the latitude of the first point
+	 * @param longitude the longitude of the first point in degrees
+	 * @param latitude the latitude of the second point in degrees
+	 * @param destinationLongitude the longitude of the second point in degrees
+	 * @return the central angle in radians
+	 */
+	private static double getCentralAngle(double lat1, double cosLat1, double longitude, double latitude,
+			double destinationLongitude) {
+		double lat2 = Math.toRadians(latitude);
+		double sinHalfDLat = Math.sin((lat2 - lat1) / 2);
+		double sinHalfDLon = Math.sin(Math.toRadians(destinationLongitude - longitude) / 2);
+		double h = sinHalfDLat * sinHalfDLat + cosLat1 * Math.cos(lat2) * sinHalfDLon * sinHalfDLon;
+		return 2 * Math.asin(Math.min(1, Math.sqrt(h)));
+	}
+
+	/**
+	 * Calculates the distance using the Andoyer-Lambert first order flattening correction to the central angle between
+	 * the reduced latitudes (see Lambert, W. D., "The distance between two widely separated points on the surface of the
+	 * earth", J. Washington Academy of Sciences, vol 32 no 5, 1942).
+	 *
+	 * @param beta1 the reduced latitude of the first point in radians
+	 * @param cosBeta1 the cosine of the reduced latitude of the first point
+	 * @param longitude the longitude of the first point in degrees
+	 * @param latitude the latitude of the second point in degrees
+	 * @param destinationLongitude the longitude of the second point in degrees
+	 * @return the distance in Meters
+	 */
+	private static double andoyerLambertFormula(double beta1, double cosBeta1, double longitude, double latitude,
+			double destinationLongitude) {
+		double beta2 = Math.atan((1 - WGS84_FLATTENING) * Math.tan(Math.toRadians(latitude)));
+		double sinHalfDBeta = Math.sin((beta2 - beta1) / 2);
+		double sinHalfDLon = Math.sin(Math.toRadians(destinationLongitude - longitude) / 2);
+		double h = sinHalfDBeta * sinHalfDBeta + cosBeta1 * Math.cos(beta2) * sinHalfDLon * sinHalfDLon;
+		if (h == 0) {
+			return 0; // co-incident points
+		}
+		double sigma = 2 * Math.asin(Math.min(1, Math.sqrt(h)));
+		double sinP = Math.sin((beta1 + beta2) / 2);
+		double cosP = Math.cos((beta1 + beta2) / 2);
+		double sinQ = Math.sin((beta2 - beta1) / 2);
+		double cosQ = Math.cos((beta2 - beta1) / 2);
+		double sinSigma = Math.sin(sigma);
+		double x = 0;
+		if (h < 1) {
+			x = (sigma - sinSigma) * sinP * sinP * cosQ * cosQ / (1 - h); // 1 - h is cos²(σ/2)
+		}
+		double y = (sigma + sinSigma) * cosP * cosP * sinQ * sinQ / h; // h is sin²(σ/2)
+		return WGS84_SEMI_MAJOR_AXIS * (sigma - WGS84_FLATTENING / 2 * (x + y));
+	}
+
 	/**
 	 * Returns the <a href="https://en.wikipedia.org/wiki/Rhumb_line">rhumb line</a> bearing from the current location to
 	 * the GeoLocation passed in.
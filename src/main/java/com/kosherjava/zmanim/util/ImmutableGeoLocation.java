@@ -0,0 +1,281 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable and interned snapshot of a {@link GeoLocation} that caches the location's invariants used by the
+ * astronomical calculations. The latitude in radians along with its sine, cosine and tangent, the elevation adjustment
+ * for the {@link AstronomicalCalculator#getEarthRadius() default earth radius} and the time zone's raw offset and
+ * {@link GeoLocation#getLocalMeanTimeOffset() local mean time offset} are calculated once when the instance is created
+ * instead of on every sunrise or sunset calculation. This is intended for applications that calculate <em>zmanim</em>
+ * for a fixed set of cities many times a day. Sample usage:
+ * <pre>
+ * ImmutableGeoLocation lakewood = ImmutableGeoLocation.valueOf(new GeoLocation("Lakewood, NJ", 40.0828, -74.2094, 20,
+ *     TimeZone.getTimeZone("America/New_York")));
+ * double sunrise = new NOAACalculator().getUTCSunrise(calendar, lakewood, AstronomicalCalculator.GEOMETRIC_ZENITH, true);
+ * </pre>
+ * Instances are interned by {@link #valueOf(GeoLocation)}, so all equal locations share a single instance that can be
+ * compared by reference. Since interned instances are never released, this should not be used for an unbounded number
+ * of arbitrary locations.
+ *
+ * @see AstronomicalCalculator#getUTCSunrise(java.util.Calendar, ImmutableGeoLocation, double, boolean)
+ * @see AstronomicalCalculator#getUTCSunset(java.util.Calendar, ImmutableGeoLocation, double, boolean)
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class ImmutableGeoLocation {
+
+	/** The interned instances keyed by a private copy of the {@link GeoLocation} they were created from. */
+	private static final ConcurrentMap<GeoLocation, ImmutableGeoLocation> INSTANCES
+			= new ConcurrentHashMap<GeoLocation, ImmutableGeoLocation>();
+
+	/** A private copy of the location that is passed to calculators that do not use the cached values. */
+	private final GeoLocation geoLocation;
+
+	/** The latitude in radians. */
+	private final double latitudeRadians;
+
+	/** The sine of the latitude. */
+	private final double sinLatitude;
+
+	/** The cosine of the latitude. */
+	private final double cosLatitude;
+
+	/** The tangent of the latitude. */
+	private final double tanLatitude;
+
+	/** The elevation adjustment in degrees for the default earth radius. */
+	private final double elevationAdjustment;
+
+	/** The time zone's raw offset in milliseconds. */
+	private final int rawOffset;
+
+	/** The local mean time offset in milliseconds. */
+	private final long localMeanTimeOffset;
+
+	/** The antimeridian adjustment in days. */
+	private final int antimeridianAdjustment;
+
+	/**
+	 * Constructor used by {@link #valueOf(GeoLocation)}.
+	 * @param geoLocation a private copy of the location
+	 */
+	private ImmutableGeoLocation(GeoLocation geoLocation) {
+		this.geoLocation = geoLocation;
+		latitudeRadians = Math.toRadians(geoLocation.getLatitude());
+		sinLatitude = Math.sin(latitudeRadians);
+		cosLatitude = Math.cos(latitudeRadians);
+		tanLatitude = Math.tan(latitudeRadians);
+		elevationAdjustment = Math.toDegrees(Math.acos(AstronomicalCalculator.DEFAULT_EARTH_RADIUS
+				/ (AstronomicalCalculator.DEFAULT_EARTH_RADIUS + (geoLocation.getElevation() / 1000))));
+		rawOffset = geoLocation.getTimeZone().getRawOffset();
+		localMeanTimeOffset = geoLocation.getLocalMeanTimeOffset();
+		antimeridianAdjustment = geoLocation.getAntimeridianAdjustment();
+	}
+
+	/**
+	 * Returns the interned instance equal to the {@link GeoLocation} passed in, creating it if needed. Later changes to
+	 * the GeoLocation passed in have no effect on the returned instance.
+	 *
+	 * @param geoLocation
+	 *            the location
+	 * @return the interned immutable location
+	 * @throws IllegalArgumentException if the location is <code>null</code>
+	 */
+	public static ImmutableGeoLocation valueOf(GeoLocation geoLocation) {
+		if (geoLocation == null) {
+			throw new IllegalArgumentException("The GeoLocation can't be null");
+		}
+		ImmutableGeoLocation instance = INSTANCES.get(geoLocation);
+		if (instance == null) {
+			GeoLocation copy = (GeoLocation) geoLocation.clone();
+			instance = new ImmutableGeoLocation(copy);
+			ImmutableGeoLocation existing = INSTANCES.putIfAbsent(copy, instance);
+			if (existing != null) {
+				instance = existing;
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the interned instance for the location information passed in.
+	 *
+	 * @param name
+	 *            The location name for display use such as &quot;Lakewood, NJ&quot;
+	 * @param latitude
+	 *            the latitude in a double format such as 40.095965 for Lakewood, NJ.
+	 * @param longitude
+	 *            double longitude in a double format such as -74.222130 for Lakewood, NJ.
+	 * @param elevation
+	 *            the elevation above sea level in Meters.
+	 * @param timeZone
+	 *            the <code>TimeZone</code> for the location.
+	 * @return the interned immutable location
+	 * @see GeoLocation#GeoLocation(String, double, double, double, TimeZone)
+	 */
+	public static ImmutableGeoLocation valueOf(String name, double latitude, double longitude, double elevation,
+			TimeZone timeZone) {
+		return valueOf(new GeoLocation(name, latitude, longitude, elevation, timeZone));
+	}
+
+	/**
+	 * Returns the elevation adjustment in degrees for the {@link AstronomicalCalculator#getEarthRadius() default earth
+	 * radius}, calculated in the same way as {@link AstronomicalCalculator#getElevationAdjustment(double)}.
+	 *
+	 * @return the elevation adjustment in degrees
+	 */
+	double getElevationAdjustment() {
+		return elevationAdjustment;
+	}
+
+	/**
+	 * Returns a new mutable {@link GeoLocation} with the same values as this location.
+	 * @return a copy of the location as a GeoLocation
+	 */
+	public GeoLocation toGeoLocation() {
+		return (GeoLocation) geoLocation.clone();
+	}
+
+	/**
+	 * Returns the private copy of the location. This must never be modified or exposed.
+	 * @return the GeoLocation
+	 */
+	GeoLocation getGeoLocation() {
+		return geoLocation;
+	}
+
+	/**
+	 * @return the location name
+	 * @see GeoLocation#getLocationName()
+	 */
+	public String getLocationName() {
+		return geoLocation.getLocationName();
+	}
+
+	/**
+	 * @return the latitude in degrees
+	 * @see GeoLocation#getLatitude()
+	 */
+	public double getLatitude() {
+		return geoLocation.getLatitude();
+	}
+
+	/**
+	 * @return the longitude in degrees
+	 * @see GeoLocation#getLongitude()
+	 */
+	public double getLongitude() {
+		return geoLocation.getLongitude();
+	}
+
+	/**
+	 * @return the elevation in Meters
+	 * @see GeoLocation#getElevation()
+	 */
+	public double getElevation() {
+		return geoLocation.getElevation();
+	}
+
+	/**
+	 * Returns a copy of the location's time zone. Since <code>TimeZone</code> is mutable, a new copy is returned each time.
+	 * @return the time zone
+	 * @see GeoLocation#getTimeZone()
+	 */
+	public TimeZone getTimeZone() {
+		return (TimeZone) geoLocation.getTimeZone().clone();
+	}
+
+	/**
+	 * @return the latitude in radians
+	 */
+	public double getLatitudeRadians() {
+		return latitudeRadians;
+	}
+
+	/**
+	 * @return the sine of the latitude
+	 */
+	public double getSinLatitude() {
+		return sinLatitude;
+	}
+
+	/**
+	 * @return the cosine of the latitude
+	 */
+	public double getCosLatitude() {
+		return cosLatitude;
+	}
+
+	/**
+	 * @return the tangent of the latitude
+	 */
+	public double getTanLatitude() {
+		return tanLatitude;
+	}
+
+	/**
+	 * @return the time zone's raw offset (the offset without daylight saving time) in milliseconds
+	 * @see TimeZone#getRawOffset()
+	 */
+	public int getRawOffset() {
+		return rawOffset;
+	}
+
+	/**
+	 * @return the local mean time offset in milliseconds
+	 * @see GeoLocation#getLocalMeanTimeOffset()
+	 */
+	public long getLocalMeanTimeOffset() {
+		return localMeanTimeOffset;
+	}
+
+	/**
+	 * @return the number of days to adjust the date by for locations whose time zone crosses the antimeridian
+	 * @see GeoLocation#getAntimeridianAdjustment()
+	 */
+	public int getAntimeridianAdjustment() {
+		return antimeridianAdjustment;
+	}
+
+	/**
+	 * @see java.lang.Object#equals(Object)
+	 */
+	public boolean equals(Object object) {
+		if (this == object)
+			return true;
+		if (!(object instanceof ImmutableGeoLocation))
+			return false;
+		return geoLocation.equals(((ImmutableGeoLocation) object).geoLocation);
+	}
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	public int hashCode() {
+		return geoLocation.hashCode();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		return geoLocation.toString();
+	}
+}
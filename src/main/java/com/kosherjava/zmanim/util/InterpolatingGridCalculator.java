@@ -0,0 +1,543 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An {@link AstronomicalCalculator} that wraps another calculator (by default the {@link NOAACalculator}) and serves
+ * sunrise, sunset and twilight times by interpolating between times calculated at the nodes of a fixed latitude /
+ * longitude grid. The times at the four corners of a grid cell are calculated once per day, zenith and event, and
+ * every location that falls in that cell is then served by <a href="https://en.wikipedia.org/wiki/Bilinear_interpolation"
+ * >bilinear interpolation</a> instead of a full solar calculation. This is useful for a server that calculates
+ * <em>zmanim</em> for a long tail of arbitrary coordinates.
+ * <p>
+ * Before a cell is used for interpolation, the interpolated times at the center of the cell and at the midpoints of its
+ * four edges are compared to the exact times calculated by the wrapped calculator. If any of them differ by more than
+ * the {@link #getMaximumError() maximum error}, or if the sun does not reach the zenith at any of the corners (as happens
+ * near the polar day / polar night boundaries), the cell is flagged and all locations in it will fall back to the exact
+ * calculation for that day. Since only these five points are verified, the maximum error is a bound on the sampled
+ * points and not a strict guarantee for every point in the cell, although the times vary smoothly enough within a cell
+ * that passes verification that the error elsewhere in it is of the same order. Elevation adjusted sunrise and sunset
+ * at locations with an elevation above sea level are also always calculated exactly since the elevation adjustment is
+ * location specific.
+ * <p>
+ * Cells are cached per day, so the cache grows with every day calculated. Once it holds {@link #MAXIMUM_CACHE_SIZE}
+ * cells it is cleared, and long-running applications can also call {@link #clearCache()} periodically (for example once
+ * a day) to release the cells of past days sooner.
+ * <p>
+ * The wrapped calculator's {@link #getRefraction() refraction}, {@link #getSolarRadius() solar radius}, {@link
+ * #getEarthRadius() earth radius} and {@link #getTrigonometry() trigonometry} are used for all calculations, and
+ * changing them through this class clears the cache.
+ * Sample usage:
+ * <pre>
+ * ComplexZmanimCalendar czc = new ComplexZmanimCalendar(geoLocation);
+ * czc.setAstronomicalCalculator(new InterpolatingGridCalculator(new NOAACalculator(), 0.25, 1000));
+ * </pre>
+ * Since the cache belongs to the instance, a single instance should be reused across requests.
+ *
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public class InterpolatingGridCalculator extends AstronomicalCalculator {
+
+	/**
+	 * The default grid spacing of 0.25&deg;.
+	 * @see #getGridSpacing()
+	 */
+	public static final double DEFAULT_GRID_SPACING = 0.25;
+
+	/**
+	 * The default maximum allowed interpolation error of 1,000 milliseconds (1 second).
+	 * @see #getMaximumError()
+	 */
+	public static final long DEFAULT_MAXIMUM_ERROR = 1000;
+
+	/**
+	 * The number of cached cells (100,000, a few megabytes) at which the cache is cleared.
+	 * @see #getCacheSize()
+	 */
+	public static final int MAXIMUM_CACHE_SIZE = 100000;
+
+	/** The zenith of astronomical sunrise and sunset (90&deg;) that is the only zenith adjusted for elevation. */
+	private static final double GEOMETRIC_ZENITH = 90;
+
+	/** constant for milliseconds in an hour (3,600,000) */
+	private static final double HOUR_MILLIS = 60 * 60 * 1000;
+
+	/** The time zone used for the grid nodes. It is not used by the calculations, but is required by {@link GeoLocation}. */
+	private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+
+	/** The wrapped calculator used for the grid nodes and for the exact fallback calculations. */
+	private AstronomicalCalculator calculator;
+
+	/** The grid spacing in degrees. */
+	private final double gridSpacing;
+
+	/** The maximum allowed interpolation error in milliseconds. */
+	private final long maximumError;
+
+	/** The cache of grid cells. */
+	private ConcurrentMap<CellKey, double[]> cells = new ConcurrentHashMap<CellKey, double[]>();
+
+	/**
+	 * Default constructor that wraps a {@link NOAACalculator} using the {@link #DEFAULT_GRID_SPACING default grid spacing}
+	 * and {@link #DEFAULT_MAXIMUM_ERROR default maximum error}.
+	 */
+	public InterpolatingGridCalculator() {
+		this(new NOAACalculator(), DEFAULT_GRID_SPACING, DEFAULT_MAXIMUM_ERROR);
+	}
+
+	/**
+	 * Constructor that wraps the calculator passed in.
+	 *
+	 * @param calculator
+	 *            the calculator used to calculate the times at the grid nodes and the exact fallback times.
+	 * @param gridSpacing
+	 *            the distance in degrees between grid nodes. Smaller values result in more cells that are more likely to
+	 *            pass verification, at the cost of a larger cache. The value must be &gt; 0 and &lt;= 10. Values that evenly
+	 *            divide 180 (such as 0.1, 0.25 or 0.5) are recommended.
+	 * @param maximumError
+	 *            the maximum allowed difference in milliseconds between an interpolated and exact time for a cell to be
+	 *            used for interpolation.
+	 * @throws IllegalArgumentException if the calculator is <code>null</code>, or the grid spacing or maximum error are
+	 *            out of range.
+	 */
+	public InterpolatingGridCalculator(AstronomicalCalculator calculator, double gridSpacing, long maximumError) {
+		if (calculator == null) {
+			throw new IllegalArgumentException("The calculator can't be null");
+		}
+		if (!(gridSpacing > 0 && gridSpacing <= 10)) {
+			throw new IllegalArgumentException("The grid spacing must be greater than 0 and no more than 10 degrees");
+		}
+		if (maximumError < 0) {
+			throw new IllegalArgumentException("The maximum error can't be negative");
+		}
+		this.calculator = calculator;
+		this.gridSpacing = gridSpacing;
+		this.maximumError = maximumError;
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getCalculatorName()
+	 */
+	public String getCalculatorName() {
+		return calculator.getCalculatorName() + " (grid interpolated)";
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getUTCSunrise(Calendar, GeoLocation, double, boolean)
+	 */
+	public double getUTCSunrise(Calendar calendar, GeoLocation geoLocation, double zenith, boolean adjustForElevation) {
+		return getInterpolatedTime(calendar, geoLocation, zenith, adjustForElevation, true);
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getUTCSunset(Calendar, GeoLocation, double, boolean)
+	 */
+	public double getUTCSunset(Calendar calendar, GeoLocation geoLocation, double zenith, boolean adjustForElevation) {
+		return getInterpolatedTime(calendar, geoLocation, zenith, adjustForElevation, false);
+	}
+
+	/**
+	 * Solar noon only depends on the longitude, and is always calculated exactly by the wrapped calculator.
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getUTCNoon(Calendar, GeoLocation)
+	 */
+	public double getUTCNoon(Calendar calendar, GeoLocation geoLocation) {
+		return calculator.getUTCNoon(calendar, geoLocation);
+	}
+
+	/**
+	 * Solar midnight only depends on the longitude, and is always calculated exactly by the wrapped calculator.
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getUTCMidnight(Calendar, GeoLocation)
+	 */
+	public double getUTCMidnight(Calendar calendar, GeoLocation geoLocation) {
+		return calculator.getUTCMidnight(calendar, geoLocation);
+	}
+
+	/**
+	 * Returns the interpolated UTC time of the event, or the exact time if the location's grid cell can't be used.
+	 *
+	 * @param calendar
+	 *            Used to calculate day of year.
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @param zenith
+	 *            the zenith
+	 * @param adjustForElevation
+	 *            Should the time be adjusted for elevation
+	 * @param isSunrise
+	 *            true for sunrise (morning) events and false for sunset (evening) events
+	 * @return The UTC time in hours (0 - 23.999...) or {@link Double#NaN} if the sun does not reach the zenith.
+	 */
+	private double getInterpolatedTime(Calendar calendar, GeoLocation geoLocation, double zenith,
+			boolean adjustForElevation, boolean isSunrise) {
+		if (adjustForElevation && zenith == GEOMETRIC_ZENITH && geoLocation.getElevation() > 0) {
+			return getExactTime(calendar, geoLocation, zenith, adjustForElevation, isSunrise);
+		}
+		double latitudeIndex = (geoLocation.getLatitude() + 90) / gridSpacing;
+		double longitudeIndex = (geoLocation.getLongitude() + 180) / gridSpacing;
+		int row = (int) Math.floor(latitudeIndex);
+		int column = (int) Math.floor(longitudeIndex);
+		if (getNodeLatitude(row + 1) > 90 || getNodeLongitude(column + 1) > 180) {
+			return getExactTime(calendar, geoLocation, zenith, adjustForElevation, isSunrise);
+		}
+		CellKey key = new CellKey(calendar.get(Calendar.YEAR), calendar.get(Calendar.DAY_OF_YEAR), row, column,
+				zenith, isSunrise);
+		double[] cell = cells.get(key);
+		if (cell == null) {
+			cell = buildCell(calendar, row, column, zenith, isSunrise);
+			if (cells.size() >= MAXIMUM_CACHE_SIZE) {
+				cells.clear();
+			}
+			cells.putIfAbsent(key, cell);
+		}
+		if (cell == null || cell.length == 0) {
+			return getExactTime(calendar, geoLocation, zenith, adjustForElevation, isSunrise);
+		}
+		return normalize(interpolate(cell, latitudeIndex - row, longitudeIndex - column));
+	}
+
+	/**
+	 * Calculates the corners of a grid cell and verifies that interpolation within the cell is within the maximum error.
+	 *
+	 * @param calendar the calendar set to the day being calculated
+	 * @param row the latitude index of the south-west corner
+	 * @param column the longitude index of the south-west corner
+	 * @param zenith the zenith
+	 * @param isSunrise true for sunrise (morning) events and false for sunset (evening) events
+	 * @return the four corner times (south-west, south-east, north-west, north-east) unwrapped to be continuous across
+	 *         UTC midnight, or an empty array if the cell can't be used for interpolation.
+	 */
+	private double[] buildCell(Calendar calendar, int row, int column, double zenith, boolean isSunrise) {
+		double south = getNodeLatitude(row);
+		double north = getNodeLatitude(row + 1);
+		double west = getNodeLongitude(column);
+		double east = getNodeLongitude(column + 1);
+		double[] corners = {
+				getNodeTime(calendar, south, west, zenith, isSunrise),
+				getNodeTime(calendar, south, east, zenith, isSunrise),
+				getNodeTime(calendar, north, west, zenith, isSunrise),
+				getNodeTime(calendar, north, east, zenith, isSunrise)};
+		for (int i = 0; i < corners.length; i++) {
+			if (Double.isNaN(corners[i])) {
+				return new double[0];
+			}
+			corners[i] = unwrap(corners[i], corners[0]);
+		}
+		double middleLatitude = (south + north) / 2;
+		double middleLongitude = (west + east) / 2;
+		if (!isWithinMaximumError(corners, 0.5, 0.5, calendar, middleLatitude, middleLongitude, zenith, isSunrise)
+				|| !isWithinMaximumError(corners, 0.5, 0, calendar, middleLatitude, west, zenith, isSunrise)
+				|| !isWithinMaximumError(corners, 0.5, 1, calendar, middleLatitude, east, zenith, isSunrise)
+				|| !isWithinMaximumError(corners, 0, 0.5, calendar, south, middleLongitude, zenith, isSunrise)
+				|| !isWithinMaximumError(corners, 1, 0.5, calendar, north, middleLongitude, zenith, isSunrise)) {
+			return new double[0];
+		}
+		return corners;
+	}
+
+	/**
+	 * Verifies a point in the cell against the exact calculation.
+	 *
+	 * @param corners the unwrapped cell corners
+	 * @param latitudeFraction the fraction of the cell height north of the southern edge
+	 * @param longitudeFraction the fraction of the cell width east of the western edge
+	 * @param calendar the calendar set to the day being calculated
+	 * @param latitude the latitude of the point
+	 * @param longitude the longitude of the point
+	 * @param zenith the zenith
+	 * @param isSunrise true for sunrise (morning) events and false for sunset (evening) events
+	 * @return true if the interpolated time is within the maximum error of the exact time
+	 */
+	private boolean isWithinMaximumError(double[] corners, double latitudeFraction, double longitudeFraction,
+			Calendar calendar, double latitude, double longitude, double zenith, boolean isSunrise) {
+		double exact = getNodeTime(calendar, latitude, longitude, zenith, isSunrise);
+		if (Double.isNaN(exact)) {
+			return false;
+		}
+		double interpolated = interpolate(corners, latitudeFraction, longitudeFraction);
+		return Math.abs(unwrap(exact, interpolated) - interpolated) * HOUR_MILLIS <= maximumError;
+	}
+
+	/**
+	 * Returns the sea level time calculated by the wrapped calculator for a grid node or verification point.
+	 *
+	 * @param calendar the calendar set to the day being calculated
+	 * @param latitude the latitude
+	 * @param longitude the longitude
+	 * @param zenith the zenith
+	 * @param isSunrise true for sunrise (morning) events and false for sunset (evening) events
+	 * @return the UTC time in hours
+	 */
+	private double getNodeTime(Calendar calendar, double latitude, double longitude, double zenith, boolean isSunrise) {
+		GeoLocation node = new GeoLocation(null, latitude, longitude, GMT);
+		return isSunrise ? calculator.getUTCSunrise(calendar, node, zenith, false)
+				: calculator.getUTCSunset(calendar, node, zenith, false);
+	}
+
+	/**
+	 * Returns the exact time as calculated by the wrapped calculator.
+	 *
+	 * @param calendar Used to calculate day of year.
+	 * @param geoLocation the location
+	 * @param zenith the zenith
+	 * @param adjustForElevation Should the time be adjusted for elevation
+	 * @param isSunrise true for sunrise (morning) events and false for sunset (evening) events
+	 * @return the UTC time in hours
+	 */
+	private double getExactTime(Calendar calendar, GeoLocation geoLocation, double zenith, boolean adjustForElevation,
+			boolean isSunrise) {
+		return isSunrise ? calculator.getUTCSunrise(calendar, geoLocation, zenith, adjustForElevation)
+				: calculator.getUTCSunset(calendar, geoLocation, zenith, adjustForElevation);
+	}
+
+	/**
+	 * Bilinear interpolation between the four corners of a cell.
+	 *
+	 * @param corners the south-west, south-east, north-west and north-east corners
+	 * @param latitudeFraction the fraction of the cell height north of the southern edge
+	 * @param longitudeFraction the fraction of the cell width east of the western edge
+	 * @return the interpolated value
+	 */
+	private static double interpolate(double[] corners, double latitudeFraction, double longitudeFraction) {
+		double south = corners[0] + (corners[1] - corners[0]) * longitudeFraction;
+		double north = corners[2] + (corners[3] - corners[2]) * longitudeFraction;
+		return south + (north - south) * latitudeFraction;
+	}
+
+	/**
+	 * Shifts a UTC time by a day if needed so that it is within 12 hours of the reference time.
+	 *
+	 * @param time the time in hours
+	 * @param reference the reference time in hours
+	 * @return the time, shifted by 24 hours if it is more than 12 hours away from the reference
+	 */
+	private static double unwrap(double time, double reference) {
+		if (time - reference > 12) {
+			return time - 24;
+		} else if (reference - time > 12) {
+			return time + 24;
+		}
+		return time;
+	}
+
+	/**
+	 * Ensures that the time is &gt;= 0 and &lt; 24.
+	 * @param time the time in hours
+	 * @return the time in the range of 0 - 23.999...
+	 */
+	private static double normalize(double time) {
+		return time >= 0 ? time % 24 : time % 24 + 24;
+	}
+
+	/**
+	 * @param row the latitude index
+	 * @return the latitude of the grid row
+	 */
+	private double getNodeLatitude(int row) {
+		return -90 + row * gridSpacing;
+	}
+
+	/**
+	 * @param column the longitude index
+	 * @return the longitude of the grid column
+	 */
+	private double getNodeLongitude(int column) {
+		return -180 + column * gridSpacing;
+	}
+
+	/**
+	 * Returns the wrapped calculator.
+	 * @return the wrapped calculator.
+	 */
+	public AstronomicalCalculator getCalculator() {
+		return calculator;
+	}
+
+	/**
+	 * Returns the distance in degrees between grid nodes.
+	 * @return the grid spacing in degrees.
+	 */
+	public double getGridSpacing() {
+		return gridSpacing;
+	}
+
+	/**
+	 * Returns the maximum allowed difference in milliseconds between an interpolated and exact time.
+	 * @return the maximum error in milliseconds.
+	 */
+	public long getMaximumError() {
+		return maximumError;
+	}
+
+	/**
+	 * Returns the number of grid cells currently cached. Each cell is for a single day, zenith and event.
+	 * @return the number of cached cells, never more than {@link #MAXIMUM_CACHE_SIZE}.
+	 */
+	public int getCacheSize() {
+		return cells.size();
+	}
+
+	/**
+	 * Clears the cache. Since cells are cached per day, long-running applications can call this periodically (for
+	 * example once a day) to release the cells of past days before the cache reaches {@link #MAXIMUM_CACHE_SIZE}.
+	 */
+	public void clearCache() {
+		cells.clear();
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getEarthRadius()
+	 */
+	public double getEarthRadius() {
+		return calculator.getEarthRadius();
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#setEarthRadius(double)
+	 */
+	public void setEarthRadius(double earthRadius) {
+		calculator.setEarthRadius(earthRadius);
+		clearCache();
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getRefraction()
+	 */
+	public double getRefraction() {
+		return calculator.getRefraction();
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#setRefraction(double)
+	 */
+	public void setRefraction(double refraction) {
+		calculator.setRefraction(refraction);
+		clearCache();
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getSolarRadius()
+	 */
+	public double getSolarRadius() {
+		return calculator.getSolarRadius();
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#setSolarRadius(double)
+	 */
+	public void setSolarRadius(double solarRadius) {
+		calculator.setSolarRadius(solarRadius);
+		clearCache();
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getTrigonometry()
+	 */
+	public Trigonometry getTrigonometry() {
+		return calculator.getTrigonometry();
+	}
+
+	/**
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#setTrigonometry(Trigonometry)
+	 */
+	public void setTrigonometry(Trigonometry trigonometry) {
+		calculator.setTrigonometry(trigonometry);
+		clearCache();
+	}
+
+	/**
+	 * The clone wraps a clone of the wrapped calculator, so that changing the settings of one does not affect the other,
+	 * and starts with an empty cache.
+	 * @see java.lang.Object#clone()
+	 */
+	public Object clone() {
+		InterpolatingGridCalculator clone = (InterpolatingGridCalculator) super.clone();
+		if (clone != null) {
+			clone.calculator = (AstronomicalCalculator) calculator.clone();
+			clone.cells = new ConcurrentHashMap<CellKey, double[]>();
+		}
+		return clone;
+	}
+
+	/**
+	 * The key of a cached grid cell.
+	 */
+	private static final class CellKey {
+		/** the Gregorian year */
+		private final int year;
+		/** the day of the year */
+		private final int dayOfYear;
+		/** the latitude index */
+		private final int row;
+		/** the longitude index */
+		private final int column;
+		/** the zenith */
+		private final double zenith;
+		/** true for sunrise and false for sunset */
+		private final boolean isSunrise;
+
+		/**
+		 * @param year the Gregorian year
+		 * @param dayOfYear the day of the year
+		 * @param row the latitude index
+		 * @param column the longitude index
+		 * @param zenith the zenith
+		 * @param isSunrise true for sunrise and false for sunset
+		 */
+		CellKey(int year, int dayOfYear, int row, int column, double zenith, boolean isSunrise) {
+			this.year = year;
+			this.dayOfYear = dayOfYear;
+			this.row = row;
+			this.column = column;
+			this.zenith = zenith;
+			this.isSunrise = isSunrise;
+		}
+
+		/**
+		 * @see java.lang.Object#equals(Object)
+		 */
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof CellKey)) {
+				return false;
+			}
+			CellKey key = (CellKey) object;
+			return year == key.year && dayOfYear == key.dayOfYear && row == key.row && column == key.column
+					&& Double.doubleToLongBits(zenith) == Double.doubleToLongBits(key.zenith) && isSunrise == key.isSunrise;
+		}
+
+		/**
+		 * @see java.lang.Object#hashCode()
+		 */
+		public int hashCode() {
+			long zenithBits = Double.doubleToLongBits(zenith);
+			int result = 17;
+			result = 37 * result + year;
+			result = 37 * result + dayOfYear;
+			result = 37 * result + row;
+			result = 37 * result + column;
+			result = 37 * result + (int) (zenithBits ^ (zenithBits >>> 32));
+			result = 37 * result + (isSunrise ? 1 : 0);
+			return result;
+		}
+	}
+}
@@ -36,12 +36,52 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * The <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> of January 1, 2000, known as
 	 * <a href="https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
 	 */
-	private static final double JULIAN_DAY_JAN_1_2000 = 2451545.0;
+	static final double JULIAN_DAY_JAN_1_2000 = 2451545.0;
 
 	/**
 	 * Julian days per century.
 	 */
-	private static final double JULIAN_DAYS_PER_CENTURY = 36525.0;
+	static final double JULIAN_DAYS_PER_CENTURY = 36525.0;
+
+	/** The zenith of astronomical sunrise and sunset (90&deg;) that is the only zenith {@link #adjustZenith adjusted}. */
+	private static final double GEOMETRIC_ZENITH = 90;
+
+	/**
+	 * The kernel that {@link #getUTCSunrisesAndSunsetsBatch(double[], double[], double[], double[], double, double[],
+	 * double[]) the batch sunrise and sunset method} uses to calculate several elements at once, or <code>null</code> if
+	 * it is not available.
+	 */
+	static final BatchKernel BATCH_KERNEL = loadBatchKernel();
+
+	/**
+	 * A kernel that calculates the NOAA algorithm with {@link Trigonometry#STRICT} for several elements of the batch
+	 * methods at once. The <code>jdk.incubator.vector</code> implementation is only in the Java 17 part of the
+	 * multi-release jar, and can only be loaded if the module was added with <code>--add-modules
+	 * jdk.incubator.vector</code>.
+	 */
+	abstract static class BatchKernel {
+		/**
+		 * Calculates sunrise and sunset for the elements from the start of the arrays up to a multiple of the number of
+		 * elements the kernel calculates at once. See {@link NOAACalculator#getUTCSunrisesAndSunsetsBatch(double[],
+		 * double[], double[], double[], double, double[], double[])} for the arrays.
+		 *
+		 * @param julianDays the Julian day of each date
+		 * @param latitudes the latitude of each location
+		 * @param longitudes the longitude of each location
+		 * @param elevations the elevation of each location in meters, or <code>null</code> for sea level
+		 * @param zenith the zenith
+		 * @param adjustZenith if the zenith should be adjusted for the solar radius, refraction and elevation
+		 * @param solarRadius the solar radius
+		 * @param refraction the refraction
+		 * @param earthRadius the earth radius in km
+		 * @param sunrises the array the UTC sunrise times are stored in, or <code>null</code>
+		 * @param sunsets the array the UTC sunset times are stored in, or <code>null</code>
+		 * @return the number of elements calculated. The caller calculates the rest.
+		 */
+		abstract int getUTCSunrisesAndSunsets(double[] julianDays, double[] latitudes, double[] longitudes,
+				double[] elevations, double zenith, boolean adjustZenith, double solarRadius, double refraction,
+				double earthRadius, double[] sunrises, double[] sunsets);
+	}
 	
 	/**
 	 * An <code>enum</code> to indicate what type of solar event ({@link #SUNRISE SUNRISE}, {@link #SUNSET SUNSET},
@@ -53,6 +93,22 @@ public class NOAACalculator extends AstronomicalCalculator {
 		/**NOON A solar event related to noon*/NOON, /**MIDNIGHT A solar event related to midnight*/MIDNIGHT
 	}
 	
+	/**
+	 * Loads the <code>jdk.incubator.vector</code> kernel if it is available.
+	 *
+	 * @return the kernel, or <code>null</code> if it is not in this version of the jar or the module was not added
+	 */
+	private static BatchKernel loadBatchKernel() {
+		try {
+			return (BatchKernel) Class.forName("com.kosherjava.zmanim.util.NOAAVectorKernel").getDeclaredConstructor()
+					.newInstance();
+		} catch (ReflectiveOperationException e) { // Java 8 to 16, where the multi-release jar does not have the kernel
+			return null;
+		} catch (LinkageError e) { // the jdk.incubator.vector module was not added
+			return null;
+		}
+	}
+
 	/**
 	 * Default constructor of the NOAACalculator.
 	 */
@@ -74,7 +130,7 @@ public class NOAACalculator extends AstronomicalCalculator {
 		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
 		double adjustedZenith = adjustZenith(zenith, elevation);
 		double sunrise = getSunRiseSetUTC(calendar, geoLocation.getLatitude(), -geoLocation.getLongitude(),
-				adjustedZenith, SolarEvent.SUNRISE);
+				adjustedZenith, SolarEvent.SUNRISE, getTrigonometry());
 		sunrise = sunrise / 60;
 		return sunrise > 0  ? sunrise % 24 : sunrise % 24 + 24; // ensure that the time is >= 0 and < 24
 	}
@@ -86,11 +142,338 @@ public class NOAACalculator extends AstronomicalCalculator {
 		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
 		double adjustedZenith = adjustZenith(zenith, elevation);
 		double sunset = getSunRiseSetUTC(calendar, geoLocation.getLatitude(), -geoLocation.getLongitude(),
-				adjustedZenith, SolarEvent.SUNSET);
+				adjustedZenith, SolarEvent.SUNSET, getTrigonometry());
+		sunset = sunset / 60;
+		return sunset > 0  ? sunset % 24 : sunset % 24 + 24; // ensure that the time is >= 0 and < 24
+	}
+
+	/**
+	 * Calculates sunrise using the latitude terms cached by the {@link ImmutableGeoLocation}.
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getUTCSunrise(Calendar, ImmutableGeoLocation, double, boolean)
+	 */
+	public double getUTCSunrise(Calendar calendar, ImmutableGeoLocation location, double zenith,
+			boolean adjustForElevation) {
+		double adjustedZenith = adjustZenith(zenith, location, adjustForElevation);
+		double sunrise = getSunRiseSetUTC(calendar, location.getCosLatitude(), location.getTanLatitude(),
+				-location.getLongitude(), adjustedZenith, SolarEvent.SUNRISE, getTrigonometry());
+		sunrise = sunrise / 60;
+		return sunrise > 0  ? sunrise % 24 : sunrise % 24 + 24; // ensure that the time is >= 0 and < 24
+	}
+
+	/**
+	 * Calculates sunset using the latitude terms cached by the {@link ImmutableGeoLocation}.
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getUTCSunset(Calendar, ImmutableGeoLocation, double, boolean)
+	 */
+	public double getUTCSunset(Calendar calendar, ImmutableGeoLocation location, double zenith,
+			boolean adjustForElevation) {
+		double adjustedZenith = adjustZenith(zenith, location, adjustForElevation);
+		double sunset = getSunRiseSetUTC(calendar, location.getCosLatitude(), location.getTanLatitude(),
+				-location.getLongitude(), adjustedZenith, SolarEvent.SUNSET, getTrigonometry());
 		sunset = sunset / 60;
 		return sunset > 0  ? sunset % 24 : sunset % 24 + 24; // ensure that the time is >= 0 and < 24
 	}
 
+	/**
+	 * Calculates the sunrise and sunset times of all the zeniths with a single calculation of the Julian day, the solar
+	 * noon and the first pass equation of time and declination, which do not depend on the zenith. Only the second pass
+	 * is calculated for each zenith, so the results are identical to {@link #getUTCSunrise(Calendar, GeoLocation, double,
+	 * boolean)} and {@link #getUTCSunset(Calendar, GeoLocation, double, boolean)}.
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getUTCSunrisesAndSunsets(Calendar, GeoLocation, double[],
+	 *      boolean, double[], double[])
+	 */
+	public void getUTCSunrisesAndSunsets(Calendar calendar, GeoLocation geoLocation, double[] zeniths,
+			boolean adjustForElevation, double[] sunrises, double[] sunsets) {
+		checkZenithArrays(zeniths, sunrises, sunsets);
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		Trigonometry trigonometry = getTrigonometry();
+		double cosLatitude = trigonometry.cos(geoLocation.getLatitude());
+		double tanLatitude = trigonometry.tan(geoLocation.getLatitude());
+		double longitude = -geoLocation.getLongitude();
+		double julianDay = getJulianDay(calendar);
+		double noonmin = getSolarNoonMidnightUTC(julianDay, longitude, SolarEvent.NOON, trigonometry);
+		double equationOfTime = getEquationOfTimeAtJulianDay(julianDay + noonmin / 1440.0, trigonometry);
+		double solarDeclination = getSunDeclinationAtJulianDay(julianDay + noonmin / 1440.0, trigonometry);
+		for (int i = 0; i < zeniths.length; i++) {
+			double adjustedZenith = adjustZenith(zeniths[i], elevation);
+			if (sunrises != null) {
+				double sunrise = getSunRiseSetUTC(julianDay, cosLatitude, tanLatitude, longitude, adjustedZenith,
+						equationOfTime, solarDeclination, SolarEvent.SUNRISE, trigonometry) / 60;
+				sunrises[i] = sunrise > 0  ? sunrise % 24 : sunrise % 24 + 24; // ensure that the time is >= 0 and < 24
+			}
+			if (sunsets != null) {
+				double sunset = getSunRiseSetUTC(julianDay, cosLatitude, tanLatitude, longitude, adjustedZenith,
+						equationOfTime, solarDeclination, SolarEvent.SUNSET, trigonometry) / 60;
+				sunsets[i] = sunset > 0  ? sunset % 24 : sunset % 24 + 24; // ensure that the time is >= 0 and < 24
+			}
+		}
+	}
+
+	/**
+	 * Calculates sunrise and sunset for many dates and locations with a single call, such as a grid of all the days of a
+	 * year for thousands of locations. The inputs and outputs are parallel primitive arrays, where element <code>i</code>
+	 * of each array belongs to the same date and location, so the calculation runs in a tight loop without creating
+	 * <code>Calendar</code> or {@link GeoLocation} objects. The Julian day, solar noon, equation of time and declination
+	 * of each element are calculated once and shared by its sunrise and sunset. Other than with the vector kernel below,
+	 * the results are identical to the results of {@link #getUTCSunrise(Calendar, GeoLocation, double, boolean)} and
+	 * {@link #getUTCSunset(Calendar, GeoLocation, double, boolean)}.
+	 * <p>
+	 * On Java 17 and later, when the <code>jdk.incubator.vector</code> module is added with <code>--add-modules
+	 * jdk.incubator.vector</code>, a plain <code>NOAACalculator</code> with {@link Trigonometry#STRICT} calculates as many
+	 * elements at once as the CPU's vector registers hold, and only the remaining elements in this loop. The vector
+	 * sine, cosine and arc functions are not always rounded the same as <code>java.lang.Math</code>, so these results
+	 * can differ from the single date methods by a few microseconds, other than right at the start and end of the polar
+	 * day and night, where such a difference can decide if the sun rises at all.
+	 * 
+	 * @param julianDays
+	 *            the Julian day of each date (see {@link #getJulianDay(int, int, int)})
+	 * @param latitudes
+	 *            the latitude of each location
+	 * @param longitudes
+	 *            the longitude of each location
+	 * @param elevations
+	 *            the elevation of each location in meters, or <code>null</code> if the times should not be adjusted for
+	 *            elevation
+	 * @param zenith
+	 *            the zenith (see {@link #getUTCSunrise(Calendar, GeoLocation, double, boolean)})
+	 * @param sunrises
+	 *            the array the UTC sunrise times are stored in, or <code>null</code> if sunrise times are not needed
+	 * @param sunsets
+	 *            the array the UTC sunset times are stored in, or <code>null</code> if sunset times are not needed
+	 * @throws IllegalArgumentException if the arrays do not all have the same length
+	 */
+	public void getUTCSunrisesAndSunsetsBatch(double[] julianDays, double[] latitudes, double[] longitudes,
+			double[] elevations, double zenith, double[] sunrises, double[] sunsets) {
+		int length = julianDays.length;
+		checkLengths(length, latitudes, longitudes, elevations, sunrises, sunsets);
+		Trigonometry trigonometry = getTrigonometry();
+		int start = 0;
+		if (BATCH_KERNEL != null && getClass() == NOAACalculator.class && trigonometry == Trigonometry.STRICT) {
+			start = BATCH_KERNEL.getUTCSunrisesAndSunsets(julianDays, latitudes, longitudes, elevations, zenith,
+					zenith == GEOMETRIC_ZENITH, getSolarRadius(), getRefraction(), getEarthRadius(), sunrises, sunsets);
+		}
+		for (int i = start; i < length; i++) {
+			double adjustedZenith = adjustZenith(zenith, elevations == null ? 0 : elevations[i]);
+			double cosLatitude = trigonometry.cos(latitudes[i]);
+			double tanLatitude = trigonometry.tan(latitudes[i]);
+			double longitude = -longitudes[i];
+			double julianDay = julianDays[i];
+			double noonmin = getSolarNoonMidnightUTC(julianDay, longitude, SolarEvent.NOON, trigonometry);
+			double equationOfTime = getEquationOfTimeAtJulianDay(julianDay + noonmin / 1440.0, trigonometry);
+			double solarDeclination = getSunDeclinationAtJulianDay(julianDay + noonmin / 1440.0, trigonometry);
+			if (sunrises != null) {
+				double sunrise = getSunRiseSetUTC(julianDay, cosLatitude, tanLatitude, longitude, adjustedZenith,
+						equationOfTime, solarDeclination, SolarEvent.SUNRISE, trigonometry) / 60;
+				sunrises[i] = sunrise > 0  ? sunrise % 24 : sunrise % 24 + 24; // ensure that the time is >= 0 and < 24
+			}
+			if (sunsets != null) {
+				double sunset = getSunRiseSetUTC(julianDay, cosLatitude, tanLatitude, longitude, adjustedZenith,
+						equationOfTime, solarDeclination, SolarEvent.SUNSET, trigonometry) / 60;
+				sunsets[i] = sunset > 0  ? sunset % 24 : sunset % 24 + 24; // ensure that the time is >= 0 and < 24
+			}
+		}
+	}
+
+	/**
+	 * Calculates solar noon for many dates and locations with a single call. The results are identical to the results
+	 * of {@link #getUTCNoon(Calendar, GeoLocation)}.
+	 * 
+	 * @param julianDays
+	 *            the Julian day of each date (see {@link #getJulianDay(int, int, int)})
+	 * @param longitudes
+	 *            the longitude of each location
+	 * @param noons
+	 *            the array the UTC noon times are stored in
+	 * @throws IllegalArgumentException if the arrays do not all have the same length
+	 */
+	public static void getUTCNoons(double[] julianDays, double[] longitudes, double[] noons) {
+		int length = julianDays.length;
+		checkLengths(length, longitudes, noons);
+		NOAACalculator calculator = new NOAACalculator();
+		for (int i = 0; i < length; i++) {
+			double noon = calculator.getSolarNoonMidnightUTC(julianDays[i], -longitudes[i], SolarEvent.NOON, Trigonometry.STRICT)
+					/ 60;
+			noons[i] = noon > 0  ? noon % 24 : noon % 24 + 24; // ensure that the time is >= 0 and < 24
+		}
+	}
+
+	/**
+	 * Calculates the solar elevation and azimuth for many times and locations with a single call. The equation of time,
+	 * declination and hour angle of each element are calculated once and shared by its elevation and azimuth. The
+	 * results match {@link #getSolarElevation(Calendar, double, double)} and {@link #getSolarAzimuth(Calendar, double,
+	 * double)} for a UTC <code>Calendar</code> set to the same time, within floating point rounding.
+	 * 
+	 * @param julianDays
+	 *            the Julian day of each date (see {@link #getJulianDay(int, int, int)})
+	 * @param utcHours
+	 *            the UTC time of day of each element in hours, such as 18.75 for 18:45:00 UTC
+	 * @param latitudes
+	 *            the latitude of each location
+	 * @param longitudes
+	 *            the longitude of each location
+	 * @param solarElevations
+	 *            the array the solar elevations in degrees are stored in, or <code>null</code> if they are not needed
+	 * @param solarAzimuths
+	 *            the array the solar azimuths in degrees are stored in, or <code>null</code> if they are not needed
+	 * @throws IllegalArgumentException if the arrays do not all have the same length
+	 */
+	public static void getSolarElevationsAndAzimuths(double[] julianDays, double[] utcHours, double[] latitudes,
+			double[] longitudes, double[] solarElevations, double[] solarAzimuths) {
+		int length = julianDays.length;
+		checkLengths(length, utcHours, latitudes, longitudes, solarElevations, solarAzimuths);
+		for (int i = 0; i < length; i++) {
+			double julianCenturies = getJulianCenturiesFromJulianDay(julianDays[i]);
+			double eot = getEquationOfTime(julianCenturies, Trigonometry.STRICT);
+			double adjustedLongitude = (utcHours[i] + 12.0) + eot / 60.0;
+			adjustedLongitude = -(adjustedLongitude * 360.0 / 24.0) % 360.0;
+			double hourAngle_rad = Math.toRadians(longitudes[i] - adjustedLongitude);
+			double dec_rad = Math.toRadians(getSunDeclination(julianCenturies, Trigonometry.STRICT));
+			double lat_rad = Math.toRadians(latitudes[i]);
+			if (solarElevations != null) {
+				solarElevations[i] = Math.toDegrees(Math.asin((Math.sin(lat_rad) * Math.sin(dec_rad))
+						+ (Math.cos(lat_rad) * Math.cos(dec_rad) * Math.cos(hourAngle_rad))));
+			}
+			if (solarAzimuths != null) {
+				solarAzimuths[i] = Math.toDegrees(Math.atan(Math.sin(hourAngle_rad)
+						/ ((Math.cos(hourAngle_rad) * Math.sin(lat_rad)) - (Math.tan(dec_rad) * Math.cos(lat_rad))))) + 180;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of samples in a day for the solar position time series methods such as {@link
+	 * #getSolarElevations(Calendar, double, double, int)}. The first sample is at midnight and the last one is the last
+	 * step that starts before the following midnight.
+	 * 
+	 * @param stepSeconds
+	 *            the number of seconds between samples, such as 60 for a sample every minute
+	 * @return the number of samples in a day
+	 * @throws IllegalArgumentException if the step is not positive
+	 */
+	public static int getSolarPositionSampleCount(int stepSeconds) {
+		if (stepSeconds <= 0) {
+			throw new IllegalArgumentException("The step must be a positive number of seconds");
+		}
+		return (86400 + stepSeconds - 1) / stepSeconds;
+	}
+
+	/**
+	 * Calculates the solar elevation and azimuth for a whole day at a fixed step, such as every minute for a sun path
+	 * chart. The Julian day, equation of time and declination are calculated once for the day, and the hour angle is
+	 * advanced from sample to sample by rotation instead of being recalculated, so every sample only costs an
+	 * <code>asin</code> and an <code>atan</code>. As with {@link #getSolarElevation(Calendar, double, double)}, the date
+	 * is taken from the <code>calendar</code> and the time of day of each sample is treated as UTC. Sample <code>i</code>
+	 * matches {@link #getSolarElevation(Calendar, double, double)} and {@link #getSolarAzimuth(Calendar, double,
+	 * double)} for the same date at <code>i * stepSeconds</code> seconds after midnight, within floating point rounding.
+	 * 
+	 * @param calendar
+	 *            the date of the calculation
+	 * @param latitude
+	 *            latitude of location for calculation
+	 * @param longitude
+	 *            longitude of location for calculation
+	 * @param stepSeconds
+	 *            the number of seconds between samples, such as 60 for a sample every minute
+	 * @param solarElevations
+	 *            the array the solar elevations in degrees are stored in, or <code>null</code> if they are not needed
+	 * @param solarAzimuths
+	 *            the array the solar azimuths in degrees are stored in, or <code>null</code> if they are not needed
+	 * @throws IllegalArgumentException if the step is not positive or if an array length is not {@link
+	 *             #getSolarPositionSampleCount(int)}
+	 */
+	public static void getSolarPositions(Calendar calendar, double latitude, double longitude, int stepSeconds,
+			double[] solarElevations, double[] solarAzimuths) {
+		int count = getSolarPositionSampleCount(stepSeconds);
+		checkLengths(count, solarElevations, solarAzimuths);
+		double julianCenturies = getJulianCenturiesFromJulianDay(getJulianDay(calendar));
+		double eot = getEquationOfTime(julianCenturies, Trigonometry.STRICT);
+		double dec_rad = Math.toRadians(getSunDeclination(julianCenturies, Trigonometry.STRICT));
+		double lat_rad = Math.toRadians(latitude);
+		double sinLatSinDec = Math.sin(lat_rad) * Math.sin(dec_rad);
+		double cosLatCosDec = Math.cos(lat_rad) * Math.cos(dec_rad);
+		double sinLat = Math.sin(lat_rad);
+		double tanDecCosLat = Math.tan(dec_rad) * Math.cos(lat_rad);
+
+		double adjustedLongitude = 12.0 + eot / 60.0; // the hour angle at midnight
+		adjustedLongitude = -(adjustedLongitude * 360.0 / 24.0) % 360.0;
+		double hourAngle_rad = Math.toRadians(longitude - adjustedLongitude);
+		double sinHourAngle = Math.sin(hourAngle_rad);
+		double cosHourAngle = Math.cos(hourAngle_rad);
+		double step_rad = Math.toRadians(stepSeconds * 360.0 / 86400.0);
+		double sinStep = Math.sin(step_rad);
+		double cosStep = Math.cos(step_rad);
+		for (int i = 0; i < count; i++) {
+			if (solarElevations != null) {
+				solarElevations[i] = Math.toDegrees(Math.asin(sinLatSinDec + cosLatCosDec * cosHourAngle));
+			}
+			if (solarAzimuths != null) {
+				solarAzimuths[i] = Math.toDegrees(Math.atan(sinHourAngle
+						/ ((cosHourAngle * sinLat) - tanDecCosLat))) + 180;
+			}
+			double sin = sinHourAngle * cosStep + cosHourAngle * sinStep;
+			cosHourAngle = cosHourAngle * cosStep - sinHourAngle * sinStep;
+			sinHourAngle = sin;
+		}
+	}
+
+	/**
+	 * Returns the solar elevation for a whole day at a fixed step. See {@link #getSolarPositions(Calendar, double,
+	 * double, int, double[], double[])} for details.
+	 * 
+	 * @param calendar
+	 *            the date of the calculation
+	 * @param latitude
+	 *            latitude of location for calculation
+	 * @param longitude
+	 *            longitude of location for calculation
+	 * @param stepSeconds
+	 *            the number of seconds between samples, such as 60 for a sample every minute
+	 * @return the solar elevation in degrees of each sample, starting at midnight
+	 * @throws IllegalArgumentException if the step is not positive
+	 */
+	public static double[] getSolarElevations(Calendar calendar, double latitude, double longitude, int stepSeconds) {
+		double[] solarElevations = new double[getSolarPositionSampleCount(stepSeconds)];
+		getSolarPositions(calendar, latitude, longitude, stepSeconds, solarElevations, null);
+		return solarElevations;
+	}
+
+	/**
+	 * Returns the solar azimuth for a whole day at a fixed step. See {@link #getSolarPositions(Calendar, double,
+	 * double, int, double[], double[])} for details.
+	 * 
+	 * @param calendar
+	 *            the date of the calculation
+	 * @param latitude
+	 *            latitude of location for calculation
+	 * @param longitude
+	 *            longitude of location for calculation
+	 * @param stepSeconds
+	 *            the number of seconds between samples, such as 60 for a sample every minute
+	 * @return the solar azimuth in degrees of each sample, starting at midnight
+	 * @throws IllegalArgumentException if the step is not positive
+	 */
+	public static double[] getSolarAzimuths(Calendar calendar, double latitude, double longitude, int stepSeconds) {
+		double[] solarAzimuths = new double[getSolarPositionSampleCount(stepSeconds)];
+		getSolarPositions(calendar, latitude, longitude, stepSeconds, null, solarAzimuths);
+		return solarAzimuths;
+	}
+
+	/**
+	 * Checks that the arrays passed to the batch methods all have the same length.
+	 * 
+	 * @param length
+	 *            the expected length
+	 * @param arrays
+	 *            the arrays. <code>null</code> arrays (optional outputs) are ignored.
+	 * @throws IllegalArgumentException if an array does not have the expected length
+	 */
+	private static void checkLengths(int length, double[]... arrays) {
+		for (double[] array : arrays) {
+			if (array != null && array.length != length) {
+				throw new IllegalArgumentException("All the arrays must have a length of " + length);
+			}
+		}
+	}
+
 	/**
 	 * Return the <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> from a Java Calendar.
 	 * 
@@ -100,9 +483,27 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 *         should be added later.
 	 */
 	private static double getJulianDay(Calendar calendar) {
-		int year = calendar.get(Calendar.YEAR);
-		int month = calendar.get(Calendar.MONTH) + 1;
-		int day = calendar.get(Calendar.DAY_OF_MONTH);
+		return getJulianDay(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH),
+				calendar.get(Calendar.DAY_OF_MONTH));
+	}
+
+	/**
+	 * Return the <a href="https://en.wikipedia.org/wiki/Julian_day">Julian day</a> of a Gregorian date, for use with
+	 * the batch methods such as {@link #getUTCSunrisesAndSunsetsBatch(double[], double[], double[], double[],
+	 * double, double[], double[])}.
+	 * 
+	 * @param year
+	 *            the year
+	 * @param month
+	 *            the month, where 0 is January as in <code>java.util.Calendar</code>
+	 * @param dayOfMonth
+	 *            the day of the month
+	 * @return the Julian day corresponding to the date Note: Number is returned for start of day. Fractional days
+	 *         should be added later.
+	 */
+	public static double getJulianDay(int year, int month, int dayOfMonth) {
+		month += 1;
+		int day = dayOfMonth;
 		if (month <= 2) {
 			year -= 1;
 			month += 12;
@@ -120,7 +521,7 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 *            the Julian Day to convert
 	 * @return the centuries since 2000 Julian corresponding to the Julian Day
 	 */
-	private static double getJulianCenturiesFromJulianDay(double julianDay) {
+	static double getJulianCenturiesFromJulianDay(double julianDay) {
 		return (julianDay - JULIAN_DAY_JAN_1_2000) / JULIAN_DAYS_PER_CENTURY;
 	}
 
@@ -167,14 +568,25 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @param julianCenturies
 	 *            the number of Julian centuries since <a href=
 	 *            "https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
+	 * @param trigonometry
+	 *            the trigonometric functions
 	 * @return the equation of center for the sun in degrees
 	 */
-	private static double getSunEquationOfCenter(double julianCenturies) {
+	private static double getSunEquationOfCenter(double julianCenturies, Trigonometry trigonometry) {
 		double m = getSunGeometricMeanAnomaly(julianCenturies);
-		double mrad = Math.toRadians(m);
-		double sinm = Math.sin(mrad);
-		double sin2m = Math.sin(mrad + mrad);
-		double sin3m = Math.sin(mrad + mrad + mrad);
+		double sinm;
+		double sin2m;
+		double sin3m;
+		if (trigonometry == Trigonometry.STRICT) { // calculated exactly as it always was, so the default is unchanged
+			double mrad = Math.toRadians(m);
+			sinm = Math.sin(mrad);
+			sin2m = Math.sin(mrad + mrad);
+			sin3m = Math.sin(mrad + mrad + mrad);
+		} else {
+			sinm = trigonometry.sin(m);
+			sin2m = trigonometry.sin(m + m);
+			sin3m = trigonometry.sin(m + m + m);
+		}
 		return sinm * (1.914602 - julianCenturies * (0.004817 + 0.000014 * julianCenturies)) + sin2m
 				* (0.019993 - 0.000101 * julianCenturies) + sin3m * 0.000289;
 	}
@@ -185,11 +597,13 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @param julianCenturies
 	 *            the number of Julian centuries since <a href=
 	 *            "https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
+	 * @param trigonometry
+	 *            the trigonometric functions
 	 * @return the sun's true longitude in degrees
 	 */
-	private static double getSunTrueLongitude(double julianCenturies) {
+	private static double getSunTrueLongitude(double julianCenturies, Trigonometry trigonometry) {
 		double sunLongitude = getSunGeometricMeanLongitude(julianCenturies);
-		double center = getSunEquationOfCenter(julianCenturies); 
+		double center = getSunEquationOfCenter(julianCenturies, trigonometry);
 		return sunLongitude + center;
 	}
 
@@ -213,12 +627,14 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @param julianCenturies
 	 *            the number of Julian centuries since <a href=
 	 *            "https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
+	 * @param trigonometry
+	 *            the trigonometric functions
 	 * @return sun's apparent longitude in degrees
 	 */
-	private static double getSunApparentLongitude(double julianCenturies) {
-		double sunTrueLongitude = getSunTrueLongitude(julianCenturies);
+	private static double getSunApparentLongitude(double julianCenturies, Trigonometry trigonometry) {
+		double sunTrueLongitude = getSunTrueLongitude(julianCenturies, trigonometry);
 		double omega = 125.04 - 1934.136 * julianCenturies;
-		double lambda = sunTrueLongitude - 0.00569 - 0.00478 * Math.sin(Math.toRadians(omega));
+		double lambda = sunTrueLongitude - 0.00569 - 0.00478 * trigonometry.sin(omega);
 		return lambda;
 	}
 
@@ -243,12 +659,14 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @param julianCenturies
 	 *            the number of Julian centuries since <a href=
 	 *            "https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
+	 * @param trigonometry
+	 *            the trigonometric functions
 	 * @return the corrected obliquity in degrees
 	 */
-	private static double getObliquityCorrection(double julianCenturies) {
+	private static double getObliquityCorrection(double julianCenturies, Trigonometry trigonometry) {
 		double obliquityOfEcliptic = getMeanObliquityOfEcliptic(julianCenturies);
 		double omega = 125.04 - 1934.136 * julianCenturies;
-		return obliquityOfEcliptic + 0.00256 * Math.cos(Math.toRadians(omega));
+		return obliquityOfEcliptic + 0.00256 * trigonometry.cos(omega);
 	}
 
 	/**
@@ -257,14 +675,16 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @param julianCenturies
 	 *            the number of Julian centuries since <a href=
 	 *            "https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
+	 * @param trigonometry
+	 *            the trigonometric functions
 	 * @return
 	 *            the sun's declination in degrees
 	 */
-	private static double getSunDeclination(double julianCenturies) {
-		double obliquityCorrection = getObliquityCorrection(julianCenturies);
-		double lambda = getSunApparentLongitude(julianCenturies);
-		double sint = Math.sin(Math.toRadians(obliquityCorrection)) * Math.sin(Math.toRadians(lambda));
-		double theta = Math.toDegrees(Math.asin(sint));
+	static double getSunDeclination(double julianCenturies, Trigonometry trigonometry) {
+		double obliquityCorrection = getObliquityCorrection(julianCenturies, trigonometry);
+		double lambda = getSunApparentLongitude(julianCenturies, trigonometry);
+		double sint = trigonometry.sin(obliquityCorrection) * trigonometry.sin(lambda);
+		double theta = trigonometry.asin(sint);
 		return theta;
 	}
 
@@ -275,44 +695,95 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @param julianCenturies
 	 *            the number of Julian centuries since <a href=
 	 *            "https://en.wikipedia.org/wiki/Epoch_(astronomy)#J2000">J2000.0</a>.
+	 * @param trigonometry
+	 *            the trigonometric functions
 	 * @return equation of time in minutes of time
 	 */
-	private static double getEquationOfTime(double julianCenturies) {
-		double epsilon = getObliquityCorrection(julianCenturies);
+	static double getEquationOfTime(double julianCenturies, Trigonometry trigonometry) {
+		double epsilon = getObliquityCorrection(julianCenturies, trigonometry);
 		double geomMeanLongSun = getSunGeometricMeanLongitude(julianCenturies);
 		double eccentricityEarthOrbit = getEarthOrbitEccentricity(julianCenturies);
 		double geomMeanAnomalySun = getSunGeometricMeanAnomaly(julianCenturies);
-		double y = Math.tan(Math.toRadians(epsilon) / 2.0);
+		double y;
+		double sin2l0;
+		double sinm;
+		double cos2l0;
+		double sin4l0;
+		double sin2m;
+		if (trigonometry == Trigonometry.STRICT) { // calculated exactly as it always was, so the default is unchanged
+			y = Math.tan(Math.toRadians(epsilon) / 2.0);
+			sin2l0 = Math.sin(2.0 * Math.toRadians(geomMeanLongSun));
+			sinm = Math.sin(Math.toRadians(geomMeanAnomalySun));
+			cos2l0 = Math.cos(2.0 * Math.toRadians(geomMeanLongSun));
+			sin4l0 = Math.sin(4.0 * Math.toRadians(geomMeanLongSun));
+			sin2m = Math.sin(2.0 * Math.toRadians(geomMeanAnomalySun));
+		} else {
+			y = trigonometry.tan(epsilon / 2.0);
+			sin2l0 = trigonometry.sin(2.0 * geomMeanLongSun);
+			sinm = trigonometry.sin(geomMeanAnomalySun);
+			cos2l0 = trigonometry.cos(2.0 * geomMeanLongSun);
+			sin4l0 = trigonometry.sin(4.0 * geomMeanLongSun);
+			sin2m = trigonometry.sin(2.0 * geomMeanAnomalySun);
+		}
 		y *= y;
-		double sin2l0 = Math.sin(2.0 * Math.toRadians(geomMeanLongSun));
-		double sinm = Math.sin(Math.toRadians(geomMeanAnomalySun));
-		double cos2l0 = Math.cos(2.0 * Math.toRadians(geomMeanLongSun));
-		double sin4l0 = Math.sin(4.0 * Math.toRadians(geomMeanLongSun));
-		double sin2m = Math.sin(2.0 * Math.toRadians(geomMeanAnomalySun));
 		double equationOfTime = y * sin2l0 - 2.0 * eccentricityEarthOrbit * sinm + 4.0 * eccentricityEarthOrbit * y
 				* sinm * cos2l0 - 0.5 * y * y * sin4l0 - 1.25 * eccentricityEarthOrbit * eccentricityEarthOrbit * sin2m;
 		return Math.toDegrees(equationOfTime) * 4.0;
 	}
+
+	/**
+	 * Returns the <a href="https://en.wikipedia.org/wiki/Equation_of_time">equation of time</a> at a Julian day. Every
+	 * pass of the sunrise, sunset, noon and midnight calculations gets the equation of time from this method, so a
+	 * subclass such as the {@link ChebyshevCalculator} can override it, together with {@link
+	 * #getSunDeclinationAtJulianDay(double, Trigonometry)}, to evaluate it in another way while sharing the rest of the
+	 * algorithm. This implementation calculates the NOAA series.
+	 * 
+	 * @param julianDay
+	 *            the Julian day, including the fraction of the day
+	 * @param trigonometry
+	 *            the trigonometric functions
+	 * @return equation of time in minutes of time
+	 */
+	protected double getEquationOfTimeAtJulianDay(double julianDay, Trigonometry trigonometry) {
+		return getEquationOfTime(getJulianCenturiesFromJulianDay(julianDay), trigonometry);
+	}
+
+	/**
+	 * Returns the <a href="https://en.wikipedia.org/wiki/Declination">declination</a> of the sun at a Julian day for the
+	 * passes of the sunrise and sunset calculations. See {@link #getEquationOfTimeAtJulianDay(double, Trigonometry)}.
+	 * 
+	 * @param julianDay
+	 *            the Julian day, including the fraction of the day
+	 * @param trigonometry
+	 *            the trigonometric functions
+	 * @return the sun's declination in degrees
+	 */
+	protected double getSunDeclinationAtJulianDay(double julianDay, Trigonometry trigonometry) {
+		return getSunDeclination(getJulianCenturiesFromJulianDay(julianDay), trigonometry);
+	}
 	
 	/**
-	 * Return the <a href="https://en.wikipedia.org/wiki/Hour_angle">hour angle</a> of the sun in
-	 * <a href="https://en.wikipedia.org/wiki/Radian">radians</a> at for the latitude.
+	 * Return the <a href="https://en.wikipedia.org/wiki/Hour_angle">hour angle</a> of the sun in degrees at for the
+	 * latitude.
 	 * 
-	 * @param latitude
-	 *            the latitude of observer in degrees
+	 * @param cosLatitude
+	 *            the cosine of the latitude of observer
+	 * @param tanLatitude
+	 *            the tangent of the latitude of observer
 	 * @param solarDeclination
 	 *            the declination angle of sun in degrees
 	 * @param zenith
 	 *            the zenith
 	 * @param solarEvent
 	 *             If the hour angle is for {@link SolarEvent#SUNRISE SUNRISE} or {@link SolarEvent#SUNSET SUNSET}
-	 * @return hour angle of sunrise in <a href="https://en.wikipedia.org/wiki/Radian">radians</a>
+	 * @param trigonometry
+	 *            the trigonometric functions
+	 * @return hour angle of sunrise in degrees
 	 */
-	private static double getSunHourAngle(double latitude, double solarDeclination, double zenith, SolarEvent solarEvent) {
-		double latRad = Math.toRadians(latitude);
-		double sdRad = Math.toRadians(solarDeclination);
-		double hourAngle = (Math.acos(Math.cos(Math.toRadians(zenith)) / (Math.cos(latRad) * Math.cos(sdRad))
-				- Math.tan(latRad) * Math.tan(sdRad)));
+	private static double getSunHourAngle(double cosLatitude, double tanLatitude, double solarDeclination, double zenith,
+			SolarEvent solarEvent, Trigonometry trigonometry) {
+		double hourAngle = trigonometry.acos(getCosSunHourAngle(cosLatitude, tanLatitude, solarDeclination, zenith,
+				trigonometry));
 		
 		if (solarEvent == SolarEvent.SUNSET) {
 			hourAngle = -hourAngle;
@@ -320,6 +791,29 @@ public class NOAACalculator extends AstronomicalCalculator {
 		return hourAngle;
 	}
 
+	/**
+	 * Return the cosine of the <a href="https://en.wikipedia.org/wiki/Hour_angle">hour angle</a> of the sun at a
+	 * zenith. It is outside the range of -1 to 1 when the sun does not reach the zenith, greater than 1 if it stays below
+	 * the zenith and less than -1 if it stays above it.
+	 * 
+	 * @param cosLatitude
+	 *            the cosine of the latitude of observer
+	 * @param tanLatitude
+	 *            the tangent of the latitude of observer
+	 * @param solarDeclination
+	 *            the declination angle of sun in degrees
+	 * @param zenith
+	 *            the zenith
+	 * @param trigonometry
+	 *            the trigonometric functions
+	 * @return the cosine of the hour angle
+	 */
+	private static double getCosSunHourAngle(double cosLatitude, double tanLatitude, double solarDeclination,
+			double zenith, Trigonometry trigonometry) {
+		return trigonometry.cos(zenith) / (cosLatitude * trigonometry.cos(solarDeclination))
+				- tanLatitude * trigonometry.tan(solarDeclination);
+	}
+
 	/**
 	 * Return the <a href="https://en.wikipedia.org/wiki/Celestial_coordinate_system">Solar Elevation</a> for the
 	 * horizontal coordinate system at the given location at the given time. Can be negative if the sun is below the
@@ -337,12 +831,12 @@ public class NOAACalculator extends AstronomicalCalculator {
 	public static double getSolarElevation(Calendar calendar, double latitude, double longitude) {
 		double julianDay = getJulianDay(calendar);
 		double julianCenturies = getJulianCenturiesFromJulianDay(julianDay);
-		Double eot = getEquationOfTime(julianCenturies);
+		Double eot = getEquationOfTime(julianCenturies, Trigonometry.STRICT);
 		double adjustedLongitude = (calendar.get(Calendar.HOUR_OF_DAY) + 12.0)
 				+ (calendar.get(Calendar.MINUTE) + eot + calendar.get(Calendar.SECOND) / 60.0) / 60.0;
 		adjustedLongitude = -(adjustedLongitude * 360.0 / 24.0) % 360.0;
 		double hourAngle_rad = Math.toRadians(longitude - adjustedLongitude);
-		double declination = getSunDeclination(julianCenturies);
+		double declination = getSunDeclination(julianCenturies, Trigonometry.STRICT);
 		double dec_rad = Math.toRadians(declination);
 		double lat_rad = Math.toRadians(latitude);
 		return Math.toDegrees(Math.asin((Math.sin(lat_rad) * Math.sin(dec_rad))
@@ -367,12 +861,12 @@ public class NOAACalculator extends AstronomicalCalculator {
 	public static double getSolarAzimuth(Calendar calendar, double latitude, double longitude) {
 		double julianDay = getJulianDay(calendar);
 		double julianCenturies = getJulianCenturiesFromJulianDay(julianDay);
-		Double eot = getEquationOfTime(julianCenturies);
+		Double eot = getEquationOfTime(julianCenturies, Trigonometry.STRICT);
 		double adjustedLongitude = (calendar.get(Calendar.HOUR_OF_DAY) + 12.0)
 				+ (calendar.get(Calendar.MINUTE) + eot + calendar.get(Calendar.SECOND) / 60.0) / 60.0;
 		adjustedLongitude = -(adjustedLongitude * 360.0 / 24.0) % 360.0;
 		double hourAngle_rad = Math.toRadians(longitude - adjustedLongitude);
-		double declination = getSunDeclination(julianCenturies);
+		double declination = getSunDeclination(julianCenturies, Trigonometry.STRICT);
 		double dec_rad = Math.toRadians(declination);
 		double lat_rad = Math.toRadians(latitude);
 		return Math.toDegrees(Math.atan(Math.sin(hourAngle_rad)
@@ -380,6 +874,84 @@ public class NOAACalculator extends AstronomicalCalculator {
 
 	}
 
+	/**
+	 * Classifies the day from the declination of the sun at solar noon and the latitude, which is the first pass of the
+	 * sunrise and sunset calculation. When it shows that the sun does not reach the zenith, neither time can be
+	 * calculated, and the sunrise and sunset are not calculated at all. The declination changes by less than 0.3&deg;
+	 * between solar noon and sunrise or sunset, so when the first pass is farther than that from the limit the day is
+	 * {@link SolarDayType#NORMAL}. Only the days close to the limit, at the start and end of the polar seasons, calculate
+	 * the second pass of both times, so the classification always matches {@link #getUTCSunrise(Calendar, GeoLocation,
+	 * double, boolean)} and {@link #getUTCSunset(Calendar, GeoLocation, double, boolean)}.
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getSolarDayType(Calendar, GeoLocation, double, boolean)
+	 */
+	public SolarDayType getSolarDayType(Calendar calendar, GeoLocation geoLocation, double zenith,
+			boolean adjustForElevation) {
+		return getSolarDayType(calendar, geoLocation, zenith, adjustForElevation, null);
+	}
+
+	/**
+	 * Classifies the sunrise or sunset alone the same way as {@link #getSolarDayType(Calendar, GeoLocation, double,
+	 * boolean)}, only calculating the second pass of the one time close to the limit.
+	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getSolarDayType(Calendar, GeoLocation, double, boolean,
+	 *      boolean)
+	 */
+	public SolarDayType getSolarDayType(Calendar calendar, GeoLocation geoLocation, double zenith,
+			boolean adjustForElevation, boolean isSunrise) {
+		return getSolarDayType(calendar, geoLocation, zenith, adjustForElevation,
+				isSunrise ? SolarEvent.SUNRISE : SolarEvent.SUNSET);
+	}
+
+	/**
+	 * Classifies the day for both sunrise and sunset, or for one of them.
+	 *
+	 * @param calendar
+	 *            Used to calculate day of year.
+	 * @param geoLocation
+	 *            The location information used for astronomical calculating sun times.
+	 * @param zenith
+	 *            the zenith
+	 * @param adjustForElevation
+	 *            Should the time be adjusted for elevation
+	 * @param solarEvent
+	 *            {@link SolarEvent#SUNRISE} or {@link SolarEvent#SUNSET} to classify only that time, or <code>null</code>
+	 *            for both
+	 * @return the classification of the day
+	 */
+	private SolarDayType getSolarDayType(Calendar calendar, GeoLocation geoLocation, double zenith,
+			boolean adjustForElevation, SolarEvent solarEvent) {
+		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
+		double adjustedZenith = adjustZenith(zenith, elevation);
+		Trigonometry trigonometry = getTrigonometry();
+		double cosLatitude = trigonometry.cos(geoLocation.getLatitude());
+		double tanLatitude = trigonometry.tan(geoLocation.getLatitude());
+		double longitude = -geoLocation.getLongitude();
+		double julianDay = getJulianDay(calendar);
+		double noonmin = getSolarNoonMidnightUTC(julianDay, longitude, SolarEvent.NOON, trigonometry);
+		double solarDeclination = getSunDeclinationAtJulianDay(julianDay + noonmin / 1440.0, trigonometry);
+		double cosHourAngle = getCosSunHourAngle(cosLatitude, tanLatitude, solarDeclination, adjustedZenith,
+				trigonometry);
+		if (Math.abs(cosHourAngle) > 1) {
+			return getSolarDayType(zenith, cosHourAngle > 0);
+		}
+		// a bound of the change of the cosine of the hour angle when the declination changes by 0.3 degrees
+		double maximumDeclination = Math.toRadians(Math.min(Math.abs(solarDeclination) + 0.3, 89));
+		double cosMaximumDeclination = Math.cos(maximumDeclination);
+		double maximumChange = Math.toRadians(0.3) * (Math.abs(Math.cos(Math.toRadians(adjustedZenith)))
+				* Math.sin(maximumDeclination) / cosLatitude + Math.abs(tanLatitude))
+				/ (cosMaximumDeclination * cosMaximumDeclination);
+		if (Math.abs(cosHourAngle) < 1 - maximumChange) {
+			return SolarDayType.NORMAL;
+		}
+		double equationOfTime = getEquationOfTimeAtJulianDay(julianDay + noonmin / 1440.0, trigonometry);
+		if ((solarEvent == SolarEvent.SUNSET || !Double.isNaN(getSunRiseSetUTC(julianDay, cosLatitude, tanLatitude,
+				longitude, adjustedZenith, equationOfTime, solarDeclination, SolarEvent.SUNRISE, trigonometry)))
+				&& (solarEvent == SolarEvent.SUNRISE || !Double.isNaN(getSunRiseSetUTC(julianDay, cosLatitude, tanLatitude,
+						longitude, adjustedZenith, equationOfTime, solarDeclination, SolarEvent.SUNSET, trigonometry)))) {
+			return SolarDayType.NORMAL;
+		}
+		return getSolarDayType(zenith, cosHourAngle > 0);
+	}
+
 	/**
 	 * Return the <a href="https://en.wikipedia.org/wiki/Universal_Coordinated_Time">Universal Coordinated Time</a> (UTC)
 	 * of <a href="https://en.wikipedia.org/wiki/Noon#Solar_noon">solar noon</a> for the given day at the given location
@@ -388,7 +960,7 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * "https://kosherjava.com/2020/07/02/definition-of-chatzos/">The Definition of <em>Chatzos</em></a> for details on
 	 * solar noon calculations.
 	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getUTCNoon(Calendar, GeoLocation)
-	 * @see #getSolarNoonMidnightUTC(double, double, SolarEvent)
+	 * @see #getSolarNoonMidnightUTC(double, double, SolarEvent, Trigonometry)
 	 * 
 	 * @param calendar
 	 *            The Calendar representing the date to calculate solar noon for
@@ -398,7 +970,8 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @return the time in minutes from zero UTC
 	 */
 	public double getUTCNoon(Calendar calendar, GeoLocation geoLocation) {
-		double noon = getSolarNoonMidnightUTC(getJulianDay(calendar), -geoLocation.getLongitude(), SolarEvent.NOON);
+		double noon = getSolarNoonMidnightUTC(getJulianDay(calendar), -geoLocation.getLongitude(), SolarEvent.NOON,
+				getTrigonometry());
 		noon = noon / 60;
 		return noon > 0  ? noon % 24 : noon % 24 + 24; // ensure that the time is >= 0 and < 24
 	}
@@ -412,7 +985,7 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * "https://kosherjava.com/2020/07/02/definition-of-chatzos/">The Definition of <em>Chatzos</em></a> for details on
 	 * solar noon / midnight calculations.
 	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getUTCNoon(Calendar, GeoLocation)
-	 * @see #getSolarNoonMidnightUTC(double, double, SolarEvent)
+	 * @see #getSolarNoonMidnightUTC(double, double, SolarEvent, Trigonometry)
 	 * 
 	 * @param calendar
 	 *            The Calendar representing the date to calculate solar noon for
@@ -422,7 +995,8 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 * @return the time in minutes from zero UTC
 	 */
 	public double getUTCMidnight(Calendar calendar, GeoLocation geoLocation) {
-		double midnight = getSolarNoonMidnightUTC(getJulianDay(calendar), -geoLocation.getLongitude(), SolarEvent.MIDNIGHT);
+		double midnight = getSolarNoonMidnightUTC(getJulianDay(calendar), -geoLocation.getLongitude(),
+				SolarEvent.MIDNIGHT, getTrigonometry());
 		midnight = midnight / 60;
 		return midnight > 0  ? midnight % 24 : midnight % 24 + 24; // ensure that the time is >= 0 and < 24
 	}
@@ -439,22 +1013,23 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 *            The longitude of observer in degrees
 	 * @param solarEvent
 	 *            If the calculation is for {@link SolarEvent#NOON NOON} or {@link SolarEvent#MIDNIGHT MIDNIGHT}
+	 * @param trigonometry
+	 *            the trigonometric functions
 	 *            
 	 * @return the time in minutes from zero UTC
 	 * 
 	 * @see com.kosherjava.zmanim.util.AstronomicalCalculator#getUTCNoon(Calendar, GeoLocation)
 	 * @see #getUTCNoon(Calendar, GeoLocation)
 	 */
-	private static double getSolarNoonMidnightUTC(double julianDay, double longitude, SolarEvent solarEvent) {
+	private double getSolarNoonMidnightUTC(double julianDay, double longitude, SolarEvent solarEvent,
+			Trigonometry trigonometry) {
 		julianDay = (solarEvent == SolarEvent.NOON) ? julianDay : julianDay + 0.5;
 		// First pass for approximate solar noon to calculate equation of time
-		double tnoon = getJulianCenturiesFromJulianDay(julianDay + longitude / 360.0);
-		double equationOfTime = getEquationOfTime(tnoon);
+		double equationOfTime = getEquationOfTimeAtJulianDay(julianDay + longitude / 360.0, trigonometry);
 		double solNoonUTC = (longitude * 4) - equationOfTime; // minutes
 		
 		// second pass
-		double newt = getJulianCenturiesFromJulianDay(julianDay + solNoonUTC / 1440.0);
-		equationOfTime = getEquationOfTime(newt);
+		equationOfTime = getEquationOfTimeAtJulianDay(julianDay + solNoonUTC / 1440.0, trigonometry);
 		return (solarEvent == SolarEvent.NOON ? 720 : 1440) + (longitude * 4) - equationOfTime;
 	}
 	
@@ -473,10 +1048,39 @@ public class NOAACalculator extends AstronomicalCalculator {
 	 *            Zenith
 	 * @param solarEvent
 	 *             If the calculation is for {@link SolarEvent#SUNRISE SUNRISE} or {@link SolarEvent#SUNSET SUNSET}
+	 * @param trigonometry
+	 *            the trigonometric functions
+	 * @return the time in minutes from zero Universal Coordinated Time (UTC)
+	 */
+	private double getSunRiseSetUTC(Calendar calendar, double latitude, double longitude, double zenith,
+			SolarEvent solarEvent, Trigonometry trigonometry) {
+		return getSunRiseSetUTC(calendar, trigonometry.cos(latitude), trigonometry.tan(latitude), longitude, zenith,
+				solarEvent, trigonometry);
+	}
+
+	/**
+	 * Return the <a href="https://en.wikipedia.org/wiki/Universal_Coordinated_Time">Universal Coordinated Time</a> (UTC)
+	 * of sunrise or sunset in minutes for the given day at the given location on earth, using the cosine and tangent of
+	 * the latitude so that they do not have to be recalculated for each pass.
+	 * 
+	 * @param calendar
+	 *            The calendar
+	 * @param cosLatitude
+	 *            The cosine of the latitude of observer
+	 * @param tanLatitude
+	 *            The tangent of the latitude of observer
+	 * @param longitude
+	 *            Longitude of observer in degrees
+	 * @param zenith
+	 *            Zenith
+	 * @param solarEvent
+	 *             If the calculation is for {@link SolarEvent#SUNRISE SUNRISE} or {@link SolarEvent#SUNSET SUNSET}
+	 * @param trigonometry
+	 *            the trigonometric functions
 	 * @return the time in minutes from zero Universal Coordinated Time (UTC)
 	 */
-	private static double getSunRiseSetUTC(Calendar calendar, double latitude, double longitude, double zenith,
-			SolarEvent solarEvent) {
+	private double getSunRiseSetUTC(Calendar calendar, double cosLatitude, double tanLatitude, double longitude,
+			double zenith, SolarEvent solarEvent, Trigonometry trigonometry) {
 		double julianDay = getJulianDay(calendar);
 
 		// Find the time of solar noon at the location, and use that declination.
@@ -485,25 +1089,58 @@ public class NOAACalculator extends AstronomicalCalculator {
 		// efficient but would likely cause a very minor discrepancy in the calculated times (likely not reducing
 		// accuracy, just slightly different, thus potentially breaking test cases). Regardless, it would be within
 		// milliseconds.
-		double noonmin = getSolarNoonMidnightUTC(julianDay, longitude, SolarEvent.NOON);
+		double noonmin = getSolarNoonMidnightUTC(julianDay, longitude, SolarEvent.NOON, trigonometry);
 																						
-		double tnoon = getJulianCenturiesFromJulianDay(julianDay + noonmin / 1440.0);
+		double noonJulianDay = julianDay + noonmin / 1440.0;
+		return getSunRiseSetUTC(julianDay, cosLatitude, tanLatitude, longitude, zenith,
+				getEquationOfTimeAtJulianDay(noonJulianDay, trigonometry),
+				getSunDeclinationAtJulianDay(noonJulianDay, trigonometry), solarEvent, trigonometry);
+	}
 
+	/**
+	 * Return the <a href="https://en.wikipedia.org/wiki/Universal_Coordinated_Time">Universal Coordinated Time</a> (UTC)
+	 * of sunrise or sunset in minutes using the equation of time and declination at solar noon, which do not depend on
+	 * the zenith and can be shared by the calculation of many zeniths.
+	 * 
+	 * @param julianDay
+	 *            The Julian day of the date
+	 * @param cosLatitude
+	 *            The cosine of the latitude of observer
+	 * @param tanLatitude
+	 *            The tangent of the latitude of observer
+	 * @param longitude
+	 *            Longitude of observer in degrees
+	 * @param zenith
+	 *            Zenith
+	 * @param equationOfTime
+	 *            the equation of time at solar noon
+	 * @param solarDeclination
+	 *            the sun's declination at solar noon
+	 * @param solarEvent
+	 *             If the calculation is for {@link SolarEvent#SUNRISE SUNRISE} or {@link SolarEvent#SUNSET SUNSET}
+	 * @param trigonometry
+	 *            the trigonometric functions
+	 * @return the time in minutes from zero Universal Coordinated Time (UTC)
+	 */
+	private double getSunRiseSetUTC(double julianDay, double cosLatitude, double tanLatitude, double longitude,
+			double zenith, double equationOfTime, double solarDeclination, SolarEvent solarEvent,
+			Trigonometry trigonometry) {
 		// First calculates sunrise and approximate length of day
-		double equationOfTime = getEquationOfTime(tnoon);
-		double solarDeclination = getSunDeclination(tnoon);
-		double hourAngle = getSunHourAngle(latitude, solarDeclination, zenith, solarEvent);
-		double delta = longitude - Math.toDegrees(hourAngle);
+		double hourAngle = getSunHourAngle(cosLatitude, tanLatitude, solarDeclination, zenith, solarEvent,
+				trigonometry);
+		if (Double.isNaN(hourAngle)) {
+			return Double.NaN; // the sun does not reach the zenith on this day, so the second pass would be NaN as well
+		}
+		double delta = longitude - hourAngle;
 		double timeDiff = 4 * delta;
 		double timeUTC = 720 + timeDiff - equationOfTime;
 
 		// Second pass includes fractional Julian Day in gamma calc
-		double newt = getJulianCenturiesFromJulianDay(julianDay + timeUTC / 1440.0);
-		equationOfTime = getEquationOfTime(newt);
+		equationOfTime = getEquationOfTimeAtJulianDay(julianDay + timeUTC / 1440.0, trigonometry);
 		
-		solarDeclination = getSunDeclination(newt);
-		hourAngle = getSunHourAngle(latitude, solarDeclination, zenith, solarEvent);
-		delta = longitude - Math.toDegrees(hourAngle);
+		solarDeclination = getSunDeclinationAtJulianDay(julianDay + timeUTC / 1440.0, trigonometry);
+		hourAngle = getSunHourAngle(cosLatitude, tanLatitude, solarDeclination, zenith, solarEvent, trigonometry);
+		delta = longitude - hourAngle;
 		timeDiff = 4 * delta;
 		timeUTC = 720 + timeDiff - equationOfTime;
 		return timeUTC;
@@ -0,0 +1,50 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+/**
+ * The classification of a day at a location for a zenith, such as the {@link
+ * com.kosherjava.zmanim.AstronomicalCalendar#GEOMETRIC_ZENITH horizon} or the 16.1&deg; below it of <em>alos</em> and
+ * <em>tzais</em>. Above the Arctic and below the Antarctic circles there are days that the sun doesn't cross a zenith,
+ * and the times of that zenith can't be calculated. The classification is returned by {@link
+ * AstronomicalCalculator#getSolarDayType(java.util.Calendar, GeoLocation, double, boolean)}.
+ *
+ * @see com.kosherjava.zmanim.AstronomicalCalendar#getSolarDayType(double)
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public enum SolarDayType {
+	/**
+	 * The sun crosses the zenith in the morning and in the evening, and both times can be calculated (or the one time
+	 * classified, when only the sunrise or the sunset is classified).
+	 */
+	NORMAL,
+	/**
+	 * The sun stays below the zenith all day. For the horizon this is the polar night, and for a zenith below the
+	 * horizon it is a night that never gets as light as the zenith, so neither time can be calculated.
+	 */
+	SUN_NEVER_RISES,
+	/**
+	 * The sun stays above the horizon (or a zenith above it) all day, the midnight sun, so neither sunrise nor sunset can
+	 * be calculated.
+	 */
+	SUN_NEVER_SETS,
+	/**
+	 * The sun stays above a zenith below the horizon all day, such as the white nights when it does not get dark enough
+	 * for <em>tzais</em> 16.1&deg; (and the midnight sun, when the sun does not set at all), so neither the time before
+	 * sunrise nor the time after sunset can be calculated.
+	 */
+	TWILIGHT_NEVER_ENDS
+}
@@ -51,7 +51,7 @@ public class SunTimesCalculator extends AstronomicalCalculator {
 	public double getUTCSunrise(Calendar calendar, GeoLocation geoLocation, double zenith, boolean adjustForElevation) {
 		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
 		double adjustedZenith = adjustZenith(zenith, elevation);
-		return getTimeUTC(calendar, geoLocation, adjustedZenith, true);
+		return getTimeUTC(calendar, geoLocation, adjustedZenith, true, getTrigonometry());
 	}
 
 	/**
@@ -60,7 +60,7 @@ public class SunTimesCalculator extends AstronomicalCalculator {
 	public double getUTCSunset(Calendar calendar, GeoLocation geoLocation, double zenith, boolean adjustForElevation) {
 		double elevation = adjustForElevation ? geoLocation.getElevation() : 0;
 		double adjustedZenith = adjustZenith(zenith, elevation);
-		return getTimeUTC(calendar, geoLocation, adjustedZenith, false);
+		return getTimeUTC(calendar, geoLocation, adjustedZenith, false, getTrigonometry());
 	}
 
 	/**
@@ -69,51 +69,85 @@ public class SunTimesCalculator extends AstronomicalCalculator {
 	private static final double DEG_PER_HOUR = 360.0 / 24.0;
 
 	/**
-	 * The sine in degrees.
+	 * The sine in degrees. {@link Trigonometry#STRICT} is calculated as this calculator always did, so that the default
+	 * results are unchanged, and any other trigonometry is used as is.
+	 * @param trigonometry the trigonometric functions
 	 * @param deg the degrees
 	 * @return sin of the angle in degrees
 	 */
-	private static double sinDeg(double deg) {
+	private static double sinDeg(Trigonometry trigonometry, double deg) {
+		if (trigonometry != Trigonometry.STRICT) {
+			return trigonometry.sin(deg);
+		}
 		return Math.sin(deg * 2.0 * Math.PI / 360.0);
 	}
 
 	/**
 	 * Return the arc cosine in degrees.
+	 * @param trigonometry the trigonometric functions
 	 * @param x angle
 	 * @return acos of the angle in degrees
 	 */
-	private static double acosDeg(double x) {
+	private static double acosDeg(Trigonometry trigonometry, double x) {
+		if (trigonometry != Trigonometry.STRICT) {
+			return trigonometry.acos(x);
+		}
 		return Math.acos(x) * 360.0 / (2 * Math.PI);
 	}
 
 	/**
 	 * Return the arc sine in degrees.
+	 * @param trigonometry the trigonometric functions
 	 * @param x angle
 	 * @return asin of the angle in degrees
 	 */
-	private static double asinDeg(double x) {
+	private static double asinDeg(Trigonometry trigonometry, double x) {
+		if (trigonometry != Trigonometry.STRICT) {
+			return trigonometry.asin(x);
+		}
 		return Math.asin(x) * 360.0 / (2 * Math.PI);
 	}
 
 	/**
 	 * Return the tangent in degrees.
+	 * @param trigonometry the trigonometric functions
 	 * @param deg degrees
 	 * @return tan of the angle in degrees
 	 */
-	private static double tanDeg(double deg) {
+	private static double tanDeg(Trigonometry trigonometry, double deg) {
+		if (trigonometry != Trigonometry.STRICT) {
+			return trigonometry.tan(deg);
+		}
 		return Math.tan(deg * 2.0 * Math.PI / 360.0);
 	}
 	
 	/**
 	 * Calculate cosine of the angle in degrees
 	 * 
+	 * @param trigonometry the trigonometric functions
 	 * @param deg degrees
 	 * @return cosine of the angle in degrees
 	 */
-	private static double cosDeg(double deg) {
+	private static double cosDeg(Trigonometry trigonometry, double deg) {
+		if (trigonometry != Trigonometry.STRICT) {
+			return trigonometry.cos(deg);
+		}
 		return Math.cos(deg * 2.0 * Math.PI / 360.0);
 	}
 
+	/**
+	 * Return the arc tangent in degrees.
+	 * @param trigonometry the trigonometric functions
+	 * @param x the tangent
+	 * @return atan of the tangent in degrees
+	 */
+	private static double atanDeg(Trigonometry trigonometry, double x) {
+		if (trigonometry != Trigonometry.STRICT) {
+			return trigonometry.atan(x);
+		}
+		return 360.0 / (2.0 * Math.PI) * Math.atan(x);
+	}
+
 	/**
 	 * Get time difference between location's longitude and the Meridian, in hours.
 	 * 
@@ -158,10 +192,12 @@ public class SunTimesCalculator extends AstronomicalCalculator {
 	/**
 	 * Returns the Sun's true longitude in degrees. 
 	 * @param sunMeanAnomaly the Sun's mean anomaly in degrees
+	 * @param trigonometry the trigonometric functions
 	 * @return the Sun's true longitude in degrees. The result is an angle &gt;= 0 and &lt;= 360.
 	 */
-	private static double getSunTrueLongitude(double sunMeanAnomaly) {
-		double l = sunMeanAnomaly + (1.916 * sinDeg(sunMeanAnomaly)) + (0.020 * sinDeg(2 * sunMeanAnomaly)) + 282.634;
+	private static double getSunTrueLongitude(double sunMeanAnomaly, Trigonometry trigonometry) {
+		double l = sunMeanAnomaly + (1.916 * sinDeg(trigonometry, sunMeanAnomaly))
+				+ (0.020 * sinDeg(trigonometry, 2 * sunMeanAnomaly)) + 282.634;
 
 		// get longitude into 0-360 degree range
 		if (l >= 360.0) {
@@ -176,11 +212,12 @@ public class SunTimesCalculator extends AstronomicalCalculator {
 	/**
 	 * Calculates the Sun's right ascension in hours.
 	 * @param sunTrueLongitude the Sun's true longitude in degrees &gt; 0 and &lt; 360.
+	 * @param trigonometry the trigonometric functions
 	 * @return the Sun's right ascension in hours in angles &gt; 0 and &lt; 360.
 	 */
-	private static double getSunRightAscensionHours(double sunTrueLongitude) {
-		double a = 0.91764 * tanDeg(sunTrueLongitude);
-		double ra = 360.0 / (2.0 * Math.PI) * Math.atan(a);
+	private static double getSunRightAscensionHours(double sunTrueLongitude, Trigonometry trigonometry) {
+		double a = 0.91764 * tanDeg(trigonometry, sunTrueLongitude);
+		double ra = atanDeg(trigonometry, a);
 
 		double lQuadrant = Math.floor(sunTrueLongitude / 90.0) * 90.0;
 		double raQuadrant = Math.floor(ra / 90.0) * 90.0;
@@ -195,12 +232,15 @@ public class SunTimesCalculator extends AstronomicalCalculator {
 	 * @param sunTrueLongitude the sun's true longitude
 	 * @param latitude the latitude
 	 * @param zenith the zenith
+	 * @param trigonometry the trigonometric functions
 	 * @return the cosine of the Sun's local hour angle
 	 */
-	private static double getCosLocalHourAngle(double sunTrueLongitude, double latitude, double zenith) {
-		double sinDec = 0.39782 * sinDeg(sunTrueLongitude);
-		double cosDec = cosDeg(asinDeg(sinDec));
-		return (cosDeg(zenith) - (sinDec * sinDeg(latitude))) / (cosDec * cosDeg(latitude));
+	private static double getCosLocalHourAngle(double sunTrueLongitude, double latitude, double zenith,
+			Trigonometry trigonometry) {
+		double sinDec = 0.39782 * sinDeg(trigonometry, sunTrueLongitude);
+		double cosDec = cosDeg(trigonometry, asinDeg(trigonometry, sinDec));
+		return (cosDeg(trigonometry, zenith) - (sinDec * sinDeg(trigonometry, latitude)))
+				/ (cosDec * cosDeg(trigonometry, latitude));
 	}
 	
 	/**
@@ -230,22 +270,25 @@ public class SunTimesCalculator extends AstronomicalCalculator {
 	 *            Sun's zenith, in degrees
 	 * @param isSunrise
 	 *            True for sunrise and false for sunset.
+	 * @param trigonometry
+	 *            the trigonometric functions
 	 * @return the time as a double. If an error was encountered in the calculation
 	 *         (expected behavior for some locations such as near the poles,
 	 *         {@link Double#NaN} will be returned.
 	 */
-	private static double getTimeUTC(Calendar calendar, GeoLocation geoLocation, double zenith, boolean isSunrise) {
+	private static double getTimeUTC(Calendar calendar, GeoLocation geoLocation, double zenith, boolean isSunrise,
+			Trigonometry trigonometry) {
 		int dayOfYear = calendar.get(Calendar.DAY_OF_YEAR);
 		double sunMeanAnomaly = getMeanAnomaly(dayOfYear, geoLocation.getLongitude(), isSunrise);
-		double sunTrueLong = getSunTrueLongitude(sunMeanAnomaly);
-		double sunRightAscensionHours = getSunRightAscensionHours(sunTrueLong);
-		double cosLocalHourAngle = getCosLocalHourAngle(sunTrueLong, geoLocation.getLatitude(), zenith);
+		double sunTrueLong = getSunTrueLongitude(sunMeanAnomaly, trigonometry);
+		double sunRightAscensionHours = getSunRightAscensionHours(sunTrueLong, trigonometry);
+		double cosLocalHourAngle = getCosLocalHourAngle(sunTrueLong, geoLocation.getLatitude(), zenith, trigonometry);
 
 		double localHourAngle;
 		if (isSunrise) {
-			localHourAngle = 360.0 - acosDeg(cosLocalHourAngle);
+			localHourAngle = 360.0 - acosDeg(trigonometry, cosLocalHourAngle);
 		} else { // sunset
-			localHourAngle = acosDeg(cosLocalHourAngle);
+			localHourAngle = acosDeg(trigonometry, cosLocalHourAngle);
 		}
 		double localHour = localHourAngle / DEG_PER_HOUR;
 
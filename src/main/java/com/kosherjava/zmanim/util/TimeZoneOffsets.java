@@ -0,0 +1,297 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable, shared cache of a <code>TimeZone</code>'s offsets. The {@link #getRawOffset() raw offset} is resolved
+ * once, and the offset changes (daylight saving time as well as historical changes to the standard offset) between the
+ * years 1900 and 2100 are read from the zone's {@link ZoneRules} into sorted arrays, so that resolving the {@link
+ * #getOffset(long) offset} for a point in time is a binary search instead of a <code>TimeZone</code> or
+ * <code>ZoneRules</code> calculation. Times outside of that range fall back to the <code>ZoneRules</code>. Custom
+ * {@link SimpleTimeZone}s that do not have <code>ZoneRules</code> delegate to a private copy of the time zone.
+ * <p>
+ * Instances are shared by all equal time zones and are obtained using {@link #getInstance(TimeZone)}, or for the time
+ * zone of a {@link GeoLocation} via {@link GeoLocation#getTimeZoneOffsets()}, which {@link
+ * GeoLocation#getLocalMeanTimeOffset()}, {@link GeoLocation#getAntimeridianAdjustment()} and {@link
+ * com.kosherjava.zmanim.AstronomicalCalendar#getLocalMeanTime(double)} use. The transitions of a zone are only read the
+ * first time an instance is requested for it. Once {@link #MAXIMUM_CACHE_SIZE} zones are cached, the cache is cleared,
+ * so callers that create many custom time zones do not hold on to them forever.
+ *
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class TimeZoneOffsets {
+
+	/** The start of the cached range, January 1, 1900 00:00 UTC in milliseconds. */
+	private static final long CACHE_START = ZonedDateTime.of(1900, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant()
+			.toEpochMilli();
+
+	/** The end of the cached range, January 1, 2100 00:00 UTC in milliseconds. */
+	private static final long CACHE_END = ZonedDateTime.of(2100, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant()
+			.toEpochMilli();
+
+	/**
+	 * The maximum number of time zones that are cached. Once this is reached, the cache is cleared before the next time
+	 * zone is added, and instances that are still referenced keep working.
+	 */
+	public static final int MAXIMUM_CACHE_SIZE = 1000;
+
+	/** The shared instances keyed by a private copy of the time zone they were created for. */
+	private static final ConcurrentMap<TimeZone, TimeZoneOffsets> INSTANCES
+			= new ConcurrentHashMap<TimeZone, TimeZoneOffsets>();
+
+	/** The time zone ID. */
+	private final String id;
+
+	/** The time zone's raw offset in milliseconds. */
+	private final int rawOffset;
+
+	/** The zone rules, or null if the time zone is a custom <code>SimpleTimeZone</code>. */
+	private final ZoneRules rules;
+
+	/** A private copy of the time zone used if there are no zone rules. */
+	private final TimeZone timeZone;
+
+	/** The sorted times in milliseconds of the offset transitions within the cached range. */
+	private final long[] transitions;
+
+	/** The total offset in milliseconds in effect starting at the transition with the same index. */
+	private final int[] offsets;
+
+	/** The standard offset in milliseconds in effect starting at the transition with the same index. */
+	private final int[] standardOffsets;
+
+	/** The total offset in milliseconds at the start of the cached range. */
+	private final int initialOffset;
+
+	/** The standard offset in milliseconds at the start of the cached range. */
+	private final int initialStandardOffset;
+
+	/**
+	 * Constructor used by {@link #getInstance(TimeZone)}.
+	 * @param timeZone a private copy of the time zone
+	 */
+	private TimeZoneOffsets(TimeZone timeZone) {
+		this.id = timeZone.getID();
+		this.rawOffset = timeZone.getRawOffset();
+		this.timeZone = timeZone;
+		this.rules = getZoneRules(timeZone);
+		List<ZoneOffsetTransition> changes = new ArrayList<ZoneOffsetTransition>();
+		if (rules != null) {
+			Instant start = Instant.ofEpochMilli(CACHE_START);
+			initialOffset = rules.getOffset(start).getTotalSeconds() * 1000;
+			initialStandardOffset = rules.getStandardOffset(start).getTotalSeconds() * 1000;
+			ZoneOffsetTransition transition = rules.nextTransition(start);
+			while (transition != null && transition.toEpochSecond() * 1000 < CACHE_END) {
+				changes.add(transition);
+				transition = rules.nextTransition(transition.getInstant());
+			}
+		} else {
+			initialOffset = rawOffset;
+			initialStandardOffset = rawOffset;
+		}
+		transitions = new long[changes.size()];
+		offsets = new int[changes.size()];
+		standardOffsets = new int[changes.size()];
+		for (int i = 0; i < transitions.length; i++) {
+			ZoneOffsetTransition transition = changes.get(i);
+			transitions[i] = transition.toEpochSecond() * 1000;
+			offsets[i] = transition.getOffsetAfter().getTotalSeconds() * 1000;
+			standardOffsets[i] = rules.getStandardOffset(transition.getInstant()).getTotalSeconds() * 1000;
+		}
+	}
+
+	/**
+	 * Returns the <code>ZoneRules</code> for the time zone if it is a standard time zone whose rules agree with it.
+	 *
+	 * @param timeZone the time zone
+	 * @return the zone rules or null if the time zone is a custom time zone
+	 */
+	private static ZoneRules getZoneRules(TimeZone timeZone) {
+		if (timeZone instanceof SimpleTimeZone) {
+			return null;
+		}
+		try {
+			ZoneRules rules = timeZone.toZoneId().getRules();
+			long now = System.currentTimeMillis();
+			if (rules.getOffset(Instant.ofEpochMilli(now)).getTotalSeconds() * 1000 != timeZone.getOffset(now)) {
+				return null;
+			}
+			return rules;
+		} catch (RuntimeException e) { // an ID that java.time doesn't know
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the shared instance for the time zone. Later changes to the time zone passed in (such as
+	 * {@link TimeZone#setRawOffset(int)}) have no effect on the returned instance.
+	 *
+	 * @param timeZone
+	 *            the time zone
+	 * @return the shared offsets for the time zone
+	 * @throws IllegalArgumentException if the time zone is <code>null</code>
+	 */
+	public static TimeZoneOffsets getInstance(TimeZone timeZone) {
+		if (timeZone == null) {
+			throw new IllegalArgumentException("The TimeZone can't be null");
+		}
+		TimeZoneOffsets instance = INSTANCES.get(timeZone);
+		if (instance == null) {
+			TimeZone copy = (TimeZone) timeZone.clone();
+			instance = new TimeZoneOffsets(copy);
+			if (INSTANCES.size() >= MAXIMUM_CACHE_SIZE) {
+				INSTANCES.clear();
+			}
+			TimeZoneOffsets existing = INSTANCES.putIfAbsent(copy, instance);
+			if (existing != null) {
+				instance = existing;
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * @return the number of cached time zones, never more than {@link #MAXIMUM_CACHE_SIZE}.
+	 */
+	static int getCacheSize() {
+		return INSTANCES.size();
+	}
+
+	/**
+	 * @return the time zone ID
+	 * @see TimeZone#getID()
+	 */
+	public String getID() {
+		return id;
+	}
+
+	/**
+	 * Returns the time zone's raw offset (the current offset without daylight saving time).
+	 * @return the raw offset in milliseconds
+	 * @see TimeZone#getRawOffset()
+	 */
+	public int getRawOffset() {
+		return rawOffset;
+	}
+
+	/**
+	 * Returns the offset from UTC, including daylight saving time, in effect at the time passed in.
+	 *
+	 * @param millis
+	 *            the time in milliseconds since the epoch
+	 * @return the offset in milliseconds
+	 * @see TimeZone#getOffset(long)
+	 */
+	public int getOffset(long millis) {
+		if (millis < CACHE_START || millis >= CACHE_END) {
+			return rules != null ? rules.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1000
+					: getTimeZoneOffset(millis);
+		}
+		if (rules == null) {
+			return getTimeZoneOffset(millis);
+		}
+		int index = findTransition(millis);
+		return index < 0 ? initialOffset : offsets[index];
+	}
+
+	/**
+	 * Returns the standard offset from UTC (without daylight saving time) in effect at the time passed in. This differs
+	 * from the {@link #getRawOffset() raw offset} when the time zone's standard offset has changed since that time.
+	 *
+	 * @param millis
+	 *            the time in milliseconds since the epoch
+	 * @return the standard offset in milliseconds
+	 */
+	public int getStandardOffset(long millis) {
+		if (rules == null) {
+			return rawOffset;
+		}
+		if (millis < CACHE_START || millis >= CACHE_END) {
+			return rules.getStandardOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1000;
+		}
+		int index = findTransition(millis);
+		return index < 0 ? initialStandardOffset : standardOffsets[index];
+	}
+
+	/**
+	 * Returns if daylight saving time is in effect at the time passed in. This follows {@link
+	 * ZoneRules#isDaylightSavings(Instant)}, so it may differ from <code>TimeZone</code> for historical periods where the
+	 * two disagree about what is considered standard time (such as British Standard Time from 1968 to 1971).
+	 *
+	 * @param millis
+	 *            the time in milliseconds since the epoch
+	 * @return true if daylight saving time is in effect
+	 * @see TimeZone#inDaylightTime(java.util.Date)
+	 */
+	public boolean isDaylightTime(long millis) {
+		if (rules == null) {
+			synchronized (timeZone) {
+				return timeZone.inDaylightTime(new Date(millis));
+			}
+		}
+		return getOffset(millis) != getStandardOffset(millis);
+	}
+
+	/**
+	 * Returns the offset of the private copy of a custom time zone.
+	 * @param millis the time in milliseconds since the epoch
+	 * @return the offset in milliseconds
+	 */
+	private int getTimeZoneOffset(long millis) {
+		synchronized (timeZone) {
+			return timeZone.getOffset(millis);
+		}
+	}
+
+	/**
+	 * Returns the index of the last transition at or before the time passed in.
+	 * @param millis the time in milliseconds since the epoch
+	 * @return the index, or -1 if the time is before the first transition
+	 */
+	private int findTransition(long millis) {
+		int low = 0;
+		int high = transitions.length - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (transitions[middle] <= millis) {
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return high;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		return id + " (raw offset " + rawOffset + " ms, " + transitions.length + " transitions cached)";
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+/**
+ * The trigonometric functions used by the {@link NOAACalculator} and the {@link SunTimesCalculator}, with all angles in
+ * degrees. The calculators use {@link #STRICT}, the functions of <code>java.lang.Math</code>, unless {@link
+ * AstronomicalCalculator#setTrigonometry(Trigonometry) set} to another implementation such as {@link #FAST}, that trades
+ * a little accuracy for speed when calculating zmanim in bulk, such as for a calendar of all the days of the year for
+ * thousands of locations.
+ * <p>
+ * Sample usage:
+ * <pre>
+ * AstronomicalCalculator calculator = new NOAACalculator();
+ * calculator.setTrigonometry(Trigonometry.FAST);
+ * ComplexZmanimCalendar czc = new ComplexZmanimCalendar(geoLocation);
+ * czc.setAstronomicalCalculator(calculator);
+ * </pre>
+ *
+ * @see AstronomicalCalculator#setTrigonometry(Trigonometry)
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public abstract class Trigonometry {
+
+	/**
+	 * The functions of <code>java.lang.Math</code>, the default of the calculators.
+	 */
+	public static final Trigonometry STRICT = new StrictTrigonometry();
+
+	/**
+	 * Table and polynomial approximations. The sine and cosine are looked up in a table of 4096 steps of a circle and
+	 * corrected by a short Taylor series for the remainder, which is accurate to about 1e-15. The arc functions use the
+	 * polynomials 4.4.46 and 4.4.49 of Abramowitz and Stegun's <em>Handbook of Mathematical Functions</em>, accurate to
+	 * 2e-8 radians, about a quarter of a millisecond of the sun's hour angle. Since close to the Arctic and Antarctic
+	 * circles a small error in the sun's declination moves sunrise and sunset by a lot, the arc sine and arc cosine are
+	 * refined by a Newton step with the table sine and cosine, other than for values within 0.01 of 1 or -1. Sunrise and
+	 * sunset are within a millisecond of {@link #STRICT} at all latitudes.
+	 */
+	public static final Trigonometry FAST = new FastTrigonometry();
+
+	/**
+	 * Default constructor for subclasses.
+	 */
+	protected Trigonometry() {
+		super();
+	}
+
+	/**
+	 * @param degrees an angle in degrees
+	 * @return the sine of the angle
+	 */
+	public abstract double sin(double degrees);
+
+	/**
+	 * @param degrees an angle in degrees
+	 * @return the cosine of the angle
+	 */
+	public abstract double cos(double degrees);
+
+	/**
+	 * @param degrees an angle in degrees
+	 * @return the tangent of the angle
+	 */
+	public abstract double tan(double degrees);
+
+	/**
+	 * @param value the sine of an angle
+	 * @return the angle in degrees from -90 to 90, or {@link Double#NaN} if the value is not between -1 and 1
+	 */
+	public abstract double asin(double value);
+
+	/**
+	 * @param value the cosine of an angle
+	 * @return the angle in degrees from 0 to 180, or {@link Double#NaN} if the value is not between -1 and 1
+	 */
+	public abstract double acos(double value);
+
+	/**
+	 * @param value the tangent of an angle
+	 * @return the angle in degrees from -90 to 90
+	 */
+	public abstract double atan(double value);
+
+	/**
+	 * The functions of <code>java.lang.Math</code>.
+	 */
+	private static final class StrictTrigonometry extends Trigonometry {
+
+		public double sin(double degrees) {
+			return Math.sin(Math.toRadians(degrees));
+		}
+
+		public double cos(double degrees) {
+			return Math.cos(Math.toRadians(degrees));
+		}
+
+		public double tan(double degrees) {
+			return Math.tan(Math.toRadians(degrees));
+		}
+
+		public double asin(double value) {
+			return Math.toDegrees(Math.asin(value));
+		}
+
+		public double acos(double value) {
+			return Math.toDegrees(Math.acos(value));
+		}
+
+		public double atan(double value) {
+			return Math.toDegrees(Math.atan(value));
+		}
+
+		public String toString() {
+			return "STRICT";
+		}
+	}
+
+	/**
+	 * Table and polynomial approximations, see {@link Trigonometry#FAST}.
+	 */
+	private static final class FastTrigonometry extends Trigonometry {
+
+		/**
+		 * The largest absolute value that the arc sine and arc cosine are refined for. Closer to 1 the Newton step divides
+		 * by a cosine or sine that is close to 0, so the polynomial is used as is.
+		 */
+		private static final double NEWTON_LIMIT = 0.99;
+
+		/** The number of table entries in a full circle, a power of 2 so that an index wraps around with a mask. */
+		private static final int STEPS = 4096;
+
+		/** The number of table entries in a degree. */
+		private static final double STEPS_PER_DEGREE = STEPS / 360.0;
+
+		/** The number of radians in a table step. */
+		private static final double RADIANS_PER_STEP = 2 * Math.PI / STEPS;
+
+		/** The sine of every step of a full circle. */
+		private static final double[] SINES = new double[STEPS];
+
+		static {
+			for (int i = 0; i < STEPS; i++) {
+				SINES[i] = Math.sin(i * RADIANS_PER_STEP);
+			}
+		}
+
+		public double sin(double degrees) {
+			return sinCos(degrees, 0);
+		}
+
+		public double cos(double degrees) {
+			return sinCos(degrees, STEPS / 4);
+		}
+
+		public double tan(double degrees) {
+			return sinCos(degrees, 0) / sinCos(degrees, STEPS / 4);
+		}
+
+		/**
+		 * Returns the sine of an angle (or the cosine, the sine of the angle plus 90&deg;) from the closest table entry
+		 * and the Taylor series of the remainder, <code>sin(a + d) = sin(a)cos(d) + cos(a)sin(d)</code>.
+		 *
+		 * @param degrees the angle in degrees
+		 * @param shift 0 for the sine or a quarter circle of steps for the cosine
+		 * @return the sine or cosine
+		 */
+		private static double sinCos(double degrees, int shift) {
+			double steps = degrees * STEPS_PER_DEGREE;
+			double nearest = Math.floor(steps + 0.5);
+			double remainder = (steps - nearest) * RADIANS_PER_STEP;
+			int index = (int) (long) nearest + shift;
+			double remainder2 = remainder * remainder;
+			double sinRemainder = remainder * (1 - remainder2 / 6);
+			double cosRemainder = 1 - remainder2 / 2 * (1 - remainder2 / 12);
+			return SINES[index & (STEPS - 1)] * cosRemainder + SINES[(index + STEPS / 4) & (STEPS - 1)] * sinRemainder;
+		}
+
+		public double asin(double value) {
+			double asin = 90 - polynomialAcos(value);
+			if (Math.abs(value) <= NEWTON_LIMIT) { // one Newton step on sin(asin) = value
+				asin -= Math.toDegrees((sinCos(asin, 0) - value) / sinCos(asin, STEPS / 4));
+			}
+			return asin;
+		}
+
+		public double acos(double value) {
+			double acos = polynomialAcos(value);
+			if (Math.abs(value) <= NEWTON_LIMIT) { // one Newton step on cos(acos) = value
+				acos += Math.toDegrees((sinCos(acos, STEPS / 4) - value) / sinCos(acos, 0));
+			}
+			return acos;
+		}
+
+		/**
+		 * Returns the arc cosine from the polynomial 4.4.46 of Abramowitz and Stegun, accurate to 2e-8 radians.
+		 *
+		 * @param value the cosine
+		 * @return the angle in degrees, or {@link Double#NaN} if the value is not between -1 and 1
+		 */
+		private static double polynomialAcos(double value) {
+			if (!(value >= -1 && value <= 1)) {
+				return Double.NaN;
+			}
+			double x = Math.abs(value);
+			double acos = Math.sqrt(1 - x) * (1.5707963050 + x * (-0.2145988016 + x * (0.0889789874 + x * (-0.0501743046
+					+ x * (0.0308918810 + x * (-0.0170881256 + x * (0.0066700901 + x * -0.0012624911)))))));
+			return Math.toDegrees(value < 0 ? Math.PI - acos : acos);
+		}
+
+		public double atan(double value) {
+			if (Double.isNaN(value)) {
+				return Double.NaN;
+			}
+			boolean inverted = Math.abs(value) > 1;
+			double x = inverted ? 1 / value : value;
+			double x2 = x * x;
+			double atan = x * (1 + x2 * (-0.3333314528 + x2 * (0.1999355085 + x2 * (-0.1420889944 + x2 * (0.1065626393
+					+ x2 * (-0.0752896400 + x2 * (0.0429096138 + x2 * (-0.0161657367 + x2 * 0.0028662257))))))));
+			if (inverted) {
+				atan = (value > 0 ? Math.PI / 2 : -Math.PI / 2) - atan;
+			}
+			return Math.toDegrees(atan);
+		}
+
+		public String toString() {
+			return "FAST";
+		}
+	}
+}
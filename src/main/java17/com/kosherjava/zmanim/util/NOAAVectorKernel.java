@@ -0,0 +1,226 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The <code>jdk.incubator.vector</code> kernel of {@link NOAACalculator#getUTCSunrisesAndSunsetsBatch(double[],
+ * double[], double[], double[], double, double[], double[])}. Each lane of a vector calculates the same two passes of the
+ * NOAA algorithm with {@link Trigonometry#STRICT} as the scalar loop, for as many elements at once as the CPU's vector
+ * registers hold. This class is compiled for Java 17 into <code>META-INF/versions/17</code> of the multi-release jar, and
+ * the {@link NOAACalculator} only loads it if the module was added with <code>--add-modules jdk.incubator.vector</code>.
+ * Otherwise the scalar loop calculates all the elements.
+ *
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+final class NOAAVectorKernel extends NOAACalculator.BatchKernel {
+
+	/** The widest vector of doubles the CPU supports. */
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	/** The multiplier of <code>Math.toRadians</code>. */
+	private static final double RADIANS_PER_DEGREE = 0.017453292519943295;
+
+	/** The multiplier of <code>Math.toDegrees</code>. */
+	private static final double DEGREES_PER_RADIAN = 57.29577951308232;
+
+	/**
+	 * Public for the reflective constructor call of the {@link NOAACalculator}.
+	 */
+	public NOAAVectorKernel() {
+		super();
+	}
+
+	int getUTCSunrisesAndSunsets(double[] julianDays, double[] latitudes, double[] longitudes, double[] elevations,
+			double zenith, boolean adjustZenith, double solarRadius, double refraction, double earthRadius,
+			double[] sunrises, double[] sunsets) {
+		int loopBound = SPECIES.loopBound(julianDays.length);
+		for (int i = 0; i < loopBound; i += SPECIES.length()) {
+			DoubleVector julianDay = DoubleVector.fromArray(SPECIES, julianDays, i);
+			DoubleVector latitude = DoubleVector.fromArray(SPECIES, latitudes, i).mul(RADIANS_PER_DEGREE);
+			DoubleVector cosLatitude = latitude.lanewise(VectorOperators.COS);
+			DoubleVector tanLatitude = latitude.lanewise(VectorOperators.TAN);
+			DoubleVector longitude = DoubleVector.fromArray(SPECIES, longitudes, i).neg();
+			DoubleVector adjustedZenith = DoubleVector.broadcast(SPECIES, zenith);
+			if (adjustZenith) {
+				DoubleVector elevationAdjustment = DoubleVector.zero(SPECIES);
+				if (elevations != null) {
+					elevationAdjustment = DoubleVector.broadcast(SPECIES, earthRadius).div(DoubleVector
+							.fromArray(SPECIES, elevations, i).div(1000).add(earthRadius))
+							.lanewise(VectorOperators.ACOS).mul(DEGREES_PER_RADIAN);
+				}
+				adjustedZenith = adjustedZenith.add(elevationAdjustment.add(solarRadius + refraction));
+			}
+			DoubleVector cosZenith = adjustedZenith.mul(RADIANS_PER_DEGREE).lanewise(VectorOperators.COS);
+
+			// solar noon, see getSolarNoonMidnightUTC
+			DoubleVector longitudeMinutes = longitude.mul(4);
+			DoubleVector solarNoon = longitudeMinutes.sub(getEquationOfTime(julianDay.add(longitude.div(360.0))));
+			solarNoon = longitudeMinutes.add(720).sub(getEquationOfTime(julianDay.add(solarNoon.div(1440.0))));
+			DoubleVector noonJulianDay = julianDay.add(solarNoon.div(1440.0));
+			DoubleVector equationOfTime = getEquationOfTime(noonJulianDay);
+			DoubleVector solarDeclination = getSunDeclination(noonJulianDay);
+			if (sunrises != null) {
+				getSunRiseSetUTC(julianDay, cosLatitude, tanLatitude, longitude, cosZenith, equationOfTime,
+						solarDeclination, false).div(60).intoArray(sunrises, i);
+			}
+			if (sunsets != null) {
+				getSunRiseSetUTC(julianDay, cosLatitude, tanLatitude, longitude, cosZenith, equationOfTime,
+						solarDeclination, true).div(60).intoArray(sunsets, i);
+			}
+		}
+		for (int i = 0; i < loopBound; i++) { // ensure that the times are >= 0 and < 24
+			if (sunrises != null) {
+				sunrises[i] = sunrises[i] > 0 ? sunrises[i] % 24 : sunrises[i] % 24 + 24;
+			}
+			if (sunsets != null) {
+				sunsets[i] = sunsets[i] > 0 ? sunsets[i] % 24 : sunsets[i] % 24 + 24;
+			}
+		}
+		return loopBound;
+	}
+
+	/**
+	 * Returns the time of sunrise or sunset from the two passes of the NOAA algorithm. A lane where the sun does not
+	 * reach the zenith is NaN after the first pass, and so is its second pass.
+	 *
+	 * @param julianDay the Julian day of the date
+	 * @param cosLatitude the cosine of the latitude
+	 * @param tanLatitude the tangent of the latitude
+	 * @param longitude the longitude, positive to the west
+	 * @param cosZenith the cosine of the zenith
+	 * @param equationOfTime the equation of time at solar noon
+	 * @param solarDeclination the sun's declination at solar noon
+	 * @param sunset if the time is of sunset
+	 * @return the time in minutes from zero UTC
+	 */
+	private static DoubleVector getSunRiseSetUTC(DoubleVector julianDay, DoubleVector cosLatitude,
+			DoubleVector tanLatitude, DoubleVector longitude, DoubleVector cosZenith, DoubleVector equationOfTime,
+			DoubleVector solarDeclination, boolean sunset) {
+		DoubleVector hourAngle = getSunHourAngle(cosLatitude, tanLatitude, solarDeclination, cosZenith, sunset);
+		DoubleVector timeUTC = longitude.sub(hourAngle).mul(4).add(720).sub(equationOfTime);
+
+		// second pass
+		DoubleVector julianDayUTC = julianDay.add(timeUTC.div(1440.0));
+		equationOfTime = getEquationOfTime(julianDayUTC);
+		hourAngle = getSunHourAngle(cosLatitude, tanLatitude, getSunDeclination(julianDayUTC), cosZenith, sunset);
+		return longitude.sub(hourAngle).mul(4).add(720).sub(equationOfTime);
+	}
+
+	/**
+	 * @param cosLatitude the cosine of the latitude
+	 * @param tanLatitude the tangent of the latitude
+	 * @param solarDeclination the sun's declination in degrees
+	 * @param cosZenith the cosine of the zenith
+	 * @param sunset if the hour angle is of sunset
+	 * @return the hour angle in degrees, or NaN if the sun does not reach the zenith
+	 */
+	private static DoubleVector getSunHourAngle(DoubleVector cosLatitude, DoubleVector tanLatitude,
+			DoubleVector solarDeclination, DoubleVector cosZenith, boolean sunset) {
+		DoubleVector declination = solarDeclination.mul(RADIANS_PER_DEGREE);
+		DoubleVector hourAngle = cosZenith.div(cosLatitude.mul(declination.lanewise(VectorOperators.COS)))
+				.sub(tanLatitude.mul(declination.lanewise(VectorOperators.TAN))).lanewise(VectorOperators.ACOS)
+				.mul(DEGREES_PER_RADIAN);
+		return sunset ? hourAngle.neg() : hourAngle;
+	}
+
+	/**
+	 * @param julianDay the Julian day, including the fraction of the day
+	 * @return equation of time in minutes of time, see {@link NOAACalculator#getEquationOfTime(double, Trigonometry)}
+	 */
+	private static DoubleVector getEquationOfTime(DoubleVector julianDay) {
+		DoubleVector julianCenturies = getJulianCenturies(julianDay);
+		DoubleVector y = getObliquityCorrection(julianCenturies).mul(RADIANS_PER_DEGREE).div(2.0)
+				.lanewise(VectorOperators.TAN);
+		DoubleVector longitude = getSunGeometricMeanLongitude(julianCenturies).mul(RADIANS_PER_DEGREE);
+		DoubleVector anomaly = getSunGeometricMeanAnomaly(julianCenturies).mul(RADIANS_PER_DEGREE);
+		DoubleVector eccentricity = julianCenturies.mul(0.0000001267).add(0.000042037).mul(julianCenturies).neg()
+				.add(0.016708634);
+		DoubleVector sinm = anomaly.lanewise(VectorOperators.SIN);
+		y = y.mul(y);
+		DoubleVector equationOfTime = y.mul(longitude.mul(2.0).lanewise(VectorOperators.SIN))
+				.sub(eccentricity.mul(2.0).mul(sinm))
+				.add(eccentricity.mul(4.0).mul(y).mul(sinm).mul(longitude.mul(2.0).lanewise(VectorOperators.COS)))
+				.sub(y.mul(0.5).mul(y).mul(longitude.mul(4.0).lanewise(VectorOperators.SIN)))
+				.sub(eccentricity.mul(1.25).mul(eccentricity).mul(anomaly.mul(2.0).lanewise(VectorOperators.SIN)));
+		return equationOfTime.mul(DEGREES_PER_RADIAN).mul(4.0);
+	}
+
+	/**
+	 * @param julianDay the Julian day, including the fraction of the day
+	 * @return the sun's declination in degrees, see {@link NOAACalculator#getSunDeclination(double, Trigonometry)}
+	 */
+	private static DoubleVector getSunDeclination(DoubleVector julianDay) {
+		DoubleVector julianCenturies = getJulianCenturies(julianDay);
+		DoubleVector anomaly = getSunGeometricMeanAnomaly(julianCenturies).mul(RADIANS_PER_DEGREE);
+		DoubleVector center = anomaly.lanewise(VectorOperators.SIN)
+				.mul(julianCenturies.mul(0.000014).add(0.004817).mul(julianCenturies).neg().add(1.914602))
+				.add(anomaly.add(anomaly).lanewise(VectorOperators.SIN)
+						.mul(julianCenturies.mul(0.000101).neg().add(0.019993)))
+				.add(anomaly.add(anomaly).add(anomaly).lanewise(VectorOperators.SIN).mul(0.000289));
+		DoubleVector omega = julianCenturies.mul(1934.136).neg().add(125.04).mul(RADIANS_PER_DEGREE);
+		DoubleVector lambda = getSunGeometricMeanLongitude(julianCenturies).add(center).sub(0.00569)
+				.sub(omega.lanewise(VectorOperators.SIN).mul(0.00478));
+		return getObliquityCorrection(julianCenturies).mul(RADIANS_PER_DEGREE).lanewise(VectorOperators.SIN)
+				.mul(lambda.mul(RADIANS_PER_DEGREE).lanewise(VectorOperators.SIN)).lanewise(VectorOperators.ASIN)
+				.mul(DEGREES_PER_RADIAN);
+	}
+
+	/**
+	 * @param julianDay the Julian day
+	 * @return the centuries since J2000.0
+	 */
+	private static DoubleVector getJulianCenturies(DoubleVector julianDay) {
+		return julianDay.sub(NOAACalculator.JULIAN_DAY_JAN_1_2000).div(NOAACalculator.JULIAN_DAYS_PER_CENTURY);
+	}
+
+	/**
+	 * @param julianCenturies the centuries since J2000.0
+	 * @return the corrected obliquity of the ecliptic in degrees
+	 */
+	private static DoubleVector getObliquityCorrection(DoubleVector julianCenturies) {
+		DoubleVector seconds = julianCenturies.mul(0.001813).neg().add(0.00059).mul(julianCenturies).add(46.8150)
+				.mul(julianCenturies).neg().add(21.448);
+		DoubleVector omega = julianCenturies.mul(1934.136).neg().add(125.04).mul(RADIANS_PER_DEGREE);
+		return seconds.div(60.0).add(26.0).div(60.0).add(23.0)
+				.add(omega.lanewise(VectorOperators.COS).mul(0.00256));
+	}
+
+	/**
+	 * @param julianCenturies the centuries since J2000.0
+	 * @return the geometric mean longitude of the sun in degrees, &gt;= 0 and &lt; 360 like <code>%</code> would
+	 */
+	private static DoubleVector getSunGeometricMeanLongitude(DoubleVector julianCenturies) {
+		DoubleVector longitude = julianCenturies.mul(0.0003032).add(36000.76983).mul(julianCenturies).add(280.46646);
+		DoubleVector turns = (DoubleVector) longitude.div(360).convert(VectorOperators.D2L, 0)
+				.convert(VectorOperators.L2D, 0);
+		DoubleVector remainder = longitude.sub(turns.mul(360));
+		VectorMask<Double> notPositive = longitude.compare(VectorOperators.LE, 0);
+		return remainder.add(360, notPositive);
+	}
+
+	/**
+	 * @param julianCenturies the centuries since J2000.0
+	 * @return the geometric mean anomaly of the sun in degrees
+	 */
+	private static DoubleVector getSunGeometricMeanAnomaly(DoubleVector julianCenturies) {
+		return julianCenturies.mul(0.0001537).neg().add(35999.05029).mul(julianCenturies).add(357.52911);
+	}
+}
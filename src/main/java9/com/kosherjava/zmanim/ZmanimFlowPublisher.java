@@ -0,0 +1,91 @@
+/*
+ * Zmanim Java API
+ * Copyright (C) 2026 Eliyahu Hershfeld
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful,but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more
+ * details.
+ * You should have received a copy of the GNU Lesser General Public License along with this library; if not, write to
+ * the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA,
+ * or connect to: https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html
+ */
+package com.kosherjava.zmanim;
+
+import java.util.concurrent.Flow;
+
+import com.kosherjava.zmanim.util.Zman;
+
+/**
+ * A <code>java.util.concurrent.Flow.Publisher</code> of the events of a {@link ZmanimPublisher}, for Java 9 and later.
+ * Every subscriber gets its own stream from the first day, with the ordering, backpressure and lazy calculation of the
+ * {@link ZmanimPublisher}. This class is compiled for Java 9 into <code>META-INF/versions/9</code> of the multi-release
+ * jar, and the rest of the library does not use it, so the same jar still runs on Java 8.
+ * <p>Sample code:
+ * <pre style="background: #FEF0C9; display: inline-block;">
+ * Flow.Publisher&lt;Zman&gt; publisher = new ZmanimFlowPublisher(ZmanimPublisher.merge(
+ * 		ZmanimPublisher.getInstance(definitions, lakewood), ZmanimPublisher.getInstance(definitions, jerusalem)));
+ * publisher.subscribe(subscriber);</pre>
+ *
+ * @see ZmanimPublisher
+ * @author &copy; Eliyahu Hershfeld 2026
+ */
+public final class ZmanimFlowPublisher implements Flow.Publisher<Zman> {
+
+	/** The publisher of the events. */
+	private final ZmanimPublisher publisher;
+
+	/**
+	 * Creates a <code>Flow.Publisher</code> of the events of a publisher.
+	 *
+	 * @param publisher
+	 *            the publisher
+	 */
+	public ZmanimFlowPublisher(ZmanimPublisher publisher) {
+		if (publisher == null) {
+			throw new NullPointerException("The publisher can't be null");
+		}
+		this.publisher = publisher;
+	}
+
+	/**
+	 * Subscribes to a new stream of the events.
+	 *
+	 * @param subscriber
+	 *            the subscriber
+	 * @see ZmanimPublisher#subscribe(ZmanimPublisher.Subscriber)
+	 */
+	public void subscribe(final Flow.Subscriber<? super Zman> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("The subscriber can't be null");
+		}
+		publisher.subscribe(new ZmanimPublisher.Subscriber<Zman>() {
+			public void onSubscribe(final ZmanimPublisher.Subscription subscription) {
+				subscriber.onSubscribe(new Flow.Subscription() {
+					public void request(long n) {
+						subscription.request(n);
+					}
+
+					public void cancel() {
+						subscription.cancel();
+					}
+				});
+			}
+
+			public void onNext(Zman item) {
+				subscriber.onNext(item);
+			}
+
+			public void onError(Throwable throwable) {
+				subscriber.onError(throwable);
+			}
+
+			public void onComplete() {
+				subscriber.onComplete();
+			}
+		});
+	}
+}
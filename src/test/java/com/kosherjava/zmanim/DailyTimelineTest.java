@@ -0,0 +1,112 @@
+package com.kosherjava.zmanim;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verifies the sorting, binary search queries and day roll over of {@link DailyTimeline}.
+ */
+public class DailyTimelineTest {
+
+	private static final String[] ZMANIM = { "getTzais72", "getAlos16Point1Degrees", "getSunrise", "getSunset",
+			"getChatzos", "getSofZmanShmaGRA", "getSofZmanShmaMGA", "getMinchaGedola", "getPlagHamincha",
+			"getCandleLighting", "getTzaisGeonim8Point5Degrees", "getAlos72" };
+
+	private static ComplexZmanimCalendar getCalendar(double latitude, int month) {
+		GeoLocation location = new GeoLocation("Test", latitude, 18.9553, 0, TimeZone.getTimeZone("Europe/Oslo"));
+		ComplexZmanimCalendar czc = new ComplexZmanimCalendar(location);
+		czc.getCalendar().set(2024, month, 10);
+		return czc;
+	}
+
+	private static void assertQueries(DailyTimeline timeline) {
+		for (int i = 1; i < timeline.size(); i++) {
+			Assert.assertTrue(timeline.getTime(i - 1) <= timeline.getTime(i));
+		}
+		if (timeline.size() == 0) {
+			Assert.assertEquals(-1, timeline.next(0));
+			return;
+		}
+		long start = timeline.getTime(0) - AstronomicalCalendar.HOUR_MILLIS;
+		long end = timeline.getTime(timeline.size() - 1) + AstronomicalCalendar.HOUR_MILLIS;
+		for (long instant = start; instant <= end; instant += 7 * 60 * 1000 + 13) {
+			assertQueriesAt(timeline, instant);
+		}
+		for (int i = 0; i < timeline.size(); i++) {
+			assertQueriesAt(timeline, timeline.getTime(i));
+		}
+	}
+
+	private static void assertQueriesAt(DailyTimeline timeline, long instant) {
+		int next = -1;
+		int previous = -1;
+		int period = -1;
+		for (int i = 0; i < timeline.size(); i++) {
+			if (next == -1 && timeline.getTime(i) > instant) {
+				next = i;
+			}
+			if (timeline.getTime(i) < instant) {
+				previous = i;
+			}
+			if (timeline.getTime(i) <= instant) {
+				period = i;
+			}
+		}
+		Assert.assertEquals(next, timeline.next(instant));
+		Assert.assertEquals(previous, timeline.previous(instant));
+		Assert.assertEquals(period, timeline.periodAt(instant));
+	}
+
+	@Test
+	public void testProfileTimeline() {
+		ZmanimProfile profile = ZmanimProfile.compile(ZMANIM);
+		for (double latitude : new double[] { 40.0828, 69.6492 }) {
+			for (int month = Calendar.JANUARY; month <= Calendar.DECEMBER; month += 3) {
+				ComplexZmanimCalendar czc = getCalendar(latitude, month);
+				DailyTimeline timeline = DailyTimeline.getInstance(profile, czc);
+				Date[] zmanim = profile.getZmanim(czc);
+				int computed = 0;
+				for (Date zman : zmanim) {
+					computed += zman == null ? 0 : 1;
+				}
+				Assert.assertEquals(computed, timeline.size());
+				for (int i = 0; i < timeline.size(); i++) {
+					Assert.assertEquals(zmanim[timeline.getZmanId(i)].getTime(), timeline.getTime(i));
+					Assert.assertEquals(ZMANIM[timeline.getZmanId(i)], timeline.getZmanName(i));
+					Assert.assertEquals(zmanim[timeline.getZmanId(i)], timeline.getDate(i));
+				}
+				assertQueries(timeline);
+
+				DailyTimeline nextDay = timeline.getNextDay();
+				czc.getCalendar().add(Calendar.DATE, 1);
+				DailyTimeline expected = DailyTimeline.getInstance(profile, czc);
+				Assert.assertEquals(expected.size(), nextDay.size());
+				for (int i = 0; i < expected.size(); i++) {
+					Assert.assertEquals(expected.getTime(i), nextDay.getTime(i));
+					Assert.assertEquals(expected.getZmanId(i), nextDay.getZmanId(i));
+				}
+				Assert.assertEquals(czc.getCalendar().get(Calendar.DAY_OF_MONTH),
+						nextDay.getCalendar().get(Calendar.DAY_OF_MONTH));
+			}
+		}
+	}
+
+	@Test
+	public void testDefinitionsTimeline() {
+		ZmanDefinitions definitions = ZmanDefinitions.compile("sunset = sunset()", "shaah = shaahZmanis(sunrise(), sunset())",
+				"sunrise = sunrise()", "sameAsSunset = sunrise() + (sunset() - sunrise())", "alos = alos(16.1)");
+		DailyTimeline timeline = DailyTimeline.getInstance(definitions, getCalendar(40.0828, Calendar.MARCH));
+		Assert.assertEquals(4, timeline.size()); // the duration is left out
+		Assert.assertEquals("alos", timeline.getZmanName(0));
+		Assert.assertEquals("sunrise", timeline.getZmanName(1));
+		Assert.assertEquals("sunset", timeline.getZmanName(2));
+		Assert.assertEquals("sameAsSunset", timeline.getZmanName(3)); // equal times are in ID order
+		assertQueries(timeline);
+	}
+}
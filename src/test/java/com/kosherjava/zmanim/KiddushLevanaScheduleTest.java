@@ -0,0 +1,102 @@
+package com.kosherjava.zmanim;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+import com.kosherjava.zmanim.hebrewcalendar.JewishDate;
+import com.kosherjava.zmanim.util.AstronomicalCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verifies {@link KiddushLevanaSchedule} against nights calculated day by day with {@link ComplexZmanimCalendar}.
+ */
+public class KiddushLevanaScheduleTest {
+
+	private static final double ZENITH_16_POINT_1 = AstronomicalCalendar.GEOMETRIC_ZENITH + 16.1;
+
+	private static final GeoLocation[] LOCATIONS = {
+			new GeoLocation("Lakewood, NJ", 40.0828, -74.2094, 20, TimeZone.getTimeZone("America/New_York")),
+			new GeoLocation("Jerusalem", 31.778, 35.2354, 800, TimeZone.getTimeZone("Asia/Jerusalem")),
+			new GeoLocation("Apia, Samoa", -13.8333, -171.75, 0, TimeZone.getTimeZone("Pacific/Apia")),
+			new GeoLocation("Reykjavik", 64.1466, -21.9426, 0, TimeZone.getTimeZone("Atlantic/Reykjavik")),
+			new GeoLocation("Melbourne", -37.8136, 144.9631, 0, TimeZone.getTimeZone("Australia/Melbourne")) };
+
+	/** The nights calculated using a ComplexZmanimCalendar for every date. */
+	private static List<long[]> getExpectedNights(GeoLocation location, long start, long end) {
+		ComplexZmanimCalendar czc = new ComplexZmanimCalendar(location);
+		czc.getCalendar().setTimeInMillis(start);
+		czc.getCalendar().add(Calendar.DATE, -1);
+		List<long[]> nights = new ArrayList<long[]>();
+		while (true) {
+			Date tzais = czc.getSunsetOffsetByDegrees(ZENITH_16_POINT_1);
+			czc.getCalendar().add(Calendar.DATE, 1);
+			Date alos = czc.getSunriseOffsetByDegrees(ZENITH_16_POINT_1);
+			if (tzais != null && tzais.getTime() > end) {
+				return nights;
+			}
+			if (tzais != null && alos != null) {
+				long nightStart = Math.max(tzais.getTime(), start);
+				long nightEnd = Math.min(alos.getTime(), end);
+				if (nightStart < nightEnd) {
+					nights.add(new long[] {nightStart, nightEnd});
+				}
+			}
+		}
+	}
+
+	private static void assertSchedule(JewishCalendar jewishMonth, int tchilasOpinion, int sofOpinion) {
+		KiddushLevanaSchedule schedule = KiddushLevanaSchedule.getInstance(jewishMonth, LOCATIONS,
+				AstronomicalCalculator.getDefault(), ZENITH_16_POINT_1, ZENITH_16_POINT_1, tchilasOpinion, sofOpinion);
+		Assert.assertEquals(jewishMonth.getMoladAsMillis(), schedule.getMolad());
+		Assert.assertEquals(LOCATIONS.length, schedule.getLocationCount());
+		for (int i = 0; i < LOCATIONS.length; i++) {
+			List<long[]> expected = getExpectedNights(LOCATIONS[i], schedule.getStart(), schedule.getEnd());
+			String message = LOCATIONS[i].getLocationName() + " " + jewishMonth;
+			Assert.assertEquals(message, expected.size(), schedule.getNightCount(i));
+			long[] starts = schedule.getNightStarts(i);
+			long[] ends = schedule.getNightEnds(i);
+			for (int night = 0; night < expected.size(); night++) {
+				Assert.assertEquals(message, expected.get(night)[0], schedule.getNightStart(i, night));
+				Assert.assertEquals(message, expected.get(night)[1], schedule.getNightEnd(i, night));
+				Assert.assertEquals(starts[night], schedule.getNightStart(i, night));
+				Assert.assertEquals(ends[night], schedule.getNightEnd(i, night));
+				Assert.assertTrue(schedule.isKiddushLevanaPermissible(i, starts[night]));
+				Assert.assertTrue(schedule.isKiddushLevanaPermissible(i, (starts[night] + ends[night]) / 2));
+				Assert.assertTrue(schedule.isKiddushLevanaPermissible(i, ends[night]));
+				Assert.assertFalse(schedule.isKiddushLevanaPermissible(i, ends[night] + 1));
+				Assert.assertFalse(schedule.isKiddushLevanaPermissible(i, starts[night] - 1));
+			}
+		}
+	}
+
+	@Test
+	public void testMatchesDailyCalculation() {
+		JewishCalendar jewishMonth = new JewishCalendar(5784, JewishDate.TISHREI, 1);
+		for (int i = 0; i < 14; i++) {
+			assertSchedule(jewishMonth, KiddushLevanaSchedule.TCHILAS_3_DAYS, KiddushLevanaSchedule.SOF_BETWEEN_MOLDOS);
+			assertSchedule(jewishMonth, KiddushLevanaSchedule.TCHILAS_7_DAYS, KiddushLevanaSchedule.SOF_15_DAYS);
+			jewishMonth.forward(Calendar.MONTH, 1);
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testNightOutOfRange() {
+		KiddushLevanaSchedule schedule = KiddushLevanaSchedule.getInstance(new JewishCalendar(5784, JewishDate.NISSAN, 1),
+				LOCATIONS, AstronomicalCalculator.getDefault(), ZENITH_16_POINT_1, ZENITH_16_POINT_1,
+				KiddushLevanaSchedule.TCHILAS_3_DAYS, KiddushLevanaSchedule.SOF_15_DAYS);
+		schedule.getNightStart(0, schedule.getNightCount(0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownOpinion() {
+		KiddushLevanaSchedule.getInstance(new JewishCalendar(), LOCATIONS, AstronomicalCalculator.getDefault(),
+				ZENITH_16_POINT_1, ZENITH_16_POINT_1, 3, KiddushLevanaSchedule.SOF_15_DAYS);
+	}
+}
@@ -0,0 +1,180 @@
+package com.kosherjava.zmanim;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.hebrewcalendar.JewishCalendar;
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verifies the cached <em>molad</em> context of {@link ComplexZmanimCalendar} against the original per call
+ * calculation, and the single call {@link KiddushLevanaWindow}s.
+ */
+public class KiddushLevanaWindowTest {
+
+	private static final double ZENITH_16_POINT_1 = AstronomicalCalendar.GEOMETRIC_ZENITH + 16.1;
+
+	/** The original calculation that creates a <code>JewishCalendar</code> and midnight <code>Calendar</code>s per call. */
+	private static Date getExpectedTime(ComplexZmanimCalendar czc, Date moladBasedTime, Date alos, Date tzais,
+			boolean techila) {
+		Calendar lastMidnight = (Calendar) czc.getCalendar().clone();
+		lastMidnight.set(Calendar.HOUR_OF_DAY, 0);
+		lastMidnight.set(Calendar.MINUTE, 0);
+		lastMidnight.set(Calendar.SECOND, 0);
+		lastMidnight.set(Calendar.MILLISECOND, 0);
+		Calendar midnightTonight = (Calendar) lastMidnight.clone();
+		midnightTonight.add(Calendar.DAY_OF_YEAR, 1);
+		if (!(moladBasedTime.before(lastMidnight.getTime()) || moladBasedTime.after(midnightTonight.getTime()))) {
+			if (alos != null || tzais != null) {
+				if (techila && !(moladBasedTime.before(tzais) || moladBasedTime.after(alos))) {
+					return tzais;
+				}
+				return alos;
+			}
+			return moladBasedTime;
+		}
+		return null;
+	}
+
+	private static JewishCalendar getJewishCalendar(ComplexZmanimCalendar czc) {
+		JewishCalendar jewishCalendar = new JewishCalendar();
+		jewishCalendar.setGregorianDate(czc.getCalendar().get(Calendar.YEAR), czc.getCalendar().get(Calendar.MONTH),
+				czc.getCalendar().get(Calendar.DAY_OF_MONTH));
+		return jewishCalendar;
+	}
+
+	private static Date getExpectedMolad(ComplexZmanimCalendar czc) {
+		JewishCalendar jewishCalendar = getJewishCalendar(czc);
+		int day = jewishCalendar.getJewishDayOfMonth();
+		if (day > 2 && day < 27) {
+			return null;
+		}
+		Date molad = getExpectedTime(czc, jewishCalendar.getMoladAsDate(), null, null, true);
+		if (molad == null && day > 26) {
+			jewishCalendar.forward(Calendar.MONTH, 1);
+			molad = getExpectedTime(czc, jewishCalendar.getMoladAsDate(), null, null, true);
+		}
+		return molad;
+	}
+
+	private static Date getExpectedTchilas3Days(ComplexZmanimCalendar czc, Date alos, Date tzais) {
+		JewishCalendar jewishCalendar = getJewishCalendar(czc);
+		int day = jewishCalendar.getJewishDayOfMonth();
+		if (day > 5 && day < 30) {
+			return null;
+		}
+		Date zman = getExpectedTime(czc, jewishCalendar.getTchilasZmanKidushLevana3Days(), alos, tzais, true);
+		if (zman == null && day == 30) {
+			jewishCalendar.forward(Calendar.MONTH, 1);
+			zman = getExpectedTime(czc, jewishCalendar.getTchilasZmanKidushLevana3Days(), null, null, true);
+		}
+		return zman;
+	}
+
+	private static Date getExpectedTchilas7Days(ComplexZmanimCalendar czc, Date alos, Date tzais) {
+		JewishCalendar jewishCalendar = getJewishCalendar(czc);
+		int day = jewishCalendar.getJewishDayOfMonth();
+		return day < 4 || day > 9 ? null
+				: getExpectedTime(czc, jewishCalendar.getTchilasZmanKidushLevana7Days(), alos, tzais, true);
+	}
+
+	private static Date getExpectedSofBetweenMoldos(ComplexZmanimCalendar czc, Date alos, Date tzais) {
+		JewishCalendar jewishCalendar = getJewishCalendar(czc);
+		int day = jewishCalendar.getJewishDayOfMonth();
+		return day < 11 || day > 16 ? null
+				: getExpectedTime(czc, jewishCalendar.getSofZmanKidushLevanaBetweenMoldos(), alos, tzais, false);
+	}
+
+	private static Date getExpectedSof15Days(ComplexZmanimCalendar czc, Date alos, Date tzais) {
+		JewishCalendar jewishCalendar = getJewishCalendar(czc);
+		int day = jewishCalendar.getJewishDayOfMonth();
+		return day < 11 || day > 17 ? null
+				: getExpectedTime(czc, jewishCalendar.getSofZmanKidushLevana15Days(), alos, tzais, false);
+	}
+
+	private static void assertSameTimes(ComplexZmanimCalendar czc) {
+		String date = czc.getCalendar().getTime() + " " + czc.getCalendar().getTimeZone().getID();
+		Date alos = czc.getAlos72();
+		Date tzais = czc.getTzais72();
+		Assert.assertEquals(date, getExpectedMolad(czc), czc.getZmanMolad());
+		Assert.assertEquals(date, getExpectedTchilas3Days(czc, null, null), czc.getTchilasZmanKidushLevana3Days());
+		Assert.assertEquals(date, getExpectedTchilas3Days(czc, alos, tzais), czc.getTchilasZmanKidushLevana3Days(alos, tzais));
+		Assert.assertEquals(date, getExpectedTchilas7Days(czc, null, null), czc.getTchilasZmanKidushLevana7Days());
+		Assert.assertEquals(date, getExpectedTchilas7Days(czc, alos, tzais), czc.getTchilasZmanKidushLevana7Days(alos, tzais));
+		Assert.assertEquals(date, getExpectedSofBetweenMoldos(czc, null, null), czc.getSofZmanKidushLevanaBetweenMoldos());
+		Assert.assertEquals(date, getExpectedSofBetweenMoldos(czc, alos, tzais),
+				czc.getSofZmanKidushLevanaBetweenMoldos(alos, tzais));
+		Assert.assertEquals(date, getExpectedSof15Days(czc, null, null), czc.getSofZmanKidushLevana15Days());
+		Assert.assertEquals(date, getExpectedSof15Days(czc, alos, tzais), czc.getSofZmanKidushLevana15Days(alos, tzais));
+
+		KiddushLevanaWindow window = czc.getKiddushLevanaWindow(alos, tzais);
+		Assert.assertEquals(date, czc.getZmanMolad(), window.getMolad());
+		Assert.assertEquals(date, czc.getTchilasZmanKidushLevana3Days(alos, tzais), window.getTchilasZmanKidushLevana3Days());
+		Assert.assertEquals(date, czc.getTchilasZmanKidushLevana7Days(alos, tzais), window.getTchilasZmanKidushLevana7Days());
+		Assert.assertEquals(date, czc.getSofZmanKidushLevanaBetweenMoldos(alos, tzais),
+				window.getSofZmanKidushLevanaBetweenMoldos());
+		Assert.assertEquals(date, czc.getSofZmanKidushLevana15Days(alos, tzais), window.getSofZmanKidushLevana15Days());
+	}
+
+	@Test
+	public void testCachedContextMatchesOriginal() {
+		GeoLocation[] locations = {
+				new GeoLocation("Lakewood, NJ", 40.0828, -74.2094, 20, TimeZone.getTimeZone("America/New_York")),
+				new GeoLocation("Jerusalem", 31.778, 35.2354, 0, TimeZone.getTimeZone("Asia/Jerusalem")),
+				new GeoLocation("Rapa Iti", -27.6167, -144.3333, 0, TimeZone.getTimeZone("Pacific/Tahiti")),
+				new GeoLocation("Anadyr", 64.7337, 177.5089, 0, TimeZone.getTimeZone("Asia/Anadyr")) };
+		for (GeoLocation location : locations) {
+			ComplexZmanimCalendar czc = new ComplexZmanimCalendar(location);
+			czc.getCalendar().set(2027, Calendar.NOVEMBER, 20);
+			for (int i = 0; i < 120; i++) {
+				assertSameTimes(czc);
+				czc.getCalendar().add(Calendar.DATE, 1); // the cache must follow changes to the calendar
+			}
+		}
+	}
+
+	@Test
+	public void testTimeZoneChange() {
+		ComplexZmanimCalendar czc = new ComplexZmanimCalendar();
+		Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("America/New_York"));
+		calendar.set(2024, Calendar.JANUARY, 14);
+		czc.setCalendar(calendar);
+		assertSameTimes(czc);
+		czc.getCalendar().setTimeZone(TimeZone.getTimeZone("Asia/Tokyo"));
+		assertSameTimes(czc);
+	}
+
+	@Test
+	public void testMonthWindow() {
+		GeoLocation location = new GeoLocation("Lakewood, NJ", 40.0828, -74.2094, 20,
+				TimeZone.getTimeZone("America/New_York"));
+		ComplexZmanimCalendar czc = new ComplexZmanimCalendar(location);
+		czc.getCalendar().set(2024, Calendar.MARCH, 20);
+		JewishCalendar jewishCalendar = new JewishCalendar(czc.getCalendar());
+		KiddushLevanaWindow window = czc.getKiddushLevanaMonthWindow(ZENITH_16_POINT_1, ZENITH_16_POINT_1);
+		Assert.assertEquals(jewishCalendar.getMoladAsDate(), window.getMolad());
+		Assert.assertFalse(window.getTchilasZmanKidushLevana3Days().before(jewishCalendar.getTchilasZmanKidushLevana3Days()));
+		Assert.assertFalse(window.getTchilasZmanKidushLevana7Days().before(jewishCalendar.getTchilasZmanKidushLevana7Days()));
+		Assert.assertFalse(window.getSofZmanKidushLevanaBetweenMoldos().after(
+				jewishCalendar.getSofZmanKidushLevanaBetweenMoldos()));
+		Assert.assertFalse(window.getSofZmanKidushLevana15Days().after(jewishCalendar.getSofZmanKidushLevana15Days()));
+		Assert.assertEquals(2024, czc.getCalendar().get(Calendar.YEAR)); // not modified
+		Assert.assertEquals(Calendar.MARCH, czc.getCalendar().get(Calendar.MONTH));
+
+		// every adjusted time is at night
+		Date[] times = { window.getTchilasZmanKidushLevana3Days(), window.getTchilasZmanKidushLevana7Days(),
+				window.getSofZmanKidushLevanaBetweenMoldos(), window.getSofZmanKidushLevana15Days() };
+		for (Date time : times) {
+			ComplexZmanimCalendar day = (ComplexZmanimCalendar) czc.clone();
+			day.getCalendar().setTime(time);
+			Date alos = day.getSunriseOffsetByDegrees(ZENITH_16_POINT_1);
+			Date tzais = day.getSunsetOffsetByDegrees(ZENITH_16_POINT_1);
+			Assert.assertTrue(time.toString(), !time.after(alos) || !time.before(tzais));
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.kosherjava.zmanim;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verifies {@link MelachaSchedule} against {@link ZmanimCalendar#isAssurBemlacha(Date, Date, boolean)}.
+ */
+public class MelachaScheduleTest {
+
+	private static ZmanimCalendar getCalendar() {
+		GeoLocation location = new GeoLocation("Lakewood, NJ", 40.0828, -74.2094, 20,
+				TimeZone.getTimeZone("America/New_York"));
+		ZmanimCalendar zc = new ZmanimCalendar(location);
+		zc.setUseElevation(true);
+		return zc;
+	}
+
+	private static boolean isAssurBemlacha(ZmanimCalendar zc, long time, boolean inIsrael) {
+		zc.getCalendar().setTimeInMillis(time);
+		return zc.isAssurBemlacha(new Date(time), zc.getTzais(), inIsrael);
+	}
+
+	@Test
+	public void testSameAsIsAssurBemlacha() {
+		ZmanimCalendar zc = getCalendar();
+		Calendar start = (Calendar) zc.getCalendar().clone();
+		start.set(2024, Calendar.SEPTEMBER, 25, 0, 0, 0); // through Rosh Hashana, Yom Kippur, Sukkos and Shemini Atzeres
+		long end = start.getTimeInMillis() + 40 * 24 * AstronomicalCalendar.HOUR_MILLIS;
+		for (boolean inIsrael : new boolean[] { false, true }) {
+			MelachaSchedule schedule = new MelachaSchedule(zc, "tzais(8.5)", inIsrael);
+			int transitions = 0;
+			long transition = schedule.getNextTransition(start.getTimeInMillis());
+			for (long time = start.getTimeInMillis(); time < end; time += 11 * AstronomicalCalendar.MINUTE_MILLIS + 7) {
+				boolean assur = isAssurBemlacha(zc, time, inIsrael);
+				Assert.assertEquals(new Date(time).toString(), assur, schedule.isAssurBemelacha(time));
+				if (time >= transition) {
+					Assert.assertEquals(isAssurBemlacha(zc, transition - 1, inIsrael), !assur);
+					Assert.assertEquals(assur, isAssurBemlacha(zc, transition, inIsrael));
+					Assert.assertEquals(assur, schedule.isAssurBemelacha(transition));
+					transition = schedule.getNextTransition(time);
+					transitions++;
+				}
+				Assert.assertTrue(schedule.getNextTransition(time) > time);
+			}
+			Assert.assertTrue(transitions >= 12);
+		}
+	}
+
+	@Test
+	public void testTransitionsAtShkiahAndTzais() {
+		ZmanimCalendar zc = getCalendar();
+		zc.getCalendar().set(2024, Calendar.MAY, 17, 12, 0); // Friday
+		MelachaSchedule schedule = new MelachaSchedule(zc, "sunset() + minutes(72)", false);
+		long sunset = zc.getElevationAdjustedSunset().getTime();
+		long noon = zc.getCalendar().getTimeInMillis();
+		Assert.assertFalse(schedule.isAssurBemelacha(noon));
+		Assert.assertEquals(sunset, schedule.getNextTransition(noon));
+		Assert.assertTrue(schedule.isAssurBemelacha(sunset));
+		zc.getCalendar().add(Calendar.DATE, 1);
+		long tzais = zc.getTzais72().getTime();
+		Assert.assertEquals(tzais + 1, schedule.getNextTransition(sunset));
+		Assert.assertTrue(schedule.isAssurBemelacha(tzais));
+		Assert.assertFalse(schedule.isAssurBemelacha(tzais + 1));
+
+		Assert.assertFalse(schedule.isAssurBemelacha(noon - 24 * AstronomicalCalendar.HOUR_MILLIS)); // earlier query
+		Assert.assertTrue(schedule.isAssurBemelacha(tzais));
+		Assert.assertFalse(schedule.isAssurBemelacha(tzais + 365 * 24 * AstronomicalCalendar.HOUR_MILLIS));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDurationTzais() {
+		new MelachaSchedule(getCalendar(), "minutes(72)", false);
+	}
+}
@@ -0,0 +1,117 @@
+package com.kosherjava.zmanim;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.AstronomicalCalculator;
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.NOAACalculator;
+import com.kosherjava.zmanim.util.SolarDayType;
+import com.kosherjava.zmanim.util.SunTimesCalculator;
+
+/**
+ * Verifies that {@link AstronomicalCalendar#getSolarDayType(double)} matches the times that can be calculated.
+ */
+public class SolarDayTypeTest {
+
+	private static final double[] ZENITHS = { AstronomicalCalendar.GEOMETRIC_ZENITH, AstronomicalCalendar.CIVIL_ZENITH,
+			ComplexZmanimCalendar.ZENITH_16_POINT_1, AstronomicalCalendar.ASTRONOMICAL_ZENITH };
+
+	private static ComplexZmanimCalendar getCalendar(String name, double latitude, double longitude, String timeZone) {
+		GeoLocation location = new GeoLocation(name, latitude, longitude, 50, TimeZone.getTimeZone(timeZone));
+		ComplexZmanimCalendar czc = new ComplexZmanimCalendar(location);
+		czc.getCalendar().set(2024, Calendar.JANUARY, 1);
+		return czc;
+	}
+
+	private static ComplexZmanimCalendar[] getCalendars() {
+		return new ComplexZmanimCalendar[] { getCalendar("Tromso", 69.6492, 18.9553, "Europe/Oslo"),
+				getCalendar("Fairbanks", 64.8378, -147.7164, "America/Anchorage"),
+				getCalendar("Stockholm", 59.3293, 18.0686, "Europe/Stockholm"),
+				getCalendar("McMurdo", -77.8419, 166.6863, "Antarctica/McMurdo"),
+				getCalendar("Lakewood, NJ", 40.0828, -74.2094, "America/New_York") };
+	}
+
+	private static void assertTypes(ComplexZmanimCalendar czc) {
+		for (double zenith : ZENITHS) {
+			ComplexZmanimCalendar day = (ComplexZmanimCalendar) czc.clone();
+			SolarDayType[] types = czc.getSolarDayTypes(zenith, 366);
+			for (int i = 0; i < types.length; i++) {
+				boolean normal = day.getSunriseOffsetByDegrees(zenith) != null
+						&& day.getSunsetOffsetByDegrees(zenith) != null;
+				Assert.assertEquals(czc.getGeoLocation().getLocationName() + " " + zenith + " " + i, normal,
+						types[i] == SolarDayType.NORMAL);
+				Assert.assertEquals(types[i], day.getSolarDayType(zenith));
+				AstronomicalCalculator calculator = day.getAstronomicalCalculator();
+				Assert.assertEquals(day.getSunriseOffsetByDegrees(zenith) != null, calculator.getSolarDayType(
+						day.getAdjustedCalendar(), day.getGeoLocation(), zenith, true, true) == SolarDayType.NORMAL);
+				Assert.assertEquals(day.getSunsetOffsetByDegrees(zenith) != null, calculator.getSolarDayType(
+						day.getAdjustedCalendar(), day.getGeoLocation(), zenith, true, false) == SolarDayType.NORMAL);
+				if (types[i] == SolarDayType.TWILIGHT_NEVER_ENDS) {
+					Assert.assertTrue(zenith > AstronomicalCalendar.GEOMETRIC_ZENITH);
+				} else if (types[i] == SolarDayType.SUN_NEVER_SETS) {
+					Assert.assertEquals(AstronomicalCalendar.GEOMETRIC_ZENITH, zenith, 0);
+				}
+				day.getCalendar().add(Calendar.DATE, 1);
+			}
+		}
+	}
+
+	@Test
+	public void testNOAACalculator() {
+		for (ComplexZmanimCalendar czc : getCalendars()) {
+			czc.setAstronomicalCalculator(new NOAACalculator());
+			assertTypes(czc);
+		}
+		ComplexZmanimCalendar tromso = getCalendars()[0];
+		SolarDayType[] types = tromso.getSolarDayTypes(AstronomicalCalendar.GEOMETRIC_ZENITH, 366);
+		Assert.assertEquals(SolarDayType.SUN_NEVER_RISES, types[0]); // the polar night
+		Assert.assertEquals(SolarDayType.SUN_NEVER_SETS, types[Calendar.JUNE * 31]); // the midnight sun
+		Assert.assertEquals(SolarDayType.TWILIGHT_NEVER_ENDS,
+				tromso.getSolarDayTypes(ComplexZmanimCalendar.ZENITH_16_POINT_1, 366)[Calendar.APRIL * 31]);
+	}
+
+	@Test
+	public void testDefaultImplementation() {
+		for (ComplexZmanimCalendar czc : getCalendars()) {
+			czc.setAstronomicalCalculator(new SunTimesCalculator());
+			SolarDayType[] types = czc.getSolarDayTypes(AstronomicalCalendar.GEOMETRIC_ZENITH, 366);
+			ComplexZmanimCalendar day = (ComplexZmanimCalendar) czc.clone();
+			for (SolarDayType type : types) {
+				Assert.assertEquals(day.getSunrise() != null && day.getSunset() != null, type == SolarDayType.NORMAL);
+				day.getCalendar().add(Calendar.DATE, 1);
+			}
+		}
+		ComplexZmanimCalendar tromso = getCalendars()[0];
+		tromso.setAstronomicalCalculator(new SunTimesCalculator());
+		Assert.assertEquals(SolarDayType.SUN_NEVER_RISES, tromso.getSolarDayType(AstronomicalCalendar.GEOMETRIC_ZENITH));
+		tromso.getCalendar().set(Calendar.MONTH, Calendar.JUNE);
+		Assert.assertEquals(SolarDayType.SUN_NEVER_SETS, tromso.getSolarDayType(AstronomicalCalendar.GEOMETRIC_ZENITH));
+	}
+
+	@Test
+	public void testDaysWithoutTzais16Point1Degrees() {
+		for (ComplexZmanimCalendar czc : getCalendars()) {
+			List<Integer> expected = new ArrayList<Integer>();
+			ComplexZmanimCalendar day = (ComplexZmanimCalendar) czc.clone();
+			for (int i = 1; i <= 366; i++) {
+				if (day.getTzais16Point1Degrees() == null) {
+					expected.add(i);
+				}
+				day.getCalendar().add(Calendar.DATE, 1);
+			}
+			int[] days = czc.getDaysWithoutTzais16Point1Degrees();
+			Assert.assertEquals(expected.size(), days.length);
+			for (int i = 0; i < days.length; i++) {
+				Assert.assertEquals(expected.get(i).intValue(), days[i]);
+			}
+		}
+		Assert.assertEquals(0, getCalendars()[4].getDaysWithoutTzais16Point1Degrees().length);
+		Assert.assertTrue(getCalendars()[2].getDaysWithoutTzais16Point1Degrees().length > 30);
+	}
+}
@@ -0,0 +1,118 @@
+package com.kosherjava.zmanim;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verifies that {@link ZmanDefinitions} evaluates declarative definitions to the same times as the equivalent
+ * {@link ComplexZmanimCalendar} methods.
+ */
+public class ZmanDefinitionsTest {
+
+	private static final String[] DEFINITIONS = {
+			"alos161 = alos(16.1°)",
+			"tzais161 = tzais(16.1)",
+			"sofZmanShmaMGA = zmanis(alos161, tzais161, 3)",
+			"sofZmanShmaMGAExpression = alos(16.1) + shaahZmanis(alos(16.1), tzais(16.1)) * 3",
+			"alos72 = sunrise() - minutes(72)",
+			"tzais72 = sunset() + hours(1.2)",
+			"plagHamincha = zmanis(sunrise(), sunset(), 10.75)",
+			"shaahZmanisGra = shaahZmanis(sunrise(), sunset())",
+			"minchaGedolaHalfDay = halfDayZmanis(chatzos(), sunset(), 0.5)",
+			"tzaisGeonim8Point5 = tzais(8.5)",
+			"seaLevelTzais = seaLevelSunset() + seconds(90)",
+			"tzaisShabbos = max(tzais(8.5), sunset() + minutes(50))",
+			"percentOfDay = sunrise() + (sunset() - sunrise()) * 25 / 100" };
+
+	private static final GeoLocation[] LOCATIONS = {
+			new GeoLocation("Lakewood, NJ", 40.0828, -74.2094, 20, TimeZone.getTimeZone("America/New_York")),
+			new GeoLocation("Jerusalem", 31.778, 35.2354, 800, TimeZone.getTimeZone("Asia/Jerusalem")),
+			new GeoLocation("Tromso", 69.6492, 18.9553, 0, TimeZone.getTimeZone("Europe/Oslo")) };
+
+	private static long toMillis(Date date) {
+		return date == null ? Long.MIN_VALUE : date.getTime();
+	}
+
+	private static long[] getExpected(ComplexZmanimCalendar czc) {
+		Date sunrise = czc.getElevationAdjustedSunrise();
+		Date sunset = czc.getElevationAdjustedSunset();
+		Date tzais85 = czc.getTzaisGeonim8Point5Degrees();
+		Date tzais50 = ZmanimCalendar.getTimeOffset(sunset, 50 * AstronomicalCalendar.MINUTE_MILLIS);
+		long tzaisShabbos = tzais85 == null || tzais50 == null ? Long.MIN_VALUE
+				: Math.max(tzais85.getTime(), tzais50.getTime());
+		long percentOfDay = sunrise == null || sunset == null ? Long.MIN_VALUE
+				: sunrise.getTime() + (sunset.getTime() - sunrise.getTime()) / 4;
+		return new long[] { toMillis(czc.getAlos16Point1Degrees()), toMillis(czc.getTzais16Point1Degrees()),
+				toMillis(czc.getSofZmanShmaMGA16Point1Degrees()), toMillis(czc.getSofZmanShmaMGA16Point1Degrees()),
+				toMillis(czc.getAlos72()), toMillis(czc.getTzais72()), toMillis(czc.getPlagHamincha()),
+				czc.getShaahZmanisGra(), toMillis(czc.getHalfDayBasedZman(czc.getChatzos(), sunset, 0.5)),
+				toMillis(tzais85), toMillis(ZmanimCalendar.getTimeOffset(czc.getSeaLevelSunset(), 90 * 1000L)),
+				tzaisShabbos, percentOfDay };
+	}
+
+	@Test
+	public void testMatchesCalendarMethods() {
+		ZmanDefinitions definitions = ZmanDefinitions.compile(DEFINITIONS);
+		Assert.assertEquals(DEFINITIONS.length, definitions.getZmanCount());
+		Assert.assertEquals("shaahZmanisGra", definitions.getZmanName(7));
+		Assert.assertEquals(7, definitions.getIndex("shaahZmanisGra"));
+		Assert.assertEquals(-1, definitions.getIndex("noSuchZman"));
+		Assert.assertTrue(definitions.isDuration(7));
+		Assert.assertFalse(definitions.isDuration(0));
+		for (GeoLocation location : LOCATIONS) {
+			for (int elevation = 0; elevation < 2; elevation++) {
+				ComplexZmanimCalendar czc = new ComplexZmanimCalendar(location);
+				czc.setUseElevation(elevation == 1);
+				czc.getCalendar().set(2024, Calendar.APRIL, 1);
+				long[][] range = definitions.getZmanim(czc, 60);
+				for (int day = 0; day < 60; day++) {
+					long[] expected = getExpected(czc);
+					long[] zmanim = definitions.getZmanim(czc);
+					for (int i = 0; i < DEFINITIONS.length; i++) {
+						String message = DEFINITIONS[i] + " " + location.getLocationName() + " " + czc.getCalendar().getTime();
+						Assert.assertEquals(message, expected[i], zmanim[i]);
+						Assert.assertEquals(message, expected[i], range[day][i]);
+					}
+					czc.getCalendar().add(Calendar.DATE, 1);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSharedSubExpressions() {
+		ZmanDefinitions single = ZmanDefinitions.compile("a = zmanis(alos(16.1), tzais(16.1), 3)");
+		ZmanDefinitions shared = ZmanDefinitions.compile("a = zmanis(alos(16.1), tzais(16.1), 3)",
+				"b = zmanis(alos(16.1), tzais(16.1), 3)", "c = alos(16.1)", "d = tzais(16.1) + minutes(1)",
+				"e = minutes(1) + tzais(16.1)");
+		Assert.assertEquals(3, single.getNodeCount());
+		Assert.assertEquals(5, shared.getNodeCount());
+	}
+
+	@Test
+	public void testInvalidDefinitions() {
+		String[] invalid = { "a = sunrise() + sunset()", "a = sunrise() * 2", "a = alos(16.1", "a = 3",
+				"a = noSuchFunction()", "a = undefinedName", "a = zmanis(sunrise(), sunset())", "= sunrise()",
+				"a = sunrise() sunset()", "a = -sunrise()" };
+		for (String definition : invalid) {
+			try {
+				ZmanDefinitions.compile(definition);
+				Assert.fail(definition);
+			} catch (IllegalArgumentException iae) {
+				// expected
+			}
+		}
+		try {
+			ZmanDefinitions.compile("a = sunrise()", "a = sunset()");
+			Assert.fail("redefined name");
+		} catch (IllegalArgumentException iae) {
+			// expected
+		}
+	}
+}
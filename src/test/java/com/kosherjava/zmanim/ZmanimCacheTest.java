@@ -0,0 +1,205 @@
+package com.kosherjava.zmanim;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.NOAACalculator;
+import com.kosherjava.zmanim.util.Trigonometry;
+
+/**
+ * Verifies the keys, expiration, eviction, statistics and single flight loading of {@link ZmanimCache}.
+ */
+public class ZmanimCacheTest {
+
+	private static final ZmanDefinitions DEFINITIONS = ZmanDefinitions.compile("alos = alos(16.1)",
+			"sofZmanShma = zmanis(alos, tzais(16.1), 3)", "tzais = sunset() + minutes(72)");
+
+	/** A clock that only moves when the test moves it. */
+	private static final class ManualClock extends Clock {
+		private volatile long millis;
+
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis);
+		}
+
+		public long millis() {
+			return millis;
+		}
+	}
+
+	private static ComplexZmanimCalendar getCalendar(String name, int day) {
+		GeoLocation location = new GeoLocation(name, 40.0828, -74.2094, 20, TimeZone.getTimeZone("America/New_York"));
+		ComplexZmanimCalendar czc = new ComplexZmanimCalendar(location);
+		czc.getCalendar().set(2024, Calendar.MAY, day, 10, 30);
+		return czc;
+	}
+
+	@Test
+	public void testHitsAndKeys() {
+		ManualClock clock = new ManualClock();
+		ZmanimCache cache = new ZmanimCache(DEFINITIONS, 100, AstronomicalCalendar.HOUR_MILLIS, clock);
+		ComplexZmanimCalendar czc = getCalendar("Lakewood, NJ", 1);
+		long[] zmanim = cache.getZmanim(czc);
+		Assert.assertArrayEquals(DEFINITIONS.getZmanim(czc), zmanim);
+		zmanim[0] = 0; // a copy
+		Assert.assertArrayEquals(DEFINITIONS.getZmanim(czc), cache.getZmanim(getCalendar("Another name", 1)));
+		Assert.assertEquals(DEFINITIONS.getZmanim(czc)[1], cache.getZman(czc, 1));
+		Assert.assertEquals(1, cache.getMissCount());
+		Assert.assertEquals(2, cache.getHitCount());
+
+		czc.getCalendar().set(Calendar.HOUR_OF_DAY, 22); // same day
+		cache.getZmanim(czc);
+		Assert.assertEquals(1, cache.getMissCount());
+		czc.setUseElevation(true); // different settings
+		Assert.assertArrayEquals(DEFINITIONS.getZmanim(czc), cache.getZmanim(czc));
+		czc.getCalendar().add(Calendar.DATE, 1); // different day
+		Assert.assertArrayEquals(DEFINITIONS.getZmanim(czc), cache.getZmanim(czc));
+		Assert.assertEquals(3, cache.getMissCount());
+		Assert.assertEquals(3, cache.getSize());
+	}
+
+	@Test
+	public void testExpiration() {
+		ManualClock clock = new ManualClock();
+		ZmanimCache cache = new ZmanimCache(DEFINITIONS, 100, 1000, clock);
+		ComplexZmanimCalendar czc = getCalendar("Lakewood, NJ", 1);
+		cache.getZmanim(czc);
+		clock.millis = 999;
+		cache.getZmanim(czc);
+		Assert.assertEquals(1, cache.getMissCount());
+		clock.millis = 1000;
+		cache.getZmanim(czc);
+		Assert.assertEquals(2, cache.getMissCount());
+		Assert.assertEquals(1, cache.getEvictionCount());
+		Assert.assertEquals(1, cache.getSize());
+	}
+
+	@Test
+	public void testCalculatorSettingsInKey() {
+		ZmanimCache cache = new ZmanimCache(DEFINITIONS, 100, AstronomicalCalendar.HOUR_MILLIS, new ManualClock());
+		ComplexZmanimCalendar czc = getCalendar("Lakewood, NJ", 1);
+		cache.getZmanim(czc);
+		czc.getAstronomicalCalculator().setTrigonometry(Trigonometry.FAST);
+		Assert.assertArrayEquals(DEFINITIONS.getZmanim(czc), cache.getZmanim(czc));
+		czc.getAstronomicalCalculator().setRefraction(0.5);
+		Assert.assertArrayEquals(DEFINITIONS.getZmanim(czc), cache.getZmanim(czc));
+		czc.getAstronomicalCalculator().setSolarRadius(0.25);
+		Assert.assertArrayEquals(DEFINITIONS.getZmanim(czc), cache.getZmanim(czc));
+		czc.getAstronomicalCalculator().setEarthRadius(6378.1);
+		czc.setUseElevation(true);
+		Assert.assertArrayEquals(DEFINITIONS.getZmanim(czc), cache.getZmanim(czc));
+		Assert.assertEquals(5, cache.getMissCount());
+		czc.setAstronomicalCalculator(new NOAACalculator());
+		czc.getAstronomicalCalculator().setTrigonometry(Trigonometry.FAST);
+		cache.getZmanim(czc);
+		Assert.assertEquals(6, cache.getMissCount()); // STRICT and FAST are not shared
+		czc.getAstronomicalCalculator().setTrigonometry(Trigonometry.STRICT);
+		cache.getZmanim(czc);
+		Assert.assertEquals(7, cache.getMissCount());
+	}
+
+	@Test
+	public void testExpiredEntriesRemoved() {
+		ManualClock clock = new ManualClock();
+		ZmanimCache cache = new ZmanimCache(DEFINITIONS, 3, 1000, clock);
+		cache.getZmanim(getCalendar("Lakewood, NJ", 1));
+		cache.getZmanim(getCalendar("Lakewood, NJ", 2));
+		clock.millis = 500;
+		cache.getZmanim(getCalendar("Lakewood, NJ", 3));
+		cache.getZmanim(getCalendar("Lakewood, NJ", 1)); // day 2 is now the least recently used
+		clock.millis = 1000;
+		Assert.assertEquals(1, cache.getSize()); // days 1 and 2 expired
+		Assert.assertEquals(2, cache.getEvictionCount());
+
+		clock.millis = 2000;
+		cache.getZmanim(getCalendar("Lakewood, NJ", 4)); // day 3 is expired and the least recently used
+		Assert.assertEquals(3, cache.getEvictionCount());
+		cache.getZmanim(getCalendar("Lakewood, NJ", 5));
+		clock.millis = 2500;
+		cache.getZmanim(getCalendar("Lakewood, NJ", 6));
+		Assert.assertEquals(3, cache.getEvictionCount());
+		cache.getZmanim(getCalendar("Lakewood, NJ", 4)); // day 5 is now the least recently used
+		clock.millis = 3000; // days 4 and 5 expired, day 6 did not
+		cache.getZmanim(getCalendar("Lakewood, NJ", 6));
+		cache.getZmanim(getCalendar("Lakewood, NJ", 7));
+		cache.getZmanim(getCalendar("Lakewood, NJ", 8)); // the expired days are evicted instead of the live day 6
+		Assert.assertEquals(3, cache.getSize());
+		long misses = cache.getMissCount();
+		cache.getZmanim(getCalendar("Lakewood, NJ", 6));
+		Assert.assertEquals(misses, cache.getMissCount());
+	}
+
+	@Test
+	public void testSizeEviction() {
+		ZmanimCache cache = new ZmanimCache(DEFINITIONS, 3, AstronomicalCalendar.HOUR_MILLIS, new ManualClock());
+		for (int day = 1; day <= 3; day++) {
+			cache.getZmanim(getCalendar("Lakewood, NJ", day));
+		}
+		cache.getZmanim(getCalendar("Lakewood, NJ", 1)); // day 2 is now the least recently used
+		cache.getZmanim(getCalendar("Lakewood, NJ", 4));
+		Assert.assertEquals(3, cache.getSize());
+		Assert.assertEquals(1, cache.getEvictionCount());
+		cache.getZmanim(getCalendar("Lakewood, NJ", 1));
+		Assert.assertEquals(4, cache.getMissCount());
+		cache.getZmanim(getCalendar("Lakewood, NJ", 2));
+		Assert.assertEquals(5, cache.getMissCount());
+		cache.clear();
+		Assert.assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void testSingleFlight() throws InterruptedException {
+		final ZmanimCache cache = new ZmanimCache(ZmanimProfile.compile("getAlos72Zmanis", "getTzais72"), 100,
+				AstronomicalCalendar.HOUR_MILLIS);
+		final CountDownLatch start = new CountDownLatch(1);
+		final long[][] results = new long[16][];
+		Thread[] threads = new Thread[results.length];
+		for (int i = 0; i < threads.length; i++) {
+			final int index = i;
+			threads[i] = new Thread(new Runnable() {
+				public void run() {
+					try {
+						start.await();
+					} catch (InterruptedException ie) {
+						return;
+					}
+					results[index] = cache.getZmanim(getCalendar("Lakewood, NJ", 1));
+				}
+			});
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(1, cache.getMissCount());
+		Assert.assertEquals(results.length - 1, cache.getHitCount());
+		Date alos = getCalendar("Lakewood, NJ", 1).getAlos72Zmanis();
+		for (long[] result : results) {
+			Assert.assertEquals(alos.getTime(), result[0]);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testProfileRequiresComplexCalendar() {
+		new ZmanimCache(ZmanimProfile.compile("getAlos72Zmanis"), 10, 1000).getZmanim(new ZmanimCalendar());
+	}
+}
@@ -0,0 +1,83 @@
+package com.kosherjava.zmanim;
+
+import java.lang.reflect.Method;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.SunTimesCalculator;
+
+/**
+ * Verifies that a compiled {@link ZmanimProfile} returns the same <em>zmanim</em> as calling them directly.
+ */
+public class ZmanimProfileTest {
+
+	private static final String[] ZMANIM = { "getAlos72Zmanis", "getSofZmanShmaMGA72MinutesZmanis",
+			"getPlagHaminchaAteretTorah", "getTzaisGeonim8Point5Degrees", "getChatzos", "getSunrise", "getSunset",
+			"getAlos16Point1Degrees", "getMisheyakir10Point2Degrees", "getSofZmanTfilaGRA", "getMinchaGedola",
+			"getMinchaKetana", "getCandleLighting", "getTzais72", "getSofZmanShmaMGA16Point1Degrees",
+			"getBainHashmashosRT13Point24Degrees", "getSofZmanAchilasChametzGRA", "getSofZmanShmaBaalHatanya",
+			"getSofZmanShmaFixedLocal", "getSolarMidnight" };
+
+	private static final GeoLocation[] LOCATIONS = {
+			new GeoLocation("Lakewood, NJ", 40.0828, -74.2094, 20, TimeZone.getTimeZone("America/New_York")),
+			new GeoLocation("Jerusalem", 31.778, 35.2354, 800, TimeZone.getTimeZone("Asia/Jerusalem")),
+			new GeoLocation("Apia, Samoa", -13.8333, -171.75, 0, TimeZone.getTimeZone("Pacific/Apia")),
+			new GeoLocation("Tromso", 69.6492, 18.9553, 0, TimeZone.getTimeZone("Europe/Oslo")) };
+
+	private static Date getExpected(String zman, ComplexZmanimCalendar czc) throws Exception {
+		Method method = ComplexZmanimCalendar.class.getMethod(zman);
+		return (Date) method.invoke(czc);
+	}
+
+	private static void assertSameZmanim(ZmanimProfile profile, ComplexZmanimCalendar czc) throws Exception {
+		long before = czc.getCalendar().getTimeInMillis();
+		long[][] range = profile.getZmanimAsMillis(czc, 40);
+		for (int day = 0; day < 40; day++) {
+			Date[] zmanim = profile.getZmanim(czc);
+			Assert.assertEquals(ZMANIM.length, zmanim.length);
+			for (int i = 0; i < ZMANIM.length; i++) {
+				String message = ZMANIM[i] + " " + czc.getGeoLocation().getLocationName() + " " + czc.getCalendar().getTime();
+				Date expected = getExpected(ZMANIM[i], czc);
+				Assert.assertEquals(message, expected, zmanim[i]);
+				Assert.assertEquals(message, expected == null ? Long.MIN_VALUE : expected.getTime(), range[day][i]);
+			}
+			czc.getCalendar().add(Calendar.DATE, 1);
+		}
+		czc.getCalendar().setTimeInMillis(before);
+	}
+
+	@Test
+	public void testMatchesDirectCalls() throws Exception {
+		ZmanimProfile profile = ZmanimProfile.compile(ZMANIM);
+		Assert.assertEquals(ZMANIM.length, profile.getZmanCount());
+		Assert.assertEquals("getChatzos", profile.getZmanName(4));
+		Assert.assertTrue(profile.getZenithCount() < ZMANIM.length);
+		for (GeoLocation location : LOCATIONS) {
+			ComplexZmanimCalendar czc = new ComplexZmanimCalendar(location);
+			czc.getCalendar().set(2024, Calendar.MARCH, 1);
+			assertSameZmanim(profile, czc);
+			czc.setUseElevation(true);
+			czc.setCandleLightingOffset(40);
+			czc.setUseAstronomicalChatzosForOtherZmanim(true);
+			czc.getCalendar().set(2024, Calendar.JUNE, 1);
+			assertSameZmanim(profile, czc);
+			czc.setAstronomicalCalculator(new SunTimesCalculator());
+			assertSameZmanim(profile, czc);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownZman() {
+		ZmanimProfile.compile("getAlos72", "getNoSuchZman");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNotADate() {
+		ZmanimProfile.compile("getShaahZmanisGra");
+	}
+}
@@ -0,0 +1,138 @@
+package com.kosherjava.zmanim;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.Zman;
+
+/**
+ * Verifies the order, day boundaries, merging and backpressure of {@link ZmanimPublisher}.
+ */
+public class ZmanimPublisherTest {
+
+	private static final ZmanDefinitions DEFINITIONS = ZmanDefinitions.compile("alos = alos(16.1)",
+			"sunrise = sunrise()", "chatzos = chatzos()", "sunset = sunset()", "tzais = tzais(8.5)");
+
+	private static ZmanimCalendar getCalendar(String name, double latitude, double longitude, String timeZone) {
+		GeoLocation location = new GeoLocation(name, latitude, longitude, 0, TimeZone.getTimeZone(timeZone));
+		ZmanimCalendar zc = new ZmanimCalendar(location);
+		zc.getCalendar().set(2024, Calendar.JUNE, 1);
+		return zc;
+	}
+
+	/** A subscriber that records the events and requests one more from each event, up to a limit. */
+	private static final class Recorder implements ZmanimPublisher.Subscriber<Zman> {
+		private final int limit;
+		private final List<Zman> items = new ArrayList<Zman>();
+		private ZmanimPublisher.Subscription subscription;
+		private Throwable error;
+		private int depth;
+		private int maximumDepth;
+
+		private Recorder(int limit) {
+			this.limit = limit;
+		}
+
+		public void onSubscribe(ZmanimPublisher.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		public void onNext(Zman item) {
+			depth++;
+			maximumDepth = Math.max(maximumDepth, depth);
+			items.add(item);
+			if (items.size() < limit) {
+				subscription.request(1);
+			}
+			depth--;
+		}
+
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		public void onComplete() {
+		}
+	}
+
+	@Test
+	public void testSingleLocationAcrossDays() {
+		ZmanimCalendar zc = getCalendar("Lakewood, NJ", 40.0828, -74.2094, "America/New_York");
+		Iterator<Zman> zmanim = ZmanimPublisher.getInstance(DEFINITIONS, zc).iterator();
+		ZmanimCalendar day = (ZmanimCalendar) zc.clone();
+		for (int i = 0; i < 10; i++) {
+			long[] expected = DEFINITIONS.getZmanim(day);
+			for (int j = 0; j < expected.length; j++) {
+				Zman zman = zmanim.next();
+				Assert.assertEquals(expected[j], zman.getZman().getTime());
+				Assert.assertEquals(DEFINITIONS.getZmanName(j), zman.getLabel());
+				Assert.assertEquals("Lakewood, NJ", zman.getGeoLocation().getLocationName());
+			}
+			day.getCalendar().add(Calendar.DATE, 1);
+		}
+	}
+
+	@Test
+	public void testMergeIsOrdered() {
+		ZmanimPublisher publisher = ZmanimPublisher.merge(
+				ZmanimPublisher.getInstance(DEFINITIONS, getCalendar("Lakewood, NJ", 40.0828, -74.2094, "America/New_York")),
+				ZmanimPublisher.merge(
+						ZmanimPublisher.getInstance(DEFINITIONS, getCalendar("Jerusalem", 31.778, 35.2354, "Asia/Jerusalem")),
+						ZmanimPublisher.getInstance(DEFINITIONS, getCalendar("Tromso", 69.6492, 18.9553, "Europe/Oslo"))));
+		Iterator<Zman> zmanim = publisher.iterator();
+		long previous = Long.MIN_VALUE;
+		int lakewood = 0;
+		int tromso = 0;
+		for (int i = 0; i < 300; i++) {
+			Zman zman = zmanim.next();
+			Assert.assertTrue(zman.getZman().getTime() >= previous);
+			previous = zman.getZman().getTime();
+			lakewood += zman.getGeoLocation().getLocationName().equals("Lakewood, NJ") ? 1 : 0;
+			tromso += zman.getGeoLocation().getLocationName().equals("Tromso") ? 1 : 0;
+		}
+		Assert.assertTrue(lakewood > 0);
+		Assert.assertTrue(tromso > 0); // only chatzos in the midnight sun
+	}
+
+	@Test
+	public void testBackpressure() {
+		ZmanimPublisher publisher = ZmanimPublisher.getInstance(DEFINITIONS,
+				getCalendar("Lakewood, NJ", 40.0828, -74.2094, "America/New_York"));
+		Recorder recorder = new Recorder(0);
+		publisher.subscribe(recorder);
+		Assert.assertEquals(0, recorder.items.size());
+		recorder.subscription.request(3);
+		Assert.assertEquals(3, recorder.items.size());
+		recorder.subscription.request(2);
+		Assert.assertEquals(5, recorder.items.size());
+		recorder.subscription.cancel();
+		recorder.subscription.request(2);
+		Assert.assertEquals(5, recorder.items.size());
+
+		Recorder chained = new Recorder(1000);
+		publisher.subscribe(chained);
+		chained.subscription.request(1);
+		Assert.assertEquals(1000, chained.items.size());
+		Assert.assertEquals(1, chained.maximumDepth); // requests from onNext are not recursive
+		Assert.assertEquals(recorder.items.get(4).getZman(), chained.items.get(4).getZman());
+
+		Recorder invalid = new Recorder(0);
+		publisher.subscribe(invalid);
+		invalid.subscription.request(0);
+		Assert.assertTrue(invalid.error instanceof IllegalArgumentException);
+	}
+
+	@Test
+	public void testStreamEnds() {
+		ZmanimPublisher publisher = ZmanimPublisher.getInstance(ZmanDefinitions.compile("never = alos(30)"),
+				getCalendar("Near the North Pole", 89, 0, "UTC")); // the sun is never 30 degrees below the horizon
+		Assert.assertFalse(publisher.iterator().hasNext());
+	}
+}
@@ -0,0 +1,158 @@
+package com.kosherjava.zmanim;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Executor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verifies the timing, day refill, cancellation and clock jumps of {@link ZmanimScheduler}.
+ */
+public class ZmanimSchedulerTest {
+
+	private static final ZmanDefinitions DEFINITIONS = ZmanDefinitions.compile("alos = alos(16.1)",
+			"sunrise = sunrise()", "sofZmanShma = zmanis(alos, tzais(16.1), 3)", "sunset = sunset()",
+			"tzais = sunset() + minutes(72)");
+
+	/** An executor that runs the tasks on the calling thread. */
+	private static final Executor DIRECT = new Executor() {
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	/** A clock that only moves when the test moves it. */
+	private static final class ManualClock extends Clock {
+		private volatile long millis;
+
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis);
+		}
+
+		public long millis() {
+			return millis;
+		}
+	}
+
+	/** A listener that records the time it was called at and the time of the <em>zman</em>. */
+	private static final class Recorder implements ZmanimScheduler.Listener {
+		private final ManualClock clock;
+		private final List<long[]> calls = new ArrayList<long[]>();
+
+		private Recorder(ManualClock clock) {
+			this.clock = clock;
+		}
+
+		public void onZman(DailyTimeline timeline, int position) {
+			calls.add(new long[] { clock.millis(), timeline.getTime(position) });
+		}
+	}
+
+	private static ZmanimCalendar getCalendar(double longitude, String timeZone) {
+		GeoLocation location = new GeoLocation("Test", 40.0828, longitude, 0, TimeZone.getTimeZone(timeZone));
+		ZmanimCalendar zc = new ZmanimCalendar(location);
+		zc.getCalendar().set(2024, Calendar.MAY, 1, 0, 0, 0);
+		zc.getCalendar().set(Calendar.MILLISECOND, 0);
+		return zc;
+	}
+
+	@Test
+	public void testDispatchOverSeveralDays() {
+		ZmanimCalendar zc = getCalendar(-74.2094, "America/New_York");
+		ManualClock clock = new ManualClock();
+		clock.millis = zc.getCalendar().getTimeInMillis();
+		ZmanimScheduler scheduler = new ZmanimScheduler(DIRECT, 1000, clock);
+		Recorder recorder = new Recorder(clock);
+		scheduler.subscribe(DEFINITIONS, zc, recorder);
+		ZmanimCalendar jerusalem = getCalendar(35.2354, "Asia/Jerusalem");
+		Recorder jerusalemRecorder = new Recorder(clock);
+		scheduler.subscribe(DEFINITIONS, jerusalem, jerusalemRecorder);
+
+		long end = clock.millis + 4 * 24 * AstronomicalCalendar.HOUR_MILLIS;
+		int dispatched = 0;
+		while (clock.millis < end) {
+			clock.millis += 997;
+			dispatched += scheduler.tick();
+		}
+		List<Long> expected = new ArrayList<Long>();
+		ZmanimCalendar day = (ZmanimCalendar) zc.clone();
+		for (int i = 0; i < 4; i++) {
+			for (long time : DEFINITIONS.getZmanim(day)) {
+				expected.add(time);
+			}
+			day.getCalendar().add(Calendar.DATE, 1);
+		}
+		Assert.assertEquals(expected.size(), recorder.calls.size());
+		for (int i = 0; i < expected.size(); i++) {
+			long[] call = recorder.calls.get(i);
+			Assert.assertEquals(expected.get(i).longValue(), call[1]);
+			Assert.assertTrue(call[0] >= call[1]); // never early
+			Assert.assertTrue(call[0] - call[1] < 2000); // at most a tick and a step late
+		}
+		Assert.assertEquals(dispatched, recorder.calls.size() + jerusalemRecorder.calls.size());
+		Assert.assertTrue(jerusalemRecorder.calls.size() >= 3 * 5);
+		Assert.assertTrue(scheduler.getPendingCount() <= 2 * 2 * 5);
+	}
+
+	@Test
+	public void testPassedZmanimAndCancel() {
+		ZmanimCalendar zc = getCalendar(-74.2094, "America/New_York");
+		ManualClock clock = new ManualClock();
+		long[] zmanim = DEFINITIONS.getZmanim(zc);
+		clock.millis = zmanim[1]; // sunrise
+		ZmanimScheduler scheduler = new ZmanimScheduler(DIRECT, 1000, clock);
+		Recorder recorder = new Recorder(clock);
+		ZmanimScheduler.Subscription subscription = scheduler.subscribe(DEFINITIONS, zc, recorder);
+		Assert.assertEquals(4, scheduler.getPendingCount()); // alos passed
+		clock.millis += 1000;
+		Assert.assertEquals(1, scheduler.tick()); // sunrise
+		clock.millis = zmanim[2] + 1000;
+		Assert.assertEquals(1, scheduler.tick());
+		subscription.cancel();
+		Assert.assertTrue(subscription.isCancelled());
+		clock.millis = zmanim[4] + AstronomicalCalendar.HOUR_MILLIS;
+		Assert.assertEquals(0, scheduler.tick());
+		Assert.assertEquals(2, recorder.calls.size());
+		Assert.assertEquals(0, scheduler.getPendingCount());
+	}
+
+	@Test
+	public void testClockJump() {
+		ZmanimCalendar zc = getCalendar(-74.2094, "America/New_York");
+		ManualClock clock = new ManualClock();
+		clock.millis = zc.getCalendar().getTimeInMillis();
+		ZmanimScheduler scheduler = new ZmanimScheduler(DIRECT, 50, clock);
+		Recorder recorder = new Recorder(clock);
+		scheduler.subscribe(DEFINITIONS, zc, recorder);
+		clock.millis += 11 * AstronomicalCalendar.HOUR_MILLIS; // after sunrise and before the refill at noon
+		Assert.assertEquals(3, scheduler.tick());
+		clock.millis += 9 * AstronomicalCalendar.HOUR_MILLIS;
+		Assert.assertEquals(1, scheduler.tick());
+		clock.millis += 2 * AstronomicalCalendar.HOUR_MILLIS;
+		Assert.assertEquals(1, scheduler.tick());
+		Assert.assertEquals(5, scheduler.getPendingCount()); // the next day
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidTick() {
+		new ZmanimScheduler(DIRECT, 0, Clock.systemUTC());
+	}
+}
@@ -0,0 +1,69 @@
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.util.Calendar;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link CompiledTefilaRules} returns the same answers as the {@link TefilaRules} it was compiled from.
+ */
+public class CompiledTefilaRulesTest {
+
+	private static void assertSameAnswers(TefilaRules rules, int fromYear, int toYear) {
+		CompiledTefilaRules compiled = rules.compile();
+		for (int settings = 0; settings < 8; settings++) {
+			JewishCalendar jewishCalendar = new JewishCalendar(fromYear, JewishDate.TISHREI, 1);
+			jewishCalendar.setInIsrael((settings & 1) != 0);
+			jewishCalendar.setIsMukafChoma((settings & 2) != 0);
+			jewishCalendar.setUseModernHolidays((settings & 4) != 0);
+			while (jewishCalendar.getJewishYear() < toYear) {
+				String date = jewishCalendar.toString() + " settings " + settings;
+				Assert.assertEquals(date, rules.isTachanunRecitedShacharis(jewishCalendar), compiled.isTachanunRecitedShacharis(jewishCalendar));
+				Assert.assertEquals(date, rules.isTachanunRecitedMincha(jewishCalendar), compiled.isTachanunRecitedMincha(jewishCalendar));
+				Assert.assertEquals(date, rules.isHallelRecited(jewishCalendar), compiled.isHallelRecited(jewishCalendar));
+				Assert.assertEquals(date, rules.isHallelShalemRecited(jewishCalendar), compiled.isHallelShalemRecited(jewishCalendar));
+				Assert.assertEquals(date, rules.isAlHanissimRecited(jewishCalendar), compiled.isAlHanissimRecited(jewishCalendar));
+				Assert.assertEquals(date, rules.isYaalehVeyavoRecited(jewishCalendar), compiled.isYaalehVeyavoRecited(jewishCalendar));
+				Assert.assertEquals(date, rules.isMizmorLesodaRecited(jewishCalendar), compiled.isMizmorLesodaRecited(jewishCalendar));
+				Assert.assertEquals(date, rules.isVeseinTalUmatarStartDate(jewishCalendar), compiled.isVeseinTalUmatarStartDate(jewishCalendar));
+				Assert.assertEquals(date, rules.isVeseinTalUmatarStartingTonight(jewishCalendar), compiled.isVeseinTalUmatarStartingTonight(jewishCalendar));
+				Assert.assertEquals(date, rules.isVeseinTalUmatarRecited(jewishCalendar), compiled.isVeseinTalUmatarRecited(jewishCalendar));
+				Assert.assertEquals(date, rules.isVeseinBerachaRecited(jewishCalendar), compiled.isVeseinBerachaRecited(jewishCalendar));
+				Assert.assertEquals(date, rules.isMashivHaruachStartDate(jewishCalendar), compiled.isMashivHaruachStartDate(jewishCalendar));
+				Assert.assertEquals(date, rules.isMashivHaruachEndDate(jewishCalendar), compiled.isMashivHaruachEndDate(jewishCalendar));
+				Assert.assertEquals(date, rules.isMashivHaruachRecited(jewishCalendar), compiled.isMashivHaruachRecited(jewishCalendar));
+				Assert.assertEquals(date, rules.isMoridHatalRecited(jewishCalendar), compiled.isMoridHatalRecited(jewishCalendar));
+				jewishCalendar.forward(Calendar.DATE, 1);
+			}
+		}
+	}
+
+	@Test
+	public void testDefaultRules() {
+		assertSameAnswers(new TefilaRules(), 5780, 5790);
+	}
+
+	@Test
+	public void testChasidishRules() {
+		TefilaRules rules = new TefilaRules();
+		rules.setTachanunRecitedWeekOfPurim(false);
+		rules.setTachanunRecitedWeekOfHod(false);
+		rules.setTachanunRecitedEndOfTishrei(false);
+		rules.setTachanunRecitedWeekAfterShavuos(true);
+		rules.setTachanunRecitedShivasYemeiHamiluim(false);
+		rules.setTachanunRecitedMinchaErevLagBaomer(true);
+		rules.setMizmorLesodaRecitedErevYomKippurAndPesach(true);
+		assertSameAnswers(rules, 5783, 5787);
+	}
+
+	@Test
+	public void testSettingsAreCopied() {
+		TefilaRules rules = new TefilaRules();
+		CompiledTefilaRules compiled = rules.compile();
+		rules.setTachanunRecitedWeekOfPurim(false);
+		JewishCalendar jewishCalendar = new JewishCalendar(5783, JewishDate.ADAR, 17);
+		Assert.assertFalse(rules.isTachanunRecitedShacharis(jewishCalendar));
+		Assert.assertTrue(compiled.isTachanunRecitedShacharis(jewishCalendar));
+	}
+}
@@ -0,0 +1,115 @@
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.io.IOException;
+import java.util.Calendar;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link HebrewCalendarRenderer} renders the same labels as the individual {@link HebrewDateFormatter}
+ * methods.
+ */
+public class HebrewCalendarRendererTest {
+
+	private static void assertSameLabels(HebrewDateFormatter hdf, JewishCalendar startDay, String[][] days) {
+		JewishCalendar jewishCalendar = (JewishCalendar) startDay.clone();
+		for (String[] row : days) {
+			String date = jewishCalendar.toString();
+			Assert.assertEquals(date, hdf.format(jewishCalendar), row[HebrewCalendarRenderer.JEWISH_DATE]);
+			Assert.assertEquals(date, hdf.formatDayOfWeek(jewishCalendar), row[HebrewCalendarRenderer.DAY_OF_WEEK]);
+			Assert.assertEquals(date, hdf.formatYomTov(jewishCalendar), row[HebrewCalendarRenderer.YOM_TOV]);
+			Assert.assertEquals(date, hdf.formatRoshChodesh(jewishCalendar), row[HebrewCalendarRenderer.ROSH_CHODESH]);
+			Assert.assertEquals(date, hdf.formatOmer(jewishCalendar), row[HebrewCalendarRenderer.OMER]);
+			Assert.assertEquals(date, hdf.formatParsha(jewishCalendar), row[HebrewCalendarRenderer.PARSHA]);
+			Assert.assertEquals(date, hdf.formatSpecialParsha(jewishCalendar), row[HebrewCalendarRenderer.SPECIAL_PARSHA]);
+			Assert.assertEquals(date, hdf.formatDafYomiBavli(jewishCalendar.getDafYomiBavli()),
+					row[HebrewCalendarRenderer.DAF_YOMI_BAVLI]);
+			jewishCalendar.forward(Calendar.DATE, 1);
+		}
+	}
+
+	@Test
+	public void testRangeMatchesFormatter() {
+		for (int settings = 0; settings < 4; settings++) {
+			HebrewDateFormatter hdf = new HebrewDateFormatter();
+			hdf.setHebrewFormat((settings & 1) != 0);
+			HebrewCalendarRenderer renderer = new HebrewCalendarRenderer(hdf.toImmutable());
+			JewishCalendar startDay = new JewishCalendar(5783, JewishDate.ELUL, 1);
+			startDay.setInIsrael((settings & 2) != 0);
+			startDay.setUseModernHolidays(true);
+			String[][] days = renderer.render(startDay, 800);
+			Assert.assertEquals(800, days.length);
+			Assert.assertEquals(5783, startDay.getJewishYear()); // not modified
+			assertSameLabels(hdf, startDay, days);
+		}
+	}
+
+	@Test
+	public void testMonthsAndYear() {
+		HebrewDateFormatter hdf = new HebrewDateFormatter();
+		HebrewCalendarRenderer renderer = new HebrewCalendarRenderer(hdf.toImmutable());
+		JewishCalendar jewishCalendar = new JewishCalendar(5784, JewishDate.NISSAN, 20);
+
+		String[][] month = renderer.renderJewishMonth(jewishCalendar);
+		Assert.assertEquals(30, month.length);
+		Assert.assertEquals("1 Nissan, 5784", month[0][HebrewCalendarRenderer.JEWISH_DATE]);
+		Assert.assertEquals("2024-04-09", month[0][HebrewCalendarRenderer.GREGORIAN_DATE]);
+		Assert.assertEquals("Pesach", month[14][HebrewCalendarRenderer.YOM_TOV]);
+		Assert.assertEquals("Omer 5", month[19][HebrewCalendarRenderer.OMER]);
+
+		month = renderer.renderGregorianMonth(jewishCalendar); // April 2024
+		Assert.assertEquals(30, month.length);
+		Assert.assertEquals("2024-04-01", month[0][HebrewCalendarRenderer.GREGORIAN_DATE]);
+		Assert.assertEquals("2024-04-30", month[29][HebrewCalendarRenderer.GREGORIAN_DATE]);
+
+		String[][] year = renderer.renderJewishYear(jewishCalendar);
+		Assert.assertEquals(jewishCalendar.getDaysInJewishYear(), year.length);
+		Assert.assertEquals("1 Tishrei, 5784", year[0][HebrewCalendarRenderer.JEWISH_DATE]);
+		assertSameLabels(hdf, new JewishCalendar(5784, JewishDate.TISHREI, 1), year);
+	}
+
+	@Test
+	public void testAppendable() throws IOException {
+		HebrewCalendarRenderer renderer = new HebrewCalendarRenderer(new HebrewDateFormatter().toImmutable());
+		JewishCalendar jewishCalendar = new JewishCalendar(5784, JewishDate.TISHREI, 1);
+		String[][] days = renderer.renderJewishMonth(jewishCalendar);
+		StringBuilder sb = new StringBuilder();
+		renderer.renderJewishMonth(jewishCalendar, sb);
+		String[] lines = sb.toString().split("\n");
+		Assert.assertEquals(days.length, lines.length);
+		for (int i = 0; i < days.length; i++) {
+			Assert.assertEquals(String.join("\t", days[i]), lines[i]);
+		}
+	}
+
+	@Test
+	public void testBeforeDafYomi() {
+		HebrewCalendarRenderer renderer = new HebrewCalendarRenderer(new HebrewDateFormatter().toImmutable());
+		String[][] days = renderer.render(new JewishCalendar(5683, JewishDate.ELUL, 28), 3);
+		Assert.assertEquals("", days[0][HebrewCalendarRenderer.DAF_YOMI_BAVLI]);
+		Assert.assertEquals("", days[1][HebrewCalendarRenderer.DAF_YOMI_BAVLI]);
+		Assert.assertEquals("Berachos 2", days[2][HebrewCalendarRenderer.DAF_YOMI_BAVLI]);
+	}
+
+	@Test
+	public void testDafAndParshaAcrossCycles() {
+		HebrewDateFormatter hdf = new HebrewDateFormatter();
+		HebrewCalendarRenderer renderer = new HebrewCalendarRenderer(hdf.toImmutable());
+		JewishCalendar startDay = new JewishCalendar(5684, JewishDate.TISHREI, 1); // the first day of the first cycle
+		String[][] days = renderer.render(startDay, 36500); // includes the change of Shekalim and 12 new cycles
+		JewishCalendar jewishCalendar = (JewishCalendar) startDay.clone();
+		for (String[] row : days) {
+			String date = jewishCalendar.toString();
+			Assert.assertEquals(date, hdf.formatDafYomiBavli(jewishCalendar.getDafYomiBavli()),
+					row[HebrewCalendarRenderer.DAF_YOMI_BAVLI]);
+			Assert.assertEquals(date, hdf.formatParsha(jewishCalendar), row[HebrewCalendarRenderer.PARSHA]);
+			jewishCalendar.forward(Calendar.DATE, 1);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeRange() {
+		new HebrewCalendarRenderer(new HebrewDateFormatter().toImmutable()).render(new JewishCalendar(), -1);
+	}
+}
@@ -0,0 +1,67 @@
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Calendar;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies the cached Hebrew number formatting and the <code>StringBuilder</code> and <code>Appendable</code> variants of
+ * {@link HebrewDateFormatter#format(JewishDate)}.
+ */
+public class HebrewDateFormatterTest {
+
+	@Test
+	public void testHebrewNumbers() {
+		HebrewDateFormatter formatter = new HebrewDateFormatter();
+		Assert.assertEquals("אפס", formatter.formatHebrewNumber(0));
+		Assert.assertEquals("ט״ו", formatter.formatHebrewNumber(15));
+		Assert.assertEquals("ל׳", formatter.formatHebrewNumber(30));
+		Assert.assertEquals("תשכ״ט", formatter.formatHebrewNumber(5729));
+		Assert.assertEquals("תש״פ", formatter.formatHebrewNumber(5780));
+		Assert.assertEquals("תקצ״ט", formatter.formatHebrewNumber(5599)); // not cached
+		Assert.assertEquals("ו׳ אלפים", formatter.formatHebrewNumber(6000));
+
+		formatter.setUseFinalFormLetters(true);
+		Assert.assertEquals("תש״ף", formatter.formatHebrewNumber(5780));
+		formatter.setUseGershGershayim(false);
+		Assert.assertEquals("תשף", formatter.formatHebrewNumber(5780));
+		Assert.assertEquals("טו", formatter.formatHebrewNumber(15));
+		formatter.setUseLongHebrewYears(true);
+		Assert.assertEquals("ה תשכט", formatter.formatHebrewNumber(5729));
+		Assert.assertEquals("טו", formatter.formatHebrewNumber(15));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeNumber() {
+		new HebrewDateFormatter().formatHebrewNumber(-1);
+	}
+
+	@Test
+	public void testFormatToStringBuilderAndAppendable() throws IOException {
+		HebrewDateFormatter formatter = new HebrewDateFormatter();
+		StringBuilder sb = new StringBuilder();
+		for (int hebrew = 0; hebrew < 2; hebrew++) {
+			formatter.setHebrewFormat(hebrew == 1);
+			JewishDate jewishDate = new JewishDate(5783, JewishDate.SHEVAT, 1);
+			for (int i = 0; i < 800; i++) {
+				String expected = formatter.format(jewishDate);
+				sb.setLength(0);
+				Assert.assertEquals(expected, formatter.format(jewishDate, sb).toString());
+				StringWriter writer = new StringWriter();
+				formatter.format(jewishDate, writer);
+				Assert.assertEquals(expected, writer.toString());
+				jewishDate.forward(Calendar.DATE, 1);
+			}
+		}
+		formatter.setHebrewFormat(false);
+		Assert.assertEquals("21 Shevat, 5729", formatter.format(new JewishDate(5729, JewishDate.SHEVAT, 21)));
+		formatter.setHebrewFormat(true);
+		Assert.assertEquals("כ״א שבט תשכ״ט",
+				formatter.format(new JewishDate(5729, JewishDate.SHEVAT, 21)));
+		Assert.assertEquals("י׳ אדר א׳ תשפ״ד",
+				formatter.format(new JewishDate(5784, JewishDate.ADAR, 10)));
+	}
+}
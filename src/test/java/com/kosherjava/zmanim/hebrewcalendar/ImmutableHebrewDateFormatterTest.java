@@ -0,0 +1,68 @@
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.util.Calendar;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link ImmutableHebrewDateFormatter} formats the same as the {@link HebrewDateFormatter} it was created
+ * from.
+ */
+public class ImmutableHebrewDateFormatterTest {
+
+	private static void assertSameOutput(HebrewDateFormatter hdf) {
+		ImmutableHebrewDateFormatter formatter = hdf.toImmutable();
+		JewishCalendar jewishCalendar = new JewishCalendar(5783, JewishDate.TISHREI, 1);
+		for (int i = 0; i < 800; i++) {
+			String date = jewishCalendar.toString();
+			Assert.assertEquals(date, hdf.format(jewishCalendar), formatter.format(jewishCalendar));
+			Assert.assertEquals(date, hdf.formatMonth(jewishCalendar), formatter.formatMonth(jewishCalendar));
+			Assert.assertEquals(date, hdf.formatDayOfWeek(jewishCalendar), formatter.formatDayOfWeek(jewishCalendar));
+			Assert.assertEquals(date, hdf.formatYomTov(jewishCalendar), formatter.formatYomTov(jewishCalendar));
+			Assert.assertEquals(date, hdf.formatRoshChodesh(jewishCalendar), formatter.formatRoshChodesh(jewishCalendar));
+			Assert.assertEquals(date, hdf.formatOmer(jewishCalendar), formatter.formatOmer(jewishCalendar));
+			Assert.assertEquals(date, hdf.formatParsha(jewishCalendar), formatter.formatParsha(jewishCalendar));
+			Assert.assertEquals(date, hdf.formatSpecialParsha(jewishCalendar), formatter.formatSpecialParsha(jewishCalendar));
+			Assert.assertEquals(date, hdf.formatDafYomiBavli(jewishCalendar.getDafYomiBavli()),
+					formatter.formatDafYomiBavli(jewishCalendar.getDafYomiBavli()));
+			jewishCalendar.forward(Calendar.DATE, 1);
+		}
+		Assert.assertEquals(hdf.getFormattedKviah(5784), formatter.getFormattedKviah(5784));
+	}
+
+	@Test
+	public void testSameOutput() {
+		for (int settings = 0; settings < 8; settings++) {
+			HebrewDateFormatter hdf = new HebrewDateFormatter();
+			hdf.setHebrewFormat((settings & 1) != 0);
+			hdf.setLongWeekFormat((settings & 2) != 0);
+			hdf.setUseGershGershayim((settings & 4) != 0);
+			assertSameOutput(hdf);
+		}
+	}
+
+	@Test
+	public void testCustomLists() {
+		HebrewDateFormatter hdf = new HebrewDateFormatter();
+		hdf.setTransliteratedShabbosDayOfWeek("Shabbat");
+		hdf.getTransliteratedParshiosList().put(JewishCalendar.Parsha.BERESHIS, "Bereshit");
+		assertSameOutput(hdf);
+		hdf.setHebrewFormat(true);
+		hdf.setHebrewOmerPrefix("ל");
+		hdf.setUseLongHebrewYears(true);
+		assertSameOutput(hdf);
+	}
+
+	@Test
+	public void testSettingsAreCopied() {
+		HebrewDateFormatter hdf = new HebrewDateFormatter();
+		ImmutableHebrewDateFormatter formatter = hdf.toImmutable();
+		JewishDate jewishDate = new JewishDate(5729, JewishDate.SHEVAT, 21);
+		hdf.setHebrewFormat(true);
+		hdf.getTransliteratedMonthList()[JewishDate.SHEVAT - 1] = "Shvat";
+		Assert.assertEquals("21 Shevat, 5729", formatter.format(jewishDate));
+		Assert.assertFalse(formatter.isHebrewFormat());
+		Assert.assertFalse(formatter.toHebrewDateFormatter().isHebrewFormat());
+	}
+}
@@ -0,0 +1,53 @@
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+
+/**
+ * Verifies the primitive <em>molad</em> and <em>Kiddush Levana</em> methods against the <code>Calendar</code> based
+ * calculation.
+ */
+public class MoladTest {
+
+	private static long getCalendarMolad(JewishCalendar jewishCalendar) {
+		JewishDate molad = jewishCalendar.getMolad();
+		GeoLocation geo = new GeoLocation("Jerusalem, Israel", 31.778, 35.2354, TimeZone.getTimeZone("GMT+2"));
+		Calendar cal = Calendar.getInstance(geo.getTimeZone());
+		cal.clear();
+		double moladSeconds = molad.getMoladChalakim() * 10 / (double) 3;
+		cal.set(molad.getGregorianYear(), molad.getGregorianMonth(), molad.getGregorianDayOfMonth(),
+				molad.getMoladHours(), molad.getMoladMinutes(), (int) moladSeconds);
+		cal.set(Calendar.MILLISECOND, (int) (1000 * (moladSeconds - (int) moladSeconds)));
+		cal.add(Calendar.MILLISECOND, -1 * (int) geo.getLocalMeanTimeOffset());
+		return cal.getTimeInMillis();
+	}
+
+	@Test
+	public void testMoladMatchesCalendar() {
+		for (int year = 5340; year <= 6100; year++) {
+			JewishCalendar jewishCalendar = new JewishCalendar(year, JewishDate.TISHREI, 1);
+			int lastMonth = jewishCalendar.isJewishLeapYear() ? JewishDate.ADAR_II : JewishDate.ADAR;
+			for (int month = JewishDate.NISSAN; month <= lastMonth; month++) {
+				jewishCalendar.setJewishDate(year, month, 1);
+				long expected = getCalendarMolad(jewishCalendar);
+				Assert.assertEquals(year + "/" + month, expected, jewishCalendar.getMoladAsMillis());
+				Assert.assertEquals(expected, jewishCalendar.getMoladAsDate().getTime());
+			}
+		}
+	}
+
+	@Test
+	public void testKiddushLevana() {
+		JewishCalendar jewishCalendar = new JewishCalendar(5786, JewishDate.AV, 10);
+		long molad = getCalendarMolad(jewishCalendar);
+		Assert.assertEquals(molad + 3 * 24 * 3600000L, jewishCalendar.getTchilasZmanKidushLevana3DaysMillis());
+		Assert.assertEquals(molad + 7 * 24 * 3600000L, jewishCalendar.getTchilasZmanKidushLevana7Days().getTime());
+		Assert.assertEquals(molad + 15 * 24 * 3600000L, jewishCalendar.getSofZmanKidushLevana15DaysMillis());
+		Assert.assertEquals(molad + 1275721666L, jewishCalendar.getSofZmanKidushLevanaBetweenMoldos().getTime());
+	}
+}
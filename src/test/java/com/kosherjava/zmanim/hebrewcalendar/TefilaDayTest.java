@@ -0,0 +1,76 @@
+package com.kosherjava.zmanim.hebrewcalendar;
+
+import java.util.Calendar;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link TefilaRules#getTefilaDay(JewishCalendar)} and {@link TefilaRules#getTefilaDays(JewishCalendar, int)}
+ * return the same answers as the individual {@link TefilaRules} methods.
+ */
+public class TefilaDayTest {
+
+	private static void assertSameAnswers(TefilaRules rules, JewishCalendar jewishCalendar, TefilaDay tefilaDay) {
+		String date = jewishCalendar.toString() + " inIsrael " + jewishCalendar.getInIsrael();
+		Assert.assertEquals(date, rules.isTachanunRecitedShacharis(jewishCalendar), tefilaDay.isTachanunRecitedShacharis());
+		Assert.assertEquals(date, rules.isTachanunRecitedMincha(jewishCalendar), tefilaDay.isTachanunRecitedMincha());
+		Assert.assertEquals(date, rules.isHallelRecited(jewishCalendar), tefilaDay.isHallelRecited());
+		Assert.assertEquals(date, rules.isHallelShalemRecited(jewishCalendar), tefilaDay.isHallelShalemRecited());
+		Assert.assertEquals(date, rules.isAlHanissimRecited(jewishCalendar), tefilaDay.isAlHanissimRecited());
+		Assert.assertEquals(date, rules.isYaalehVeyavoRecited(jewishCalendar), tefilaDay.isYaalehVeyavoRecited());
+		Assert.assertEquals(date, rules.isMizmorLesodaRecited(jewishCalendar), tefilaDay.isMizmorLesodaRecited());
+		Assert.assertEquals(date, rules.isVeseinTalUmatarStartDate(jewishCalendar), tefilaDay.isVeseinTalUmatarStartDate());
+		Assert.assertEquals(date, rules.isVeseinTalUmatarStartingTonight(jewishCalendar), tefilaDay.isVeseinTalUmatarStartingTonight());
+		Assert.assertEquals(date, rules.isVeseinTalUmatarRecited(jewishCalendar), tefilaDay.isVeseinTalUmatarRecited());
+		Assert.assertEquals(date, rules.isVeseinBerachaRecited(jewishCalendar), tefilaDay.isVeseinBerachaRecited());
+		Assert.assertEquals(date, rules.isMashivHaruachStartDate(jewishCalendar), tefilaDay.isMashivHaruachStartDate());
+		Assert.assertEquals(date, rules.isMashivHaruachEndDate(jewishCalendar), tefilaDay.isMashivHaruachEndDate());
+		Assert.assertEquals(date, rules.isMashivHaruachRecited(jewishCalendar), tefilaDay.isMashivHaruachRecited());
+		Assert.assertEquals(date, rules.isMoridHatalRecited(jewishCalendar), tefilaDay.isMoridHatalRecited());
+	}
+
+	@Test
+	public void testRangeMatchesIndividualRules() {
+		TefilaRules rules = new TefilaRules();
+		rules.setTachanunRecitedPesachSheni(true);
+		rules.setMizmorLesodaRecitedErevYomKippurAndPesach(true);
+		for (int settings = 0; settings < 8; settings++) {
+			JewishCalendar start = new JewishCalendar(5783, JewishDate.ELUL, 20);
+			start.setInIsrael((settings & 1) != 0);
+			start.setIsMukafChoma((settings & 2) != 0);
+			start.setUseModernHolidays((settings & 4) != 0);
+			TefilaDay[] tefilaDays = rules.getTefilaDays(start, 800);
+			Assert.assertEquals(5783, start.getJewishYear()); // not modified
+			JewishCalendar jewishCalendar = (JewishCalendar) start.clone();
+			for (int i = 0; i < tefilaDays.length; i++) {
+				assertSameAnswers(rules, jewishCalendar, tefilaDays[i]);
+				jewishCalendar.forward(Calendar.DATE, 1);
+			}
+		}
+	}
+
+	@Test
+	public void testSingleDay() {
+		TefilaRules rules = new TefilaRules();
+		rules.setTachanunRecitedWeekOfPurim(false);
+		rules.setTachanunRecitedMinchaErevLagBaomer(true);
+		JewishCalendar jewishCalendar = new JewishCalendar(5784, JewishDate.KISLEV, 20);
+		for (int i = 0; i < 200; i++) {
+			TefilaDay tefilaDay = rules.getTefilaDay(jewishCalendar);
+			assertSameAnswers(rules, jewishCalendar, tefilaDay);
+			Assert.assertEquals(tefilaDay, rules.compile().getTefilaDay(jewishCalendar));
+			jewishCalendar.forward(Calendar.DATE, 1);
+		}
+	}
+
+	@Test
+	public void testEmptyRange() {
+		Assert.assertEquals(0, new TefilaRules().getTefilaDays(new JewishCalendar(), 0).length);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeRange() {
+		new TefilaRules().getTefilaDays(new JewishCalendar(), -1);
+	}
+}
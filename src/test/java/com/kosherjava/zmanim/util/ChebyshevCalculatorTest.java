@@ -0,0 +1,110 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies that the {@link ChebyshevCalculator} is within its documented deviation of the {@link NOAACalculator}.
+ */
+public class ChebyshevCalculatorTest {
+
+	private static final double[][] LOCATIONS = {
+			{ 31.778, 35.2354 }, // Jerusalem
+			{ 40.66, -73.94 }, // Brooklyn
+			{ -33.87, 151.21 }, // Sydney
+			{ 51.5, -0.12 }, // London
+			{ 64.13, -21.9 }, // Reykjavik
+			{ 0.12, 179.9 }, // near the antimeridian
+	};
+
+	private static final double[] ZENITHS = { 90, 96, 106.1 };
+
+	@Test
+	public void testSeriesDeviation() {
+		Random random = new Random(5786);
+		double start = NOAACalculator.getJulianDay(1800, Calendar.JANUARY, 1);
+		double end = NOAACalculator.getJulianDay(2301, Calendar.JANUARY, 1);
+		for (int i = 0; i < 20000; i++) {
+			double julianDay = start + random.nextDouble() * (end - start);
+			double julianCenturies = NOAACalculator.getJulianCenturiesFromJulianDay(julianDay);
+			Assert.assertEquals(NOAACalculator.getEquationOfTime(julianCenturies, Trigonometry.STRICT),
+					ChebyshevCalculator.getEquationOfTime(julianDay),
+					ChebyshevCalculator.MAXIMUM_EQUATION_OF_TIME_DEVIATION);
+			Assert.assertEquals(NOAACalculator.getSunDeclination(julianCenturies, Trigonometry.STRICT),
+					ChebyshevCalculator.getSunDeclination(julianDay), ChebyshevCalculator.MAXIMUM_DECLINATION_DEVIATION);
+		}
+	}
+
+	@Test
+	public void testWithinAMillisecond() {
+		NOAACalculator noaa = new NOAACalculator();
+		ChebyshevCalculator chebyshev = new ChebyshevCalculator();
+		for (int year : new int[] { 1850, 2026, 2250 }) {
+			Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+			calendar.clear();
+			calendar.set(year, Calendar.JANUARY, 1);
+			for (int day = 0; day < 365; day += 5) {
+				for (double[] location : LOCATIONS) {
+					GeoLocation geoLocation = new GeoLocation("test", location[0], location[1], 800,
+							TimeZone.getTimeZone("UTC"));
+					for (double zenith : ZENITHS) {
+						assertClose(noaa.getUTCSunrise(calendar, geoLocation, zenith, true),
+								chebyshev.getUTCSunrise(calendar, geoLocation, zenith, true));
+						assertClose(noaa.getUTCSunset(calendar, geoLocation, zenith, true),
+								chebyshev.getUTCSunset(calendar, geoLocation, zenith, true));
+					}
+					assertClose(noaa.getUTCNoon(calendar, geoLocation), chebyshev.getUTCNoon(calendar, geoLocation));
+					assertClose(noaa.getUTCMidnight(calendar, geoLocation),
+							chebyshev.getUTCMidnight(calendar, geoLocation));
+				}
+				calendar.add(Calendar.DAY_OF_MONTH, 5);
+			}
+		}
+	}
+
+	@Test
+	public void testInheritedMethodsUseThePolynomials() {
+		ChebyshevCalculator chebyshev = new ChebyshevCalculator();
+		Calendar calendar = new GregorianCalendar(2026, Calendar.JUNE, 21);
+		GeoLocation geoLocation = new GeoLocation("Reykjavik", 64.13, -21.9, 50, TimeZone.getTimeZone("UTC"));
+		double[] sunrises = new double[ZENITHS.length];
+		double[] sunsets = new double[ZENITHS.length];
+		chebyshev.getUTCSunrisesAndSunsets(calendar, geoLocation, ZENITHS, true, sunrises, sunsets);
+		ImmutableGeoLocation immutable = ImmutableGeoLocation.valueOf(geoLocation);
+		for (int i = 0; i < ZENITHS.length; i++) {
+			Assert.assertEquals(chebyshev.getUTCSunrise(calendar, geoLocation, ZENITHS[i], true), sunrises[i], 0);
+			Assert.assertEquals(chebyshev.getUTCSunset(calendar, geoLocation, ZENITHS[i], true), sunsets[i], 0);
+			Assert.assertEquals(chebyshev.getUTCSunrise(calendar, geoLocation, ZENITHS[i], true),
+					chebyshev.getUTCSunrise(calendar, immutable, ZENITHS[i], true), 0);
+		}
+	}
+
+	@Test
+	public void testOutsideRangeIsExact() {
+		NOAACalculator noaa = new NOAACalculator();
+		ChebyshevCalculator chebyshev = new ChebyshevCalculator();
+		Calendar calendar = new GregorianCalendar(1700, Calendar.MARCH, 10);
+		GeoLocation geoLocation = new GeoLocation("Jerusalem", 31.778, 35.2354, 754, TimeZone.getTimeZone("Asia/Jerusalem"));
+		Assert.assertEquals(noaa.getUTCSunrise(calendar, geoLocation, 90, true),
+				chebyshev.getUTCSunrise(calendar, geoLocation, 90, true), 0);
+		Assert.assertEquals(noaa.getUTCNoon(calendar, geoLocation), chebyshev.getUTCNoon(calendar, geoLocation), 0);
+		calendar.set(Calendar.YEAR, 2400);
+		Assert.assertEquals(noaa.getUTCSunset(calendar, geoLocation, 90, true),
+				chebyshev.getUTCSunset(calendar, geoLocation, 90, true), 0);
+	}
+
+	private static void assertClose(double expected, double actual) {
+		if (Double.isNaN(expected)) {
+			Assert.assertTrue(Double.isNaN(actual));
+			return;
+		}
+		double difference = Math.abs(expected - actual);
+		difference = Math.min(difference, 24 - difference);
+		Assert.assertTrue("difference of " + difference * 3600000 + " ms", difference * 3600000 < 1);
+	}
+}
@@ -0,0 +1,67 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * Compares the speed of the {@link GeoLocation} batch distance formulas to the single location
+ * {@link GeoLocation#getGeodesicDistance(GeoLocation)} Vincenty calculation. This is not run as part of the unit tests.
+ */
+public class GeoLocationDistancesBenchmark {
+
+	private static final int LOCATIONS = 10000;
+	private static final int ITERATIONS = 200;
+
+	public static void main(String[] args) {
+		Random random = new Random(1);
+		double[] latitudes = new double[LOCATIONS];
+		double[] longitudes = new double[LOCATIONS];
+		GeoLocation[] geoLocations = new GeoLocation[LOCATIONS];
+		for (int i = 0; i < LOCATIONS; i++) {
+			latitudes[i] = random.nextDouble() * 160 - 80;
+			longitudes[i] = random.nextDouble() * 360 - 180;
+			geoLocations[i] = new GeoLocation("", latitudes[i], longitudes[i], TimeZone.getTimeZone("UTC"));
+		}
+		GeoLocation lakewood = new GeoLocation("Lakewood", 40.0828, -74.2094, TimeZone.getTimeZone("America/New_York"));
+		double[] distances = new double[LOCATIONS];
+
+		for (int round = 0; round < 2; round++) { // the first round is a warmup
+			long start = System.nanoTime();
+			double sum = 0;
+			for (int n = 0; n < ITERATIONS; n++) {
+				for (int i = 0; i < LOCATIONS; i++) {
+					sum += lakewood.getGeodesicDistance(geoLocations[i]);
+				}
+			}
+			print("GeoLocation Vincenty", start, sum);
+			run("Batch Vincenty", GeoLocation.VINCENTY, lakewood, latitudes, longitudes, distances);
+			run("Batch Andoyer-Lambert", GeoLocation.ANDOYER_LAMBERT, lakewood, latitudes, longitudes, distances);
+			run("Batch haversine", GeoLocation.HAVERSINE, lakewood, latitudes, longitudes, distances);
+
+			start = System.nanoTime();
+			sum = 0;
+			for (int n = 0; n < ITERATIONS; n++) {
+				sum += lakewood.getIndicesWithinDistance(latitudes, longitudes, 100000, GeoLocation.VINCENTY).length;
+			}
+			print("Within 100 km (Vincenty)", start, sum);
+			System.out.println();
+		}
+	}
+
+	private static void run(String name, int formula, GeoLocation origin, double[] latitudes, double[] longitudes,
+			double[] distances) {
+		long start = System.nanoTime();
+		double sum = 0;
+		for (int n = 0; n < ITERATIONS; n++) {
+			origin.getGeodesicDistances(latitudes, longitudes, formula, distances);
+			sum += distances[n];
+		}
+		print(name, start, sum);
+	}
+
+	private static void print(String name, long start, double sum) {
+		long nanos = System.nanoTime() - start;
+		System.out.println(String.format("%-26s %8.1f ns/distance (checksum %.0f)", name,
+				(double) nanos / ((long) ITERATIONS * LOCATIONS), sum));
+	}
+}
@@ -0,0 +1,89 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies the batch distance calculations in {@link GeoLocation} against the single location Vincenty calculations.
+ */
+public class GeoLocationDistancesTest {
+
+	private static final GeoLocation LAKEWOOD = new GeoLocation("Lakewood", 40.0828, -74.2094,
+			TimeZone.getTimeZone("America/New_York"));
+
+	private static double[][] getRandomLocations(int count, long seed) {
+		Random random = new Random(seed);
+		double[] latitudes = new double[count];
+		double[] longitudes = new double[count];
+		for (int i = 0; i < count; i++) {
+			latitudes[i] = random.nextDouble() * 160 - 80;
+			longitudes[i] = random.nextDouble() * 360 - 180;
+		}
+		return new double[][] { latitudes, longitudes };
+	}
+
+	@Test
+	public void testVincentyMatchesSingleCalculation() {
+		double[][] locations = getRandomLocations(500, 1);
+		double[] distances = LAKEWOOD.getGeodesicDistances(locations[0], locations[1], GeoLocation.VINCENTY);
+		double[] bearings = LAKEWOOD.getGeodesicInitialBearings(locations[0], locations[1]);
+		for (int i = 0; i < distances.length; i++) {
+			GeoLocation destination = new GeoLocation("", locations[0][i], locations[1][i], TimeZone.getTimeZone("UTC"));
+			Assert.assertEquals(LAKEWOOD.getGeodesicDistance(destination), distances[i], 0);
+			Assert.assertEquals(LAKEWOOD.getGeodesicInitialBearing(destination), bearings[i], 0);
+		}
+	}
+
+	@Test
+	public void testFastFormulaAccuracy() {
+		double[][] locations = getRandomLocations(2000, 2);
+		double[] vincenty = LAKEWOOD.getGeodesicDistances(locations[0], locations[1], GeoLocation.VINCENTY);
+		double[] haversine = LAKEWOOD.getGeodesicDistances(locations[0], locations[1], GeoLocation.HAVERSINE);
+		double[] andoyer = LAKEWOOD.getGeodesicDistances(locations[0], locations[1], GeoLocation.ANDOYER_LAMBERT);
+		for (int i = 0; i < vincenty.length; i++) {
+			if (Double.isNaN(vincenty[i]) || vincenty[i] > 19000000) { // skip (nearly) antipodal points
+				continue;
+			}
+			Assert.assertEquals(vincenty[i], haversine[i], vincenty[i] * 0.005 + 1);
+			Assert.assertEquals(vincenty[i], andoyer[i], vincenty[i] * 0.00001 + 1);
+		}
+	}
+
+	@Test
+	public void testManyToMany() {
+		double[][] from = getRandomLocations(5, 3);
+		double[][] to = getRandomLocations(50, 4);
+		double[][] matrix = GeoLocation.getGeodesicDistances(from[0], from[1], to[0], to[1],
+				GeoLocation.ANDOYER_LAMBERT);
+		for (int i = 0; i < from[0].length; i++) {
+			GeoLocation origin = new GeoLocation("", from[0][i], from[1][i], TimeZone.getTimeZone("UTC"));
+			Assert.assertArrayEquals(origin.getGeodesicDistances(to[0], to[1], GeoLocation.ANDOYER_LAMBERT), matrix[i], 0);
+		}
+	}
+
+	@Test
+	public void testIndicesWithinDistance() {
+		double[][] locations = getRandomLocations(20000, 5);
+		double[] distances = LAKEWOOD.getGeodesicDistances(locations[0], locations[1], GeoLocation.VINCENTY);
+		double maximumDistance = 1500000;
+		int[] indices = LAKEWOOD.getIndicesWithinDistance(locations[0],
+				locations[1], maximumDistance, GeoLocation.VINCENTY);
+		int expected = 0;
+		for (int i = 0, j = 0; i < distances.length; i++) {
+			if (distances[i] <= maximumDistance) {
+				Assert.assertEquals(i, indices[j++]);
+				expected++;
+			}
+		}
+		Assert.assertEquals(expected, indices.length);
+		Assert.assertTrue(expected > 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMismatchedArrays() {
+		LAKEWOOD.getGeodesicDistances(new double[2], new double[3], GeoLocation.HAVERSINE);
+	}
+}
@@ -0,0 +1,61 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies that the {@link ImmutableGeoLocation} calculator overloads return the same times as the {@link GeoLocation} ones.
+ */
+public class ImmutableGeoLocationTest {
+
+	private static final GeoLocation[] LOCATIONS = {
+			new GeoLocation("Jerusalem", 31.778, 35.2354, 754, TimeZone.getTimeZone("Asia/Jerusalem")),
+			new GeoLocation("Lakewood, NJ", 40.0828, -74.2094, 20, TimeZone.getTimeZone("America/New_York")),
+			new GeoLocation("Sydney", -33.87, 151.21, 0, TimeZone.getTimeZone("Australia/Sydney")),
+			new GeoLocation("Apia", -13.8333, -171.75, 2, TimeZone.getTimeZone("Pacific/Apia")),
+			new GeoLocation("Tromso", 69.65, 18.96, 10, TimeZone.getTimeZone("Europe/Oslo")),
+	};
+
+	@Test
+	public void testSameTimesAsGeoLocation() {
+		AstronomicalCalculator equatorialRadius = new NOAACalculator();
+		equatorialRadius.setEarthRadius(6378.1); // the cached elevation adjustment is for the default radius
+		AstronomicalCalculator[] calculators = { new NOAACalculator(), new SunTimesCalculator(), equatorialRadius };
+		double[] zeniths = { 90, 96, 106.1, 108 };
+		Calendar calendar = new GregorianCalendar(2026, Calendar.JANUARY, 1);
+		for (int day = 0; day < 365; day += 5) {
+			for (GeoLocation geoLocation : LOCATIONS) {
+				ImmutableGeoLocation location = ImmutableGeoLocation.valueOf(geoLocation);
+				for (AstronomicalCalculator calculator : calculators) {
+					for (double zenith : zeniths) {
+						for (boolean adjustForElevation : new boolean[] { true, false }) {
+							Assert.assertEquals(calculator.getUTCSunrise(calendar, geoLocation, zenith, adjustForElevation),
+									calculator.getUTCSunrise(calendar, location, zenith, adjustForElevation), 0);
+							Assert.assertEquals(calculator.getUTCSunset(calendar, geoLocation, zenith, adjustForElevation),
+									calculator.getUTCSunset(calendar, location, zenith, adjustForElevation), 0);
+						}
+					}
+				}
+			}
+			calendar.add(Calendar.DAY_OF_MONTH, 5);
+		}
+	}
+
+	@Test
+	public void testInterning() {
+		GeoLocation geoLocation = (GeoLocation) LOCATIONS[1].clone();
+		ImmutableGeoLocation location = ImmutableGeoLocation.valueOf(geoLocation);
+		Assert.assertSame(location, ImmutableGeoLocation.valueOf((GeoLocation) LOCATIONS[1].clone()));
+		Assert.assertSame(location, ImmutableGeoLocation.valueOf("Lakewood, NJ", 40.0828, -74.2094, 20,
+				TimeZone.getTimeZone("America/New_York")));
+		geoLocation.setLatitude(41);
+		Assert.assertEquals(40.0828, location.getLatitude(), 0);
+		Assert.assertNotSame(location, ImmutableGeoLocation.valueOf(geoLocation));
+		Assert.assertEquals(LOCATIONS[1].getLocalMeanTimeOffset(), location.getLocalMeanTimeOffset());
+		Assert.assertEquals(-1, ImmutableGeoLocation.valueOf(LOCATIONS[3]).getAntimeridianAdjustment());
+	}
+}
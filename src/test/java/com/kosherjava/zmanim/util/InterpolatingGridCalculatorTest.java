@@ -0,0 +1,90 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies that the {@link InterpolatingGridCalculator} is within its maximum error of the calculator that it wraps.
+ */
+public class InterpolatingGridCalculatorTest {
+
+	private static final double[][] LOCATIONS = {
+			{ 31.778, 35.2354 }, // Jerusalem
+			{ 40.66, -73.94 }, // Brooklyn
+			{ -33.87, 151.21 }, // Sydney
+			{ 51.5, -0.12 }, // London
+			{ 64.13, -21.9 }, // Reykjavik
+			{ 0.12, 179.9 }, // near the antimeridian
+	};
+
+	private static final double[] ZENITHS = { 90, 96, 106.1, 108 };
+
+	@Test
+	public void testWithinMaximumError() {
+		NOAACalculator noaa = new NOAACalculator();
+		InterpolatingGridCalculator grid = new InterpolatingGridCalculator();
+		Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+		calendar.clear();
+		calendar.set(2026, Calendar.JANUARY, 1);
+		for (int day = 0; day < 365; day += 7) {
+			for (double[] location : LOCATIONS) {
+				GeoLocation geoLocation = new GeoLocation("test", location[0], location[1], TimeZone.getTimeZone("UTC"));
+				for (double zenith : ZENITHS) {
+					assertClose(noaa.getUTCSunrise(calendar, geoLocation, zenith, false),
+							grid.getUTCSunrise(calendar, geoLocation, zenith, false));
+					assertClose(noaa.getUTCSunset(calendar, geoLocation, zenith, false),
+							grid.getUTCSunset(calendar, geoLocation, zenith, false));
+				}
+			}
+			calendar.add(Calendar.DAY_OF_MONTH, 7);
+		}
+		Assert.assertTrue(grid.getCacheSize() > 0);
+	}
+
+	@Test
+	public void testPolarFallback() {
+		NOAACalculator noaa = new NOAACalculator();
+		InterpolatingGridCalculator grid = new InterpolatingGridCalculator();
+		Calendar calendar = new GregorianCalendar(2026, Calendar.JUNE, 21);
+		GeoLocation tromso = new GeoLocation("Tromso", 69.65, 18.96, TimeZone.getTimeZone("Europe/Oslo"));
+		Assert.assertTrue(Double.isNaN(grid.getUTCSunrise(calendar, tromso, 90, false)));
+		GeoLocation arcticCircle = new GeoLocation("Arctic Circle", 66.3, 18.96, TimeZone.getTimeZone("Europe/Oslo"));
+		assertClose(noaa.getUTCSunrise(calendar, arcticCircle, 90, false),
+				grid.getUTCSunrise(calendar, arcticCircle, 90, false));
+	}
+
+	@Test
+	public void testElevationIsExact() {
+		NOAACalculator noaa = new NOAACalculator();
+		InterpolatingGridCalculator grid = new InterpolatingGridCalculator();
+		Calendar calendar = new GregorianCalendar(2026, Calendar.MARCH, 10);
+		GeoLocation geoLocation = new GeoLocation("Jerusalem", 31.778, 35.2354, 754, TimeZone.getTimeZone("Asia/Jerusalem"));
+		Assert.assertEquals(noaa.getUTCSunrise(calendar, geoLocation, 90, true),
+				grid.getUTCSunrise(calendar, geoLocation, 90, true), 0);
+		Assert.assertEquals(0, grid.getCacheSize());
+	}
+
+	@Test
+	public void testCloneIsIndependent() {
+		InterpolatingGridCalculator grid = new InterpolatingGridCalculator();
+		InterpolatingGridCalculator clone = (InterpolatingGridCalculator) grid.clone();
+		Assert.assertNotSame(grid.getCalculator(), clone.getCalculator());
+		clone.setRefraction(0.5);
+		Assert.assertEquals(34 / 60d, grid.getRefraction(), 0);
+		Assert.assertEquals(0.5, clone.getRefraction(), 0);
+	}
+
+	private static void assertClose(double expected, double actual) {
+		if (Double.isNaN(expected)) {
+			Assert.assertTrue(Double.isNaN(actual));
+			return;
+		}
+		double difference = Math.abs(expected - actual);
+		difference = Math.min(difference, 24 - difference);
+		Assert.assertTrue("difference of " + difference * 3600000 + " ms", difference * 3600000 <= 1000);
+	}
+}
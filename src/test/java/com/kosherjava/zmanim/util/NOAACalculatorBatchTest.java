@@ -0,0 +1,142 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.AstronomicalCalendar;
+
+/**
+ * Verifies that the batch methods of {@link NOAACalculator} return the same results as the single date and location
+ * methods.
+ */
+public class NOAACalculatorBatchTest {
+
+	private static final GeoLocation[] LOCATIONS = {
+			new GeoLocation("Lakewood, NJ", 40.0828, -74.2094, 20, TimeZone.getTimeZone("America/New_York")),
+			new GeoLocation("Jerusalem", 31.778, 35.2354, 800, TimeZone.getTimeZone("Asia/Jerusalem")),
+			new GeoLocation("Apia, Samoa", -13.8333, -171.75, 0, TimeZone.getTimeZone("Pacific/Apia")),
+			new GeoLocation("Tromso", 69.6492, 18.9553, 0, TimeZone.getTimeZone("Europe/Oslo")),
+			new GeoLocation("McMurdo", -77.8419, 166.6863, 0, TimeZone.getTimeZone("Antarctica/McMurdo")) };
+
+	private static final int DAYS = 366;
+
+	/** Parallel arrays for every day of 2024 at every location. */
+	private static final double[] JULIAN_DAYS = new double[DAYS * LOCATIONS.length];
+	private static final double[] LATITUDES = new double[JULIAN_DAYS.length];
+	private static final double[] LONGITUDES = new double[JULIAN_DAYS.length];
+	private static final double[] ELEVATIONS = new double[JULIAN_DAYS.length];
+	private static final Calendar[] CALENDARS = new Calendar[JULIAN_DAYS.length];
+
+	static {
+		int i = 0;
+		for (GeoLocation location : LOCATIONS) {
+			for (int day = 0; day < DAYS; day++) {
+				Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+				calendar.clear();
+				calendar.set(2024, Calendar.JANUARY, 1);
+				calendar.add(Calendar.DATE, day);
+				CALENDARS[i] = calendar;
+				JULIAN_DAYS[i] = NOAACalculator.getJulianDay(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH),
+						calendar.get(Calendar.DAY_OF_MONTH));
+				LATITUDES[i] = location.getLatitude();
+				LONGITUDES[i] = location.getLongitude();
+				ELEVATIONS[i] = location.getElevation();
+				i++;
+			}
+		}
+	}
+
+	@Test
+	public void testSunrisesAndSunsets() {
+		NOAACalculator calculator = new NOAACalculator();
+		double[] zeniths = { AstronomicalCalendar.GEOMETRIC_ZENITH, AstronomicalCalendar.GEOMETRIC_ZENITH + 16.1,
+				AstronomicalCalendar.GEOMETRIC_ZENITH + 8.5 };
+		double[] sunrises = new double[JULIAN_DAYS.length];
+		double[] sunsets = new double[JULIAN_DAYS.length];
+		for (double zenith : zeniths) {
+			for (int elevation = 0; elevation < 2; elevation++) {
+				boolean adjustForElevation = elevation == 1;
+				calculator.getUTCSunrisesAndSunsetsBatch(JULIAN_DAYS, LATITUDES, LONGITUDES,
+						adjustForElevation ? ELEVATIONS : null, zenith, sunrises, sunsets);
+				for (int i = 0; i < JULIAN_DAYS.length; i++) {
+					GeoLocation location = LOCATIONS[i / DAYS];
+					String message = location.getLocationName() + " " + CALENDARS[i].getTime() + " " + zenith;
+					Assert.assertEquals(message, calculator.getUTCSunrise(CALENDARS[i], location, zenith,
+							adjustForElevation), sunrises[i], 0);
+					Assert.assertEquals(message, calculator.getUTCSunset(CALENDARS[i], location, zenith,
+							adjustForElevation), sunsets[i], 0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNoons() {
+		NOAACalculator calculator = new NOAACalculator();
+		double[] noons = new double[JULIAN_DAYS.length];
+		NOAACalculator.getUTCNoons(JULIAN_DAYS, LONGITUDES, noons);
+		for (int i = 0; i < JULIAN_DAYS.length; i++) {
+			Assert.assertEquals(calculator.getUTCNoon(CALENDARS[i], LOCATIONS[i / DAYS]), noons[i], 0);
+		}
+	}
+
+	@Test
+	public void testSolarElevationsAndAzimuths() {
+		double[] utcHours = new double[JULIAN_DAYS.length];
+		for (int i = 0; i < utcHours.length; i++) {
+			utcHours[i] = (i * 7 % 1440) / 60.0; // a different minute of the day for each element
+		}
+		double[] elevations = new double[JULIAN_DAYS.length];
+		double[] azimuths = new double[JULIAN_DAYS.length];
+		NOAACalculator.getSolarElevationsAndAzimuths(JULIAN_DAYS, utcHours, LATITUDES, LONGITUDES, elevations, azimuths);
+		for (int i = 0; i < JULIAN_DAYS.length; i++) {
+			Calendar calendar = (Calendar) CALENDARS[i].clone();
+			calendar.add(Calendar.MINUTE, i * 7 % 1440);
+			Assert.assertEquals(NOAACalculator.getSolarElevation(calendar, LATITUDES[i], LONGITUDES[i]), elevations[i],
+					1e-9);
+			Assert.assertEquals(NOAACalculator.getSolarAzimuth(calendar, LATITUDES[i], LONGITUDES[i]), azimuths[i], 1e-9);
+		}
+	}
+
+	@Test
+	public void testSolarPositionTimeSeries() {
+		int[] steps = { 60, 7, 3600, 86400, 100000 };
+		for (GeoLocation location : LOCATIONS) {
+			for (int step : steps) {
+				Calendar calendar = (Calendar) CALENDARS[step % DAYS].clone();
+				double[] elevations = NOAACalculator.getSolarElevations(calendar, location.getLatitude(),
+						location.getLongitude(), step);
+				double[] azimuths = NOAACalculator.getSolarAzimuths(calendar, location.getLatitude(),
+						location.getLongitude(), step);
+				Assert.assertEquals(NOAACalculator.getSolarPositionSampleCount(step), elevations.length);
+				Assert.assertEquals(elevations.length, azimuths.length);
+				for (int i = 0; i < elevations.length; i++) {
+					Calendar time = (Calendar) calendar.clone();
+					time.add(Calendar.SECOND, i * step);
+					String message = location.getLocationName() + " " + time.getTime();
+					Assert.assertEquals(message, NOAACalculator.getSolarElevation(time, location.getLatitude(),
+							location.getLongitude()), elevations[i], 1e-9);
+					Assert.assertEquals(message, NOAACalculator.getSolarAzimuth(time, location.getLatitude(),
+							location.getLongitude()), azimuths[i], 1e-9);
+				}
+			}
+		}
+		Assert.assertEquals(1440, NOAACalculator.getSolarPositionSampleCount(60));
+		Assert.assertEquals(12343, NOAACalculator.getSolarPositionSampleCount(7));
+		Assert.assertEquals(1, NOAACalculator.getSolarPositionSampleCount(100000));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidStep() {
+		NOAACalculator.getSolarElevations(CALENDARS[0], 0, 0, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testLengthMismatch() {
+		new NOAACalculator().getUTCSunrisesAndSunsetsBatch(JULIAN_DAYS, LATITUDES, LONGITUDES, null, 90, null, new double[3]);
+	}
+}
@@ -0,0 +1,97 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.AstronomicalCalendar;
+import com.kosherjava.zmanim.ComplexZmanimCalendar;
+
+/**
+ * Verifies that {@link AstronomicalCalculator#getUTCSunrisesAndSunsets(Calendar, GeoLocation, double[], boolean,
+ * double[], double[])} and {@link AstronomicalCalendar#getOffsetsByDegrees(double[], Date[], Date[])} return the same
+ * times as the single zenith methods.
+ */
+public class SunriseSunsetZenithsTest {
+
+	private static final double[] ZENITHS = new double[31];
+
+	static {
+		for (int i = 0; i < ZENITHS.length; i++) {
+			ZENITHS[i] = AstronomicalCalendar.GEOMETRIC_ZENITH - 3 + i; // -3 to 27 degrees below the horizon
+		}
+		ZENITHS[3] = AstronomicalCalendar.GEOMETRIC_ZENITH; // adjusted for refraction and elevation
+		ZENITHS[19] = AstronomicalCalendar.GEOMETRIC_ZENITH + 16.1;
+	}
+
+	private static final GeoLocation[] LOCATIONS = {
+			new GeoLocation("Lakewood, NJ", 40.0828, -74.2094, 20, TimeZone.getTimeZone("America/New_York")),
+			new GeoLocation("Jerusalem", 31.778, 35.2354, 800, TimeZone.getTimeZone("Asia/Jerusalem")),
+			new GeoLocation("Apia, Samoa", -13.8333, -171.75, 0, TimeZone.getTimeZone("Pacific/Apia")),
+			new GeoLocation("Tromso", 69.6492, 18.9553, 0, TimeZone.getTimeZone("Europe/Oslo")) };
+
+	private static void assertSameUTCTimes(AstronomicalCalculator calculator) {
+		double[] sunrises = new double[ZENITHS.length];
+		double[] sunsets = new double[ZENITHS.length];
+		for (GeoLocation location : LOCATIONS) {
+			Calendar calendar = new GregorianCalendar(2024, Calendar.JANUARY, 1);
+			for (int day = 0; day < 366; day += 5) {
+				for (int elevation = 0; elevation < 2; elevation++) {
+					boolean adjustForElevation = elevation == 1;
+					calculator.getUTCSunrisesAndSunsets(calendar, location, ZENITHS, adjustForElevation, sunrises, sunsets);
+					for (int i = 0; i < ZENITHS.length; i++) {
+						String message = location.getLocationName() + " " + calendar.getTime() + " " + ZENITHS[i];
+						Assert.assertEquals(message, calculator.getUTCSunrise(calendar, location, ZENITHS[i],
+								adjustForElevation), sunrises[i], 0);
+						Assert.assertEquals(message, calculator.getUTCSunset(calendar, location, ZENITHS[i],
+								adjustForElevation), sunsets[i], 0);
+					}
+				}
+				calendar.add(Calendar.DATE, 5);
+			}
+		}
+	}
+
+	@Test
+	public void testNOAACalculator() {
+		assertSameUTCTimes(new NOAACalculator());
+	}
+
+	@Test
+	public void testDefaultImplementation() {
+		assertSameUTCTimes(new SunTimesCalculator());
+	}
+
+	@Test
+	public void testAstronomicalCalendar() {
+		for (GeoLocation location : LOCATIONS) {
+			ComplexZmanimCalendar czc = new ComplexZmanimCalendar(location);
+			czc.getCalendar().set(2024, Calendar.MARCH, 1);
+			for (int day = 0; day < 120; day += 3) {
+				Date[] sunrises = new Date[ZENITHS.length];
+				Date[] sunsets = new Date[ZENITHS.length];
+				czc.getOffsetsByDegrees(ZENITHS, sunrises, sunsets);
+				Date[] sunrisesOnly = czc.getSunriseOffsetsByDegrees(ZENITHS);
+				Date[] sunsetsOnly = czc.getSunsetOffsetsByDegrees(ZENITHS);
+				for (int i = 0; i < ZENITHS.length; i++) {
+					Assert.assertEquals(czc.getSunriseOffsetByDegrees(ZENITHS[i]), sunrises[i]);
+					Assert.assertEquals(czc.getSunsetOffsetByDegrees(ZENITHS[i]), sunsets[i]);
+					Assert.assertEquals(sunrises[i], sunrisesOnly[i]);
+					Assert.assertEquals(sunsets[i], sunsetsOnly[i]);
+				}
+				Assert.assertEquals(czc.getAlos16Point1Degrees(), sunrises[19]);
+				czc.getCalendar().add(Calendar.DATE, 3);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testShortArray() {
+		new NOAACalculator().getUTCSunrisesAndSunsets(Calendar.getInstance(), LOCATIONS[0], ZENITHS, true, null,
+				new double[3]);
+	}
+}
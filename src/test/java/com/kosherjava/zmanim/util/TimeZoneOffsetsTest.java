@@ -0,0 +1,69 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Date;
+import java.util.Random;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link TimeZoneOffsets} returns the same offsets as the <code>TimeZone</code> it caches.
+ */
+public class TimeZoneOffsetsTest {
+
+	private static final String[] IDS = { "America/New_York", "Asia/Jerusalem", "Europe/London", "Australia/Lord_Howe",
+			"Pacific/Apia", "Asia/Kolkata", "GMT+2", "UTC" };
+
+	@Test
+	public void testSameOffsetsAsTimeZone() {
+		Random random = new Random(1);
+		for (String id : IDS) {
+			TimeZone timeZone = TimeZone.getTimeZone(id);
+			TimeZoneOffsets offsets = TimeZoneOffsets.getInstance(timeZone);
+			Assert.assertEquals(timeZone.getRawOffset(), offsets.getRawOffset());
+			for (int i = 0; i < 20000; i++) {
+				// 1920 - 2080
+				long millis = -1577923200000L + (long) (random.nextDouble() * 160 * 365.25 * 24 * 60 * 60 * 1000);
+				Assert.assertEquals(id + " at " + millis, timeZone.getOffset(millis), offsets.getOffset(millis));
+				if (millis > 315532800000L) { // historical periods such as British Standard Time differ before 1980
+					Assert.assertEquals(id + " at " + millis, timeZone.inDaylightTime(new Date(millis)),
+							offsets.isDaylightTime(millis));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCustomTimeZone() {
+		SimpleTimeZone timeZone = new SimpleTimeZone(3600000, "Custom", 2, 1, 0, 7200000, 9, 1, 0, 7200000);
+		TimeZoneOffsets offsets = TimeZoneOffsets.getInstance(timeZone);
+		long millis = 1750000000000L;
+		Assert.assertEquals(timeZone.getOffset(millis), offsets.getOffset(millis));
+		Assert.assertTrue(offsets.isDaylightTime(millis));
+	}
+
+	@Test
+	public void testSharedAndIsolated() {
+		TimeZone timeZone = TimeZone.getTimeZone("Asia/Jerusalem");
+		TimeZoneOffsets offsets = TimeZoneOffsets.getInstance(timeZone);
+		Assert.assertSame(offsets, TimeZoneOffsets.getInstance(TimeZone.getTimeZone("Asia/Jerusalem")));
+		GeoLocation geoLocation = new GeoLocation("Jerusalem", 31.778, 35.2354, timeZone);
+		Assert.assertSame(offsets, geoLocation.getTimeZoneOffsets());
+		timeZone.setRawOffset(0);
+		Assert.assertEquals(2 * 3600000, offsets.getRawOffset());
+		Assert.assertEquals(0, geoLocation.getTimeZoneOffsets().getRawOffset()); // the location sees the change
+		Assert.assertEquals((long) (35.2354 * 4 * 60000), geoLocation.getLocalMeanTimeOffset());
+	}
+
+	@Test
+	public void testBoundedCache() {
+		TimeZoneOffsets offsets = TimeZoneOffsets.getInstance(TimeZone.getTimeZone("Asia/Jerusalem"));
+		for (int i = 0; i < TimeZoneOffsets.MAXIMUM_CACHE_SIZE * 2; i++) {
+			TimeZoneOffsets.getInstance(new SimpleTimeZone(i * 1000, "Custom" + i));
+			Assert.assertTrue(TimeZoneOffsets.getCacheSize() <= TimeZoneOffsets.MAXIMUM_CACHE_SIZE);
+		}
+		Assert.assertEquals(2 * 3600000, offsets.getRawOffset()); // instances that were cleared keep working
+	}
+}
@@ -0,0 +1,107 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * Compares the speed of {@link Trigonometry#FAST} to {@link Trigonometry#STRICT}, both for each function and for
+ * {@link AstronomicalCalculator#getUTCSunrise(Calendar, GeoLocation, double, boolean)} and
+ * {@link AstronomicalCalculator#getUTCSunset(Calendar, GeoLocation, double, boolean)} in bulk. This is not run as part
+ * of the unit tests.
+ */
+public class TrigonometryBenchmark {
+
+	private static final int VALUES = 10000;
+	private static final int ITERATIONS = 1000;
+	private static final int LOCATIONS = 1000;
+	private static final int DAYS = 365;
+
+	public static void main(String[] args) {
+		Random random = new Random(1);
+		double[] angles = new double[VALUES];
+		double[] values = new double[VALUES];
+		double[] tangents = new double[VALUES];
+		for (int i = 0; i < VALUES; i++) {
+			angles[i] = random.nextDouble() * 720 - 360;
+			values[i] = random.nextDouble() * 2 - 1;
+			tangents[i] = Math.tan(Math.toRadians(random.nextDouble() * 180 - 90));
+		}
+		GeoLocation[] geoLocations = new GeoLocation[LOCATIONS];
+		for (int i = 0; i < LOCATIONS; i++) {
+			geoLocations[i] = new GeoLocation("", random.nextDouble() * 120 - 60, random.nextDouble() * 360 - 180,
+					TimeZone.getTimeZone("UTC"));
+		}
+
+		for (int round = 0; round < 3; round++) { // the first rounds are a warmup
+			for (Trigonometry trigonometry : new Trigonometry[] { Trigonometry.STRICT, Trigonometry.FAST }) {
+				for (String function : new String[] { "sin", "cos", "tan", "asin", "acos", "atan" }) {
+					double[] inputs = function.startsWith("a") ? function.equals("atan") ? tangents : values : angles;
+					long start = System.nanoTime();
+					double sum = 0;
+					for (int n = 0; n < ITERATIONS; n++) {
+						sum += run(trigonometry, function, inputs);
+					}
+					print(trigonometry + " " + function, start, (long) ITERATIONS * VALUES, "call", sum);
+				}
+			}
+			for (AstronomicalCalculator calculator : new AstronomicalCalculator[] { new NOAACalculator(),
+					new SunTimesCalculator(), new ChebyshevCalculator() }) {
+				for (Trigonometry trigonometry : new Trigonometry[] { Trigonometry.STRICT, Trigonometry.FAST }) {
+					calculator.setTrigonometry(trigonometry);
+					Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+					calendar.clear();
+					calendar.set(2026, Calendar.JANUARY, 1);
+					long start = System.nanoTime();
+					double sum = 0;
+					for (int day = 0; day < DAYS; day++) {
+						for (GeoLocation geoLocation : geoLocations) {
+							sum += calculator.getUTCSunrise(calendar, geoLocation, 90, true);
+							sum += calculator.getUTCSunset(calendar, geoLocation, 90, true);
+						}
+						calendar.add(Calendar.DAY_OF_MONTH, 1);
+					}
+					print(calculator.getClass().getSimpleName() + " " + trigonometry, start,
+							(long) DAYS * LOCATIONS * 2, "time", sum);
+				}
+			}
+			System.out.println();
+		}
+	}
+
+	private static double run(Trigonometry trigonometry, String function, double[] inputs) {
+		double sum = 0;
+		if (function.equals("sin")) {
+			for (double input : inputs) {
+				sum += trigonometry.sin(input);
+			}
+		} else if (function.equals("cos")) {
+			for (double input : inputs) {
+				sum += trigonometry.cos(input);
+			}
+		} else if (function.equals("tan")) {
+			for (double input : inputs) {
+				sum += trigonometry.tan(input);
+			}
+		} else if (function.equals("asin")) {
+			for (double input : inputs) {
+				sum += trigonometry.asin(input);
+			}
+		} else if (function.equals("acos")) {
+			for (double input : inputs) {
+				sum += trigonometry.acos(input);
+			}
+		} else {
+			for (double input : inputs) {
+				sum += trigonometry.atan(input);
+			}
+		}
+		return sum;
+	}
+
+	private static void print(String name, long start, long count, String unit, double sum) {
+		long nanos = System.nanoTime() - start;
+		System.out.println(String.format("%-32s %8.1f ns/%s (checksum %.0f)", name, (double) nanos / count, unit, sum));
+	}
+}
@@ -0,0 +1,109 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link Trigonometry#FAST} keeps the calculators within a bounded number of milliseconds of
+ * {@link Trigonometry#STRICT} at all latitudes. The bound defaults to the millisecond documented by
+ * {@link Trigonometry#FAST}, and can be changed with the <code>trigonometry.maximumMillis</code> system property.
+ * {@link TrigonometryBenchmark} compares their speed.
+ */
+public class TrigonometryTest {
+
+	private static final long MAXIMUM_MILLIS = Long.getLong("trigonometry.maximumMillis", 1);
+
+	private static final double[] ZENITHS = { 90, 96, 106.1, 108 };
+
+	@Test
+	public void testFunctions() {
+		Random random = new Random(5786);
+		for (int i = 0; i < 100000; i++) {
+			double degrees = random.nextDouble() * 1440 - 720;
+			Assert.assertEquals(Math.sin(Math.toRadians(degrees)), Trigonometry.FAST.sin(degrees), 1e-14);
+			Assert.assertEquals(Math.cos(Math.toRadians(degrees)), Trigonometry.FAST.cos(degrees), 1e-14);
+			double value = random.nextDouble() * 2 - 1;
+			Assert.assertEquals(Math.toDegrees(Math.asin(value)), Trigonometry.FAST.asin(value), 2e-6);
+			Assert.assertEquals(Math.toDegrees(Math.acos(value)), Trigonometry.FAST.acos(value), 2e-6);
+			value = Math.tan(Math.toRadians(random.nextDouble() * 180 - 90));
+			Assert.assertEquals(Math.toDegrees(Math.atan(value)), Trigonometry.FAST.atan(value), 2e-6);
+		}
+		Assert.assertTrue(Double.isNaN(Trigonometry.FAST.acos(1.0000001)));
+		Assert.assertTrue(Double.isNaN(Trigonometry.FAST.asin(-1.0000001)));
+		Assert.assertEquals(0, Trigonometry.FAST.acos(1), 0);
+		Assert.assertEquals(180, Trigonometry.FAST.acos(-1), 1e-6);
+	}
+
+	@Test
+	public void testNOAACalculator() {
+		assertWithinMaximum(new NOAACalculator(), new NOAACalculator());
+	}
+
+	@Test
+	public void testSunTimesCalculator() {
+		assertWithinMaximum(new SunTimesCalculator(), new SunTimesCalculator());
+	}
+
+	@Test
+	public void testChebyshevCalculator() {
+		assertWithinMaximum(new ChebyshevCalculator(), new ChebyshevCalculator());
+	}
+
+	@Test
+	public void testSetTrigonometry() {
+		AstronomicalCalculator calculator = new NOAACalculator();
+		Assert.assertSame(Trigonometry.STRICT, calculator.getTrigonometry());
+		calculator.setTrigonometry(Trigonometry.FAST);
+		Assert.assertSame(Trigonometry.FAST, ((AstronomicalCalculator) calculator.clone()).getTrigonometry());
+		try {
+			calculator.setTrigonometry(null);
+			Assert.fail();
+		} catch (IllegalArgumentException expected) {
+			Assert.assertSame(Trigonometry.FAST, calculator.getTrigonometry());
+		}
+	}
+
+	@Test
+	public void testInterpolatingGridCalculator() {
+		InterpolatingGridCalculator grid = new InterpolatingGridCalculator();
+		grid.setTrigonometry(Trigonometry.FAST);
+		Assert.assertSame(Trigonometry.FAST, grid.getTrigonometry());
+		Assert.assertSame(Trigonometry.FAST, grid.getCalculator().getTrigonometry());
+	}
+
+	private static void assertWithinMaximum(AstronomicalCalculator strict, AstronomicalCalculator fast) {
+		fast.setTrigonometry(Trigonometry.FAST);
+		Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+		calendar.clear();
+		calendar.set(2026, Calendar.JANUARY, 1);
+		for (int day = 0; day < 365; day += 4) {
+			for (int latitude = -89; latitude <= 89; latitude += 2) {
+				GeoLocation geoLocation = new GeoLocation("test", latitude + 0.25, latitude * 2, 500,
+						TimeZone.getTimeZone("UTC"));
+				for (double zenith : ZENITHS) {
+					assertClose(strict.getUTCSunrise(calendar, geoLocation, zenith, true),
+							fast.getUTCSunrise(calendar, geoLocation, zenith, true));
+					assertClose(strict.getUTCSunset(calendar, geoLocation, zenith, true),
+							fast.getUTCSunset(calendar, geoLocation, zenith, true));
+				}
+				assertClose(strict.getUTCNoon(calendar, geoLocation), fast.getUTCNoon(calendar, geoLocation));
+			}
+			calendar.add(Calendar.DAY_OF_MONTH, 4);
+		}
+	}
+
+	private static void assertClose(double expected, double actual) {
+		if (Double.isNaN(expected)) {
+			Assert.assertTrue(Double.isNaN(actual));
+			return;
+		}
+		double difference = Math.abs(expected - actual);
+		difference = Math.min(difference, 24 - difference);
+		Assert.assertTrue("difference of " + difference * 3600000 + " ms", difference * 3600000 <= MAXIMUM_MILLIS);
+	}
+}
@@ -0,0 +1,57 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Random;
+
+/**
+ * Compares the speed of {@link NOAACalculator#getUTCSunrisesAndSunsetsBatch(double[], double[], double[], double[],
+ * double, double[], double[])} with the {@link NOAAVectorKernel} to its scalar loop, for every day of a year for
+ * thousands of locations. Run it with <code>--add-modules jdk.incubator.vector</code>. This is not run as part of the
+ * unit tests.
+ */
+public class NOAAVectorKernelBenchmark {
+
+	private static final int LOCATIONS = 10000;
+	private static final int DAYS = 365;
+
+	public static void main(String[] args) {
+		System.out.println("kernel: " + NOAACalculator.BATCH_KERNEL);
+		Random random = new Random(1);
+		int length = LOCATIONS * DAYS;
+		double[] julianDays = new double[length];
+		double[] latitudes = new double[length];
+		double[] longitudes = new double[length];
+		double[] elevations = new double[length];
+		for (int location = 0; location < LOCATIONS; location++) {
+			double latitude = random.nextDouble() * 120 - 60;
+			double longitude = random.nextDouble() * 360 - 180;
+			double elevation = random.nextDouble() * 1000;
+			for (int day = 0; day < DAYS; day++) {
+				int i = location * DAYS + day;
+				julianDays[i] = NOAACalculator.getJulianDay(2026, 1, 1) + day;
+				latitudes[i] = latitude;
+				longitudes[i] = longitude;
+				elevations[i] = elevation;
+			}
+		}
+		double[] sunrises = new double[length];
+		double[] sunsets = new double[length];
+		NOAACalculator vector = new NOAACalculator();
+		NOAACalculator scalar = new NOAACalculator() { // a subclass always uses the scalar loop
+		};
+		for (int round = 0; round < 5; round++) { // the first rounds are a warmup
+			for (NOAACalculator calculator : new NOAACalculator[] { scalar, vector }) {
+				long start = System.nanoTime();
+				calculator.getUTCSunrisesAndSunsetsBatch(julianDays, latitudes, longitudes, elevations, 90, sunrises,
+						sunsets);
+				long nanos = System.nanoTime() - start;
+				double sum = 0;
+				for (int i = 0; i < length; i++) {
+					sum += sunrises[i] + sunsets[i];
+				}
+				System.out.println(String.format("%-8s %8.1f ns/element (checksum %.0f)", calculator == vector ? "vector"
+						: "scalar", (double) nanos / length, sum));
+			}
+			System.out.println();
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.kosherjava.zmanim.util;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.AstronomicalCalendar;
+
+/**
+ * Verifies that the {@link NOAAVectorKernel} is used by the batch method of the {@link NOAACalculator} when the
+ * <code>jdk.incubator.vector</code> module is added, and that it is within a small tolerance of the scalar methods.
+ * This test is run in its own surefire execution with <code>--add-modules jdk.incubator.vector</code>.
+ */
+public class NOAAVectorKernelTest {
+
+	/** The tolerance in hours, 3.6 microseconds. */
+	private static final double TOLERANCE = 1e-9;
+
+	private static final int DAYS = 366;
+
+	@Test
+	public void testKernelLoaded() {
+		Assert.assertTrue(NOAACalculator.BATCH_KERNEL instanceof NOAAVectorKernel);
+	}
+
+	@Test
+	public void testSunrisesAndSunsets() {
+		GeoLocation[] locations = new GeoLocation[37];
+		for (int i = 0; i < locations.length; i++) { // every 5 degrees of latitude, including the polar days and nights
+			locations[i] = new GeoLocation("test", i * 5 - 90 + (i == 0 ? 0.5 : i == 36 ? -0.5 : 0), i * 10 - 180,
+					i * 100, TimeZone.getTimeZone("UTC"));
+		}
+		int length = locations.length * DAYS + 3; // not a multiple of the vector length, so the scalar loop runs as well
+		double[] julianDays = new double[length];
+		double[] latitudes = new double[length];
+		double[] longitudes = new double[length];
+		double[] elevations = new double[length];
+		Calendar[] calendars = new Calendar[length];
+		GeoLocation[] elementLocations = new GeoLocation[length];
+		for (int i = 0; i < length; i++) {
+			Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+			calendar.clear();
+			calendar.set(2024, Calendar.JANUARY, 1);
+			calendar.add(Calendar.DATE, i % DAYS);
+			calendars[i] = calendar;
+			elementLocations[i] = locations[i / DAYS % locations.length];
+			julianDays[i] = NOAACalculator.getJulianDay(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH),
+					calendar.get(Calendar.DAY_OF_MONTH));
+			latitudes[i] = elementLocations[i].getLatitude();
+			longitudes[i] = elementLocations[i].getLongitude();
+			elevations[i] = elementLocations[i].getElevation();
+		}
+
+		NOAACalculator calculator = new NOAACalculator();
+		double[] zeniths = { AstronomicalCalendar.GEOMETRIC_ZENITH, AstronomicalCalendar.GEOMETRIC_ZENITH + 16.1,
+				AstronomicalCalendar.GEOMETRIC_ZENITH + 8.5 };
+		double[] sunrises = new double[length];
+		double[] sunsets = new double[length];
+		for (double zenith : zeniths) {
+			for (int elevation = 0; elevation < 2; elevation++) {
+				boolean adjustForElevation = elevation == 1;
+				calculator.getUTCSunrisesAndSunsetsBatch(julianDays, latitudes, longitudes,
+						adjustForElevation ? elevations : null, zenith, sunrises, sunsets);
+				for (int i = 0; i < length; i++) {
+					String message = elementLocations[i].getLatitude() + " " + calendars[i].getTime() + " " + zenith;
+					assertClose(message, calculator.getUTCSunrise(calendars[i], elementLocations[i], zenith,
+							adjustForElevation), sunrises[i]);
+					assertClose(message, calculator.getUTCSunset(calendars[i], elementLocations[i], zenith,
+							adjustForElevation), sunsets[i]);
+				}
+			}
+		}
+	}
+
+	private static void assertClose(String message, double expected, double actual) {
+		Assert.assertEquals(message, Double.isNaN(expected), Double.isNaN(actual));
+		double difference = Math.abs(expected - actual);
+		Assert.assertTrue(message + " difference of " + difference, Double.isNaN(expected)
+				|| Math.min(difference, 24 - difference) <= TOLERANCE);
+	}
+}
@@ -0,0 +1,85 @@
+package com.kosherjava.zmanim;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Flow;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.kosherjava.zmanim.util.GeoLocation;
+import com.kosherjava.zmanim.util.Zman;
+
+/**
+ * Verifies that {@link ZmanimFlowPublisher} sends the events of its {@link ZmanimPublisher} as they are requested.
+ */
+public class ZmanimFlowPublisherTest {
+
+	private static final ZmanDefinitions DEFINITIONS = ZmanDefinitions.compile("alos = alos(16.1)",
+			"sunrise = sunrise()", "sunset = sunset()", "tzais = tzais(8.5)");
+
+	/** A subscriber that records the events. */
+	private static final class Recorder implements Flow.Subscriber<Zman> {
+		private final List<Zman> items = new ArrayList<Zman>();
+		private Flow.Subscription subscription;
+		private Throwable error;
+		private boolean complete;
+
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		public void onNext(Zman item) {
+			items.add(item);
+		}
+
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		public void onComplete() {
+			complete = true;
+		}
+	}
+
+	private static ZmanimPublisher getPublisher(double latitude, String zman) {
+		GeoLocation location = new GeoLocation("test", latitude, 0, 0, TimeZone.getTimeZone("UTC"));
+		ZmanimCalendar zc = new ZmanimCalendar(location);
+		zc.getCalendar().set(2024, Calendar.JUNE, 1);
+		return ZmanimPublisher.getInstance(zman == null ? DEFINITIONS : ZmanDefinitions.compile(zman), zc);
+	}
+
+	@Test
+	public void testRequestedEvents() {
+		ZmanimPublisher publisher = getPublisher(40.0828, null);
+		Flow.Publisher<Zman> flowPublisher = new ZmanimFlowPublisher(publisher);
+		Recorder recorder = new Recorder();
+		flowPublisher.subscribe(recorder);
+		Assert.assertEquals(0, recorder.items.size());
+		recorder.subscription.request(10);
+		Assert.assertEquals(10, recorder.items.size());
+		Iterator<Zman> zmanim = publisher.iterator();
+		for (Zman zman : recorder.items) {
+			Assert.assertEquals(zmanim.next().getZman(), zman.getZman());
+		}
+		recorder.subscription.cancel();
+		recorder.subscription.request(10);
+		Assert.assertEquals(10, recorder.items.size());
+		recorder.subscription = null;
+		flowPublisher.subscribe(recorder);
+		recorder.subscription.request(-1);
+		Assert.assertTrue(recorder.error instanceof IllegalArgumentException);
+	}
+
+	@Test
+	public void testComplete() {
+		Recorder recorder = new Recorder();
+		new ZmanimFlowPublisher(getPublisher(89, "never = alos(30)")).subscribe(recorder);
+		recorder.subscription.request(1);
+		Assert.assertTrue(recorder.complete);
+		Assert.assertEquals(0, recorder.items.size());
+	}
+}